@@ -0,0 +1,125 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jmh;
+
+import java.sql.JDBCType;
+import java.util.Date;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+/**
+ * Tables and records shared by the rendering benchmarks.
+ */
+public final class BenchmarkTables {
+    public static final Person person = new Person();
+    public static final Address address = new Address();
+
+    private BenchmarkTables() {}
+
+    /**
+     * Benchmarks declare a {@code strategy} parameter with these values so that every benchmark runs with
+     * both built in rendering strategies.
+     *
+     * @param name MYBATIS3 or SPRING_NAMED_PARAMETER
+     * @return the rendering strategy
+     */
+    public static RenderingStrategy renderingStrategy(String name) {
+        switch (name) {
+        case "MYBATIS3":
+            return RenderingStrategies.MYBATIS3;
+        case "SPRING_NAMED_PARAMETER":
+            return RenderingStrategies.SPRING_NAMED_PARAMETER;
+        default:
+            throw new IllegalArgumentException("Unknown rendering strategy: " + name);
+        }
+    }
+
+    public static final class Person extends SqlTable {
+        public final SqlColumn<Integer> id = column("id", JDBCType.INTEGER);
+        public final SqlColumn<String> firstName = column("first_name", JDBCType.VARCHAR);
+        public final SqlColumn<String> lastName = column("last_name", JDBCType.VARCHAR);
+        public final SqlColumn<Date> birthDate = column("birth_date", JDBCType.DATE);
+        public final SqlColumn<Boolean> employed = column("employed", JDBCType.VARCHAR);
+        public final SqlColumn<String> occupation = column("occupation", JDBCType.VARCHAR);
+        public final SqlColumn<Integer> addressId = column("address_id", JDBCType.INTEGER);
+
+        public Person() {
+            super("Person");
+        }
+    }
+
+    public static final class Address extends SqlTable {
+        public final SqlColumn<Integer> id = column("address_id", JDBCType.INTEGER);
+        public final SqlColumn<String> streetAddress = column("street_address", JDBCType.VARCHAR);
+        public final SqlColumn<String> city = column("city", JDBCType.VARCHAR);
+        public final SqlColumn<String> state = column("state", JDBCType.CHAR);
+
+        public Address() {
+            super("Address");
+        }
+    }
+
+    public static class PersonRecord {
+        private Integer id;
+        private String firstName;
+        private String lastName;
+        private Date birthDate;
+        private Boolean employed;
+        private String occupation;
+        private Integer addressId;
+
+        public PersonRecord(int id) {
+            this.id = id;
+            firstName = "Fred" + id;
+            lastName = "Flintstone";
+            birthDate = new Date();
+            employed = id % 2 == 0;
+            occupation = "Brontosaurus Operator";
+            addressId = id % 10;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public Date getBirthDate() {
+            return birthDate;
+        }
+
+        public Boolean getEmployed() {
+            return employed;
+        }
+
+        public String getOccupation() {
+            return occupation;
+        }
+
+        public Integer getAddressId() {
+            return addressId;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jmh;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.jmh.BenchmarkTables.person;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.jmh.BenchmarkTables.PersonRecord;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders batch inserts and multi-row inserts of 1,000 rows, and an update statement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InsertAndUpdateRenderingBenchmark {
+    private static final int ROWS = 1000;
+
+    @Param({"MYBATIS3", "SPRING_NAMED_PARAMETER"})
+    private String strategy;
+
+    private RenderingStrategy renderingStrategy;
+    private BatchInsertModel<PersonRecord> batchInsertModel;
+    private MultiRowInsertModel<PersonRecord> multiRowInsertModel;
+    private UpdateModel updateModel;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = BenchmarkTables.renderingStrategy(strategy);
+        List<PersonRecord> records = IntStream.range(0, ROWS)
+                .mapToObj(PersonRecord::new)
+                .collect(Collectors.toList());
+
+        batchInsertModel = insertBatch(records)
+                .into(person)
+                .map(person.id).toProperty("id")
+                .map(person.firstName).toProperty("firstName")
+                .map(person.lastName).toProperty("lastName")
+                .map(person.birthDate).toProperty("birthDate")
+                .map(person.employed).toProperty("employed")
+                .map(person.occupation).toProperty("occupation")
+                .map(person.addressId).toProperty("addressId")
+                .build();
+
+        multiRowInsertModel = insertMultiple(records)
+                .into(person)
+                .map(person.id).toProperty("id")
+                .map(person.firstName).toProperty("firstName")
+                .map(person.lastName).toProperty("lastName")
+                .map(person.birthDate).toProperty("birthDate")
+                .map(person.employed).toProperty("employed")
+                .map(person.occupation).toProperty("occupation")
+                .map(person.addressId).toProperty("addressId")
+                .build();
+
+        updateModel = update(person)
+                .set(person.firstName).equalTo("Fred")
+                .set(person.lastName).equalTo("Flintstone")
+                .set(person.birthDate).equalTo(new Date())
+                .set(person.employed).equalTo(true)
+                .set(person.occupation).equalToWhenPresent((String) null)
+                .set(person.addressId).equalTo(1)
+                .where(person.id, isEqualTo(5))
+                .or(person.id, isIn(6, 7, 8))
+                .build();
+    }
+
+    @Benchmark
+    public List<InsertStatementProvider<PersonRecord>> batchInsert() {
+        return batchInsertModel.render(renderingStrategy).insertStatements();
+    }
+
+    @Benchmark
+    public MultiRowInsertStatementProvider<PersonRecord> multiRowInsert() {
+        return multiRowInsertModel.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public UpdateStatementProvider updateStatement() {
+        return updateModel.render(renderingStrategy);
+    }
+}
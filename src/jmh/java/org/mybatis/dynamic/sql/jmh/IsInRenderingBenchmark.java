@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jmh;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.jmh.BenchmarkTables.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders select statements with "in" conditions of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsInRenderingBenchmark {
+    @Param({"MYBATIS3", "SPRING_NAMED_PARAMETER"})
+    private String strategy;
+
+    @Param({"10", "1000", "30000"})
+    private int size;
+
+    private RenderingStrategy renderingStrategy;
+    private List<Integer> values;
+    private SelectModel selectModel;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = BenchmarkTables.renderingStrategy(strategy);
+        values = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        selectModel = select(person.id, person.firstName)
+                .from(person)
+                .where(person.id, isIn(values))
+                .build();
+    }
+
+    @Benchmark
+    public SelectStatementProvider render() {
+        return selectModel.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider buildAndRender() {
+        return select(person.id, person.firstName)
+                .from(person)
+                .where(person.id, isIn(values))
+                .build()
+                .render(renderingStrategy);
+    }
+}
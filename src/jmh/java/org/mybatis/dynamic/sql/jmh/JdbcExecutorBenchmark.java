@@ -0,0 +1,164 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jmh;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.jmh.BenchmarkTables.person;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.jmh.BenchmarkTables.PersonRecord;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.jdbc.JdbcExecutor;
+import org.mybatis.dynamic.sql.util.jdbc.RowMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes a select by primary key and a batch insert of 100 rows against an in-process HSQLDB database, with the
+ * {@link JdbcExecutor} and with plain JDBC that prepares a statement for every execution. The statements are
+ * rendered once, so the benchmark measures binding, statement reuse, and execution. Each batch insert is followed
+ * by a delete of the inserted rows so the table does not grow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JdbcExecutorBenchmark {
+    private static final int ROWS = 1000;
+    private static final int BATCH_ROWS = 100;
+    private static final RowMapper<String> NAME_MAPPER = (rs, i) -> rs.getString(1);
+
+    private Connection connection;
+    private JdbcExecutor executor;
+    private SelectStatementProvider selectStatement;
+    private BatchInsert<PersonRecord> batchInsert;
+    private DeleteStatementProvider deleteStatement;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:hsqldb:mem:jdbcexecutorbenchmark", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table Person if exists");
+            statement.execute("create table Person (id int not null, first_name varchar(30), "
+                    + "last_name varchar(30), birth_date timestamp, employed boolean, occupation varchar(30), "
+                    + "address_id int, primary key (id))");
+        }
+        executor = JdbcExecutor.withConnection(connection).build();
+
+        executor.insertBatch(batchInsert(0, ROWS));
+        selectStatement = select(person.firstName)
+                .from(person)
+                .where(person.id, isEqualTo(ROWS / 2))
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+        batchInsert = batchInsert(ROWS, ROWS + BATCH_ROWS);
+        deleteStatement = deleteFrom(person)
+                .where(person.id, isGreaterThanOrEqualTo(ROWS))
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        executor.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public Optional<String> executorSelect() throws SQLException {
+        return executor.selectOne(selectStatement, NAME_MAPPER);
+    }
+
+    @Benchmark
+    public String jdbcSelect() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(selectStatement.getSelectStatement())) {
+            statement.setObject(1, selectStatement.getParameters().get("p1"));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+
+    @Benchmark
+    public int executorInsertBatch() throws SQLException {
+        executor.insertBatch(batchInsert);
+        return executor.delete(deleteStatement);
+    }
+
+    @Benchmark
+    public int jdbcInsertBatch() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(batchInsert.getInsertStatementSQL())) {
+            for (PersonRecord row : batchInsert.getRecords()) {
+                statement.setObject(1, row.getId());
+                statement.setObject(2, row.getFirstName());
+                statement.setObject(3, row.getLastName());
+                statement.setObject(4, new Timestamp(row.getBirthDate().getTime()));
+                statement.setObject(5, row.getEmployed());
+                statement.setObject(6, row.getOccupation());
+                statement.setObject(7, row.getAddressId());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        try (PreparedStatement statement = connection.prepareStatement(deleteStatement.getDeleteStatement())) {
+            statement.setObject(1, deleteStatement.getParameters().get("p1"));
+            return statement.executeUpdate();
+        }
+    }
+
+    private BatchInsert<PersonRecord> batchInsert(int from, int to) {
+        List<PersonRecord> records = IntStream.range(from, to)
+                .mapToObj(PersonRecord::new)
+                .collect(Collectors.toList());
+        return insertBatch(records)
+                .into(person)
+                .map(person.id).toProperty("id")
+                .map(person.firstName).toProperty("firstName")
+                .map(person.lastName).toProperty("lastName")
+                .map(person.birthDate).toProperty("birthDate")
+                .map(person.employed).toProperty("employed")
+                .map(person.occupation).toProperty("occupation")
+                .map(person.addressId).toProperty("addressId")
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jmh;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.jmh.BenchmarkTables.address;
+import static org.mybatis.dynamic.sql.jmh.BenchmarkTables.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementRenderCache;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders statements with new values on every invocation, with and without a render cache. The models are built
+ * in every benchmark so the cached benchmarks include the cost of calculating the fingerprint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderCacheBenchmark {
+    @Param({"MYBATIS3", "SPRING_NAMED_PARAMETER"})
+    private String strategy;
+
+    private RenderingStrategy renderingStrategy;
+    private StatementRenderCache renderCache;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = BenchmarkTables.renderingStrategy(strategy);
+        renderCache = StatementRenderCache.of(100);
+    }
+
+    @Benchmark
+    public SelectStatementProvider selectWithoutCache() {
+        return selectModel(counter++).render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider selectWithCache() {
+        return selectModel(counter++).render(renderingStrategy, renderCache);
+    }
+
+    @Benchmark
+    public UpdateStatementProvider updateWithoutCache() {
+        return updateModel(counter++).render(renderingStrategy);
+    }
+
+    @Benchmark
+    public UpdateStatementProvider updateWithCache() {
+        return updateModel(counter++).render(renderingStrategy, renderCache);
+    }
+
+    private SelectModel selectModel(int value) {
+        return select(person.id, person.firstName, person.lastName, address.city)
+                .from(person, "p")
+                .join(address, "a").on(person.addressId, equalTo(address.id))
+                .where(person.id, isBetween(value).and(value + 100))
+                .and(person.lastName, isLike("F%"))
+                .and(person.occupation, isEqualToWhenPresent(value % 2 == 0 ? "Developer" : null))
+                .and(address.state, isIn("IN", "IL", "OH"))
+                .and(person.employed, isEqualTo(true), or(person.birthDate, isNull()))
+                .orderBy(person.lastName, person.firstName)
+                .limit(20)
+                .offset(value)
+                .build();
+    }
+
+    private UpdateModel updateModel(int value) {
+        return update(person)
+                .set(person.firstName).equalTo("Fred")
+                .set(person.lastName).equalToWhenPresent(value % 2 == 0 ? "Flintstone" : null)
+                .set(person.occupation).equalToWhenPresent("Brontosaurus Operator")
+                .set(person.addressId).equalTo(value)
+                .where(person.id, isEqualTo(value))
+                .and(person.employed, isEqualTo(true))
+                .build();
+    }
+}
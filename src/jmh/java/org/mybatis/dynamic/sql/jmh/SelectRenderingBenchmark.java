@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jmh;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.jmh.BenchmarkTables.address;
+import static org.mybatis.dynamic.sql.jmh.BenchmarkTables.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders select statements with joins, unions, and sub queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectRenderingBenchmark {
+    @Param({"MYBATIS3", "SPRING_NAMED_PARAMETER"})
+    private String strategy;
+
+    private RenderingStrategy renderingStrategy;
+    private SelectModel joinSelect;
+    private SelectModel unionSelect;
+    private SelectModel subQuerySelect;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = BenchmarkTables.renderingStrategy(strategy);
+
+        joinSelect = select(person.id, person.firstName, person.lastName, address.streetAddress, address.city)
+                .from(person, "p")
+                .join(address, "a").on(person.addressId, equalTo(address.id))
+                .where(person.id, isGreaterThan(5))
+                .and(address.state, isEqualTo("IN"))
+                .and(person.occupation, isNotNull())
+                .orderBy(person.lastName, person.firstName.descending())
+                .limit(20)
+                .offset(40)
+                .build();
+
+        unionSelect = select(person.id, person.firstName)
+                .from(person)
+                .where(person.id, isLessThan(10))
+                .union()
+                .select(person.id, person.firstName)
+                .from(person)
+                .where(person.lastName, isLike("F%"))
+                .unionAll()
+                .select(person.id, person.firstName)
+                .from(person)
+                .where(person.employed, isEqualTo(true))
+                .orderBy(person.id)
+                .build();
+
+        subQuerySelect = select(person.id, person.firstName)
+                .from(select(person.id, person.firstName, person.addressId)
+                        .from(person)
+                        .where(person.birthDate, isNotNull()), "pa")
+                .where(person.addressId, isIn(select(address.id).from(address).where(address.state, isEqualTo("IN"))))
+                .and(exists(select(address.id).from(address).where(address.city, isEqualTo("Bedrock"))))
+                .and(person.id, isGreaterThan(select(max(person.id)).from(person).where(person.occupation,
+                        isNull())))
+                .build();
+    }
+
+    @Benchmark
+    public SelectStatementProvider joins() {
+        return joinSelect.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider unions() {
+        return unionSelect.render(renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider subQueries() {
+        return subQuerySelect.render(renderingStrategy);
+    }
+}
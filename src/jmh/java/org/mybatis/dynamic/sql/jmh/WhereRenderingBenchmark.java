@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jmh;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.jmh.BenchmarkTables.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders where clauses with deeply nested and wide trees of and/or/group/not criteria.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WhereRenderingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class DeepWhere {
+        @Param({"MYBATIS3", "SPRING_NAMED_PARAMETER"})
+        private String strategy;
+
+        @Param({"10", "50"})
+        private int depth;
+
+        private RenderingStrategy renderingStrategy;
+        private WhereModel whereModel;
+
+        @Setup
+        public void setup() {
+            renderingStrategy = BenchmarkTables.renderingStrategy(strategy);
+            whereModel = where()
+                    .where(nestedCriterion(depth))
+                    .and(person.employed, isEqualTo(true))
+                    .build();
+        }
+
+        private static SqlCriterion nestedCriterion(int depth) {
+            if (depth == 0) {
+                return group(person.id, isEqualTo(depth));
+            }
+
+            return group(person.id, isGreaterThan(depth),
+                    or(person.lastName, isEqualTo("Name" + depth)),
+                    and(not(person.firstName, isLike("F%"))),
+                    or(nestedCriterion(depth - 1)));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WideWhere {
+        @Param({"MYBATIS3", "SPRING_NAMED_PARAMETER"})
+        private String strategy;
+
+        @Param({"10", "500"})
+        private int width;
+
+        private RenderingStrategy renderingStrategy;
+        private WhereModel whereModel;
+
+        @Setup
+        public void setup() {
+            renderingStrategy = BenchmarkTables.renderingStrategy(strategy);
+            List<AndOrCriteriaGroup> orGroups = IntStream.range(0, width)
+                    .mapToObj(i -> or(group(person.id, isEqualTo(i), and(person.lastName, isEqualTo("Name" + i)))))
+                    .collect(Collectors.toList());
+            whereModel = where()
+                    .where(person.occupation, isNotNull())
+                    .and(orGroups)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public WhereClauseProvider deep(DeepWhere state) {
+        return state.whereModel.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public WhereClauseProvider wide(WideWhere state) {
+        return state.whereModel.render(state.renderingStrategy);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2021 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,8 +15,14 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -24,6 +30,8 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.mybatis.dynamic.sql.where.condition.ListPadding;
+
 public abstract class AbstractListValueCondition<T> implements VisitableCondition<T> {
     protected final Collection<T> values;
     protected final Callback emptyCallback;
@@ -41,6 +49,41 @@ public abstract class AbstractListValueCondition<T> implements VisitableConditio
         return values.stream().map(mapper);
     }
 
+    /**
+     * Maps the values into an array for binding as a single parameter. The component type of the array is the
+     * class of the mapped values if they all have the same class, otherwise Object. A typed array lets drivers and
+     * type handlers determine the SQL type of the array elements.
+     *
+     * @param mapper a mapping function to apply to the values
+     * @param <R> the type of the mapped values
+     * @return an array of the mapped values
+     */
+    public final <R> Object[] mapValuesToArray(Function<T, R> mapper) {
+        Object[] mapped = values.stream().map(mapper).toArray();
+        Class<?> componentType = Arrays.stream(mapped)
+                .filter(Objects::nonNull)
+                .<Class<?>>map(Object::getClass)
+                .reduce((c1, c2) -> c1.equals(c2) ? c1 : Object.class)
+                .orElse(Object.class);
+        return componentType.equals(Object.class) ? mapped
+                : Arrays.copyOf(mapped, mapped.length, arrayTypeOf(componentType));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Object[]> arrayTypeOf(Class<?> componentType) {
+        return (Class<? extends Object[]>) Array.newInstance(componentType, 0).getClass();
+    }
+
+    /**
+     * Whether the values of this condition are bound as a single array parameter rather than one parameter per
+     * value. If true, the renderers pass a single placeholder to {@link #renderCondition(String, Stream)}.
+     *
+     * @return true if the values are bound as an array
+     */
+    public boolean bindsValuesAsArray() {
+        return false;
+    }
+
     @Override
     public boolean shouldRender() {
         return !values.isEmpty();
@@ -85,6 +128,30 @@ public abstract class AbstractListValueCondition<T> implements VisitableConditio
         }
     }
 
+    protected <S extends AbstractListValueCondition<T>> S distinctSupport(
+            BiFunction<Collection<T>, Callback, S> constructor, S self, Supplier<S> emptySupplier) {
+        // a value passes the filter only the first time it is added to the set
+        Set<T> seen = new HashSet<>();
+        return filterSupport(seen::add, constructor, self, emptySupplier);
+    }
+
+    protected <S extends AbstractListValueCondition<T>> S sortedDistinctSupport(Comparator<? super T> comparator,
+            BiFunction<Collection<T>, Callback, S> constructor, S self) {
+        if (shouldRender()) {
+            Collection<T> sorted = new TreeSet<>(Objects.requireNonNull(comparator));
+            sorted.addAll(values);
+            return constructor.apply(sorted, emptyCallback);
+        } else {
+            return self;
+        }
+    }
+
+    protected <S extends AbstractListValueCondition<T>> S paddingSupport(ListPadding padding,
+            BiFunction<Collection<T>, Callback, S> constructor, S self) {
+        Collection<T> padded = Objects.requireNonNull(padding).pad(values);
+        return padded == values ? self : constructor.apply(padded, emptyCallback);
+    }
+
     /**
      * If renderable, apply the predicate to each value in the list and return a new condition with the filtered values.
      *     Else returns a condition that will not render (this). If all values are filtered out of the value
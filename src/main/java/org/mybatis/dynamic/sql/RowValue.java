@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A list of columns that is compared with lists of values as a unit - for example a composite key
+ * like {@code (tenant_id, order_no)}.
+ */
+public class RowValue {
+    private final List<BindableColumn<?>> columns;
+
+    private RowValue(List<BindableColumn<?>> columns) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("A row value requires at least one column"); //$NON-NLS-1$
+        }
+        this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    public <R> Stream<R> mapColumns(Function<BindableColumn<?>, R> mapper) {
+        return columns.stream().map(mapper);
+    }
+
+    /**
+     * Creates a criterion that matches rows whose columns are equal to any of the lists of values. Each list must
+     * contain one value for every column, in column order.
+     *
+     * @param rows the lists of values
+     * @return the criterion
+     */
+    public RowValueInCriterion isIn(List<?>... rows) {
+        return isIn(Arrays.asList(rows));
+    }
+
+    public RowValueInCriterion isIn(Collection<? extends List<?>> rows) {
+        return new RowValueInCriterion.Builder()
+                .withRowValue(this)
+                .withRows(rows)
+                .build();
+    }
+
+    public static RowValue of(BindableColumn<?>... columns) {
+        return of(Arrays.asList(columns));
+    }
+
+    public static RowValue of(List<BindableColumn<?>> columns) {
+        return new RowValue(Objects.requireNonNull(columns));
+    }
+}
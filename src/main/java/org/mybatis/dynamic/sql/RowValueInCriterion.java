@@ -0,0 +1,172 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+
+/**
+ * A criterion that matches a {@link RowValue} against lists of values. By default this renders with row value
+ * syntax - {@code (a, b) in ((?,?),(?,?))}. Databases that do not support row values can use
+ * {@link #expandedToOr()}, which renders the same criterion as {@code ((a = ? and b = ?) or (a = ? and b = ?))}.
+ *
+ * <p>If there are no lists of values, the criterion will not render.
+ */
+public class RowValueInCriterion extends SqlCriterion {
+    private final RowValue rowValue;
+    private final List<List<?>> rows;
+    private final boolean expandedToOr;
+
+    private RowValueInCriterion(Builder builder) {
+        super(builder);
+        rowValue = Objects.requireNonNull(builder.rowValue);
+        rows = Collections.unmodifiableList(builder.rows);
+        expandedToOr = builder.expandedToOr;
+        rows.forEach(this::validateRow);
+    }
+
+    private void validateRow(List<?> row) {
+        if (row.size() != rowValue.size()) {
+            throw new IllegalArgumentException("Each row must have " + rowValue.size() //$NON-NLS-1$
+                    + " values, but a row has " + row.size()); //$NON-NLS-1$
+        }
+    }
+
+    public RowValue rowValue() {
+        return rowValue;
+    }
+
+    public <R> Stream<R> mapRows(Function<List<?>, R> mapper) {
+        return rows.stream().map(mapper);
+    }
+
+    public boolean isExpandedToOr() {
+        return expandedToOr;
+    }
+
+    public boolean shouldRender() {
+        return !rows.isEmpty();
+    }
+
+    /**
+     * Returns a copy of this criterion that renders as a group of "or" criteria rather than with row value syntax.
+     *
+     * @return the new criterion
+     */
+    public RowValueInCriterion expandedToOr() {
+        return new Builder()
+                .withRowValue(rowValue)
+                .withRows(rows)
+                .withExpandedToOr(true)
+                .withSubCriteria(subCriteria())
+                .build();
+    }
+
+    /**
+     * Returns the equivalent group of "or" criteria - one group of "and" criteria with an "is equal to" condition
+     * for each column, for every list of values. The sub criteria of this criterion are applied to the whole group.
+     * This is the same SQL that {@link #expandedToOr()} renders.
+     *
+     * @return the equivalent criteria group
+     */
+    public CriteriaGroup toCriteriaGroup() {
+        List<AndOrCriteriaGroup> rowCriteria = rows.stream()
+                .map(this::toRowCriterion)
+                .map(c -> new AndOrCriteriaGroup.Builder()
+                        .withConnector("or") //$NON-NLS-1$
+                        .withInitialCriterion(c)
+                        .build())
+                .collect(Collectors.toList());
+
+        CriteriaGroup.Builder rowsGroup = new CriteriaGroup.Builder();
+        if (!rowCriteria.isEmpty()) {
+            rowsGroup.withInitialCriterion(rowCriteria.get(0).initialCriterion().orElse(null))
+                    .withSubCriteria(rowCriteria.subList(1, rowCriteria.size()));
+        }
+
+        return new CriteriaGroup.Builder()
+                .withInitialCriterion(rowsGroup.build())
+                .withSubCriteria(subCriteria())
+                .build();
+    }
+
+    private CriteriaGroup toRowCriterion(List<?> row) {
+        List<BindableColumn<?>> columns = rowValue.mapColumns(Function.identity()).collect(Collectors.toList());
+        List<AndOrCriteriaGroup> columnCriteria = IntStream.range(1, columns.size())
+                .mapToObj(i -> new AndOrCriteriaGroup.Builder()
+                        .withConnector("and") //$NON-NLS-1$
+                        .withInitialCriterion(isEqualTo(columns.get(i), row.get(i)))
+                        .build())
+                .collect(Collectors.toList());
+
+        return new CriteriaGroup.Builder()
+                .withInitialCriterion(isEqualTo(columns.get(0), row.get(0)))
+                .withSubCriteria(columnCriteria)
+                .build();
+    }
+
+    private static <T> ColumnAndConditionCriterion<T> isEqualTo(BindableColumn<T> column, Object value) {
+        @SuppressWarnings("unchecked")
+        T typedValue = (T) value;
+        return ColumnAndConditionCriterion.withColumn(column)
+                .withCondition(IsEqualTo.of(typedValue))
+                .build();
+    }
+
+    @Override
+    public <R> R accept(SqlCriterionVisitor<R> visitor) {
+        return visitor.visit(this);
+    }
+
+    public static class Builder extends AbstractBuilder<Builder> {
+        private RowValue rowValue;
+        private final List<List<?>> rows = new ArrayList<>();
+        private boolean expandedToOr;
+
+        public Builder withRowValue(RowValue rowValue) {
+            this.rowValue = rowValue;
+            return this;
+        }
+
+        public Builder withRows(Collection<? extends List<?>> rows) {
+            this.rows.addAll(rows);
+            return this;
+        }
+
+        public Builder withExpandedToOr(boolean expandedToOr) {
+            this.expandedToOr = expandedToOr;
+            return this;
+        }
+
+        public RowValueInCriterion build() {
+            return new RowValueInCriterion(this);
+        }
+
+        @Override
+        protected Builder getThis() {
+            return this;
+        }
+    }
+}
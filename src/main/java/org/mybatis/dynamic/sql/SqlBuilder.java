@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,9 +17,12 @@ package org.mybatis.dynamic.sql;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.delete.DeleteDSL;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
@@ -28,6 +31,7 @@ import org.mybatis.dynamic.sql.insert.GeneralInsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertSelectDSL;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertDSL;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertDSL;
 import org.mybatis.dynamic.sql.select.ColumnSortSpecification;
 import org.mybatis.dynamic.sql.select.CountDSL;
 import org.mybatis.dynamic.sql.select.QueryExpressionDSL.FromGatherer;
@@ -68,7 +72,9 @@ import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToColumn;
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInArray;
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive;
+import org.mybatis.dynamic.sql.where.condition.IsInPrimitiveArray;
 import org.mybatis.dynamic.sql.where.condition.IsInWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsLessThan;
 import org.mybatis.dynamic.sql.where.condition.IsLessThanColumn;
@@ -83,7 +89,9 @@ import org.mybatis.dynamic.sql.where.condition.IsNotEqualTo;
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToColumn;
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsNotIn;
+import org.mybatis.dynamic.sql.where.condition.IsNotInArray;
 import org.mybatis.dynamic.sql.where.condition.IsNotInCaseInsensitive;
+import org.mybatis.dynamic.sql.where.condition.IsNotInPrimitiveArray;
 import org.mybatis.dynamic.sql.where.condition.IsNotInWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsNotLike;
 import org.mybatis.dynamic.sql.where.condition.IsNotLikeCaseInsensitive;
@@ -155,6 +163,30 @@ public interface SqlBuilder {
         return BatchInsertDSL.insert(records);
     }
 
+    /**
+     * Insert a Batch of records from a stream. The records are read lazily when the rendered statement is executed,
+     * so they are never all held in memory.
+     *
+     * @param records records to insert
+     * @param <T> the type of record to insert
+     * @return the next step in the DSL
+     */
+    static <T> StreamingBatchInsertDSL.IntoGatherer<T> insertBatch(Stream<T> records) {
+        return StreamingBatchInsertDSL.insert(records);
+    }
+
+    /**
+     * Insert a Batch of records from an iterator. The records are read lazily when the rendered statement is
+     * executed, so they are never all held in memory.
+     *
+     * @param records records to insert
+     * @param <T> the type of record to insert
+     * @return the next step in the DSL
+     */
+    static <T> StreamingBatchInsertDSL.IntoGatherer<T> insertBatch(Iterator<T> records) {
+        return StreamingBatchInsertDSL.insert(records);
+    }
+
     /**
      * Insert multiple records in a single statement. The model object is structured as a single insert statement with
      * multiple values clauses. This statement is suitable for use with a small number of records. It is not suitable
@@ -495,6 +527,10 @@ public interface SqlBuilder {
         return ExistsPredicate.notExists(selectModelBuilder);
     }
 
+    static RowValue tuple(BindableColumn<?>... columns) {
+        return RowValue.of(columns);
+    }
+
     static <T> IsNull<T> isNull() {
         return new IsNull<>();
     }
@@ -657,6 +693,18 @@ public interface SqlBuilder {
         return IsIn.of(values);
     }
 
+    static IsInPrimitiveArray<Long> isIn(long[] values) {
+        return IsInPrimitiveArray.of(values);
+    }
+
+    static IsInPrimitiveArray<Long> isIn(LongStream values) {
+        return isIn(values.toArray());
+    }
+
+    static IsInPrimitiveArray<Integer> isIn(int[] values) {
+        return IsInPrimitiveArray.of(values);
+    }
+
     static <T> IsInWithSubselect<T> isIn(Buildable<SelectModel> selectModelBuilder) {
         return IsInWithSubselect.of(selectModelBuilder);
     }
@@ -679,6 +727,18 @@ public interface SqlBuilder {
         return IsNotIn.of(values);
     }
 
+    static IsNotInPrimitiveArray<Long> isNotIn(long[] values) {
+        return IsNotInPrimitiveArray.of(values);
+    }
+
+    static IsNotInPrimitiveArray<Long> isNotIn(LongStream values) {
+        return isNotIn(values.toArray());
+    }
+
+    static IsNotInPrimitiveArray<Integer> isNotIn(int[] values) {
+        return IsNotInPrimitiveArray.of(values);
+    }
+
     static <T> IsNotInWithSubselect<T> isNotIn(Buildable<SelectModel> selectModelBuilder) {
         return IsNotInWithSubselect.of(selectModelBuilder);
     }
@@ -692,6 +752,24 @@ public interface SqlBuilder {
         return values == null ? IsNotIn.empty() : IsNotIn.of(values).filter(Objects::nonNull);
     }
 
+    @SafeVarargs
+    static <T> IsInArray<T> isInArray(T...values) {
+        return IsInArray.of(values);
+    }
+
+    static <T> IsInArray<T> isInArray(Collection<T> values) {
+        return IsInArray.of(values);
+    }
+
+    @SafeVarargs
+    static <T> IsNotInArray<T> isNotInArray(T...values) {
+        return IsNotInArray.of(values);
+    }
+
+    static <T> IsNotInArray<T> isNotInArray(Collection<T> values) {
+        return IsNotInArray.of(values);
+    }
+
     static <T> IsBetween.Builder<T> isBetween(T value1) {
         return IsBetween.isBetween(value1);
     }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -23,4 +23,15 @@ public interface SqlCriterionVisitor<R> {
     R visit(CriteriaGroup criterion);
 
     R visit(NotCriterion criterion);
+
+    /**
+     * Visits a row value IN criterion. By default the criterion is visited as its equivalent group of "or" criteria
+     * - see {@link RowValueInCriterion#toCriteriaGroup()}. Visitors that render row value syntax override this.
+     *
+     * @param criterion the criterion
+     * @return the result of the visit
+     */
+    default R visit(RowValueInCriterion criterion) {
+        return visit(criterion.toCriteriaGroup());
+    }
 }
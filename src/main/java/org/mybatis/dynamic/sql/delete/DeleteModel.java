@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.delete.render.DeleteRenderer;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementRenderCache;
 import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class DeleteModel {
@@ -50,6 +51,19 @@ public class DeleteModel {
                 .render();
     }
 
+    /**
+     * Render this model through a render cache. If a model with the same shape has been rendered through the
+     * cache before, the cached SQL is reused and only the parameters are calculated.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param renderCache the cache of rendered statements - normally shared by the application
+     * @return the rendered delete statement
+     */
+    @NotNull
+    public DeleteStatementProvider render(RenderingStrategy renderingStrategy, StatementRenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy);
+    }
+
     public static Builder withTable(SqlTable table) {
         return new Builder().withTable(table);
     }
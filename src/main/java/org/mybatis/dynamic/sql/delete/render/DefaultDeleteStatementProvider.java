@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,10 +15,11 @@
  */
 package org.mybatis.dynamic.sql.delete.render;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.util.ParameterMap;
+
 public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
     private final String deleteStatement;
     private final Map<String, Object> parameters;
@@ -44,7 +45,7 @@ public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
 
     public static class Builder {
         private String deleteStatement;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private final Map<String, Object> parameters = new ParameterMap();
 
         public Builder withDeleteStatement(String deleteStatement) {
             this.deleteStatement = deleteStatement;
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -18,60 +18,42 @@ package org.mybatis.dynamic.sql.delete.render;
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
-import org.mybatis.dynamic.sql.render.TableAliasCalculator;
+import org.mybatis.dynamic.sql.render.SqlBuffer;
 import org.mybatis.dynamic.sql.where.WhereModel;
-import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class DeleteRenderer {
     private final DeleteModel deleteModel;
-    private final RenderingStrategy renderingStrategy;
+    private final RenderingContext renderingContext;
 
     private DeleteRenderer(Builder builder) {
         deleteModel = Objects.requireNonNull(builder.deleteModel);
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        renderingContext = RenderingContext.withRenderingStrategy(builder.renderingStrategy)
+                .build();
     }
 
     public DeleteStatementProvider render() {
-        return deleteModel.whereModel()
-                .flatMap(this::renderWhereClause)
-                .map(this::renderWithWhereClause)
-                .orElseGet(this::renderWithoutWhereClause);
-    }
-
-    private DeleteStatementProvider renderWithWhereClause(WhereClauseProvider whereClauseProvider) {
-        return DefaultDeleteStatementProvider.withDeleteStatement(calculateDeleteStatement(whereClauseProvider))
-                .withParameters(whereClauseProvider.getParameters())
-                .build();
-    }
+        SqlBuffer buffer = new SqlBuffer();
 
-    private String calculateDeleteStatement(WhereClauseProvider whereClause) {
-        return calculateDeleteStatement()
-                + spaceBefore(whereClause.getWhereClause());
-    }
+        buffer.append("delete from") //$NON-NLS-1$
+                .append(spaceBefore(deleteModel.table().tableNameAtRuntime()));
+        deleteModel.whereModel().ifPresent(wm -> renderWhereClause(wm, buffer));
 
-    private String calculateDeleteStatement() {
-        return "delete from" //$NON-NLS-1$
-                + spaceBefore(deleteModel.table().tableNameAtRuntime());
+        return DefaultDeleteStatementProvider.withDeleteStatement(buffer.sql())
+                .withParameters(buffer.parameters())
+                .build();
     }
 
-    private DeleteStatementProvider renderWithoutWhereClause() {
-        return DefaultDeleteStatementProvider.withDeleteStatement(calculateDeleteStatement())
+    private void renderWhereClause(WhereModel whereModel, SqlBuffer buffer) {
+        WhereRenderer whereRenderer = WhereRenderer.withWhereModel(whereModel)
+                .withRenderingContext(renderingContext)
                 .build();
-    }
 
-    private Optional<WhereClauseProvider> renderWhereClause(WhereModel whereModel) {
-        return WhereRenderer.withWhereModel(whereModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
-                .withTableAliasCalculator(TableAliasCalculator.empty())
-                .build()
-                .render();
+        buffer.appendIfRendered(" ", whereRenderer::renderTo); //$NON-NLS-1$
     }
 
     public static Builder withDeleteModel(DeleteModel deleteModel) {
@@ -0,0 +1,45 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.exception;
+
+/**
+ * This exception is thrown when a select statement is rendered with a parameter limit, the statement binds more
+ * parameters than the limit, and the statement cannot be split into statements that are within the limit.
+ *
+ * <p>The message says why the statement cannot be split. A statement can only be split on an "in" condition that
+ * is joined to the where clause with "and", in a statement with a single query expression without "distinct",
+ * "group by", or paging.
+ */
+public class ParameterLimitExceededException extends RuntimeException {
+    private final int parameterCount;
+    private final int maxParameters;
+
+    public ParameterLimitExceededException(int parameterCount, int maxParameters, String reason) {
+        super("The statement binds " + parameterCount //$NON-NLS-1$
+                + " parameters, which is more than the limit of " + maxParameters //$NON-NLS-1$
+                + ", and it cannot be split because " + reason); //$NON-NLS-1$
+        this.parameterCount = parameterCount;
+        this.maxParameters = maxParameters;
+    }
+
+    public int parameterCount() {
+        return parameterCount;
+    }
+
+    public int maxParameters() {
+        return maxParameters;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertRenderer;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementRenderCache;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 
 public class GeneralInsertModel {
@@ -54,6 +55,21 @@ public class GeneralInsertModel {
                 .render();
     }
 
+    /**
+     * Render this model through a render cache. If a model with the same columns has been rendered through the
+     * cache before, and the same "when present" mappings had values, the cached SQL is reused and only the
+     * parameters are calculated.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param renderCache the cache of rendered statements - normally shared by the application
+     * @return the rendered insert statement
+     */
+    @NotNull
+    public GeneralInsertStatementProvider render(RenderingStrategy renderingStrategy,
+            StatementRenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy);
+    }
+
     public static class Builder {
         private SqlTable table;
         private final List<AbstractColumnMapping> insertMappings = new ArrayList<>();
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2021 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.insert.render.InsertRenderer;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertTemplate;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 
@@ -59,6 +60,22 @@ public class InsertModel<T> {
                 .render();
     }
 
+    /**
+     * Render this model once and return a template that can be bound to any row without rendering the statement
+     * again. The row of this model is not part of the template.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return a reusable template for this statement
+     * @throws UnsupportedOperationException if the model has "when present" mappings
+     */
+    @NotNull
+    public InsertTemplate<T> renderTemplate(RenderingStrategy renderingStrategy) {
+        return InsertRenderer.withInsertModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .renderTemplate();
+    }
+
     public static <T> Builder<T> withRow(T row) {
         return new Builder<T>().withRow(row);
     }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package org.mybatis.dynamic.sql.insert;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertRenderer;
@@ -36,6 +37,41 @@ public class MultiRowInsertModel<T> extends AbstractMultiRowInsertModel<T> {
                 .render();
     }
 
+    /**
+     * Render this model as a sequence of statements with at most maxRows rows each. All full chunks share the same
+     * rendered statement - only the last partial chunk is rendered separately. The statements should be executed in
+     * order, for example with {@code MyBatis3Utils.insertMultiple(mapper, statements)}.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param maxRows the maximum number of rows in each statement
+     * @return the rendered statements - an empty list if there are no records
+     */
+    @NotNull
+    public List<MultiRowInsertStatementProvider<T>> renderInChunks(RenderingStrategy renderingStrategy, int maxRows) {
+        return MultiRowInsertRenderer.withMultiRowInsertModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .renderInChunks(maxRows);
+    }
+
+    /**
+     * Render this model as a sequence of statements that each bind at most maxParameters parameters. This is
+     * useful for databases that limit the number of parameters in a statement - for example 2100 in SQL Server.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param maxParameters the maximum number of parameters in each statement
+     * @return the rendered statements - an empty list if there are no records
+     * @throws IllegalArgumentException if a single row binds more than maxParameters parameters
+     */
+    @NotNull
+    public List<MultiRowInsertStatementProvider<T>> renderWithParameterLimit(RenderingStrategy renderingStrategy,
+            int maxParameters) {
+        return MultiRowInsertRenderer.withMultiRowInsertModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .renderWithParameterLimit(maxParameters);
+    }
+
     public static <T> Builder<T> withRecords(Collection<T> records) {
         return new Builder<T>().withRecords(records);
     }
@@ -0,0 +1,115 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * DSL for a batch insert whose records are supplied by a stream or an iterator. The records are never collected,
+ * so an unbounded number of records can be inserted in constant memory.
+ *
+ * @param <T> the type of record to insert
+ */
+public class StreamingBatchInsertDSL<T> implements Buildable<StreamingBatchInsertModel<T>> {
+
+    private final Stream<T> records;
+    private final SqlTable table;
+    private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+
+    private StreamingBatchInsertDSL(Stream<T> records, SqlTable table) {
+        this.records = Objects.requireNonNull(records);
+        this.table = Objects.requireNonNull(table);
+    }
+
+    public <F> ColumnMappingFinisher<F> map(SqlColumn<F> column) {
+        return new ColumnMappingFinisher<>(column);
+    }
+
+    @NotNull
+    @Override
+    public StreamingBatchInsertModel<T> build() {
+        return StreamingBatchInsertModel.withRecords(records)
+                .withTable(table)
+                .withColumnMappings(columnMappings)
+                .build();
+    }
+
+    public static <T> IntoGatherer<T> insert(Stream<T> records) {
+        return new IntoGatherer<>(records);
+    }
+
+    public static <T> IntoGatherer<T> insert(Iterator<T> records) {
+        return insert(StreamSupport.stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED),
+                false));
+    }
+
+    public static class IntoGatherer<T> {
+        private final Stream<T> records;
+
+        private IntoGatherer(Stream<T> records) {
+            this.records = records;
+        }
+
+        public StreamingBatchInsertDSL<T> into(SqlTable table) {
+            return new StreamingBatchInsertDSL<>(records, table);
+        }
+    }
+
+    public class ColumnMappingFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public ColumnMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public StreamingBatchInsertDSL<T> toProperty(String property) {
+            columnMappings.add(PropertyMapping.of(column, property));
+            return StreamingBatchInsertDSL.this;
+        }
+
+        public StreamingBatchInsertDSL<T> toNull() {
+            columnMappings.add(NullMapping.of(column));
+            return StreamingBatchInsertDSL.this;
+        }
+
+        public StreamingBatchInsertDSL<T> toConstant(String constant) {
+            columnMappings.add(ConstantMapping.of(column, constant));
+            return StreamingBatchInsertDSL.this;
+        }
+
+        public StreamingBatchInsertDSL<T> toStringConstant(String constant) {
+            columnMappings.add(StringConstantMapping.of(column, constant));
+            return StreamingBatchInsertDSL.this;
+        }
+    }
+}
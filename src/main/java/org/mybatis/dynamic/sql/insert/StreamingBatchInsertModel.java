@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+
+public class StreamingBatchInsertModel<T> {
+    private final SqlTable table;
+    private final Stream<T> records;
+    private final List<AbstractColumnMapping> columnMappings;
+
+    private StreamingBatchInsertModel(Builder<T> builder) {
+        table = Objects.requireNonNull(builder.table);
+        records = Objects.requireNonNull(builder.records);
+        columnMappings = Collections.unmodifiableList(builder.columnMappings);
+    }
+
+    public <R> Stream<R> mapColumnMappings(Function<AbstractColumnMapping, R> mapper) {
+        return columnMappings.stream().map(mapper);
+    }
+
+    public Stream<T> records() {
+        return records;
+    }
+
+    public SqlTable table() {
+        return table;
+    }
+
+    /**
+     * Renders the insert statement. The statement does not depend on the records, so it is rendered once with
+     * the same renderer as a {@link BatchInsertModel}. The records are not read until the returned object is used.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return the rendered statement and the stream of records
+     */
+    @NotNull
+    public StreamingBatchInsert<T> render(RenderingStrategy renderingStrategy) {
+        BatchInsert<T> batchInsert = BatchInsertModel.withRecords(Collections.<T>emptyList())
+                .withTable(table)
+                .withColumnMappings(columnMappings)
+                .build()
+                .render(renderingStrategy);
+
+        return StreamingBatchInsert.withRecords(records)
+                .withInsertStatement(batchInsert.getInsertStatementSQL())
+                .withPropertyAccessorPlan(batchInsert.getPropertyAccessorPlan())
+                .build();
+    }
+
+    public static <T> Builder<T> withRecords(Stream<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private SqlTable table;
+        private Stream<T> records;
+        private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+
+        public Builder<T> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder<T> withRecords(Stream<T> records) {
+            this.records = records;
+            return this;
+        }
+
+        public Builder<T> withColumnMappings(List<AbstractColumnMapping> columnMappings) {
+            this.columnMappings.addAll(columnMappings);
+            return this;
+        }
+
+        public StreamingBatchInsertModel<T> build() {
+            return new StreamingBatchInsertModel<>(this);
+        }
+    }
+}
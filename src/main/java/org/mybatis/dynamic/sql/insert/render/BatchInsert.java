@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2021 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -21,12 +21,16 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+
 public class BatchInsert<T> {
     private final String insertStatement;
     private final List<T> records;
+    private final PropertyAccessorPlan propertyAccessorPlan;
 
     private BatchInsert(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
+        propertyAccessorPlan = Objects.requireNonNull(builder.propertyAccessorPlan);
         records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
     }
 
@@ -44,6 +48,7 @@ public class BatchInsert<T> {
     private InsertStatementProvider<T> toInsertStatement(T row) {
         return DefaultInsertStatementProvider.withRow(row)
                 .withInsertStatement(insertStatement)
+                .withPropertyAccessorPlan(propertyAccessorPlan)
                 .build();
     }
 
@@ -56,8 +61,18 @@ public class BatchInsert<T> {
         return insertStatement;
     }
 
+    /**
+     * Returns the record properties bound by the insert statement. This is useful for reading the properties with
+     * compiled getters rather than reflection.
+     *
+     * @return the record properties bound by the insert statement
+     */
+    public PropertyAccessorPlan getPropertyAccessorPlan() {
+        return propertyAccessorPlan;
+    }
+
     public List<T> getRecords() {
-        return Collections.unmodifiableList(records);
+        return records;
     }
 
     public static <T> Builder<T> withRecords(List<T> records) {
@@ -66,6 +81,7 @@ public class BatchInsert<T> {
 
     public static class Builder<T> {
         private String insertStatement;
+        private PropertyAccessorPlan propertyAccessorPlan = PropertyAccessorPlan.empty();
         private final List<T> records = new ArrayList<>();
 
         public Builder<T> withInsertStatement(String insertStatement) {
@@ -78,6 +94,11 @@ public class BatchInsert<T> {
             return this;
         }
 
+        public Builder<T> withPropertyAccessorPlan(PropertyAccessorPlan propertyAccessorPlan) {
+            this.propertyAccessorPlan = propertyAccessorPlan;
+            return this;
+        }
+
         public BatchInsert<T> build() {
             return new BatchInsert<>(this);
         }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -19,10 +19,12 @@ import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
 
 public class BatchInsertRenderer<T> {
 
@@ -42,6 +44,7 @@ public class BatchInsertRenderer<T> {
 
         return BatchInsert.withRecords(model.records())
                 .withInsertStatement(calculateInsertStatement(fieldsAndValues))
+                .withPropertyAccessorPlan(PropertyAccessorPlan.of(model.mapColumnMappings(Function.identity())))
                 .build();
     }
 
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,14 +15,15 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.util.ParameterMap;
+
 public class DefaultGeneralInsertStatementProvider
         implements GeneralInsertStatementProvider, InsertSelectStatementProvider {
     private final String insertStatement;
-    private final Map<String, Object> parameters = new HashMap<>();
+    private final Map<String, Object> parameters = new ParameterMap();
 
     private DefaultGeneralInsertStatementProvider(Builder builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
@@ -45,7 +46,7 @@ public class DefaultGeneralInsertStatementProvider
 
     public static class Builder {
         private String insertStatement;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private final Map<String, Object> parameters = new ParameterMap();
 
         public Builder withInsertStatement(String insertStatement) {
             this.insertStatement = insertStatement;
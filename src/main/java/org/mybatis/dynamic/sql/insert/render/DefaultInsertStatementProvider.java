@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2021 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+
 public class DefaultInsertStatementProvider<T> implements InsertStatementProvider<T> {
     private final String insertStatement;
     // need to keep both row and record for now so we don't break
@@ -24,11 +26,13 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
     // the case where the attribute name is different from the getter.
     private final T record;
     private final T row;
+    private final PropertyAccessorPlan propertyAccessorPlan;
 
     private DefaultInsertStatementProvider(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         row = Objects.requireNonNull(builder.row);
         record = row;
+        propertyAccessorPlan = Objects.requireNonNull(builder.propertyAccessorPlan);
     }
 
     @Override
@@ -46,6 +50,11 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
         return insertStatement;
     }
 
+    @Override
+    public PropertyAccessorPlan getPropertyAccessorPlan() {
+        return propertyAccessorPlan;
+    }
+
     public static <T> Builder<T> withRow(T row) {
         return new Builder<T>().withRow(row);
     }
@@ -53,6 +62,7 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
     public static class Builder<T> {
         private String insertStatement;
         private T row;
+        private PropertyAccessorPlan propertyAccessorPlan = PropertyAccessorPlan.empty();
 
         public Builder<T> withInsertStatement(String insertStatement) {
             this.insertStatement = insertStatement;
@@ -64,6 +74,11 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
             return this;
         }
 
+        public Builder<T> withPropertyAccessorPlan(PropertyAccessorPlan propertyAccessorPlan) {
+            this.propertyAccessorPlan = propertyAccessorPlan;
+            return this;
+        }
+
         public DefaultInsertStatementProvider<T> build() {
             return new DefaultInsertStatementProvider<>(this);
         }
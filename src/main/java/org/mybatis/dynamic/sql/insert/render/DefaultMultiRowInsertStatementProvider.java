@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -20,14 +20,18 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+
 public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsertStatementProvider<T> {
 
     private final List<T> records;
     private final String insertStatement;
+    private final PropertyAccessorPlan propertyAccessorPlan;
 
     private DefaultMultiRowInsertStatementProvider(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         records = Collections.unmodifiableList(builder.records);
+        propertyAccessorPlan = Objects.requireNonNull(builder.propertyAccessorPlan);
     }
 
     @Override
@@ -40,9 +44,15 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
         return records;
     }
 
+    @Override
+    public PropertyAccessorPlan getPropertyAccessorPlan() {
+        return propertyAccessorPlan;
+    }
+
     public static class Builder<T> {
         private final List<T> records = new ArrayList<>();
         private String insertStatement;
+        private PropertyAccessorPlan propertyAccessorPlan = PropertyAccessorPlan.empty();
 
         public Builder<T> withRecords(List<T> records) {
             this.records.addAll(records);
@@ -54,6 +64,11 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
             return this;
         }
 
+        public Builder<T> withPropertyAccessorPlan(PropertyAccessorPlan propertyAccessorPlan) {
+            this.propertyAccessorPlan = propertyAccessorPlan;
+            return this;
+        }
+
         public DefaultMultiRowInsertStatementProvider<T> build() {
             return new DefaultMultiRowInsertStatementProvider<>(this);
         }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,7 +17,6 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -26,6 +25,7 @@ import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.ParameterMap;
 
 public class GeneralInsertRenderer {
 
@@ -75,7 +75,7 @@ public class GeneralInsertRenderer {
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .map(FieldAndValueAndParameters::parameters)
-                .collect(HashMap::new, HashMap::putAll, HashMap::putAll);
+                .collect(ParameterMap::new, ParameterMap::putAll, ParameterMap::putAll);
     }
 
     public static Builder withInsertModel(GeneralInsertModel model) {
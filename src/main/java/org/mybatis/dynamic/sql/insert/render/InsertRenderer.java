@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2021 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -20,10 +20,13 @@ import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.insert.InsertModel;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+import org.mybatis.dynamic.sql.util.PropertyWhenPresentMapping;
 
 public class InsertRenderer<T> {
 
@@ -43,6 +46,26 @@ public class InsertRenderer<T> {
 
         return DefaultInsertStatementProvider.withRow(model.row())
                 .withInsertStatement(calculateInsertStatement(fieldsAndValues))
+                .withPropertyAccessorPlan(PropertyAccessorPlan.of(model.mapColumnMappings(Function.identity())))
+                .build();
+    }
+
+    /**
+     * Render a template that can be bound to any row. The model's row is only used to build the model - it is not
+     * part of the template.
+     *
+     * @return the rendered template
+     * @throws UnsupportedOperationException if the model has "when present" mappings
+     */
+    public InsertTemplate<T> renderTemplate() {
+        if (model.mapColumnMappings(PropertyWhenPresentMapping.class::isInstance).anyMatch(Boolean::booleanValue)) {
+            throw new UnsupportedOperationException(
+                    "An insert template cannot be rendered with \"when present\" mappings"); //$NON-NLS-1$
+        }
+
+        return new InsertTemplate.Builder<T>()
+                .withInsertStatement(render().getInsertStatement())
+                .withPropertyAccessorPlan(PropertyAccessorPlan.of(model.mapColumnMappings(Function.identity())))
                 .build();
     }
 
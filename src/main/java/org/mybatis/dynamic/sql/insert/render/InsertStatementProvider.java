@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+
 public interface InsertStatementProvider<T> {
     /**
      * Return the row associated with this insert statement.
@@ -38,4 +40,14 @@ public interface InsertStatementProvider<T> {
      * @return the formatted insert statement.
      */
     String getInsertStatement();
+
+    /**
+     * Return the row properties bound by the insert statement. This can be used to read the properties with
+     * compiled getters rather than reflection.
+     *
+     * @return the row properties bound by the insert statement, or an empty plan if they are not known
+     */
+    default PropertyAccessorPlan getPropertyAccessorPlan() {
+        return PropertyAccessorPlan.empty();
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+
+/**
+ * A single row insert statement that has been rendered once, and can then be bound to any number of rows without
+ * rendering the statement again.
+ *
+ * <p>The column list and the placeholders of an insert statement only depend on the table and the column mappings,
+ * so the rendered statement is the same for every row. Each call to {@link #bind(Object)} creates a new
+ * {@link InsertStatementProvider} with the same SQL and the supplied row. This is useful for high rate single row
+ * inserts - the template can be rendered once and kept in a static field.
+ *
+ * <p>A template cannot be rendered from a model with "when present" mappings, because whether those columns are
+ * rendered depends on the row.
+ *
+ * @param <T> the type of row to insert
+ */
+public class InsertTemplate<T> {
+    private final String insertStatement;
+    private final PropertyAccessorPlan propertyAccessorPlan;
+
+    private InsertTemplate(Builder<T> builder) {
+        insertStatement = Objects.requireNonNull(builder.insertStatement);
+        propertyAccessorPlan = Objects.requireNonNull(builder.propertyAccessorPlan);
+    }
+
+    public String getInsertStatement() {
+        return insertStatement;
+    }
+
+    public PropertyAccessorPlan getPropertyAccessorPlan() {
+        return propertyAccessorPlan;
+    }
+
+    /**
+     * Bind a row to this template.
+     *
+     * @param row the row to insert
+     * @return a statement provider with the rendered SQL and the row
+     */
+    public InsertStatementProvider<T> bind(T row) {
+        return DefaultInsertStatementProvider.withRow(row)
+                .withInsertStatement(insertStatement)
+                .withPropertyAccessorPlan(propertyAccessorPlan)
+                .build();
+    }
+
+    public static class Builder<T> {
+        private String insertStatement;
+        private PropertyAccessorPlan propertyAccessorPlan = PropertyAccessorPlan.empty();
+
+        public Builder<T> withInsertStatement(String insertStatement) {
+            this.insertStatement = insertStatement;
+            return this;
+        }
+
+        public Builder<T> withPropertyAccessorPlan(PropertyAccessorPlan propertyAccessorPlan) {
+            this.propertyAccessorPlan = propertyAccessorPlan;
+            return this;
+        }
+
+        public InsertTemplate<T> build() {
+            return new InsertTemplate<>(this);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,15 +17,23 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.MultiRowInsertMappingVisitor;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
 
 public class MultiRowInsertRenderer<T> {
+    private static final ParameterCounter PARAMETER_COUNTER = new ParameterCounter();
 
     private final MultiRowInsertModel<T> model;
     private final RenderingStrategy renderingStrategy;
@@ -36,41 +44,109 @@ public class MultiRowInsertRenderer<T> {
     }
 
     public MultiRowInsertStatementProvider<T> render() {
-        // the prefix is a generic format that will be resolved below with String.format(...)
+        List<FieldAndValue> fieldsAndValues = calculateFieldsAndValues();
+        return new DefaultMultiRowInsertStatementProvider.Builder<T>().withRecords(model.records())
+                .withInsertStatement(compileRowTemplate(fieldsAndValues).render(
+                        calculatePrefix(fieldsAndValues), model.recordCount()))
+                .withPropertyAccessorPlan(propertyAccessorPlan())
+                .build();
+    }
+
+    /**
+     * Render the records in chunks of at most maxRows rows each. Every full chunk shares the same insert statement,
+     * so the statement is rendered at most twice - once for the full chunks and once for the last partial chunk.
+     *
+     * @param maxRows the maximum number of rows in each statement
+     * @return the rendered statements in record order - an empty list if there are no records
+     */
+    public List<MultiRowInsertStatementProvider<T>> renderInChunks(int maxRows) {
+        if (maxRows < 1) {
+            throw new IllegalArgumentException("The maximum number of rows must be at least 1"); //$NON-NLS-1$
+        }
+
+        List<FieldAndValue> fieldsAndValues = calculateFieldsAndValues();
+        String prefix = calculatePrefix(fieldsAndValues);
+        MultiRowValuesTemplate template = compileRowTemplate(fieldsAndValues);
+        List<T> records = model.records();
+        PropertyAccessorPlan propertyAccessorPlan = propertyAccessorPlan();
+
+        List<MultiRowInsertStatementProvider<T>> statements = new ArrayList<>();
+        String fullChunkStatement = null;
+        for (int start = 0; start < records.size(); start += maxRows) {
+            int end = Math.min(records.size(), start + maxRows);
+            String insertStatement;
+            if (end - start == maxRows) {
+                if (fullChunkStatement == null) {
+                    fullChunkStatement = template.render(prefix, maxRows);
+                }
+                insertStatement = fullChunkStatement;
+            } else {
+                insertStatement = template.render(prefix, end - start);
+            }
+
+            statements.add(new DefaultMultiRowInsertStatementProvider.Builder<T>()
+                    .withRecords(records.subList(start, end))
+                    .withInsertStatement(insertStatement)
+                    .withPropertyAccessorPlan(propertyAccessorPlan)
+                    .build());
+        }
+        return statements;
+    }
+
+    /**
+     * Render the records in chunks so that no statement binds more than maxParameters parameters. Only property
+     * mappings bind a parameter - constants and nulls are rendered into the statement.
+     *
+     * @param maxParameters the maximum number of parameters in each statement
+     * @return the rendered statements in record order - an empty list if there are no records
+     */
+    public List<MultiRowInsertStatementProvider<T>> renderWithParameterLimit(int maxParameters) {
+        if (maxParameters < 1) {
+            throw new IllegalArgumentException("The maximum number of parameters must be at least 1"); //$NON-NLS-1$
+        }
+
+        long parametersPerRow = model.mapColumnMappings(m -> m.accept(PARAMETER_COUNTER))
+                .filter(Boolean::booleanValue)
+                .count();
+        if (parametersPerRow > maxParameters) {
+            throw new IllegalArgumentException("Each row binds " + parametersPerRow //$NON-NLS-1$
+                    + " parameters, which is more than the limit of " + maxParameters); //$NON-NLS-1$
+        }
+
+        int maxRows = parametersPerRow == 0 ? Math.max(1, model.recordCount())
+                : (int) (maxParameters / parametersPerRow);
+        return renderInChunks(maxRows);
+    }
+
+    private PropertyAccessorPlan propertyAccessorPlan() {
+        return PropertyAccessorPlan.of(model.mapColumnMappings(Function.identity()));
+    }
+
+    private List<FieldAndValue> calculateFieldsAndValues() {
+        // the prefix is a generic format - the row index is filled in by MultiRowValuesTemplate
         MultiRowValuePhraseVisitor visitor =
                 new MultiRowValuePhraseVisitor(renderingStrategy, "records[%s]"); //$NON-NLS-1$
-        List<FieldAndValue> fieldsAndValues = model
-                .mapColumnMappings(m -> m.accept(visitor))
+        return model.mapColumnMappings(m -> m.accept(visitor))
                 .collect(Collectors.toList());
-
-        return new DefaultMultiRowInsertStatementProvider.Builder<T>().withRecords(model.records())
-                .withInsertStatement(calculateInsertStatement(fieldsAndValues))
-                .build();
     }
 
-    private String calculateInsertStatement(List<FieldAndValue> fieldsAndValues) {
+    private String calculatePrefix(List<FieldAndValue> fieldsAndValues) {
         return "insert into" //$NON-NLS-1$
                 + spaceBefore(model.table().tableNameAtRuntime())
                 + spaceBefore(calculateColumnsPhrase(fieldsAndValues))
-                + spaceBefore(calculateMultiRowInsertValuesPhrase(fieldsAndValues, model.recordCount()));
+                + " values "; //$NON-NLS-1$
     }
 
-    private String calculateColumnsPhrase(List<FieldAndValue> fieldsAndValues) {
-        return fieldsAndValues.stream()
-                .map(FieldAndValue::fieldName)
-                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-    }
-
-    private String calculateMultiRowInsertValuesPhrase(List<FieldAndValue> fieldsAndValues, int rowCount) {
-        return IntStream.range(0, rowCount)
-                .mapToObj(i -> toSingleRowOfValues(fieldsAndValues, i))
-                .collect(Collectors.joining(", ", "values ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    private MultiRowValuesTemplate compileRowTemplate(List<FieldAndValue> fieldsAndValues) {
+        // the row template is compiled once and every row is written into one buffer
+        return MultiRowValuesTemplate.of(fieldsAndValues.stream()
+                .map(FieldAndValue::valuePhrase)
+                .collect(Collectors.toList()));
     }
 
-    private String toSingleRowOfValues(List<FieldAndValue> fieldsAndValues, int row) {
+    private String calculateColumnsPhrase(List<FieldAndValue> fieldsAndValues) {
         return fieldsAndValues.stream()
-                .map(FieldAndValue::valuePhrase)
-                .map(s -> String.format(s, row))
+                .map(FieldAndValue::fieldName)
                 .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
@@ -96,4 +172,29 @@ public class MultiRowInsertRenderer<T> {
             return new MultiRowInsertRenderer<>(this);
         }
     }
+
+    /**
+     * Returns true for the column mappings that bind a parameter for every row.
+     */
+    private static class ParameterCounter extends MultiRowInsertMappingVisitor<Boolean> {
+        @Override
+        public Boolean visit(NullMapping mapping) {
+            return false;
+        }
+
+        @Override
+        public Boolean visit(ConstantMapping mapping) {
+            return false;
+        }
+
+        @Override
+        public Boolean visit(StringConstantMapping mapping) {
+            return false;
+        }
+
+        @Override
+        public Boolean visit(PropertyMapping mapping) {
+            return true;
+        }
+    }
 }
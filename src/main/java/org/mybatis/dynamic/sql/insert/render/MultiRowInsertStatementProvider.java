@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,9 +17,21 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import java.util.List;
 
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+
 public interface MultiRowInsertStatementProvider<T> {
 
     String getInsertStatement();
 
     List<T> getRecords();
+
+    /**
+     * Return the record properties bound by the insert statement. This can be used to read the properties with
+     * compiled getters rather than reflection.
+     *
+     * @return the record properties bound by the insert statement, or an empty plan if they are not known
+     */
+    default PropertyAccessorPlan getPropertyAccessorPlan() {
+        return PropertyAccessorPlan.empty();
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A row of values for a multi-row insert, compiled once from the value phrases of the column mappings.
+ *
+ * <p>Value phrases contain the row index as a format specifier - for example {@code #{records[%s].id}}. Rather than
+ * calling {@link String#format(String, Object...)} for every value of every row, the phrases are split once into
+ * literal segments and index slots. The rendered output is identical to formatting each phrase with the row index.
+ * A phrase that contains any format specifier other than {@code %s} and {@code %%} is still formatted with
+ * {@link String#format(String, Object...)}.
+ */
+class MultiRowValuesTemplate {
+    private final List<Part> parts = new ArrayList<>();
+    private final StringBuilder pendingLiteral = new StringBuilder();
+    private int literalLength;
+    private int indexSlots;
+
+    private MultiRowValuesTemplate(List<String> valuePhrases) {
+        pendingLiteral.append('(');
+        for (int i = 0; i < valuePhrases.size(); i++) {
+            if (i > 0) {
+                pendingLiteral.append(", "); //$NON-NLS-1$
+            }
+            compilePhrase(valuePhrases.get(i));
+        }
+        pendingLiteral.append(')');
+        addPendingLiteral();
+    }
+
+    private void compilePhrase(String phrase) {
+        if (!isSimpleFormat(phrase)) {
+            addPendingLiteral();
+            parts.add((buffer, row) -> buffer.append(String.format(phrase, row)));
+            indexSlots++;
+            return;
+        }
+
+        int start = 0;
+        int index = phrase.indexOf('%');
+        while (index >= 0) {
+            pendingLiteral.append(phrase, start, index);
+            if (phrase.charAt(index + 1) == '%') {
+                pendingLiteral.append('%');
+            } else {
+                addPendingLiteral();
+                parts.add((buffer, row) -> buffer.append(row));
+                indexSlots++;
+            }
+            start = index + 2;
+            index = phrase.indexOf('%', start);
+        }
+        pendingLiteral.append(phrase, start, phrase.length());
+    }
+
+    /**
+     * Returns true if every format specifier in the phrase is either %s or %%.
+     */
+    private static boolean isSimpleFormat(String phrase) {
+        int index = phrase.indexOf('%');
+        while (index >= 0) {
+            if (index + 1 >= phrase.length()) {
+                return false;
+            }
+            char conversion = phrase.charAt(index + 1);
+            if (conversion != 's' && conversion != '%') {
+                return false;
+            }
+            index = phrase.indexOf('%', index + 2);
+        }
+        return true;
+    }
+
+    private void addPendingLiteral() {
+        if (pendingLiteral.length() > 0) {
+            String literal = pendingLiteral.toString();
+            parts.add((buffer, row) -> buffer.append(literal));
+            literalLength += literal.length();
+            pendingLiteral.setLength(0);
+        }
+    }
+
+    /**
+     * Renders all rows, separated by commas, after the statement prefix.
+     *
+     * @param prefix the start of the statement, up to and including "values "
+     * @param rowCount the number of rows to render
+     * @return the complete statement
+     */
+    String render(String prefix, int rowCount) {
+        int indexLength = Integer.toString(Math.max(rowCount - 1, 0)).length();
+        StringBuilder buffer = new StringBuilder(prefix.length()
+                + rowCount * (literalLength + indexSlots * indexLength + 2));
+        buffer.append(prefix);
+        for (int row = 0; row < rowCount; row++) {
+            if (row > 0) {
+                buffer.append(", "); //$NON-NLS-1$
+            }
+            for (Part part : parts) {
+                part.appendTo(buffer, row);
+            }
+        }
+        return buffer.toString();
+    }
+
+    static MultiRowValuesTemplate of(List<String> valuePhrases) {
+        return new MultiRowValuesTemplate(valuePhrases);
+    }
+
+    @FunctionalInterface
+    private interface Part {
+        void appendTo(StringBuilder buffer, int row);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+
+/**
+ * A rendered batch insert whose records are read lazily from a stream. The insert statement is rendered once and
+ * is shared by all records.
+ *
+ * <p>The records can only be read once - use one of {@link #records()}, {@link #insertStatements()}, or
+ * {@link #forEachChunk(int, Consumer)}.
+ *
+ * @param <T> the type of record to insert
+ */
+public class StreamingBatchInsert<T> {
+    private final String insertStatement;
+    private final Stream<T> records;
+    private final PropertyAccessorPlan propertyAccessorPlan;
+
+    private StreamingBatchInsert(Builder<T> builder) {
+        insertStatement = Objects.requireNonNull(builder.insertStatement);
+        propertyAccessorPlan = Objects.requireNonNull(builder.propertyAccessorPlan);
+        records = Objects.requireNonNull(builder.records);
+    }
+
+    /**
+     * Returns the generated SQL for this batch.  This is useful for Spring JDBC batch support.
+     *
+     * @return the generated INSERT statement
+     */
+    public String getInsertStatementSQL() {
+        return insertStatement;
+    }
+
+    /**
+     * Returns the record properties bound by the insert statement. This is useful for reading the properties with
+     * compiled getters rather than reflection.
+     *
+     * @return the record properties bound by the insert statement
+     */
+    public PropertyAccessorPlan getPropertyAccessorPlan() {
+        return propertyAccessorPlan;
+    }
+
+    public Stream<T> records() {
+        return records;
+    }
+
+    /**
+     * Returns a stream of InsertStatement objects. Each object is created when it is read from the stream.
+     * This is useful for MyBatis batch support.
+     *
+     * @return a stream of InsertStatements
+     */
+    public Stream<InsertStatementProvider<T>> insertStatements() {
+        return records.map(this::toInsertStatement);
+    }
+
+    private InsertStatementProvider<T> toInsertStatement(T row) {
+        return DefaultInsertStatementProvider.withRow(row)
+                .withInsertStatement(insertStatement)
+                .withPropertyAccessorPlan(propertyAccessorPlan)
+                .build();
+    }
+
+    /**
+     * Reads the records in chunks and passes each chunk to the consumer. Only one chunk is held in memory at a
+     * time. The last chunk may be smaller than the chunk size. No chunk is passed if there are no records.
+     *
+     * @param chunkSize the maximum number of records in a chunk
+     * @param consumer a consumer for each chunk
+     */
+    public void forEachChunk(int chunkSize, Consumer<List<T>> consumer) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be at least 1"); //$NON-NLS-1$
+        }
+
+        Iterator<T> iterator = records.iterator();
+        while (iterator.hasNext()) {
+            List<T> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext() && chunk.size() < chunkSize) {
+                chunk.add(iterator.next());
+            }
+            consumer.accept(chunk);
+        }
+    }
+
+    public static <T> Builder<T> withRecords(Stream<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private String insertStatement;
+        private PropertyAccessorPlan propertyAccessorPlan = PropertyAccessorPlan.empty();
+        private Stream<T> records;
+
+        public Builder<T> withInsertStatement(String insertStatement) {
+            this.insertStatement = insertStatement;
+            return this;
+        }
+
+        public Builder<T> withRecords(Stream<T> records) {
+            this.records = records;
+            return this;
+        }
+
+        public Builder<T> withPropertyAccessorPlan(PropertyAccessorPlan propertyAccessorPlan) {
+            this.propertyAccessorPlan = propertyAccessorPlan;
+            return this;
+        }
+
+        public StreamingBatchInsert<T> build() {
+            return new StreamingBatchInsert<>(this);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2021 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,9 +15,29 @@
  */
 package org.mybatis.dynamic.sql.render;
 
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.mybatis.dynamic.sql.BindableColumn;
 
+/**
+ * Renders placeholders in the format required by MyBatis3 - for example
+ * {@code #{parameters.p1,jdbcType=INTEGER}}.
+ *
+ * <p>The part of the placeholder that describes the column (jdbcType, javaType, and typeHandler) only depends on
+ * those three attributes, so each strategy caches it by the attributes rather than by column. Columns with only a
+ * jdbcType - the common case - are looked up in an array indexed by the JDBC type. Other columns are looked up in a
+ * concurrent map. Neither lookup takes a lock, and no column is kept by the cache.
+ */
 public class MyBatis3RenderingStrategy extends RenderingStrategy {
+    private final boolean appendsDirectly = !overridesColumnPlaceholder(getClass());
+    // the last element is for columns without a JDBC type
+    private final String[] jdbcTypeSuffixes = new String[JDBCType.values().length + 1];
+    private final ConcurrentMap<List<Object>, String> suffixes = new ConcurrentHashMap<>();
+
     @Override
     public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
         return "#{" //$NON-NLS-1$
@@ -29,14 +49,69 @@ public class MyBatis3RenderingStrategy extends RenderingStrategy {
 
     @Override
     public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        StringBuilder buffer = new StringBuilder();
+        appendPlaceholder(buffer, column, prefix, parameterName);
+        return buffer.toString();
+    }
+
+    /**
+     * Array parameters use the MyBatis array type handler, which creates a JDBC array from a Java array.
+     */
+    @Override
+    public String getFormattedJdbcArrayPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
         return "#{" //$NON-NLS-1$
                 + prefix
                 + "." //$NON-NLS-1$
                 + parameterName
-                + renderJdbcType(column)
+                + ",typeHandler=org.apache.ibatis.type.ArrayTypeHandler}"; //$NON-NLS-1$
+    }
+
+    /**
+     * Appends the placeholder without building an intermediate String. If a subclass changes the format of the
+     * placeholder by overriding {@link #getFormattedJdbcPlaceholder(BindableColumn, String, String)}, this method
+     * appends the result of the subclass method instead.
+     */
+    @Override
+    public void appendFormattedJdbcPlaceholder(StringBuilder buffer, BindableColumn<?> column, String prefix,
+            String parameterName) {
+        if (appendsDirectly) {
+            appendPlaceholder(buffer, column, prefix, parameterName);
+        } else {
+            super.appendFormattedJdbcPlaceholder(buffer, column, prefix, parameterName);
+        }
+    }
+
+    private void appendPlaceholder(StringBuilder buffer, BindableColumn<?> column, String prefix,
+            String parameterName) {
+        buffer.append("#{") //$NON-NLS-1$
+                .append(prefix)
+                .append('.')
+                .append(parameterName)
+                .append(placeholderSuffix(column))
+                .append('}');
+    }
+
+    private String placeholderSuffix(BindableColumn<?> column) {
+        if (column.javaType().isPresent() || column.typeHandler().isPresent()) {
+            return suffixes.computeIfAbsent(Arrays.asList(column.jdbcType().orElse(null),
+                    column.javaType().orElse(null), column.typeHandler().orElse(null)),
+                    k -> calculatePlaceholderSuffix(column));
+        }
+
+        int index = column.jdbcType().map(JDBCType::ordinal).orElse(jdbcTypeSuffixes.length - 1);
+        String suffix = jdbcTypeSuffixes[index];
+        if (suffix == null) {
+            // a racing thread calculates the same String, and Strings are safely published
+            suffix = calculatePlaceholderSuffix(column);
+            jdbcTypeSuffixes[index] = suffix;
+        }
+        return suffix;
+    }
+
+    private String calculatePlaceholderSuffix(BindableColumn<?> column) {
+        return renderJdbcType(column)
                 + renderJavaType(column)
-                + renderTypeHandler(column)
-                + "}"; //$NON-NLS-1$
+                + renderTypeHandler(column);
     }
 
     private String renderTypeHandler(BindableColumn<?> column) {
@@ -56,4 +131,14 @@ public class MyBatis3RenderingStrategy extends RenderingStrategy {
                 .map(jt -> ",javaType=" + jt.getName()) //$NON-NLS-1$
                 .orElse(""); //$NON-NLS-1$
     }
+
+    private static boolean overridesColumnPlaceholder(Class<?> strategyClass) {
+        try {
+            return strategyClass.getMethod("getFormattedJdbcPlaceholder", //$NON-NLS-1$
+                    BindableColumn.class, String.class, String.class)
+                    .getDeclaringClass() != MyBatis3RenderingStrategy.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
 }
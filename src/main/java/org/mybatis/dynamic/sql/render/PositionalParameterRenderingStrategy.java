@@ -0,0 +1,106 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.util.PositionalParameters;
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+
+/**
+ * Renders every parameter as a JDBC positional placeholder ("?"). Statements rendered with this strategy can be
+ * executed directly with a JDBC prepared statement, or with Spring's {@code JdbcTemplate}, without parsing named
+ * parameters. The parameter map of a rendered statement is converted to ordered arguments with
+ * {@link PositionalParameters}.
+ *
+ * <p>A strategy created with {@link #recordingSqlTypes()} records the parameter keys in the order it writes their
+ * placeholders, and the JDBC type of the column bound to each parameter, so the arguments can be bound in that order
+ * with explicit SQL types. A recording strategy keeps state, so it should only be used to render a single statement.
+ */
+public class PositionalParameterRenderingStrategy extends RenderingStrategy {
+    private final boolean recordsSqlTypes;
+    private final List<String> parameterKeys;
+    private final Map<String, JDBCType> jdbcTypes;
+
+    public PositionalParameterRenderingStrategy() {
+        this(false, Collections.emptyList(), Collections.emptyMap());
+    }
+
+    private PositionalParameterRenderingStrategy(boolean recordsSqlTypes, List<String> parameterKeys,
+            Map<String, JDBCType> jdbcTypes) {
+        this.recordsSqlTypes = recordsSqlTypes;
+        this.parameterKeys = parameterKeys;
+        this.jdbcTypes = jdbcTypes;
+    }
+
+    @Override
+    public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        if (recordsSqlTypes) {
+            column.jdbcType().ifPresent(jt -> jdbcTypes.put(parameterName, jt));
+        }
+        return getFormattedJdbcPlaceholder(prefix, parameterName);
+    }
+
+    @Override
+    public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
+        if (recordsSqlTypes) {
+            parameterKeys.add(parameterName);
+        }
+        return "?"; //$NON-NLS-1$
+    }
+
+    /**
+     * Orders the parameters of a statement rendered with this strategy. A recording strategy binds the parameters
+     * in the order it wrote their placeholders. Otherwise the parameters are ordered by the sequence numbers of
+     * their keys.
+     *
+     * @param parameters the parameters of the rendered statement
+     * @return the positional arguments, with the recorded SQL types if this strategy records types
+     */
+    public PositionalParameters toPositionalParameters(Map<String, Object> parameters) {
+        if (recordsSqlTypes) {
+            return PositionalParameters.of(parameterKeys, parameters, jdbcTypes);
+        }
+        return PositionalParameters.of(parameters, jdbcTypes);
+    }
+
+    /**
+     * Calculates the arguments of a single row insert statement rendered with this strategy.
+     *
+     * @param row the row to insert
+     * @param propertyAccessorPlan the property accessor plan of the rendered insert statement
+     * @return the positional arguments, with the recorded SQL types if this strategy records types
+     */
+    public PositionalParameters toPositionalParameters(Object row, PropertyAccessorPlan propertyAccessorPlan) {
+        return PositionalParameters.of(row, propertyAccessorPlan, jdbcTypes);
+    }
+
+    /**
+     * Creates a strategy that records the JDBC type of the column bound to each parameter. The recorded types are
+     * returned by {@link #toPositionalParameters(Map)}.
+     *
+     * @return a new strategy that should be used to render a single statement
+     */
+    public static PositionalParameterRenderingStrategy recordingSqlTypes() {
+        return new PositionalParameterRenderingStrategy(true, new ArrayList<>(), new HashMap<>());
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+
+/**
+ * Holds everything a renderer needs to know about the statement being rendered: the rendering strategy, the table
+ * alias calculator, the parameter prefix, and the sequence used to generate parameter map keys.
+ *
+ * <p>A statement is rendered by a single thread, so the sequence is a plain counter. The sequence is shared by
+ * all contexts derived from the same statement context - for example the context of a sub query - so parameter
+ * keys are unique across the whole statement. Keys for the first parameters of a statement are taken from a
+ * table of pre-built strings. The context also records the keys in the order they are generated, which is the order
+ * of the placeholders in the statement.
+ */
+public class RenderingContext {
+    private static final String[] PARAMETER_MAP_KEYS = IntStream.range(0, 1024)
+            .mapToObj(i -> "p" + i) //$NON-NLS-1$
+            .toArray(String[]::new);
+
+    private final RenderingStrategy renderingStrategy;
+    private final TableAliasCalculator tableAliasCalculator;
+    private final String parameterPrefix;
+    private final ParameterSequence sequence;
+
+    private RenderingContext(Builder builder) {
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        tableAliasCalculator = builder.tableAliasCalculator == null ? TableAliasCalculator.empty()
+                : builder.tableAliasCalculator;
+        parameterPrefix = builder.parameterName == null ? RenderingStrategy.DEFAULT_PARAMETER_PREFIX
+                : builder.parameterName + "." + RenderingStrategy.DEFAULT_PARAMETER_PREFIX; //$NON-NLS-1$
+        sequence = new ParameterSequence(builder.sequence);
+    }
+
+    private RenderingContext(RenderingContext parent, TableAliasCalculator tableAliasCalculator) {
+        renderingStrategy = parent.renderingStrategy;
+        this.tableAliasCalculator = Objects.requireNonNull(tableAliasCalculator);
+        parameterPrefix = parent.parameterPrefix;
+        sequence = parent.sequence;
+    }
+
+    public RenderingStrategy renderingStrategy() {
+        return renderingStrategy;
+    }
+
+    public TableAliasCalculator tableAliasCalculator() {
+        return tableAliasCalculator;
+    }
+
+    public String parameterPrefix() {
+        return parameterPrefix;
+    }
+
+    /**
+     * Returns a context with a different table alias calculator that shares the parameter sequence of this context.
+     *
+     * @param tableAliasCalculator the table alias calculator for the new context
+     * @return a new context
+     */
+    public RenderingContext withTableAliasCalculator(TableAliasCalculator tableAliasCalculator) {
+        return new RenderingContext(this, tableAliasCalculator);
+    }
+
+    public String nextMapKey() {
+        String mapKey = parameterMapKey(sequence.next());
+        sequence.keys.add(mapKey);
+        return mapKey;
+    }
+
+    /**
+     * Returns the parameter map keys generated so far by this context, and by all contexts that share its sequence,
+     * in the order they were generated. Renderers generate the key of a parameter when they write its placeholder,
+     * so this is the order the parameters must be bound in.
+     *
+     * @return the generated parameter map keys
+     */
+    public List<String> parameterKeys() {
+        return Collections.unmodifiableList(sequence.keys);
+    }
+
+    /**
+     * Calculates the placeholder for a parameter that is bound to a column. The column's rendering strategy is used
+     * if it has one. This is for callers that need the placeholder as a String - for example to pass it to a
+     * condition. Callers that write SQL to a buffer should use
+     * {@link #appendParameterPlaceholder(SqlBuffer, BindableColumn, String)}.
+     *
+     * @param column the column the parameter is bound to
+     * @param mapKey the parameter map key
+     * @return the rendered placeholder
+     */
+    public String formatParameterPlaceholder(BindableColumn<?> column, String mapKey) {
+        return strategyFor(column).getFormattedJdbcPlaceholder(column, parameterPrefix, mapKey);
+    }
+
+    /**
+     * Appends the placeholder for a parameter that is bound to a column to a buffer, without building a String for
+     * the placeholder if the rendering strategy supports it. The column's rendering strategy is used if it has one.
+     *
+     * @param buffer the buffer to write to
+     * @param column the column the parameter is bound to
+     * @param mapKey the parameter map key
+     * @return the buffer
+     */
+    public SqlBuffer appendParameterPlaceholder(SqlBuffer buffer, BindableColumn<?> column, String mapKey) {
+        return buffer.appendPlaceholder(strategyFor(column), column, parameterPrefix, mapKey);
+    }
+
+    private RenderingStrategy strategyFor(BindableColumn<?> column) {
+        return column.renderingStrategy().orElse(renderingStrategy);
+    }
+
+    public String formatArrayParameterPlaceholder(BindableColumn<?> column, String mapKey) {
+        return strategyFor(column).getFormattedJdbcArrayPlaceholder(column, parameterPrefix, mapKey);
+    }
+
+    public String formatParameterPlaceholder(String mapKey) {
+        return renderingStrategy.getFormattedJdbcPlaceholder(parameterPrefix, mapKey);
+    }
+
+    public static String parameterMapKey(int sequence) {
+        if (sequence >= 0 && sequence < PARAMETER_MAP_KEYS.length) {
+            return PARAMETER_MAP_KEYS[sequence];
+        }
+        return "p" + sequence; //$NON-NLS-1$
+    }
+
+    public static Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
+        return new Builder().withRenderingStrategy(renderingStrategy);
+    }
+
+    /**
+     * The parameter sequence. Renderers that are still configured with an {@link AtomicInteger} share it, so
+     * keys stay unique across the renderers that use it. Otherwise the sequence is a plain counter starting at 1.
+     */
+    private static class ParameterSequence {
+        private final AtomicInteger sharedSequence; // may be null
+        private final List<String> keys = new ArrayList<>();
+        private int nextValue = 1;
+
+        private ParameterSequence(AtomicInteger sharedSequence) {
+            this.sharedSequence = sharedSequence;
+        }
+
+        private int next() {
+            return sharedSequence == null ? nextValue++ : sharedSequence.getAndIncrement();
+        }
+    }
+
+    public static class Builder {
+        private RenderingStrategy renderingStrategy;
+        private TableAliasCalculator tableAliasCalculator;
+        private String parameterName;
+        private AtomicInteger sequence;
+
+        public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public Builder withTableAliasCalculator(TableAliasCalculator tableAliasCalculator) {
+            this.tableAliasCalculator = tableAliasCalculator;
+            return this;
+        }
+
+        public Builder withParameterName(String parameterName) {
+            this.parameterName = parameterName;
+            return this;
+        }
+
+        /**
+         * Share a sequence with other renderers. This is only needed by renderers that are configured with an
+         * {@link AtomicInteger}. If not set, the context uses its own sequence starting at 1.
+         *
+         * @param sequence the sequence to share, may be null
+         * @return this builder
+         */
+        public Builder withSequence(AtomicInteger sequence) {
+            this.sequence = sequence;
+            return this;
+        }
+
+        public RenderingContext build() {
+            return new RenderingContext(this);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -23,13 +23,43 @@ public abstract class RenderingStrategy {
     public static final String DEFAULT_PARAMETER_PREFIX = "parameters"; //$NON-NLS-1$
 
     public static String formatParameterMapKey(AtomicInteger sequence) {
-        return "p" + sequence.getAndIncrement(); //$NON-NLS-1$
+        return RenderingContext.parameterMapKey(sequence.getAndIncrement());
     }
 
     public abstract String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName);
 
     public abstract String getFormattedJdbcPlaceholder(String prefix, String parameterName);
 
+    /**
+     * Appends a formatted placeholder to a buffer. This is used by the renderers when they can write the placeholder
+     * directly, and gives strategies a chance to avoid building intermediate Strings. The default implementation
+     * appends the result of {@link #getFormattedJdbcPlaceholder(BindableColumn, String, String)}, so custom
+     * strategies only need to override this method if they want to optimize it.
+     *
+     * @param buffer the buffer to append to
+     * @param column the column the parameter is bound to
+     * @param prefix the parameter prefix
+     * @param parameterName the parameter name
+     */
+    public void appendFormattedJdbcPlaceholder(StringBuilder buffer, BindableColumn<?> column, String prefix,
+            String parameterName) {
+        buffer.append(getFormattedJdbcPlaceholder(column, prefix, parameterName));
+    }
+
+    /**
+     * Calculates the placeholder for a parameter that holds an array of values for the column - for example the
+     * parameter of an "in" condition that binds its values as an array. The default implementation formats the
+     * placeholder without column information, because the JDBC type of the column does not apply to the array.
+     *
+     * @param column the column the array elements are bound to
+     * @param prefix the parameter prefix
+     * @param parameterName the parameter name
+     * @return the formatted placeholder
+     */
+    public String getFormattedJdbcArrayPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        return getFormattedJdbcPlaceholder(prefix, parameterName);
+    }
+
     public String getMultiRowFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
         return getFormattedJdbcPlaceholder(column, prefix, parameterName);
     }
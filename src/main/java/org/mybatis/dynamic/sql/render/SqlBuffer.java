@@ -0,0 +1,135 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.ParameterMap;
+
+/**
+ * The destination of a statement rendering. Renderers append SQL to a single growing buffer and add parameters to
+ * a single parameter map, so the fragments of a statement are not copied and merged at every level of the
+ * statement.
+ *
+ * <p>A buffer is used by one thread while a statement is rendered. Nested statements (sub queries, exists
+ * conditions, etc.) are rendered into the same buffer, or into a {@link #nestedBuffer()} when a condition needs
+ * the rendered SQL of the nested statement as a String.
+ */
+public class SqlBuffer {
+    private final StringBuilder sql = new StringBuilder();
+    private final Map<String, Object> parameters;
+
+    public SqlBuffer() {
+        this(new ParameterMap());
+    }
+
+    private SqlBuffer(Map<String, Object> parameters) {
+        this.parameters = Objects.requireNonNull(parameters);
+    }
+
+    public SqlBuffer append(String fragment) {
+        sql.append(fragment);
+        return this;
+    }
+
+    SqlBuffer appendPlaceholder(RenderingStrategy renderingStrategy, BindableColumn<?> column, String prefix,
+            String mapKey) {
+        renderingStrategy.appendFormattedJdbcPlaceholder(sql, column, prefix, mapKey);
+        return this;
+    }
+
+    /**
+     * Appends the separator, then calls the writer. If the writer does not render anything, the separator
+     * is removed.
+     *
+     * @param separator a fragment to write before anything the writer renders - for example a space or a connector
+     * @param writer a function that writes to this buffer and returns true if anything was rendered
+     * @return true if the writer rendered anything
+     */
+    public boolean appendIfRendered(String separator, Predicate<SqlBuffer> writer) {
+        int mark = sql.length();
+        sql.append(separator);
+        if (writer.test(this)) {
+            return true;
+        }
+        sql.setLength(mark);
+        return false;
+    }
+
+    /**
+     * Wraps everything written since the mark with a prefix and a suffix.
+     *
+     * @param mark the length of the buffer before the fragment to wrap was written
+     * @param prefix fragment to insert at the mark
+     * @param suffix fragment to append
+     * @return this buffer
+     */
+    public SqlBuffer wrap(int mark, String prefix, String suffix) {
+        if (!prefix.isEmpty()) {
+            sql.insert(mark, prefix);
+        }
+        sql.append(suffix);
+        return this;
+    }
+
+    public int length() {
+        return sql.length();
+    }
+
+    public SqlBuffer addParameter(String mapKey, Object value) {
+        parameters.put(mapKey, value);
+        return this;
+    }
+
+    public SqlBuffer addParameters(Map<String, Object> parameters) {
+        this.parameters.putAll(parameters);
+        return this;
+    }
+
+    /**
+     * Returns a new, empty, buffer that shares the parameters of this buffer. This is used when the SQL of a nested
+     * statement must be rendered separately.
+     *
+     * @return a nested buffer
+     */
+    public SqlBuffer nestedBuffer() {
+        return new SqlBuffer(parameters);
+    }
+
+    public String sql() {
+        return sql.toString();
+    }
+
+    /**
+     * Returns the parameters of this buffer. The map is not copied, so statement providers can copy the parameters
+     * of a large statement in one step.
+     *
+     * @return the parameters added to this buffer and any nested buffers
+     */
+    public Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    public FragmentAndParameters toFragmentAndParameters() {
+        return FragmentAndParameters.withFragment(sql())
+                .withParameters(parameters)
+                .build();
+    }
+}
@@ -0,0 +1,636 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.AbstractSubselectCondition;
+import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.ConditionVisitor;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.RowValueInCriterion;
+import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.TableExpression;
+import org.mybatis.dynamic.sql.TableExpressionVisitor;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.select.PagingModel;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.SubQuery;
+import org.mybatis.dynamic.sql.select.join.JoinCriterion;
+import org.mybatis.dynamic.sql.select.join.JoinSpecification;
+import org.mybatis.dynamic.sql.select.render.QueryExpressionRenderer;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.GeneralInsertMappingVisitor;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.SelectMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.UpdateMappingVisitor;
+import org.mybatis.dynamic.sql.util.ValueMapping;
+import org.mybatis.dynamic.sql.util.ValueOrNullMapping;
+import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
+import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+
+/**
+ * Calculates the structural fingerprint of a statement model without rendering it.
+ *
+ * <p>The fingerprint has two parts. The shape is everything that determines the rendered SQL - the rendering
+ * strategy, tables and aliases, the rendered columns, the condition templates, whether each condition will render,
+ * the size of each "in" list, and which paging clauses are present. The values are the parameter values in the
+ * same order the renderers assign parameter map keys ("p1", "p2", etc.). Two models with equal shapes will render
+ * the same SQL, so the SQL can be reused and only the parameter map needs to be rebuilt from the values.
+ *
+ * <p>Conditions from this library render the same SQL for the same condition class, column, and number of values,
+ * so they are recorded by class without rendering them. Other conditions - for example custom conditions - are
+ * rendered with a probe placeholder.
+ *
+ * <p>The walk mirrors the order of the renderers exactly. {@link StatementRenderCache} verifies this by comparing
+ * the SQL and parameters of two full renderings of a shape before the shape is served from the cache.
+ */
+class StatementFingerprint {
+    private static final String PLACEHOLDER_PROBE = "?"; //$NON-NLS-1$
+    private static final String LIBRARY_CONDITION_PACKAGE = IsEqualTo.class.getPackage().getName() + "."; //$NON-NLS-1$
+
+    /**
+     * The conditions of this library have no state that changes their SQL, other than their values. Subclasses in
+     * other packages are not included. Array conditions, whose SQL depends on their dialect, never reach this check.
+     */
+    private static final ClassValue<Boolean> RENDERS_BY_CLASS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            String className = type.getName();
+            return className.startsWith(LIBRARY_CONDITION_PACKAGE)
+                    && className.indexOf('.', LIBRARY_CONDITION_PACKAGE.length()) < 0
+                    && className.indexOf('$') < 0;
+        }
+    };
+
+    private enum Token {
+        SELECT, UPDATE, DELETE, GENERAL_INSERT, QUERY_EXPRESSION, TABLE, SUB_QUERY, JOIN, WHERE, GROUP_BY, ORDER_BY,
+        PAGING, CRITERION, SKIPPED, EXISTS, GROUP, NOT, NULL, VALUE, CONSTANT, STRING_CONSTANT, COLUMN, SUB_SELECT,
+        ARRAY, ROW_VALUE, VALUE_OR_NULL, VALUE_WHEN_PRESENT, CONDITION, END
+    }
+
+    /** The presence mask of statements without column mappings. It is never changed. */
+    static final BitSet NO_MAPPINGS = new BitSet();
+
+    private final RenderingStrategy renderingStrategy;
+    private final List<Object> shape = new ArrayList<>(64);
+    private final List<Object> values = new ArrayList<>();
+    private final List<VisitableCondition<?>> skippedConditions = new ArrayList<>();
+    private BitSet presence = NO_MAPPINGS;
+
+    private StatementFingerprint(RenderingStrategy renderingStrategy) {
+        this.renderingStrategy = renderingStrategy;
+    }
+
+    List<Object> shape() {
+        return Collections.unmodifiableList(shape);
+    }
+
+    List<Object> values() {
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * The column mappings of update and general insert statements that render - one bit for each mapping. The
+     * shape records every mapping whether it renders or not, so statements built from the same model shape share
+     * a shape and differ only in this mask.
+     */
+    BitSet presence() {
+        return presence;
+    }
+
+    /**
+     * The renderers notify conditions that were skipped. When a cached statement is used in place of rendering,
+     * the same notifications are sent here.
+     */
+    void replaySkippedConditions() {
+        skippedConditions.forEach(VisitableCondition::renderingSkipped);
+    }
+
+    static StatementFingerprint of(SelectModel selectModel, RenderingStrategy renderingStrategy) {
+        StatementFingerprint fingerprint = new StatementFingerprint(renderingStrategy);
+        fingerprint.add(Token.SELECT, renderingStrategy);
+        fingerprint.addSelectModel(selectModel, null);
+        return fingerprint;
+    }
+
+    static StatementFingerprint of(UpdateModel updateModel, RenderingStrategy renderingStrategy) {
+        StatementFingerprint fingerprint = new StatementFingerprint(renderingStrategy);
+        fingerprint.add(Token.UPDATE, renderingStrategy, updateModel.table().tableNameAtRuntime());
+        UpdateMappingWalker walker = fingerprint.new UpdateMappingWalker();
+        updateModel.mapColumnMappings(Function.identity()).forEach(m -> m.accept(walker));
+        fingerprint.add(Token.END);
+        fingerprint.presence = walker.presence;
+        updateModel.whereModel().ifPresent(wm -> fingerprint.addWhereModel(wm, TableAliasCalculator.empty()));
+        return fingerprint;
+    }
+
+    static StatementFingerprint of(GeneralInsertModel generalInsertModel, RenderingStrategy renderingStrategy) {
+        StatementFingerprint fingerprint = new StatementFingerprint(renderingStrategy);
+        fingerprint.add(Token.GENERAL_INSERT, renderingStrategy, generalInsertModel.table().tableNameAtRuntime());
+        GeneralInsertMappingWalker walker = fingerprint.new GeneralInsertMappingWalker();
+        generalInsertModel.mapColumnMappings(Function.identity()).forEach(m -> m.accept(walker));
+        fingerprint.add(Token.END);
+        fingerprint.presence = walker.presence;
+        return fingerprint;
+    }
+
+    static StatementFingerprint of(DeleteModel deleteModel, RenderingStrategy renderingStrategy) {
+        StatementFingerprint fingerprint = new StatementFingerprint(renderingStrategy);
+        fingerprint.add(Token.DELETE, renderingStrategy, deleteModel.table().tableNameAtRuntime());
+        deleteModel.whereModel().ifPresent(wm -> fingerprint.addWhereModel(wm, TableAliasCalculator.empty()));
+        return fingerprint;
+    }
+
+    private void add(Object... items) {
+        Collections.addAll(shape, items);
+    }
+
+    private void addSelectModel(SelectModel selectModel, TableAliasCalculator parentTableAliasCalculator) {
+        selectModel.mapQueryExpressions(Function.identity())
+                .forEach(qe -> addQueryExpression(qe, parentTableAliasCalculator));
+        selectModel.orderByModel().ifPresent(om -> {
+            add(Token.ORDER_BY);
+            om.mapColumns(Function.identity()).forEach(this::addSortSpecification);
+        });
+        selectModel.pagingModel().ifPresent(this::addPagingModel);
+        add(Token.END);
+    }
+
+    private void addQueryExpression(QueryExpressionModel queryExpression,
+                                    TableAliasCalculator parentTableAliasCalculator) {
+        TableAliasCalculator tableAliasCalculator =
+                QueryExpressionRenderer.calculateTableAliasCalculator(queryExpression, parentTableAliasCalculator);
+        TableExpressionWalker tableExpressionWalker = new TableExpressionWalker(tableAliasCalculator);
+
+        add(Token.QUERY_EXPRESSION, queryExpression.connector(), queryExpression.isDistinct());
+        queryExpression.mapColumns(c -> c.renderWithTableAndColumnAlias(tableAliasCalculator))
+                .forEach(shape::add);
+        add(Token.TABLE);
+        queryExpression.table().accept(tableExpressionWalker);
+        queryExpression.joinModel().ifPresent(jm ->
+                jm.mapJoinSpecifications(Function.identity())
+                        .forEach(js -> addJoinSpecification(js, tableExpressionWalker, tableAliasCalculator)));
+        queryExpression.whereModel().ifPresent(wm -> addWhereModel(wm, tableAliasCalculator));
+        queryExpression.groupByModel().ifPresent(gbm -> {
+            add(Token.GROUP_BY);
+            gbm.mapColumns(c -> c.renderWithTableAlias(tableAliasCalculator)).forEach(shape::add);
+        });
+    }
+
+    private void addJoinSpecification(JoinSpecification joinSpecification, TableExpressionWalker tableExpressionWalker,
+                                      TableAliasCalculator tableAliasCalculator) {
+        add(Token.JOIN, joinSpecification.joinType());
+        joinSpecification.table().accept(tableExpressionWalker);
+        joinSpecification.mapJoinCriteria(Function.identity())
+                .forEach(jc -> addJoinCriterion(jc, tableAliasCalculator));
+    }
+
+    private void addJoinCriterion(JoinCriterion joinCriterion, TableAliasCalculator tableAliasCalculator) {
+        add(joinCriterion.connector(), joinCriterion.leftColumn().renderWithTableAlias(tableAliasCalculator),
+                joinCriterion.operator(), joinCriterion.rightColumn().renderWithTableAlias(tableAliasCalculator));
+    }
+
+    private void addSortSpecification(SortSpecification sortSpecification) {
+        add(sortSpecification.orderByName(), sortSpecification.isDescending());
+    }
+
+    private void addPagingModel(PagingModel pagingModel) {
+        add(Token.PAGING, pagingModel.limit().isPresent(), pagingModel.offset().isPresent(),
+                pagingModel.fetchFirstRows().isPresent());
+        // parameter order must match the paging renderers
+        if (pagingModel.limit().isPresent()) {
+            pagingModel.limit().ifPresent(values::add);
+            pagingModel.offset().ifPresent(values::add);
+        } else {
+            pagingModel.offset().ifPresent(values::add);
+            pagingModel.fetchFirstRows().ifPresent(values::add);
+        }
+    }
+
+    private void addWhereModel(WhereModel whereModel, TableAliasCalculator tableAliasCalculator) {
+        CriterionWalker criterionWalker = new CriterionWalker(tableAliasCalculator);
+        add(Token.WHERE);
+        addInitialCriterion(whereModel.initialCriterion(), criterionWalker);
+        addSubCriteria(whereModel.subCriteria(), criterionWalker);
+    }
+
+    private void addInitialCriterion(Optional<SqlCriterion> initialCriterion, CriterionWalker criterionWalker) {
+        add(initialCriterion.isPresent());
+        initialCriterion.ifPresent(ic -> ic.accept(criterionWalker));
+    }
+
+    private void addSubCriteria(List<AndOrCriteriaGroup> subCriteria, CriterionWalker criterionWalker) {
+        subCriteria.forEach(sc -> {
+            add(sc.connector());
+            addInitialCriterion(sc.initialCriterion(), criterionWalker);
+            addSubCriteria(sc.subCriteria(), criterionWalker);
+        });
+        add(Token.END);
+    }
+
+    private class TableExpressionWalker implements TableExpressionVisitor<TableExpression> {
+        private final TableAliasCalculator tableAliasCalculator;
+
+        TableExpressionWalker(TableAliasCalculator tableAliasCalculator) {
+            this.tableAliasCalculator = tableAliasCalculator;
+        }
+
+        @Override
+        public TableExpression visit(SqlTable table) {
+            add(table.tableNameAtRuntime(), tableAliasCalculator.aliasForTable(table));
+            return table;
+        }
+
+        @Override
+        public TableExpression visit(SubQuery subQuery) {
+            add(Token.SUB_QUERY, subQuery.alias());
+            addSelectModel(subQuery.selectModel(), null);
+            return subQuery;
+        }
+    }
+
+    private class CriterionWalker implements SqlCriterionVisitor<SqlCriterion> {
+        private final TableAliasCalculator tableAliasCalculator;
+
+        CriterionWalker(TableAliasCalculator tableAliasCalculator) {
+            this.tableAliasCalculator = tableAliasCalculator;
+        }
+
+        @Override
+        public <T> SqlCriterion visit(ColumnAndConditionCriterion<T> criterion) {
+            add(Token.CRITERION);
+            if (criterion.condition().shouldRender()) {
+                criterion.condition().accept(new ConditionWalker<>(criterion.column(), tableAliasCalculator));
+            } else {
+                add(Token.SKIPPED);
+                skippedConditions.add(criterion.condition());
+            }
+            addSubCriteria(criterion.subCriteria(), this);
+            return criterion;
+        }
+
+        @Override
+        public SqlCriterion visit(ExistsCriterion criterion) {
+            add(Token.EXISTS, criterion.existsPredicate().operator());
+            addSelectModel(criterion.existsPredicate().selectModelBuilder().build(), tableAliasCalculator);
+            addSubCriteria(criterion.subCriteria(), this);
+            return criterion;
+        }
+
+        @Override
+        public SqlCriterion visit(CriteriaGroup criterion) {
+            add(Token.GROUP);
+            addInitialCriterion(criterion.initialCriterion(), this);
+            addSubCriteria(criterion.subCriteria(), this);
+            return criterion;
+        }
+
+        @Override
+        public SqlCriterion visit(NotCriterion criterion) {
+            add(Token.NOT);
+            addInitialCriterion(criterion.initialCriterion(), this);
+            addSubCriteria(criterion.subCriteria(), this);
+            return criterion;
+        }
+
+        @Override
+        public SqlCriterion visit(RowValueInCriterion criterion) {
+            add(Token.ROW_VALUE, criterion.isExpandedToOr());
+            criterion.rowValue().mapColumns(Function.<BindableColumn<?>>identity())
+                    .forEach(c -> addBoundColumn(c.renderWithTableAlias(tableAliasCalculator), c));
+            int size = values.size();
+            criterion.mapRows(Function.<List<?>>identity()).forEach(row -> addRowValues(criterion, row));
+            add(values.size() - size);
+            addSubCriteria(criterion.subCriteria(), this);
+            return criterion;
+        }
+
+        private void addRowValues(RowValueInCriterion criterion, List<?> row) {
+            Iterator<?> iterator = row.iterator();
+            criterion.rowValue().mapColumns(c -> convertParameterType(c, iterator.next())).forEach(values::add);
+        }
+    }
+
+    private <T> Object convertParameterType(BindableColumn<T> column, Object value) {
+        @SuppressWarnings("unchecked")
+        T typedValue = (T) value;
+        return column.convertParameterType(typedValue);
+    }
+
+    /**
+     * Adds a column name and the attributes that the placeholder of a parameter bound to the column is rendered
+     * from, so no placeholder is rendered here.
+     */
+    private void addBoundColumn(String columnName, BindableColumn<?> column) {
+        add(columnName, column.jdbcType().orElse(null), column.javaType().orElse(null),
+                column.typeHandler().orElse(null), column.renderingStrategy().orElse(null));
+    }
+
+    private static boolean rendersByClass(VisitableCondition<?> condition) {
+        return RENDERS_BY_CLASS.get(condition.getClass());
+    }
+
+    /**
+     * Adds the condition template to the shape. Conditions of this library are recorded by class, column, and
+     * placeholder attributes. Other conditions are rendered with a probe placeholder so the shape captures the
+     * operator, the column, and the JDBC type information of the placeholder - but not the parameter map key.
+     */
+    private class ConditionWalker<T> implements ConditionVisitor<T, VisitableCondition<T>> {
+        private final BindableColumn<T> column;
+        private final TableAliasCalculator tableAliasCalculator;
+        private final String columnName;
+
+        ConditionWalker(BindableColumn<T> column, TableAliasCalculator tableAliasCalculator) {
+            this.column = column;
+            this.tableAliasCalculator = tableAliasCalculator;
+            columnName = column.renderWithTableAlias(tableAliasCalculator);
+        }
+
+        @Override
+        public VisitableCondition<T> visit(AbstractListValueCondition<T> condition) {
+            if (condition.bindsValuesAsArray()) {
+                add(Token.ARRAY, condition.renderCondition(columnName, Stream.of(arrayPlaceholder())));
+                values.add(condition.mapValuesToArray(column::convertParameterType));
+                return condition;
+            }
+
+            int size = values.size();
+            condition.mapValues(column::convertParameterType).forEach(values::add);
+            if (rendersByClass(condition)) {
+                addConditionClass(condition);
+            } else {
+                add(condition.renderCondition(columnName, Stream.of(placeholder())));
+            }
+            add(values.size() - size);
+            return condition;
+        }
+
+        @Override
+        public VisitableCondition<T> visit(AbstractNoValueCondition<T> condition) {
+            if (rendersByClass(condition)) {
+                addConditionClass(condition);
+            } else {
+                add(condition.renderCondition(columnName));
+            }
+            return condition;
+        }
+
+        @Override
+        public VisitableCondition<T> visit(AbstractSingleValueCondition<T> condition) {
+            if (rendersByClass(condition)) {
+                addConditionClass(condition);
+            } else {
+                add(condition.renderCondition(columnName, placeholder()));
+            }
+            values.add(column.convertParameterType(condition.value()));
+            return condition;
+        }
+
+        @Override
+        public VisitableCondition<T> visit(AbstractTwoValueCondition<T> condition) {
+            if (rendersByClass(condition)) {
+                addConditionClass(condition);
+            } else {
+                add(condition.renderCondition(columnName, placeholder(), placeholder()));
+            }
+            values.add(column.convertParameterType(condition.value1()));
+            values.add(column.convertParameterType(condition.value2()));
+            return condition;
+        }
+
+        @Override
+        public VisitableCondition<T> visit(AbstractSubselectCondition<T> condition) {
+            add(Token.SUB_SELECT, condition.renderCondition(columnName, "")); //$NON-NLS-1$
+            addSelectModel(condition.selectModel(), tableAliasCalculator);
+            return condition;
+        }
+
+        @Override
+        public VisitableCondition<T> visit(AbstractColumnComparisonCondition<T> condition) {
+            add(condition.renderCondition(columnName, tableAliasCalculator));
+            return condition;
+        }
+
+        private void addConditionClass(VisitableCondition<T> condition) {
+            add(Token.CONDITION, condition.getClass());
+            addBoundColumn(columnName, column);
+        }
+
+        private String arrayPlaceholder() {
+            return column.renderingStrategy().orElse(renderingStrategy)
+                    .getFormattedJdbcArrayPlaceholder(column, RenderingStrategy.DEFAULT_PARAMETER_PREFIX,
+                            PLACEHOLDER_PROBE);
+        }
+
+        private String placeholder() {
+            return column.renderingStrategy().orElse(renderingStrategy)
+                    .getFormattedJdbcPlaceholder(column, RenderingStrategy.DEFAULT_PARAMETER_PREFIX,
+                            PLACEHOLDER_PROBE);
+        }
+    }
+
+    /**
+     * Records the column mappings of an update or general insert statement. The shape records each mapping by its
+     * kind and column name. Bound columns also record the JDBC type, Java type, type handler, and rendering
+     * strategy that their placeholder is rendered from, so no placeholder is rendered here. Whether a mapping
+     * renders, and whether a "value or null" mapping renders a value, is recorded in the presence mask - one bit
+     * for each mapping.
+     */
+    private class MappingRecorder {
+        private final BitSet presence = new BitSet();
+        private int index;
+
+        private void addNull(AbstractColumnMapping mapping) {
+            add(Token.NULL, mapping.columnName());
+            present();
+        }
+
+        private void addConstant(ConstantMapping mapping) {
+            add(Token.CONSTANT, mapping.columnName(), mapping.constant());
+            present();
+        }
+
+        private void addStringConstant(StringConstantMapping mapping) {
+            add(Token.STRING_CONSTANT, mapping.columnName(), mapping.constant());
+            present();
+        }
+
+        private void addValue(AbstractColumnMapping mapping, Object value) {
+            addBoundColumn(Token.VALUE, mapping);
+            values.add(value);
+            present();
+        }
+
+        private void addValueOrNull(AbstractColumnMapping mapping, Optional<Object> value) {
+            addBoundColumn(Token.VALUE_OR_NULL, mapping);
+            addIfPresent(value);
+        }
+
+        private void addWhenPresent(AbstractColumnMapping mapping, Optional<Object> value) {
+            addBoundColumn(Token.VALUE_WHEN_PRESENT, mapping);
+            addIfPresent(value);
+        }
+
+        private void addIfPresent(Optional<Object> value) {
+            if (value.isPresent()) {
+                values.add(value.get());
+                present();
+            } else {
+                index++;
+            }
+        }
+
+        private void present() {
+            presence.set(index++);
+        }
+
+        /**
+         * Adds the column name and the attributes that its placeholder is rendered from, so columns that are
+         * built again for every statement share a shape.
+         */
+        private void addBoundColumn(Token token, AbstractColumnMapping mapping) {
+            add(token);
+            StatementFingerprint.this.addBoundColumn(mapping.columnName(), mapping.mapColumn(Function.identity()));
+        }
+    }
+
+    private class GeneralInsertMappingWalker extends GeneralInsertMappingVisitor<AbstractColumnMapping> {
+        private final MappingRecorder recorder = new MappingRecorder();
+        private final BitSet presence = recorder.presence;
+
+        @Override
+        public AbstractColumnMapping visit(NullMapping mapping) {
+            recorder.addNull(mapping);
+            return mapping;
+        }
+
+        @Override
+        public AbstractColumnMapping visit(ConstantMapping mapping) {
+            recorder.addConstant(mapping);
+            return mapping;
+        }
+
+        @Override
+        public AbstractColumnMapping visit(StringConstantMapping mapping) {
+            recorder.addStringConstant(mapping);
+            return mapping;
+        }
+
+        @Override
+        public <T> AbstractColumnMapping visit(ValueMapping<T> mapping) {
+            recorder.addValue(mapping, mapping.value());
+            return mapping;
+        }
+
+        @Override
+        public <T> AbstractColumnMapping visit(ValueOrNullMapping<T> mapping) {
+            recorder.addValueOrNull(mapping, mapping.value());
+            return mapping;
+        }
+
+        @Override
+        public <T> AbstractColumnMapping visit(ValueWhenPresentMapping<T> mapping) {
+            recorder.addWhenPresent(mapping, mapping.value());
+            return mapping;
+        }
+    }
+
+    private class UpdateMappingWalker extends UpdateMappingVisitor<AbstractColumnMapping> {
+        private final MappingRecorder recorder = new MappingRecorder();
+        private final BitSet presence = recorder.presence;
+
+        @Override
+        public AbstractColumnMapping visit(NullMapping mapping) {
+            recorder.addNull(mapping);
+            return mapping;
+        }
+
+        @Override
+        public AbstractColumnMapping visit(ConstantMapping mapping) {
+            recorder.addConstant(mapping);
+            return mapping;
+        }
+
+        @Override
+        public AbstractColumnMapping visit(StringConstantMapping mapping) {
+            recorder.addStringConstant(mapping);
+            return mapping;
+        }
+
+        @Override
+        public <T> AbstractColumnMapping visit(ValueMapping<T> mapping) {
+            recorder.addValue(mapping, mapping.value());
+            return mapping;
+        }
+
+        @Override
+        public <T> AbstractColumnMapping visit(ValueOrNullMapping<T> mapping) {
+            recorder.addValueOrNull(mapping, mapping.value());
+            return mapping;
+        }
+
+        @Override
+        public <T> AbstractColumnMapping visit(ValueWhenPresentMapping<T> mapping) {
+            recorder.addWhenPresent(mapping, mapping.value());
+            return mapping;
+        }
+
+        @Override
+        public AbstractColumnMapping visit(SelectMapping mapping) {
+            add(Token.SUB_SELECT, mapping.columnName());
+            addSelectModel(mapping.selectModel(), null);
+            recorder.present();
+            return mapping;
+        }
+
+        @Override
+        public AbstractColumnMapping visit(ColumnToColumnMapping mapping) {
+            add(Token.COLUMN, mapping.columnName(),
+                    mapping.rightColumn().renderWithTableAlias(TableAliasCalculator.empty()));
+            recorder.present();
+            return mapping;
+        }
+    }
+}
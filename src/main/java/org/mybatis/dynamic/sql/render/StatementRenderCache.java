@@ -0,0 +1,295 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DefaultDeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.render.DefaultGeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.DefaultSelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.DefaultUpdateStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.ParameterMap;
+
+/**
+ * A bounded, thread safe cache of rendered SQL for select, update, delete, and general insert statements.
+ *
+ * <p>The cache is keyed by the structural fingerprint of a model - the tables, columns, condition types, whether
+ * each condition will render, the size of "in" lists, paging, the column mappings, and the rendering strategy.
+ * Update and general insert statements render different SQL depending on which "when present" mappings have a
+ * value, so the SQL of each shape is kept in a small map keyed by a bitmask of the mappings that render. When a
+ * model with a known shape and bitmask is rendered, the SQL is taken from the cache and only the parameter map is
+ * built from the current values. Otherwise the model is rendered normally and the SQL is added to the cache. The
+ * least recently used shapes are evicted when the cache holds more statements than its maximum size.
+ *
+ * <p>A cache is normally shared by all the statements of an application. For example:
+ *
+ * <pre>
+ *     private static final StatementRenderCache RENDER_CACHE = StatementRenderCache.of(500);
+ *
+ *     SelectStatementProvider selectStatement = select(id, animalName)
+ *             .from(animalData)
+ *             .where(id, isEqualTo(3))
+ *             .build()
+ *             .render(RenderingStrategies.MYBATIS3, RENDER_CACHE);
+ * </pre>
+ *
+ * <p>Rendering through the cache produces the same statement and parameters as rendering without the cache.
+ * A statement is only served from the cache after two models with the same shape have been rendered normally.
+ * Both times, the parameters of the rendered statement are compared with the values gathered from the model, and
+ * the second time the SQL is compared with the SQL of the first rendering. If either is different (for example,
+ * if a parameter type converter does not return equal values for equal input, or a custom condition renders
+ * different SQL for different values), the shape is marked as uncacheable and will always be rendered normally.
+ */
+public class StatementRenderCache {
+    private final int maximumSize;
+    private final Map<List<Object>, Map<BitSet, CachedStatement>> cache;
+    private int statementCount;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    private StatementRenderCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size of a render cache must be at least 1"); //$NON-NLS-1$
+        }
+        this.maximumSize = maximumSize;
+        cache = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public SelectStatementProvider render(SelectModel selectModel, RenderingStrategy renderingStrategy) {
+        return render(StatementFingerprint.of(selectModel, renderingStrategy),
+                () -> selectModel.render(renderingStrategy),
+                SelectStatementProvider::getSelectStatement,
+                SelectStatementProvider::getParameters,
+                (s, p) -> DefaultSelectStatementProvider.withSelectStatement(s).withParameters(p).build());
+    }
+
+    public UpdateStatementProvider render(UpdateModel updateModel, RenderingStrategy renderingStrategy) {
+        return render(StatementFingerprint.of(updateModel, renderingStrategy),
+                () -> updateModel.render(renderingStrategy),
+                UpdateStatementProvider::getUpdateStatement,
+                UpdateStatementProvider::getParameters,
+                (s, p) -> DefaultUpdateStatementProvider.withUpdateStatement(s).withParameters(p).build());
+    }
+
+    public GeneralInsertStatementProvider render(GeneralInsertModel generalInsertModel,
+            RenderingStrategy renderingStrategy) {
+        return render(StatementFingerprint.of(generalInsertModel, renderingStrategy),
+                () -> generalInsertModel.render(renderingStrategy),
+                GeneralInsertStatementProvider::getInsertStatement,
+                GeneralInsertStatementProvider::getParameters,
+                (s, p) -> DefaultGeneralInsertStatementProvider.withInsertStatement(s).withParameters(p).build());
+    }
+
+    public DeleteStatementProvider render(DeleteModel deleteModel, RenderingStrategy renderingStrategy) {
+        return render(StatementFingerprint.of(deleteModel, renderingStrategy),
+                () -> deleteModel.render(renderingStrategy),
+                DeleteStatementProvider::getDeleteStatement,
+                DeleteStatementProvider::getParameters,
+                (s, p) -> DefaultDeleteStatementProvider.withDeleteStatement(s).withParameters(p).build());
+    }
+
+    private <P> P render(StatementFingerprint fingerprint, Supplier<P> renderer, Function<P, String> statementMapper,
+            Function<P, Map<String, Object>> parametersMapper,
+            BiFunction<String, Map<String, Object>, P> providerBuilder) {
+        CachedStatement cachedStatement = lookup(fingerprint.shape(), fingerprint.presence());
+        if (cachedStatement != null && cachedStatement.isVerified()) {
+            fingerprint.replaySkippedConditions();
+            return providerBuilder.apply(cachedStatement.statement, cachedStatement.bind(fingerprint.values()));
+        }
+
+        P provider = renderer.get();
+        if (cachedStatement == null) {
+            store(fingerprint.shape(), fingerprint.presence(), CachedStatement.of(statementMapper.apply(provider),
+                    parametersMapper.apply(provider), fingerprint.values()));
+        } else if (cachedStatement.isCacheable()) {
+            replace(fingerprint.shape(), fingerprint.presence(), cachedStatement,
+                    cachedStatement.verify(statementMapper.apply(provider), parametersMapper.apply(provider),
+                            fingerprint.values()));
+        }
+        return provider;
+    }
+
+    private synchronized CachedStatement lookup(List<Object> shape, BitSet presence) {
+        Map<BitSet, CachedStatement> statements = cache.get(shape);
+        CachedStatement cachedStatement = statements == null ? null : statements.get(presence);
+        if (cachedStatement != null && cachedStatement.isVerified()) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return cachedStatement;
+    }
+
+    private synchronized void store(List<Object> shape, BitSet presence, CachedStatement cachedStatement) {
+        Map<BitSet, CachedStatement> statements = cache.computeIfAbsent(shape,
+                k -> new LinkedHashMap<>(4, 0.75f, true));
+        if (statements.putIfAbsent(presence, cachedStatement) == null) {
+            statementCount++;
+            evictIfFull(statements);
+        }
+    }
+
+    private synchronized void replace(List<Object> shape, BitSet presence, CachedStatement unverified,
+            CachedStatement verified) {
+        Map<BitSet, CachedStatement> statements = cache.get(shape);
+        if (statements != null) {
+            statements.replace(presence, unverified, verified);
+        }
+    }
+
+    /**
+     * Evicts the least recently used shapes. If the shape just stored is the only one left, its least recently
+     * used statements are evicted instead.
+     */
+    private void evictIfFull(Map<BitSet, CachedStatement> current) {
+        Iterator<Map<BitSet, CachedStatement>> shapes = cache.values().iterator();
+        while (statementCount > maximumSize) {
+            Map<BitSet, CachedStatement> eldest = shapes.next();
+            if (eldest == current) {
+                evictEldest(current.values().iterator(), current.size() - maximumSize);
+            } else {
+                shapes.remove();
+                statementCount -= eldest.size();
+                evictionCount += eldest.size();
+            }
+        }
+    }
+
+    private void evictEldest(Iterator<CachedStatement> statements, int count) {
+        for (int i = 0; i < count; i++) {
+            statements.next();
+            statements.remove();
+            statementCount--;
+            evictionCount++;
+        }
+    }
+
+    public synchronized long hitCount() {
+        return hitCount;
+    }
+
+    public synchronized long missCount() {
+        return missCount;
+    }
+
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of statements in the cache.
+     *
+     * @return the number of statements
+     */
+    public synchronized int size() {
+        return statementCount;
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Remove all entries from the cache. The hit, miss, and eviction counts are not reset.
+     */
+    public synchronized void clear() {
+        cache.clear();
+        statementCount = 0;
+    }
+
+    public static StatementRenderCache of(int maximumSize) {
+        return new StatementRenderCache(maximumSize);
+    }
+
+    private static class CachedStatement {
+        private static final CachedStatement UNCACHEABLE =
+                new CachedStatement(null, Collections.emptyList(), false);
+
+        private final String statement;
+        private final List<String> parameterKeys;
+        private final boolean verified;
+
+        private CachedStatement(String statement, List<String> parameterKeys, boolean verified) {
+            this.statement = statement;
+            this.parameterKeys = parameterKeys;
+            this.verified = verified;
+        }
+
+        boolean isCacheable() {
+            return statement != null;
+        }
+
+        boolean isVerified() {
+            return verified;
+        }
+
+        /**
+         * Compares a second rendering of the same shape with this statement. The statement can only be served from
+         * the cache if the SQL is the same and the parameters are bound from the values in the same order.
+         */
+        CachedStatement verify(String statement, Map<String, Object> parameters, List<Object> values) {
+            if (this.statement.equals(statement) && bindsValues(parameters, values)) {
+                return new CachedStatement(statement, parameterKeys, true);
+            } else {
+                return UNCACHEABLE;
+            }
+        }
+
+        Map<String, Object> bind(List<Object> values) {
+            return IntStream.range(0, parameterKeys.size())
+                    .collect(ParameterMap::new, (m, i) -> m.put(parameterKeys.get(i), values.get(i)), ParameterMap::putAll);
+        }
+
+        static CachedStatement of(String statement, Map<String, Object> parameters, List<Object> values) {
+            List<String> parameterKeys = IntStream.rangeClosed(1, values.size())
+                    .mapToObj(i -> "p" + i) //$NON-NLS-1$
+                    .collect(Collectors.toList());
+
+            CachedStatement cachedStatement = new CachedStatement(statement, parameterKeys, false);
+            return cachedStatement.bindsValues(parameters, values) ? cachedStatement : UNCACHEABLE;
+        }
+
+        private boolean bindsValues(Map<String, Object> parameters, List<Object> values) {
+            return parameters.size() == values.size() && values.size() == parameterKeys.size()
+                    && IntStream.range(0, values.size())
+                            .allMatch(i -> isBoundTo(parameters, parameterKeys.get(i), values.get(i)));
+        }
+
+        private static boolean isBoundTo(Map<String, Object> parameters, String parameterKey, Object value) {
+            return parameters.containsKey(parameterKey) && Objects.deepEquals(parameters.get(parameterKey), value);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -24,6 +24,8 @@ import java.util.stream.Stream;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementRenderCache;
+import org.mybatis.dynamic.sql.select.render.PreparedSelectTemplate;
 import org.mybatis.dynamic.sql.select.render.SelectRenderer;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 
@@ -58,6 +60,56 @@ public class SelectModel {
                 .render();
     }
 
+    /**
+     * Render this model through a render cache. If a model with the same shape has been rendered through the
+     * cache before, the cached SQL is reused and only the parameters are calculated.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param renderCache the cache of rendered statements - normally shared by the application
+     * @return the rendered select statement
+     */
+    @NotNull
+    public SelectStatementProvider render(RenderingStrategy renderingStrategy, StatementRenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy);
+    }
+
+    /**
+     * Render this model, splitting it into several statements if it would bind more parameters than the limit.
+     * Drivers and databases limit the number of parameters in a statement, so this allows "in" conditions with
+     * any number of values. The statement is split on its largest "in" condition, and the results of the returned
+     * statements should be concatenated - for example with {@code MyBatis3Utils.selectList(mapper, statements)}.
+     *
+     * <p>A statement can only be split if it has a single query expression without "distinct", "group by", or
+     * paging, and its largest "in" condition is joined to the rest of the where clause with "and". If the
+     * statement is split, the results are only ordered within each statement.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param maxParameters the maximum number of parameters in each statement
+     * @return the rendered statements - a single statement if the limit is not exceeded
+     * @throws org.mybatis.dynamic.sql.exception.ParameterLimitExceededException if the limit is exceeded and the
+     *     statement cannot be split
+     */
+    @NotNull
+    public List<SelectStatementProvider> renderWithParameterLimit(RenderingStrategy renderingStrategy,
+            int maxParameters) {
+        return SelectModelSplitter.of(this, renderingStrategy, maxParameters).render();
+    }
+
+    /**
+     * Render this model once and return a template that can be bound to new parameter values without
+     * rendering the statement again.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return a reusable template for this statement
+     */
+    @NotNull
+    public PreparedSelectTemplate renderTemplate(RenderingStrategy renderingStrategy) {
+        return SelectRenderer.withSelectModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .renderTemplate();
+    }
+
     public static Builder withQueryExpressions(List<QueryExpressionModel> queryExpressions) {
         return new Builder().withQueryExpressions(queryExpressions);
     }
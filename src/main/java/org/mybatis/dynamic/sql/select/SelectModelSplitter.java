@@ -0,0 +1,215 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.exception.ParameterLimitExceededException;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive;
+
+/**
+ * Splits a select statement that binds too many parameters into several statements whose results, concatenated,
+ * are the results of the original statement.
+ *
+ * <p>The statement is split on its largest "in" condition. The distinct values of the condition are divided into
+ * chunks, and one statement is rendered for each chunk. This is only correct if every row matched by the original
+ * statement is matched by exactly one of the split statements, so the statement must have a single query
+ * expression without "distinct", "group by", or paging, and the "in" condition must be joined to the rest of
+ * the where clause with "and". Each split statement keeps the "order by" clause, but the concatenated results are
+ * only ordered within each chunk.
+ */
+class SelectModelSplitter {
+    private final SelectModel selectModel;
+    private final RenderingStrategy renderingStrategy;
+    private final int maxParameters;
+
+    private SelectModelSplitter(SelectModel selectModel, RenderingStrategy renderingStrategy, int maxParameters) {
+        this.selectModel = Objects.requireNonNull(selectModel);
+        this.renderingStrategy = Objects.requireNonNull(renderingStrategy);
+        if (maxParameters < 1) {
+            throw new IllegalArgumentException("The maximum number of parameters must be at least 1"); //$NON-NLS-1$
+        }
+        this.maxParameters = maxParameters;
+    }
+
+    List<SelectStatementProvider> render() {
+        SelectStatementProvider selectStatement = selectModel.render(renderingStrategy);
+        int parameterCount = selectStatement.getParameters().size();
+        if (parameterCount <= maxParameters) {
+            return Collections.singletonList(selectStatement);
+        }
+
+        QueryExpressionModel queryExpression = splittableQueryExpression(parameterCount);
+        WhereModel whereModel = queryExpression.whereModel()
+                .orElseThrow(() -> cannotSplit(parameterCount, "it has no where clause")); //$NON-NLS-1$
+        if (whereModel.subCriteria().stream().anyMatch(c -> !"and".equals(c.connector()))) { //$NON-NLS-1$
+            throw cannotSplit(parameterCount, "its where clause has criteria joined with \"or\""); //$NON-NLS-1$
+        }
+        int index = largestInCondition(whereModel).orElseThrow(() -> cannotSplit(parameterCount,
+                "its where clause has no \"in\" condition")); //$NON-NLS-1$
+
+        ColumnAndConditionCriterion<?> criterion = criterionAt(whereModel, index);
+        return split(queryExpression, whereModel, index, criterion, parameterCount);
+    }
+
+    private <T> List<SelectStatementProvider> split(QueryExpressionModel queryExpression, WhereModel whereModel,
+            int index, ColumnAndConditionCriterion<T> criterion, int parameterCount) {
+        AbstractListValueCondition<T> condition = (AbstractListValueCondition<T>) criterion.condition();
+        List<T> values = condition.mapValues(Function.<T>identity()).collect(Collectors.toList());
+        int chunkSize = maxParameters - (parameterCount - values.size());
+        if (chunkSize < 1) {
+            throw cannotSplit(parameterCount, (parameterCount - values.size())
+                    + " of the parameters are not values of an \"in\" condition"); //$NON-NLS-1$
+        }
+
+        List<T> distinctValues = values.stream().distinct().collect(Collectors.toList());
+        return IntStream.range(0, (distinctValues.size() + chunkSize - 1) / chunkSize)
+                .mapToObj(i -> distinctValues.subList(i * chunkSize,
+                        Math.min(distinctValues.size(), (i + 1) * chunkSize)))
+                .map(chunk -> {
+                    // removing a value from the set keeps only its first occurrence in the condition
+                    Set<T> remaining = new HashSet<>(chunk);
+                    return withCondition(criterion, condition.filter(remaining::remove));
+                })
+                .map(c -> withCriterion(queryExpression, whereModel, index, c))
+                .map(qe -> SelectModel.withQueryExpressions(Collections.singletonList(qe))
+                        .withOrderByModel(selectModel.orderByModel().orElse(null))
+                        .build()
+                        .render(renderingStrategy))
+                .collect(Collectors.toList());
+    }
+
+    private QueryExpressionModel splittableQueryExpression(int parameterCount) {
+        List<QueryExpressionModel> queryExpressions = selectModel.mapQueryExpressions(Function.identity())
+                .collect(Collectors.toList());
+        if (queryExpressions.size() != 1) {
+            throw cannotSplit(parameterCount, "it has more than one query expression"); //$NON-NLS-1$
+        }
+        if (selectModel.pagingModel().filter(this::hasPaging).isPresent()) {
+            throw cannotSplit(parameterCount, "it is paged"); //$NON-NLS-1$
+        }
+
+        QueryExpressionModel queryExpression = queryExpressions.get(0);
+        if (queryExpression.isDistinct()) {
+            throw cannotSplit(parameterCount, "it selects distinct rows"); //$NON-NLS-1$
+        }
+        if (queryExpression.groupByModel().isPresent()) {
+            throw cannotSplit(parameterCount, "it has a group by clause"); //$NON-NLS-1$
+        }
+        return queryExpression;
+    }
+
+    private boolean hasPaging(PagingModel pagingModel) {
+        return pagingModel.limit().isPresent() || pagingModel.offset().isPresent()
+                || pagingModel.fetchFirstRows().isPresent();
+    }
+
+    /**
+     * Finds the largest "in" condition of a where clause whose criteria are joined with "and".
+     *
+     * @return the index of the criterion - -1 for the initial criterion, otherwise the index of the sub criterion
+     */
+    private Optional<Integer> largestInCondition(WhereModel whereModel) {
+        return IntStream.range(-1, whereModel.subCriteria().size())
+                .filter(i -> criterionAt(whereModel, i) != null)
+                .boxed()
+                .max((i1, i2) -> Long.compare(valueCount(criterionAt(whereModel, i1)),
+                        valueCount(criterionAt(whereModel, i2))));
+    }
+
+    private long valueCount(ColumnAndConditionCriterion<?> criterion) {
+        return ((AbstractListValueCondition<?>) criterion.condition()).mapValues(Function.identity()).count();
+    }
+
+    /**
+     * Returns the criterion at the index if it is a splittable "in" condition without sub criteria.
+     */
+    private ColumnAndConditionCriterion<?> criterionAt(WhereModel whereModel, int index) {
+        Optional<SqlCriterion> criterion;
+        if (index == -1) {
+            criterion = whereModel.initialCriterion();
+        } else {
+            AndOrCriteriaGroup group = whereModel.subCriteria().get(index);
+            criterion = group.subCriteria().isEmpty() ? group.initialCriterion() : Optional.empty();
+        }
+
+        return criterion.filter(c -> c instanceof ColumnAndConditionCriterion)
+                .filter(c -> c.subCriteria().isEmpty())
+                .map(c -> (ColumnAndConditionCriterion<?>) c)
+                .filter(c -> isSplittable(c.condition()))
+                .orElse(null);
+    }
+
+    private boolean isSplittable(VisitableCondition<?> condition) {
+        return (condition instanceof IsIn || condition instanceof IsInCaseInsensitive) && condition.shouldRender();
+    }
+
+    private <T> ColumnAndConditionCriterion<T> withCondition(ColumnAndConditionCriterion<T> criterion,
+            VisitableCondition<T> condition) {
+        return ColumnAndConditionCriterion.withColumn(criterion.column())
+                .withCondition(condition)
+                .build();
+    }
+
+    private QueryExpressionModel withCriterion(QueryExpressionModel queryExpression, WhereModel whereModel,
+            int index, SqlCriterion criterion) {
+        SqlCriterion initialCriterion = whereModel.initialCriterion().orElse(null);
+        List<AndOrCriteriaGroup> subCriteria = new ArrayList<>(whereModel.subCriteria());
+        if (index == -1) {
+            initialCriterion = criterion;
+        } else {
+            subCriteria.set(index, new AndOrCriteriaGroup.Builder()
+                    .withConnector("and") //$NON-NLS-1$
+                    .withInitialCriterion(criterion)
+                    .build());
+        }
+
+        return QueryExpressionModel.withSelectList(queryExpression.mapColumns(Function.identity())
+                        .collect(Collectors.toList()))
+                .withConnector(queryExpression.connector().orElse(null))
+                .withTable(queryExpression.table())
+                .withTableAliases(queryExpression.tableAliases())
+                .withJoinModel(queryExpression.joinModel().orElse(null))
+                .withWhereModel(new WhereModel(initialCriterion, subCriteria))
+                .build();
+    }
+
+    private ParameterLimitExceededException cannotSplit(int parameterCount, String reason) {
+        return new ParameterLimitExceededException(parameterCount, maxParameters, reason);
+    }
+
+    static SelectModelSplitter of(SelectModel selectModel, RenderingStrategy renderingStrategy, int maxParameters) {
+        return new SelectModelSplitter(selectModel, renderingStrategy, maxParameters);
+    }
+}
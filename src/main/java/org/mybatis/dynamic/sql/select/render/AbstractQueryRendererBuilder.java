@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,14 +17,29 @@ package org.mybatis.dynamic.sql.select.render;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 
 public abstract class AbstractQueryRendererBuilder<T extends AbstractQueryRendererBuilder<T>> {
+    RenderingContext renderingContext;
     RenderingStrategy renderingStrategy;
     AtomicInteger sequence;
     TableAliasCalculator parentTableAliasCalculator;
 
+    /**
+     * Sets the rendering context of the enclosing statement. If set, the rendering strategy and parameter sequence
+     * are taken from the context and the values set with {@link #withRenderingStrategy(RenderingStrategy)} and
+     * {@link #withSequence(AtomicInteger)} are ignored.
+     *
+     * @param renderingContext the rendering context
+     * @return this builder
+     */
+    public T withRenderingContext(RenderingContext renderingContext) {
+        this.renderingContext = renderingContext;
+        return getThis();
+    }
+
     public T withRenderingStrategy(RenderingStrategy renderingStrategy) {
         this.renderingStrategy = renderingStrategy;
         return getThis();
@@ -40,5 +55,14 @@ public abstract class AbstractQueryRendererBuilder<T extends AbstractQueryRender
         return getThis();
     }
 
+    RenderingContext calculateRenderingContext() {
+        if (renderingContext == null) {
+            return RenderingContext.withRenderingStrategy(renderingStrategy)
+                    .withSequence(sequence)
+                    .build();
+        }
+        return renderingContext;
+    }
+
     abstract T getThis();
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,10 +16,11 @@
 package org.mybatis.dynamic.sql.select.render;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.util.ParameterMap;
+
 public class DefaultSelectStatementProvider implements SelectStatementProvider {
     private final String selectStatement;
     private final Map<String, Object> parameters;
@@ -45,7 +46,7 @@ public class DefaultSelectStatementProvider implements SelectStatementProvider {
 
     public static class Builder {
         private String selectStatement;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private final Map<String, Object> parameters = new ParameterMap();
 
         public Builder withSelectStatement(String selectStatement) {
             this.selectStatement = selectStatement;
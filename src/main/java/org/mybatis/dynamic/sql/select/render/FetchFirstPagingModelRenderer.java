@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -18,20 +18,23 @@ package org.mybatis.dynamic.sql.select.render;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class FetchFirstPagingModelRenderer {
-    private final RenderingStrategy renderingStrategy;
+    private final RenderingContext renderingContext;
     private final PagingModel pagingModel;
-    private final AtomicInteger sequence;
 
     public FetchFirstPagingModelRenderer(RenderingStrategy renderingStrategy,
             PagingModel pagingModel, AtomicInteger sequence) {
-        this.renderingStrategy = renderingStrategy;
+        this(RenderingContext.withRenderingStrategy(renderingStrategy).withSequence(sequence).build(), pagingModel);
+    }
+
+    public FetchFirstPagingModelRenderer(RenderingContext renderingContext, PagingModel pagingModel) {
+        this.renderingContext = renderingContext;
         this.pagingModel = pagingModel;
-        this.sequence = sequence;
     }
 
     public Optional<FragmentAndParameters> render() {
@@ -51,7 +54,7 @@ public class FetchFirstPagingModelRenderer {
     }
 
     private Optional<FragmentAndParameters> renderFetchFirstRowsOnly(Long fetchFirstRows) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
+        String mapKey = renderingContext.nextMapKey();
         return FragmentAndParameters
                 .withFragment("fetch first " + renderPlaceholder(mapKey) //$NON-NLS-1$
                     + " rows only") //$NON-NLS-1$
@@ -60,7 +63,7 @@ public class FetchFirstPagingModelRenderer {
     }
 
     private Optional<FragmentAndParameters> renderOffsetOnly(Long offset) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
+        String mapKey = renderingContext.nextMapKey();
         return FragmentAndParameters.withFragment("offset " + renderPlaceholder(mapKey) //$NON-NLS-1$
                 + " rows") //$NON-NLS-1$
                 .withParameter(mapKey, offset)
@@ -68,8 +71,8 @@ public class FetchFirstPagingModelRenderer {
     }
 
     private Optional<FragmentAndParameters> renderOffsetAndFetchFirstRows(Long offset, Long fetchFirstRows) {
-        String mapKey1 = RenderingStrategy.formatParameterMapKey(sequence);
-        String mapKey2 = RenderingStrategy.formatParameterMapKey(sequence);
+        String mapKey1 = renderingContext.nextMapKey();
+        String mapKey2 = renderingContext.nextMapKey();
         return FragmentAndParameters.withFragment("offset " + renderPlaceholder(mapKey1) //$NON-NLS-1$
                 + " rows fetch first " + renderPlaceholder(mapKey2) //$NON-NLS-1$
                 + " rows only") //$NON-NLS-1$
@@ -79,7 +82,6 @@ public class FetchFirstPagingModelRenderer {
     }
 
     private String renderPlaceholder(String parameterName) {
-        return renderingStrategy.getFormattedJdbcPlaceholder(RenderingStrategy.DEFAULT_PARAMETER_PREFIX,
-                parameterName);
+        return renderingContext.formatParameterPlaceholder(parameterName);
     }
 }
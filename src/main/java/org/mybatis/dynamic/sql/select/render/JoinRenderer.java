@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.render.SqlBuffer;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.join.JoinCriterion;
 import org.mybatis.dynamic.sql.select.join.JoinModel;
@@ -49,6 +50,23 @@ public class JoinRenderer {
                 .build();
     }
 
+    /**
+     * Writes the join specifications to the buffer. Each join specification is written with a leading space.
+     *
+     * @param buffer the buffer to write to
+     */
+    public void renderTo(SqlBuffer buffer) {
+        joinModel.mapJoinSpecifications(js -> js)
+                .forEach(js -> renderJoinSpecification(js, buffer));
+    }
+
+    private void renderJoinSpecification(JoinSpecification joinSpecification, SqlBuffer buffer) {
+        buffer.append(spaceBefore(spaceAfter(joinSpecification.joinType().shortType())))
+                .append("join "); //$NON-NLS-1$
+        tableExpressionRenderer.renderTo(joinSpecification.table(), buffer);
+        buffer.append(spaceBefore(renderConditions(joinSpecification)));
+    }
+
     private FragmentAndParameters renderJoinSpecification(JoinSpecification joinSpecification) {
         FragmentAndParameters renderedTable = joinSpecification.table().accept(tableExpressionRenderer);
 
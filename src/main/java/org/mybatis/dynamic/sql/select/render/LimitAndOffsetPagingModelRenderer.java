@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -18,22 +18,26 @@ package org.mybatis.dynamic.sql.select.render;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class LimitAndOffsetPagingModelRenderer {
-    private final RenderingStrategy renderingStrategy;
+    private final RenderingContext renderingContext;
     private final Long limit;
     private final PagingModel pagingModel;
-    private final AtomicInteger sequence;
 
     public LimitAndOffsetPagingModelRenderer(RenderingStrategy renderingStrategy,
             Long limit, PagingModel pagingModel, AtomicInteger sequence) {
-        this.renderingStrategy = renderingStrategy;
+        this(RenderingContext.withRenderingStrategy(renderingStrategy).withSequence(sequence).build(),
+                limit, pagingModel);
+    }
+
+    public LimitAndOffsetPagingModelRenderer(RenderingContext renderingContext, Long limit, PagingModel pagingModel) {
+        this.renderingContext = renderingContext;
         this.limit = limit;
         this.pagingModel = pagingModel;
-        this.sequence = sequence;
     }
 
     public Optional<FragmentAndParameters> render() {
@@ -42,15 +46,15 @@ public class LimitAndOffsetPagingModelRenderer {
     }
 
     private Optional<FragmentAndParameters> renderLimitOnly() {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
+        String mapKey = renderingContext.nextMapKey();
         return FragmentAndParameters.withFragment("limit " + renderPlaceholder(mapKey)) //$NON-NLS-1$
                 .withParameter(mapKey, limit)
                 .buildOptional();
     }
 
     private Optional<FragmentAndParameters> renderLimitAndOffset(Long offset) {
-        String mapKey1 = RenderingStrategy.formatParameterMapKey(sequence);
-        String mapKey2 = RenderingStrategy.formatParameterMapKey(sequence);
+        String mapKey1 = renderingContext.nextMapKey();
+        String mapKey2 = renderingContext.nextMapKey();
         return FragmentAndParameters.withFragment("limit " + renderPlaceholder(mapKey1) //$NON-NLS-1$
                     + " offset " + renderPlaceholder(mapKey2)) //$NON-NLS-1$
                 .withParameter(mapKey1, limit)
@@ -59,7 +63,6 @@ public class LimitAndOffsetPagingModelRenderer {
     }
 
     private String renderPlaceholder(String parameterName) {
-        return renderingStrategy.getFormattedJdbcPlaceholder(RenderingStrategy.DEFAULT_PARAMETER_PREFIX,
-                parameterName);
+        return renderingContext.formatParameterPlaceholder(parameterName);
     }
 }
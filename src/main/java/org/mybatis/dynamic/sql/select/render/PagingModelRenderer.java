@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -19,19 +19,24 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class PagingModelRenderer {
-    private final RenderingStrategy renderingStrategy;
+    private final RenderingContext renderingContext;
     private final PagingModel pagingModel;
-    private final AtomicInteger sequence;
 
     private PagingModelRenderer(Builder builder) {
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        if (builder.renderingContext == null) {
+            renderingContext = RenderingContext.withRenderingStrategy(builder.renderingStrategy)
+                    .withSequence(Objects.requireNonNull(builder.sequence))
+                    .build();
+        } else {
+            renderingContext = builder.renderingContext;
+        }
         pagingModel = Objects.requireNonNull(builder.pagingModel);
-        sequence = Objects.requireNonNull(builder.sequence);
     }
 
     public Optional<FragmentAndParameters> render() {
@@ -40,15 +45,15 @@ public class PagingModelRenderer {
     }
 
     private Optional<FragmentAndParameters> limitAndOffsetRender(Long limit) {
-        return new LimitAndOffsetPagingModelRenderer(renderingStrategy, limit,
-                pagingModel, sequence).render();
+        return new LimitAndOffsetPagingModelRenderer(renderingContext, limit, pagingModel).render();
     }
 
     private Optional<FragmentAndParameters> fetchFirstRender() {
-        return new FetchFirstPagingModelRenderer(renderingStrategy, pagingModel, sequence).render();
+        return new FetchFirstPagingModelRenderer(renderingContext, pagingModel).render();
     }
 
     public static class Builder {
+        private RenderingContext renderingContext;
         private RenderingStrategy renderingStrategy;
         private PagingModel pagingModel;
         private AtomicInteger sequence;
@@ -68,6 +73,18 @@ public class PagingModelRenderer {
             return this;
         }
 
+        /**
+         * Sets the rendering context. If set, the rendering strategy and sequence are taken from the context and the
+         * other builder methods are ignored.
+         *
+         * @param renderingContext the rendering context
+         * @return this builder
+         */
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
         public PagingModelRenderer build() {
             return new PagingModelRenderer(this);
         }
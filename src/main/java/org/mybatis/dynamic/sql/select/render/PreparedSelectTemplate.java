@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select.render;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.util.ParameterMap;
+
+/**
+ * A select statement that has been rendered once, and can then be bound to new parameter values any number of times
+ * without rendering the statement again.
+ *
+ * <p>The template captures the rendered SQL and the parameter slots ("p1", "p2", etc.) in the order the renderer
+ * wrote their placeholders, as recorded by the rendering context. Each call to {@link #bind(Object...)} creates a new {@link SelectStatementProvider}
+ * with the same SQL and a parameter map built from the supplied values. This is useful for hot queries where
+ * the shape of the statement never changes - only the values.
+ *
+ * <p>The values are bound exactly as supplied. Parameter type converters configured on columns are applied when
+ * the template is rendered, but are not applied to values supplied to the bind methods. Also note that the
+ * template fixes the shape of the statement - for example, an "in" condition rendered with three values will
+ * always require three values for that condition.
+ */
+public class PreparedSelectTemplate {
+    private final String selectStatement;
+    private final List<String> parameterKeys;
+
+    private PreparedSelectTemplate(Builder builder) {
+        selectStatement = Objects.requireNonNull(builder.selectStatement);
+        parameterKeys = Collections.unmodifiableList(builder.parameterKeys);
+    }
+
+    public String getSelectStatement() {
+        return selectStatement;
+    }
+
+    /**
+     * Returns the parameter map keys in the order the parameters appear in the statement.
+     *
+     * @return the ordered parameter map keys
+     */
+    public List<String> parameterKeys() {
+        return parameterKeys;
+    }
+
+    public int parameterCount() {
+        return parameterKeys.size();
+    }
+
+    /**
+     * Bind new values to the parameter slots of this template.
+     *
+     * @param values values for each parameter slot - in the order the parameters appear in the statement
+     * @return a statement provider with the rendered SQL and the new parameter values
+     * @throws IllegalArgumentException if the number of values does not match the number of parameter slots
+     */
+    public SelectStatementProvider bind(Object... values) {
+        return bind(Arrays.asList(values));
+    }
+
+    /**
+     * Bind new values to the parameter slots of this template.
+     *
+     * @param values values for each parameter slot - in the order the parameters appear in the statement
+     * @return a statement provider with the rendered SQL and the new parameter values
+     * @throws IllegalArgumentException if the number of values does not match the number of parameter slots
+     */
+    public SelectStatementProvider bind(List<?> values) {
+        if (values.size() != parameterKeys.size()) {
+            throw new IllegalArgumentException("The template requires " + parameterKeys.size() //$NON-NLS-1$
+                    + " parameter values, but " + values.size() + " were supplied"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        return DefaultSelectStatementProvider.withSelectStatement(selectStatement)
+                .withParameters(toParameterMap(values))
+                .build();
+    }
+
+    private Map<String, Object> toParameterMap(List<?> values) {
+        return IntStream.range(0, values.size())
+                .collect(ParameterMap::new, (m, i) -> m.put(parameterKeys.get(i), values.get(i)), ParameterMap::putAll);
+    }
+
+    public static class Builder {
+        private String selectStatement;
+        private final List<String> parameterKeys = new ArrayList<>();
+
+        public Builder withSelectStatement(String selectStatement) {
+            this.selectStatement = selectStatement;
+            return this;
+        }
+
+        public Builder withParameterKeys(List<String> parameterKeys) {
+            this.parameterKeys.addAll(parameterKeys);
+            return this;
+        }
+
+        public PreparedSelectTemplate build() {
+            return new PreparedSelectTemplate(this);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -19,15 +19,13 @@ import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.BasicColumn;
-import org.mybatis.dynamic.sql.TableExpression;
 import org.mybatis.dynamic.sql.render.ExplicitTableAliasCalculator;
 import org.mybatis.dynamic.sql.render.GuaranteedTableAliasCalculator;
-import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.SqlBuffer;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.render.TableAliasCalculatorWithParent;
 import org.mybatis.dynamic.sql.select.GroupByModel;
@@ -36,25 +34,20 @@ import org.mybatis.dynamic.sql.select.join.JoinModel;
 import org.mybatis.dynamic.sql.util.CustomCollectors;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.where.WhereModel;
-import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class QueryExpressionRenderer {
     private final QueryExpressionModel queryExpression;
-    private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence;
+    private final RenderingContext renderingContext;
     private final TableExpressionRenderer tableExpressionRenderer;
     private final TableAliasCalculator tableAliasCalculator;
 
     private QueryExpressionRenderer(Builder builder) {
         queryExpression = Objects.requireNonNull(builder.queryExpression);
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        sequence = Objects.requireNonNull(builder.sequence);
         tableAliasCalculator = calculateTableAliasCalculator(queryExpression, builder.parentTableAliasCalculator);
+        renderingContext = builder.calculateRenderingContext().withTableAliasCalculator(tableAliasCalculator);
         tableExpressionRenderer = new TableExpressionRenderer.Builder()
-                .withTableAliasCalculator(tableAliasCalculator)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
+                .withRenderingContext(renderingContext)
                 .build();
     }
 
@@ -82,12 +75,12 @@ public class QueryExpressionRenderer {
      * @param parentTableAliasCalculator table alias calculator from the parent query
      * @return a table alias calculator appropriate for this context
      */
-    private TableAliasCalculator calculateTableAliasCalculator(QueryExpressionModel queryExpression,
-                                                               TableAliasCalculator parentTableAliasCalculator) {
+    public static TableAliasCalculator calculateTableAliasCalculator(QueryExpressionModel queryExpression,
+                                                                     TableAliasCalculator parentTableAliasCalculator) {
         TableAliasCalculator baseTableAliasCalculator = queryExpression.joinModel()
                 .map(JoinModel::containsSubQueries)
-                .map(this::calculateTableAliasCalculatorWithJoins)
-                .orElseGet(this::explicitTableAliasCalculator);
+                .map(hasSubQueries -> calculateTableAliasCalculatorWithJoins(queryExpression, hasSubQueries))
+                .orElseGet(() -> explicitTableAliasCalculator(queryExpression));
 
         if (parentTableAliasCalculator == null) {
             return baseTableAliasCalculator;
@@ -99,46 +92,47 @@ public class QueryExpressionRenderer {
         }
     }
 
-    private TableAliasCalculator calculateTableAliasCalculatorWithJoins(boolean hasSubQueries) {
+    private static TableAliasCalculator calculateTableAliasCalculatorWithJoins(QueryExpressionModel queryExpression,
+                                                                               boolean hasSubQueries) {
         if (hasSubQueries) {
             // if there are subqueries, we cannot use the table name automatically
             // so all aliases must be specified
-            return explicitTableAliasCalculator();
+            return explicitTableAliasCalculator(queryExpression);
         } else {
             // without subqueries, we can automatically use table names as aliases
-            return guaranteedTableAliasCalculator();
+            return guaranteedTableAliasCalculator(queryExpression);
         }
     }
 
-    private TableAliasCalculator explicitTableAliasCalculator() {
+    private static TableAliasCalculator explicitTableAliasCalculator(QueryExpressionModel queryExpression) {
         return ExplicitTableAliasCalculator.of(queryExpression.tableAliases());
     }
 
-    private TableAliasCalculator guaranteedTableAliasCalculator() {
+    private static TableAliasCalculator guaranteedTableAliasCalculator(QueryExpressionModel queryExpression) {
         return GuaranteedTableAliasCalculator.of(queryExpression.tableAliases());
     }
 
     public FragmentAndParameters render() {
-        FragmentAndParameters answer = calculateQueryExpressionStart();
-        answer = addJoinClause(answer);
-        answer = addWhereClause(answer);
-        answer = addGroupByClause(answer);
-        return answer;
+        SqlBuffer buffer = new SqlBuffer();
+        renderTo(buffer);
+        return buffer.toFragmentAndParameters();
     }
 
-    private FragmentAndParameters calculateQueryExpressionStart() {
-        String start = spaceAfter(queryExpression.connector())
-                + "select " //$NON-NLS-1$
-                + (queryExpression.isDistinct() ? "distinct " : "") //$NON-NLS-1$ //$NON-NLS-2$
-                + calculateColumnList()
-                + " from "; //$NON-NLS-1$
+    public void renderTo(SqlBuffer buffer) {
+        renderQueryExpressionStart(buffer);
+        queryExpression.joinModel().ifPresent(jm -> renderJoin(jm, buffer));
+        queryExpression.whereModel().ifPresent(wm -> renderWhereClause(wm, buffer));
+        buffer.append(spaceBefore(queryExpression.groupByModel().map(this::renderGroupBy)));
+    }
 
-        FragmentAndParameters renderedTable = renderTableExpression(queryExpression.table());
-        start += renderedTable.fragment();
+    private void renderQueryExpressionStart(SqlBuffer buffer) {
+        buffer.append(spaceAfter(queryExpression.connector()))
+                .append("select ") //$NON-NLS-1$
+                .append(queryExpression.isDistinct() ? "distinct " : "") //$NON-NLS-1$ //$NON-NLS-2$
+                .append(calculateColumnList())
+                .append(" from "); //$NON-NLS-1$
 
-        return FragmentAndParameters.withFragment(start)
-                .withParameters(renderedTable.parameters())
-                .build();
+        tableExpressionRenderer.renderTo(queryExpression.table(), buffer);
     }
 
     private String calculateColumnList() {
@@ -150,46 +144,20 @@ public class QueryExpressionRenderer {
         return selectListItem.renderWithTableAndColumnAlias(tableAliasCalculator);
     }
 
-    private FragmentAndParameters renderTableExpression(TableExpression table) {
-        return table.accept(tableExpressionRenderer);
-    }
-
-    private FragmentAndParameters addJoinClause(FragmentAndParameters partial) {
-        return queryExpression.joinModel()
-                .map(this::renderJoin)
-                .map(fp -> partial.add(spaceBefore(fp.fragment()), fp.parameters()))
-                .orElse(partial);
-    }
-
-    private FragmentAndParameters renderJoin(JoinModel joinModel) {
-        return JoinRenderer.withJoinModel(joinModel)
+    private void renderJoin(JoinModel joinModel, SqlBuffer buffer) {
+        JoinRenderer.withJoinModel(joinModel)
                 .withTableExpressionRenderer(tableExpressionRenderer)
                 .withTableAliasCalculator(tableAliasCalculator)
                 .build()
-                .render();
+                .renderTo(buffer);
     }
 
-    private FragmentAndParameters addWhereClause(FragmentAndParameters partial) {
-        return queryExpression.whereModel()
-                .flatMap(this::renderWhereClause)
-                .map(wc -> partial.add(spaceBefore(wc.getWhereClause()), wc.getParameters()))
-                .orElse(partial);
-    }
-
-    private Optional<WhereClauseProvider> renderWhereClause(WhereModel whereModel) {
-        return WhereRenderer.withWhereModel(whereModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withTableAliasCalculator(tableAliasCalculator)
-                .withSequence(sequence)
-                .build()
-                .render();
-    }
+    private void renderWhereClause(WhereModel whereModel, SqlBuffer buffer) {
+        WhereRenderer whereRenderer = WhereRenderer.withWhereModel(whereModel)
+                .withRenderingContext(renderingContext)
+                .build();
 
-    private FragmentAndParameters addGroupByClause(FragmentAndParameters partial) {
-        return queryExpression.groupByModel()
-                .map(this::renderGroupBy)
-                .map(s -> partial.add(spaceBefore(s)))
-                .orElse(partial);
+        buffer.appendIfRendered(" ", whereRenderer::renderTo); //$NON-NLS-1$
     }
 
     private String renderGroupBy(GroupByModel groupByModel) {
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,70 +15,87 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
+
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.SortSpecification;
-import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.SqlBuffer;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.OrderByModel;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.util.CustomCollectors;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 public class SelectRenderer {
     private final SelectModel selectModel;
-    private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence;
+    private final RenderingContext renderingContext;
     private final TableAliasCalculator parentTableAliasCalculator; // may be null
 
     private SelectRenderer(Builder builder) {
         selectModel = Objects.requireNonNull(builder.selectModel);
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        if (builder.sequence == null) {
-            sequence = new AtomicInteger(1);
-        } else {
-            sequence = builder.sequence;
-        }
+        renderingContext = builder.calculateRenderingContext();
         parentTableAliasCalculator = builder.parentTableAliasCalculator;
     }
 
     public SelectStatementProvider render() {
-        FragmentCollector fragmentCollector = selectModel
-                .mapQueryExpressions(this::renderQueryExpression)
-                .collect(FragmentCollector.collect());
-        renderOrderBy(fragmentCollector);
-        renderPagingModel(fragmentCollector);
+        SqlBuffer buffer = new SqlBuffer();
+        renderTo(buffer);
 
-        String selectStatement = fragmentCollector.fragments().collect(Collectors.joining(" ")); //$NON-NLS-1$
+        return DefaultSelectStatementProvider.withSelectStatement(buffer.sql())
+                .withParameters(buffer.parameters())
+                .build();
+    }
 
-        return DefaultSelectStatementProvider.withSelectStatement(selectStatement)
-                .withParameters(fragmentCollector.parameters())
+    /**
+     * Render a template that can be bound to new parameter values. The parameter keys of the template are taken from
+     * the rendering context in the order they were generated.
+     *
+     * @return the rendered template
+     */
+    public PreparedSelectTemplate renderTemplate() {
+        SqlBuffer buffer = new SqlBuffer();
+        renderTo(buffer);
+
+        return new PreparedSelectTemplate.Builder()
+                .withSelectStatement(buffer.sql())
+                .withParameterKeys(renderingContext.parameterKeys())
                 .build();
     }
 
-    private FragmentAndParameters renderQueryExpression(QueryExpressionModel queryExpressionModel) {
+    /**
+     * Writes the select statement to the buffer. Parameter keys are allocated from the rendering context.
+     *
+     * @param buffer the buffer to write to
+     */
+    public void renderTo(SqlBuffer buffer) {
+        int start = buffer.length();
+        selectModel.mapQueryExpressions(this::queryExpressionRenderer)
+                .forEach(r -> renderQueryExpression(r, buffer, start));
+        buffer.append(spaceBefore(selectModel.orderByModel().map(this::renderOrderBy)));
+        selectModel.pagingModel().ifPresent(pm -> renderPagingModel(pm, buffer));
+    }
+
+    private QueryExpressionRenderer queryExpressionRenderer(QueryExpressionModel queryExpressionModel) {
         return QueryExpressionRenderer.withQueryExpression(queryExpressionModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
+                .withRenderingContext(renderingContext)
                 .withParentTableAliasCalculator(parentTableAliasCalculator)
-                .build()
-                .render();
+                .build();
     }
 
-    private void renderOrderBy(FragmentCollector fragmentCollector) {
-        selectModel.orderByModel().ifPresent(om -> renderOrderBy(fragmentCollector, om));
+    private void renderQueryExpression(QueryExpressionRenderer queryExpressionRenderer, SqlBuffer buffer,
+                                       int start) {
+        if (buffer.length() > start) {
+            buffer.append(" "); //$NON-NLS-1$
+        }
+        queryExpressionRenderer.renderTo(buffer);
     }
 
-    private void renderOrderBy(FragmentCollector fragmentCollector, OrderByModel orderByModel) {
-        String phrase = orderByModel.mapColumns(this::calculateOrderByPhrase)
+    private String renderOrderBy(OrderByModel orderByModel) {
+        return orderByModel.mapColumns(this::calculateOrderByPhrase)
                 .collect(CustomCollectors.joining(", ", "order by ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-        fragmentCollector.add(FragmentAndParameters.withFragment(phrase).build());
     }
 
     private String calculateOrderByPhrase(SortSpecification column) {
@@ -89,18 +106,13 @@ public class SelectRenderer {
         return phrase;
     }
 
-    private void renderPagingModel(FragmentCollector fragmentCollector) {
-        selectModel.pagingModel().flatMap(this::renderPagingModel)
-            .ifPresent(fragmentCollector::add);
-    }
-
-    private Optional<FragmentAndParameters> renderPagingModel(PagingModel pagingModel) {
-        return new PagingModelRenderer.Builder()
+    private void renderPagingModel(PagingModel pagingModel, SqlBuffer buffer) {
+        new PagingModelRenderer.Builder()
                 .withPagingModel(pagingModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
+                .withRenderingContext(renderingContext)
                 .build()
-                .render();
+                .render()
+                .ifPresent(fp -> buffer.append(spaceBefore(fp.fragment())).addParameters(fp.parameters()));
     }
 
     public static Builder withSelectModel(SelectModel selectModel) {
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -21,57 +21,79 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.TableExpression;
 import org.mybatis.dynamic.sql.TableExpressionVisitor;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlBuffer;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.SubQuery;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class TableExpressionRenderer implements TableExpressionVisitor<FragmentAndParameters> {
-    private final TableAliasCalculator tableAliasCalculator;
-    private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence;
+    private final RenderingContext renderingContext;
 
     private TableExpressionRenderer(Builder builder) {
-        tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        sequence = Objects.requireNonNull(builder.sequence);
+        if (builder.renderingContext == null) {
+            renderingContext = RenderingContext.withRenderingStrategy(builder.renderingStrategy)
+                    .withSequence(Objects.requireNonNull(builder.sequence))
+                    .withTableAliasCalculator(Objects.requireNonNull(builder.tableAliasCalculator))
+                    .build();
+        } else {
+            renderingContext = builder.renderingContext;
+        }
     }
 
     @Override
     public FragmentAndParameters visit(SqlTable table) {
-        return FragmentAndParameters.withFragment(
-                tableAliasCalculator.aliasForTable(table)
-                        .map(a -> table.tableNameAtRuntime() + spaceBefore(a))
-                        .orElseGet(table::tableNameAtRuntime))
-                .build();
+        return render(table);
     }
 
     @Override
     public FragmentAndParameters visit(SubQuery subQuery) {
-        SelectStatementProvider selectStatement = new SelectRenderer.Builder()
-                .withSelectModel(subQuery.selectModel())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .build()
-                .render();
-
-        String fragment = "(" + selectStatement.getSelectStatement() + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+        return render(subQuery);
+    }
 
-        fragment = applyAlias(fragment, subQuery);
+    private FragmentAndParameters render(TableExpression table) {
+        SqlBuffer buffer = new SqlBuffer();
+        renderTo(table, buffer);
+        return buffer.toFragmentAndParameters();
+    }
 
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameters(selectStatement.getParameters())
-                .build();
+    public void renderTo(TableExpression table, SqlBuffer buffer) {
+        table.accept(new TableExpressionWriter(buffer));
     }
 
-    private String applyAlias(String fragment, SubQuery subQuery) {
-        return subQuery.alias()
-                .map(a -> fragment + spaceBefore(a))
-                .orElse(fragment);
+    private class TableExpressionWriter implements TableExpressionVisitor<SqlBuffer> {
+        private final SqlBuffer buffer;
+
+        private TableExpressionWriter(SqlBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public SqlBuffer visit(SqlTable table) {
+            return buffer.append(table.tableNameAtRuntime())
+                    .append(spaceBefore(renderingContext.tableAliasCalculator().aliasForTable(table)));
+        }
+
+        @Override
+        public SqlBuffer visit(SubQuery subQuery) {
+            buffer.append("("); //$NON-NLS-1$
+
+            new SelectRenderer.Builder()
+                    .withSelectModel(subQuery.selectModel())
+                    .withRenderingContext(renderingContext)
+                    .build()
+                    .renderTo(buffer);
+
+            return buffer.append(")") //$NON-NLS-1$
+                    .append(spaceBefore(subQuery.alias()));
+        }
     }
 
     public static class Builder {
+        private RenderingContext renderingContext;
         private TableAliasCalculator tableAliasCalculator;
         private RenderingStrategy renderingStrategy;
         private AtomicInteger sequence;
@@ -91,6 +113,18 @@ public class TableExpressionRenderer implements TableExpressionVisitor<FragmentA
             return this;
         }
 
+        /**
+         * Sets the rendering context. If set, the sequence, rendering strategy, and table alias calculator are taken
+         * from the context and the other builder methods are ignored.
+         *
+         * @param renderingContext the rendering context
+         * @return this builder
+         */
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
         public TableExpressionRenderer build() {
             return new TableExpressionRenderer(this);
         }
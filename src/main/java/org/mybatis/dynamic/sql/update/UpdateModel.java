@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementRenderCache;
 import org.mybatis.dynamic.sql.update.render.UpdateRenderer;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
@@ -61,6 +62,19 @@ public class UpdateModel {
                 .render();
     }
 
+    /**
+     * Render this model through a render cache. If a model with the same shape has been rendered through the
+     * cache before, the cached SQL is reused and only the parameters are calculated.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param renderCache the cache of rendered statements - normally shared by the application
+     * @return the rendered update statement
+     */
+    @NotNull
+    public UpdateStatementProvider render(RenderingStrategy renderingStrategy, StatementRenderCache renderCache) {
+        return renderCache.render(this, renderingStrategy);
+    }
+
     public static Builder withTable(SqlTable table) {
         return new Builder().withTable(table);
     }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,13 +15,14 @@
  */
 package org.mybatis.dynamic.sql.update.render;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.util.ParameterMap;
+
 public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
     private final String updateStatement;
-    private final Map<String, Object> parameters = new HashMap<>();
+    private final Map<String, Object> parameters = new ParameterMap();
 
     private DefaultUpdateStatementProvider(Builder builder) {
         updateStatement = Objects.requireNonNull(builder.updateStatement);
@@ -44,7 +45,7 @@ public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
 
     public static class Builder {
         private String updateStatement;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private final Map<String, Object> parameters = new ParameterMap();
 
         public Builder withUpdateStatement(String updateStatement) {
             this.updateStatement = updateStatement;
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,96 +17,68 @@ package org.mybatis.dynamic.sql.update.render;
 
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
-import org.mybatis.dynamic.sql.render.TableAliasCalculator;
+import org.mybatis.dynamic.sql.render.SqlBuffer;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.where.WhereModel;
-import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class UpdateRenderer {
     private final UpdateModel updateModel;
-    private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence = new AtomicInteger(1);
+    private final RenderingContext renderingContext;
 
     private UpdateRenderer(Builder builder) {
         updateModel = Objects.requireNonNull(builder.updateModel);
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        renderingContext = RenderingContext.withRenderingStrategy(builder.renderingStrategy)
+                .build();
     }
 
     public UpdateStatementProvider render() {
-        SetPhraseVisitor visitor = new SetPhraseVisitor(sequence, renderingStrategy);
+        SqlBuffer buffer = new SqlBuffer();
 
-        List<Optional<FragmentAndParameters>> fragmentsAndParameters =
-                updateModel.mapColumnMappings(m -> m.accept(visitor))
-                .collect(Collectors.toList());
+        buffer.append("update") //$NON-NLS-1$
+                .append(spaceBefore(updateModel.table().tableNameAtRuntime()));
+        renderSetPhrase(buffer);
+        updateModel.whereModel().ifPresent(wm -> renderWhereClause(wm, buffer));
 
-        return updateModel.whereModel()
-                .flatMap(this::renderWhereClause)
-                .map(wc -> renderWithWhereClause(fragmentsAndParameters, wc))
-                .orElseGet(() -> renderWithoutWhereClause(fragmentsAndParameters));
-    }
-
-    private UpdateStatementProvider renderWithWhereClause(List<Optional<FragmentAndParameters>> fragmentsAndParameters,
-            WhereClauseProvider whereClause) {
-        return DefaultUpdateStatementProvider
-                .withUpdateStatement(calculateUpdateStatement(fragmentsAndParameters, whereClause))
-                .withParameters(calculateParameters(fragmentsAndParameters))
-                .withParameters(whereClause.getParameters())
+        return DefaultUpdateStatementProvider.withUpdateStatement(buffer.sql())
+                .withParameters(buffer.parameters())
                 .build();
     }
 
-    private String calculateUpdateStatement(List<Optional<FragmentAndParameters>> fragmentsAndParameters,
-            WhereClauseProvider whereClause) {
-        return calculateUpdateStatement(fragmentsAndParameters)
-                + spaceBefore(whereClause.getWhereClause());
-    }
+    private void renderSetPhrase(SqlBuffer buffer) {
+        SetPhraseVisitor visitor = new SetPhraseVisitor(renderingContext);
 
-    private String calculateUpdateStatement(List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
-        return "update" //$NON-NLS-1$
-                + spaceBefore(updateModel.table().tableNameAtRuntime())
-                + spaceBefore(calculateSetPhrase(fragmentsAndParameters));
-    }
+        List<FragmentAndParameters> fragmentsAndParameters = updateModel.mapColumnMappings(m -> m.accept(visitor))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
 
-    private UpdateStatementProvider renderWithoutWhereClause(
-            List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
-        return DefaultUpdateStatementProvider.withUpdateStatement(calculateUpdateStatement(fragmentsAndParameters))
-                .withParameters(calculateParameters(fragmentsAndParameters))
-                .build();
+        buffer.append(spaceBefore(calculateSetPhrase(fragmentsAndParameters)));
+        fragmentsAndParameters.stream()
+                .map(FragmentAndParameters::parameters)
+                .forEach(buffer::addParameters);
     }
 
-    private String calculateSetPhrase(List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
+    private String calculateSetPhrase(List<FragmentAndParameters> fragmentsAndParameters) {
         return fragmentsAndParameters.stream()
-                .filter(Optional::isPresent)
-                .map(Optional::get)
                 .map(FragmentAndParameters::fragment)
                 .collect(Collectors.joining(", ", "set ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
-    private Map<String, Object> calculateParameters(List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
-        return fragmentsAndParameters.stream()
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .map(FragmentAndParameters::parameters)
-                .collect(HashMap::new, HashMap::putAll, HashMap::putAll);
-    }
+    private void renderWhereClause(WhereModel whereModel, SqlBuffer buffer) {
+        WhereRenderer whereRenderer = WhereRenderer.withWhereModel(whereModel)
+                .withRenderingContext(renderingContext)
+                .build();
 
-    private Optional<WhereClauseProvider> renderWhereClause(WhereModel whereModel) {
-        return WhereRenderer.withWhereModel(whereModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .withTableAliasCalculator(TableAliasCalculator.empty())
-                .build()
-                .render();
+        buffer.appendIfRendered(" ", whereRenderer::renderTo); //$NON-NLS-1$
     }
 
     public static Builder withUpdateModel(UpdateModel updateModel) {
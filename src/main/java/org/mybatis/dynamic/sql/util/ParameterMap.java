@@ -0,0 +1,347 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map of statement parameters. The library generates parameter keys "p1", "p2", and so on from a sequence, so the
+ * keys of a statement are dense and known in advance. This map stores the values for those keys in an array indexed
+ * by the sequence number, which avoids hashing and entry objects for statements with many parameters.
+ *
+ * <p>Any other key - or a generated key that is far outside the range of keys already in the map - is stored in
+ * an ordinary hash map, so this class may be used wherever a {@code Map<String, Object>} of parameters is expected.
+ * Lookups work the same as any other map, so MyBatis ({@code #{parameters.p1}}) and Spring ({@code :p1}) parameter
+ * references are unaffected. Iteration returns the generated keys in sequence order, followed by any other keys
+ * in insertion order. Null values are permitted.
+ */
+public class ParameterMap extends AbstractMap<String, Object> {
+    private static final Object[] EMPTY_VALUES = {};
+    private static final Object ABSENT = new Object();
+
+    private Object[] values = EMPTY_VALUES;
+    private int firstSequence;
+    private int indexedSize;
+    private Map<String, Object> otherParameters; // created when first needed
+    private Set<Entry<String, Object>> entrySet;
+
+    @Override
+    public int size() {
+        return indexedSize + (otherParameters == null ? 0 : otherParameters.size());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = slotOf(key);
+        if (slot >= 0 && values[slot] != ABSENT) {
+            return true;
+        }
+        return otherParameters != null && otherParameters.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        int slot = slotOf(key);
+        if (slot >= 0 && values[slot] != ABSENT) {
+            return values[slot];
+        }
+        return otherParameters == null ? null : otherParameters.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int sequence = sequenceOf(key);
+        if (sequence > 0 && !isOtherParameter(key) && reserveSlot(sequence)) {
+            return putInSlot(sequence - firstSequence, value);
+        }
+        return otherParameters().put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> parameters) {
+        if (parameters instanceof ParameterMap) {
+            putAll((ParameterMap) parameters);
+        } else {
+            super.putAll(parameters);
+        }
+    }
+
+    private void putAll(ParameterMap parameters) {
+        for (int slot = 0; slot < parameters.values.length; slot++) {
+            if (parameters.values[slot] != ABSENT) {
+                putIndexed(parameters.firstSequence + slot, parameters.values[slot]);
+            }
+        }
+
+        if (parameters.otherParameters != null) {
+            otherParameters().putAll(parameters.otherParameters);
+        }
+    }
+
+    private void putIndexed(int sequence, Object value) {
+        if (otherParameters == null && reserveSlot(sequence)) {
+            putInSlot(sequence - firstSequence, value);
+        } else {
+            put(keyOf(sequence), value);
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int slot = slotOf(key);
+        if (slot >= 0 && values[slot] != ABSENT) {
+            return removeSlot(slot);
+        }
+        return otherParameters == null ? null : otherParameters.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        values = EMPTY_VALUES;
+        firstSequence = 0;
+        indexedSize = 0;
+        otherParameters = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private boolean isOtherParameter(String key) {
+        return otherParameters != null && otherParameters.containsKey(key);
+    }
+
+    private Map<String, Object> otherParameters() {
+        if (otherParameters == null) {
+            otherParameters = new LinkedHashMap<>();
+        }
+        return otherParameters;
+    }
+
+    private int slotOf(Object key) {
+        int slot = sequenceOf(key) - firstSequence;
+        return slot >= 0 && slot < values.length ? slot : -1;
+    }
+
+    /**
+     * Make sure there is a slot in the array for the sequence number. The array grows as needed, but sequence
+     * numbers that would make the array mostly empty are not stored in the array.
+     *
+     * @param sequence the sequence number of a generated key
+     * @return true if the value may be stored in the array
+     */
+    private boolean reserveSlot(int sequence) {
+        if (values.length == 0) {
+            firstSequence = sequence;
+        }
+
+        int slot = sequence - firstSequence;
+        if (slot > values.length * 2 + 16 || -slot > values.length + 16) {
+            return false;
+        }
+
+        if (slot < 0) {
+            Object[] newValues = new Object[values.length - slot];
+            Arrays.fill(newValues, 0, -slot, ABSENT);
+            System.arraycopy(values, 0, newValues, -slot, values.length);
+            values = newValues;
+            firstSequence = sequence;
+        } else if (slot >= values.length) {
+            int oldLength = values.length;
+            values = Arrays.copyOf(values, Math.max(slot + 1, Math.max(4, oldLength * 2)));
+            Arrays.fill(values, oldLength, values.length, ABSENT);
+        }
+        return true;
+    }
+
+    private Object putInSlot(int slot, Object value) {
+        Object previous = values[slot];
+        values[slot] = value;
+        if (previous == ABSENT) {
+            indexedSize++;
+            return null;
+        }
+        return previous;
+    }
+
+    private Object removeSlot(int slot) {
+        Object previous = values[slot];
+        values[slot] = ABSENT;
+        indexedSize--;
+        return previous;
+    }
+
+    private int nextPresentSlot(int slot) {
+        int nextSlot = slot;
+        while (nextSlot < values.length && values[nextSlot] == ABSENT) {
+            nextSlot++;
+        }
+        return nextSlot;
+    }
+
+    private String keyOf(int sequence) {
+        return "p" + sequence; //$NON-NLS-1$
+    }
+
+    /**
+     * Calculates the sequence number of a generated parameter key.
+     *
+     * @param key a map key
+     * @return the number N if the key is a String in the form "pN", otherwise -1
+     */
+    static int sequenceOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+
+        String s = (String) key;
+        int length = s.length();
+        if (length < 2 || length > 10 || s.charAt(0) != 'p' || s.charAt(1) == '0') {
+            return -1;
+        }
+
+        int sequence = 0;
+        for (int i = 1; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            sequence = sequence * 10 + c - '0';
+        }
+        return sequence;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ParameterMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ParameterMap.this.clear();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int nextSlot = nextPresentSlot(0);
+        private int lastSlot = -1;
+        private Iterator<Entry<String, Object>> otherIterator;
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < values.length || otherIterator().hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (nextSlot < values.length) {
+                lastSlot = nextSlot;
+                nextSlot = nextPresentSlot(nextSlot + 1);
+                return new SlotEntry(lastSlot);
+            }
+
+            lastSlot = -1;
+            return otherIterator().next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastSlot >= 0) {
+                removeSlot(lastSlot);
+                lastSlot = -1;
+            } else if (otherIterator != null) {
+                otherIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private Iterator<Entry<String, Object>> otherIterator() {
+            if (otherIterator == null) {
+                otherIterator = otherParameters == null ? Collections.emptyIterator()
+                        : otherParameters.entrySet().iterator();
+            }
+            return otherIterator;
+        }
+    }
+
+    private class SlotEntry implements Entry<String, Object> {
+        private final int slot;
+
+        private SlotEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public String getKey() {
+            return keyOf(firstSequence + slot);
+        }
+
+        @Override
+        public Object getValue() {
+            Object value = values[slot];
+            if (value == ABSENT) {
+                throw new NoSuchElementException();
+            }
+            return value;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object previous = getValue();
+            values[slot] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return getKey().equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue(); //$NON-NLS-1$
+        }
+    }
+}
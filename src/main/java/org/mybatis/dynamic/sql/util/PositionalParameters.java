@@ -0,0 +1,135 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The arguments of a statement rendered with positional placeholders ("?"), in the order of the placeholders.
+ *
+ * <p>Statements rendered with a recording {@link org.mybatis.dynamic.sql.render.PositionalParameterRenderingStrategy}
+ * are bound in the order the strategy wrote their placeholders. A statement that was rendered elsewhere only has its
+ * parameter map, so its parameters are ordered by the sequence numbers of the generated keys ("p1", "p2", etc.) -
+ * the renderers generate the keys from a sequence as they write the statement. Single row insert statements bind record properties, and the arguments are read from the record in
+ * the order of the bound properties of the property accessor plan - one argument for each placeholder, so a property
+ * mapped to more than one column is read once for each column. Nested properties are read with bean introspection.
+ *
+ * <p>The SQL types are the vendor type numbers of the JDBC types of the bound columns, or {@link #UNKNOWN_SQL_TYPE}
+ * if a type is not known. The arrays returned by this class are not copied.
+ */
+public final class PositionalParameters {
+    /**
+     * The SQL type of an argument whose type is not known. This is the same value as Spring's
+     * {@code SqlTypeValue.TYPE_UNKNOWN}, so the types may be passed to {@code JdbcTemplate} directly.
+     */
+    public static final int UNKNOWN_SQL_TYPE = Integer.MIN_VALUE;
+
+    private final Object[] arguments;
+    private final int[] sqlTypes;
+
+    private PositionalParameters(Object[] arguments, int[] sqlTypes) {
+        this.arguments = arguments;
+        this.sqlTypes = sqlTypes;
+    }
+
+    public Object[] arguments() {
+        return arguments;
+    }
+
+    public int[] sqlTypes() {
+        return sqlTypes;
+    }
+
+    public static PositionalParameters of(Map<String, Object> parameters) {
+        return of(parameters, Collections.emptyMap());
+    }
+
+    /**
+     * Orders the parameters of a rendered statement.
+     *
+     * @param parameters the parameters of the statement - all keys must be generated keys ("p1", "p2", etc.)
+     * @param jdbcTypes the JDBC types of the parameters, by key. Parameters without a type are bound as
+     *     {@link #UNKNOWN_SQL_TYPE}.
+     * @return the ordered arguments
+     */
+    public static PositionalParameters of(Map<String, Object> parameters, Map<String, JDBCType> jdbcTypes) {
+        List<String> keys = new ArrayList<>(parameters.keySet());
+        keys.sort(Comparator.comparingInt(PositionalParameters::sequenceOf));
+        return of(keys, parameters::get, jdbcTypes);
+    }
+
+    /**
+     * Orders the parameters of a rendered statement by the keys recorded while it was rendered.
+     *
+     * @param keys the parameter keys in the order of the placeholders
+     * @param parameters the parameters of the statement
+     * @param jdbcTypes the JDBC types of the parameters, by key. Parameters without a type are bound as
+     *     {@link #UNKNOWN_SQL_TYPE}.
+     * @return the ordered arguments
+     * @throws IllegalArgumentException if the keys are not the keys of the parameters
+     */
+    public static PositionalParameters of(List<String> keys, Map<String, Object> parameters,
+            Map<String, JDBCType> jdbcTypes) {
+        if (keys.size() != parameters.size() || !parameters.keySet().containsAll(keys)) {
+            throw new IllegalArgumentException("The recorded parameter keys " + keys //$NON-NLS-1$
+                    + " do not match the parameters of the statement " + parameters.keySet()); //$NON-NLS-1$
+        }
+        return of(keys, parameters::get, jdbcTypes);
+    }
+
+    /**
+     * Calculates the arguments of a rendered single row insert statement.
+     *
+     * @param row the row to insert
+     * @param propertyAccessorPlan the property accessor plan of the rendered statement
+     * @param jdbcTypes the JDBC types of the properties, by property name
+     * @return the ordered arguments
+     */
+    public static PositionalParameters of(Object row, PropertyAccessorPlan propertyAccessorPlan,
+            Map<String, JDBCType> jdbcTypes) {
+        PropertyAccessors accessors = propertyAccessorPlan.accessorsFor(row.getClass());
+        return of(propertyAccessorPlan.boundPropertyNames(), name -> accessors.readProperty(row, name), jdbcTypes);
+    }
+
+    private static PositionalParameters of(List<String> names, Function<String, Object> values,
+            Map<String, JDBCType> jdbcTypes) {
+        Object[] arguments = new Object[names.size()];
+        int[] sqlTypes = new int[names.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            String name = names.get(i);
+            arguments[i] = values.apply(name);
+            JDBCType jdbcType = jdbcTypes.get(name);
+            sqlTypes[i] = jdbcType == null ? UNKNOWN_SQL_TYPE : jdbcType.getVendorTypeNumber();
+        }
+        return new PositionalParameters(arguments, sqlTypes);
+    }
+
+    private static int sequenceOf(String key) {
+        int sequence = ParameterMap.sequenceOf(Objects.requireNonNull(key));
+        if (sequence < 1) {
+            throw new IllegalArgumentException("Parameter \"" + key //$NON-NLS-1$
+                    + "\" is not a generated parameter and cannot be bound by position"); //$NON-NLS-1$
+        }
+        return sequence;
+    }
+}
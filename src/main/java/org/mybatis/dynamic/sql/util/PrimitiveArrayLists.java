@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Fixed size list views of primitive arrays. Values are boxed one at a time as they are read, so a large array of
+ * keys can back a condition without first being copied into a collection of boxed values.
+ */
+public class PrimitiveArrayLists {
+    private PrimitiveArrayLists() {}
+
+    public static List<Long> of(long[] values) {
+        return new LongArrayList(values);
+    }
+
+    public static List<Integer> of(int[] values) {
+        return new IntArrayList(values);
+    }
+
+    private static class LongArrayList extends AbstractList<Long> implements RandomAccess {
+        private final long[] values;
+
+        private LongArrayList(long[] values) {
+            this.values = Objects.requireNonNull(values);
+        }
+
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    private static class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+        private final int[] values;
+
+        private IntArrayList(int[] values) {
+            this.values = Objects.requireNonNull(values);
+        }
+
+        @Override
+        public Integer get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
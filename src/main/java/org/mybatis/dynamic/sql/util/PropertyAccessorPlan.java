@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The record properties that are bound by a rendered insert statement. The renderers create a plan from the
+ * property mappings of the model, so the properties are only found once for each rendered statement.
+ *
+ * <p>The plan is compiled into {@link PropertyAccessors} for each record class. Compiled accessors are cached for
+ * each record class and set of properties, so rendering the same statement again does not compile the getters
+ * again. Equal sets of properties share one cache entry, and at most {@value #MAX_CACHED_PROPERTY_SETS} sets are
+ * cached for a record class - accessors for further sets are compiled each time they are requested.
+ *
+ * <p>The cache is held by the record class, so cached accessors live as long as the record class. This is
+ * intended: on Java 9 and later the getters of some classes are compiled with a private lookup in the record class,
+ * which defines the generated lambda classes in the record's class loader, and those classes cannot outlive the
+ * record class anyway.
+ */
+public final class PropertyAccessorPlan {
+    private static final PropertyAccessorPlan EMPTY = new PropertyAccessorPlan(Collections.emptyList(),
+            Collections.emptyList());
+
+    static final int MAX_CACHED_PROPERTY_SETS = 64;
+
+    private static final ClassValue<Map<List<String>, PropertyAccessors>> CACHE =
+            new ClassValue<Map<List<String>, PropertyAccessors>>() {
+                @Override
+                protected Map<List<String>, PropertyAccessors> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final List<String> propertyNames;
+    private final List<String> boundPropertyNames;
+
+    private PropertyAccessorPlan(List<String> propertyNames, List<String> boundPropertyNames) {
+        this.propertyNames = Collections.unmodifiableList(new ArrayList<>(propertyNames));
+        this.boundPropertyNames = Collections.unmodifiableList(new ArrayList<>(boundPropertyNames));
+    }
+
+    /**
+     * Returns the distinct properties bound by the statement.
+     *
+     * @return the distinct property names, in the order they are first bound
+     */
+    public List<String> propertyNames() {
+        return propertyNames;
+    }
+
+    /**
+     * Returns the property bound by each placeholder of the statement, in the order of the placeholders. A property
+     * that is mapped to more than one column appears once for each column.
+     *
+     * @return the property names of the placeholders
+     */
+    public List<String> boundPropertyNames() {
+        return boundPropertyNames;
+    }
+
+    public boolean isEmpty() {
+        return propertyNames.isEmpty();
+    }
+
+    /**
+     * Returns the compiled accessors for a record class. The accessors are cached unless the record class already
+     * has {@value #MAX_CACHED_PROPERTY_SETS} cached sets of properties.
+     *
+     * @param recordClass the class of the records
+     * @return the compiled accessors
+     */
+    public PropertyAccessors accessorsFor(Class<?> recordClass) {
+        Map<List<String>, PropertyAccessors> cache = CACHE.get(Objects.requireNonNull(recordClass));
+        PropertyAccessors accessors = cache.get(propertyNames);
+        if (accessors != null) {
+            return accessors;
+        }
+
+        if (cache.size() >= MAX_CACHED_PROPERTY_SETS) {
+            return PropertyAccessors.compile(recordClass, propertyNames);
+        }
+
+        // the key is this plan's own immutable copy, so the cache never holds a list a caller could change
+        return cache.computeIfAbsent(propertyNames, names -> PropertyAccessors.compile(recordClass, names));
+    }
+
+    public static PropertyAccessorPlan of(List<String> propertyNames) {
+        return new PropertyAccessorPlan(Objects.requireNonNull(propertyNames), propertyNames);
+    }
+
+    /**
+     * Creates a plan for the property mappings in a list of column mappings. Other mappings do not bind a record
+     * property and are ignored, as are "when present" property mappings that will not render.
+     *
+     * @param columnMappings the column mappings of an insert model
+     * @return a plan for the properties of the property mappings
+     */
+    public static PropertyAccessorPlan of(Stream<? extends AbstractColumnMapping> columnMappings) {
+        PropertyNameVisitor visitor = new PropertyNameVisitor();
+        List<String> boundPropertyNames = columnMappings.map(m -> m.accept(visitor))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+        return new PropertyAccessorPlan(boundPropertyNames.stream().distinct().collect(Collectors.toList()),
+                boundPropertyNames);
+    }
+
+    public static PropertyAccessorPlan empty() {
+        return EMPTY;
+    }
+
+    private static class PropertyNameVisitor extends InsertMappingVisitor<Optional<String>> {
+        @Override
+        public Optional<String> visit(NullMapping mapping) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visit(ConstantMapping mapping) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visit(StringConstantMapping mapping) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visit(PropertyMapping mapping) {
+            return Optional.of(mapping.property());
+        }
+
+        @Override
+        public Optional<String> visit(PropertyWhenPresentMapping mapping) {
+            // a property that is not rendered is not bound
+            return mapping.shouldRender() ? Optional.of(mapping.property()) : Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Compiled getters for a set of properties of a record class. The getters are found once with bean introspection,
+ * and each getter is compiled into a function with {@link LambdaMetafactory}. If a getter cannot be linked from this
+ * class - for example if the record class is not public or is not visible from this class loader - the function is
+ * spun in the record class with a private lookup on Java 9 and later. Only getters that cannot be compiled either
+ * way, which on Java 8 are the getters of non-public classes, are called with reflection.
+ *
+ * <p>Only simple property names are compiled. Nested or indexed property names, and properties without a getter,
+ * are not part of the accessors - see {@link #hasProperty(String)}. {@link #readProperty(Object, String)} reads
+ * nested properties with bean introspection.
+ *
+ * <p>Instances are obtained from {@link PropertyAccessorPlan#accessorsFor(Class)}, which caches them.
+ */
+public final class PropertyAccessors {
+    private static final MethodType FUNCTION_TYPE = MethodType.methodType(Function.class);
+    private static final MethodType APPLY_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final Method PRIVATE_LOOKUP_IN = findPrivateLookupIn();
+
+    private final Map<String, Accessor> accessors;
+
+    private PropertyAccessors(Map<String, Accessor> accessors) {
+        this.accessors = Collections.unmodifiableMap(accessors);
+    }
+
+    public boolean hasProperty(String propertyName) {
+        return accessors.containsKey(propertyName);
+    }
+
+    /**
+     * Reads a property of a record.
+     *
+     * @param row the record to read - it must be an instance of the class these accessors were compiled for
+     * @param propertyName the name of the property
+     * @return the value of the property
+     * @throws IllegalArgumentException if the property is not part of these accessors
+     */
+    public Object getValue(Object row, String propertyName) {
+        return accessor(propertyName).getter.apply(row);
+    }
+
+    /**
+     * Reads a property of a record with its compiled getter if there is one. Other properties - for example nested
+     * properties like "address.street" - are read with bean introspection, one getter for each element of the path.
+     * If a value along the path is null, the property reads as null.
+     *
+     * @param row the record to read
+     * @param propertyPath the name or dotted path of the property
+     * @return the value of the property
+     * @throws IllegalArgumentException if an element of the path has no getter
+     */
+    public Object readProperty(Object row, String propertyPath) {
+        Accessor accessor = accessors.get(propertyPath);
+        return accessor == null ? readPath(row, propertyPath) : accessor.getter.apply(row);
+    }
+
+    /**
+     * Returns the declared type of a property - the return type of its getter.
+     *
+     * @param propertyName the name of the property
+     * @return the declared type of the property
+     * @throws IllegalArgumentException if the property is not part of these accessors
+     */
+    public Class<?> getPropertyType(String propertyName) {
+        return accessor(propertyName).propertyType;
+    }
+
+    private Accessor accessor(String propertyName) {
+        Accessor accessor = accessors.get(propertyName);
+        if (accessor == null) {
+            throw new IllegalArgumentException("No compiled getter for property " + propertyName); //$NON-NLS-1$
+        }
+        return accessor;
+    }
+
+    private static Method findPrivateLookupIn() {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, //$NON-NLS-1$
+                    MethodHandles.Lookup.class);
+        } catch (NoSuchMethodException e) {
+            return null; // Java 8
+        }
+    }
+
+    private static Object readPath(Object row, String propertyPath) {
+        Object value = row;
+        for (String propertyName : propertyPath.split("\\.")) { //$NON-NLS-1$
+            if (value == null) {
+                return null;
+            }
+            value = readSimpleProperty(value, propertyName, propertyPath);
+        }
+        return value;
+    }
+
+    private static Object readSimpleProperty(Object bean, String propertyName, String propertyPath) {
+        if (bean instanceof Map) {
+            return ((Map<?, ?>) bean).get(propertyName);
+        }
+
+        Method getter = Optional.ofNullable(propertyDescriptors(bean.getClass()).get(propertyName))
+                .map(PropertyDescriptor::getReadMethod)
+                .orElseThrow(() -> new IllegalArgumentException("No getter for property " //$NON-NLS-1$
+                        + propertyName + " of property path " + propertyPath)); //$NON-NLS-1$
+        try {
+            getter.setAccessible(true);
+            return getter.invoke(bean);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot read property path " + propertyPath, e); //$NON-NLS-1$
+        }
+    }
+
+    static PropertyAccessors compile(Class<?> recordClass, List<String> propertyNames) {
+        Map<String, PropertyDescriptor> descriptors = propertyDescriptors(recordClass);
+        Map<String, Accessor> accessors = new HashMap<>();
+        for (String propertyName : propertyNames) {
+            Optional.ofNullable(descriptors.get(propertyName))
+                    .map(PropertyDescriptor::getReadMethod)
+                    .flatMap(PropertyAccessors::compileGetter)
+                    .ifPresent(getter -> accessors.put(propertyName, new Accessor(getter,
+                            descriptors.get(propertyName).getPropertyType())));
+        }
+        return new PropertyAccessors(accessors);
+    }
+
+    private static Map<String, PropertyDescriptor> propertyDescriptors(Class<?> recordClass) {
+        Map<String, PropertyDescriptor> descriptors = new HashMap<>();
+        try {
+            BeanInfo beanInfo = Introspector.getBeanInfo(recordClass);
+            Arrays.stream(beanInfo.getPropertyDescriptors()).forEach(pd -> descriptors.put(pd.getName(), pd));
+        } catch (IntrospectionException e) {
+            // no compiled getters - every property is left to the caller's fallback
+        }
+        return descriptors;
+    }
+
+    private static Optional<Function<Object, Object>> compileGetter(Method getter) {
+        try {
+            if (isLinkable(getter)) {
+                return Optional.of(lambdaGetter(MethodHandles.lookup(), getter));
+            }
+            Optional<MethodHandles.Lookup> privateLookup = privateLookupIn(getter.getDeclaringClass());
+            if (privateLookup.isPresent()) {
+                return Optional.of(lambdaGetter(privateLookup.get(), getter));
+            }
+        } catch (ReflectiveOperationException | LambdaConversionException | RuntimeException e) {
+            // fall through to reflection
+        }
+        return reflectiveGetter(getter);
+    }
+
+    /**
+     * A lambda can only be spun for a getter that generated code in this class's package and class loader can call.
+     */
+    private static boolean isLinkable(Method getter) {
+        Class<?> declaringClass = getter.getDeclaringClass();
+        return Modifier.isPublic(getter.getModifiers())
+                && Modifier.isPublic(declaringClass.getModifiers())
+                && isVisible(declaringClass)
+                && isVisible(getter.getReturnType());
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, PropertyAccessors.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * On Java 9 and later, a lookup with private access to the record class lets the lambda be spun in the record
+     * class itself, so getters of classes that are not public or not visible from this class loader are compiled
+     * too. The method is called reflectively because this library targets Java 8.
+     */
+    private static Optional<MethodHandles.Lookup> privateLookupIn(Class<?> targetClass)
+            throws ReflectiveOperationException {
+        if (PRIVATE_LOOKUP_IN == null) {
+            return Optional.empty();
+        }
+        return Optional.of((MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(null, targetClass,
+                MethodHandles.lookup()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> lambdaGetter(MethodHandles.Lookup lookup, Method getter)
+            throws IllegalAccessException, LambdaConversionException {
+        MethodHandle handle = lookup.unreflect(getter);
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", FUNCTION_TYPE, //$NON-NLS-1$
+                APPLY_TYPE, handle, handle.type().wrap());
+        try {
+            return (Function<Object, Object>) callSite.getTarget().invokeWithArguments();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // a non-capturing lambda factory does not throw checked exceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The last resort for getters that cannot be compiled - for example a non-public record class on Java 8.
+     */
+    private static Optional<Function<Object, Object>> reflectiveGetter(Method getter) {
+        try {
+            getter.setAccessible(true);
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+        return Optional.of(row -> {
+            try {
+                return getter.invoke(row);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Cannot read property with getter " + getter, e); //$NON-NLS-1$
+            }
+        });
+    }
+
+    private static class Accessor {
+        private final Function<Object, Object> getter;
+        private final Class<?> propertyType;
+
+        private Accessor(Function<Object, Object> getter, Class<?> propertyType) {
+            this.getter = Objects.requireNonNull(getter);
+            this.propertyType = Objects.requireNonNull(propertyType);
+        }
+    }
+}
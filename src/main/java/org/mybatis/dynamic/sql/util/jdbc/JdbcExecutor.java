@@ -0,0 +1,335 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.PositionalParameters;
+
+/**
+ * Executes rendered statements with plain JDBC, for applications that use neither MyBatis nor Spring.
+ *
+ * <p>Statements must be rendered with {@link RenderingStrategies#POSITIONAL_PARAMETER}. The parameters are bound by
+ * position. Prepared statements are reused through a least recently used cache keyed by SQL, so executing the same
+ * statement shape again does not prepare it again.
+ *
+ * <p>An executor works with a single connection, like a session. An executor built with a connection uses that
+ * connection and does not close it. An executor built with a data source gets a connection when it is first needed,
+ * and closes it when the executor is closed. Closing the executor closes the cached statements. Transactions are
+ * controlled through the connection. An executor is not thread safe.
+ *
+ * <pre>
+ *     try (JdbcExecutor executor = JdbcExecutor.withDataSource(dataSource).withFetchSize(500).build()) {
+ *         executor.selectForEach(selectStatement, rowMapper, row -&gt; process(row));
+ *     }
+ * </pre>
+ */
+public class JdbcExecutor implements AutoCloseable {
+    private final DataSource dataSource;
+    private Connection connection;
+    private final int statementCacheSize;
+    private final int fetchSize;
+    private PreparedStatementCache statementCache;
+
+    private JdbcExecutor(Builder builder) {
+        if (builder.dataSource == null && builder.connection == null) {
+            throw new IllegalArgumentException("A data source or a connection is required"); //$NON-NLS-1$
+        }
+        if (builder.statementCacheSize < 0) {
+            throw new IllegalArgumentException("The statement cache size cannot be negative"); //$NON-NLS-1$
+        }
+        dataSource = builder.dataSource;
+        connection = builder.connection;
+        statementCacheSize = builder.statementCacheSize;
+        fetchSize = builder.fetchSize;
+    }
+
+    public long count(SelectStatementProvider countStatement) throws SQLException {
+        return selectOne(countStatement, (rs, i) -> rs.getLong(1))
+                .orElseThrow(() -> new SQLException("The count statement returned no rows")); //$NON-NLS-1$
+    }
+
+    public int delete(DeleteStatementProvider deleteStatement) throws SQLException {
+        return update(deleteStatement.getDeleteStatement(), deleteStatement.getParameters());
+    }
+
+    public int generalInsert(GeneralInsertStatementProvider insertStatement) throws SQLException {
+        return update(insertStatement.getInsertStatement(), insertStatement.getParameters());
+    }
+
+    public <T> int insert(InsertStatementProvider<T> insertStatement) throws SQLException {
+        return update(insertStatement.getInsertStatement(), RenderingStrategies.POSITIONAL_PARAMETER
+                .toPositionalParameters(insertStatement.getRow(), insertStatement.getPropertyAccessorPlan()));
+    }
+
+    /**
+     * Executes a batch insert as a single JDBC batch.
+     *
+     * @param insertStatement the rendered batch insert
+     * @param <T> the type of the records
+     * @return the update counts, in record order
+     * @throws SQLException if the batch fails
+     */
+    public <T> int[] insertBatch(BatchInsert<T> insertStatement) throws SQLException {
+        PreparedStatement statement = statementCache().checkOut(insertStatement.getInsertStatementSQL());
+        try {
+            for (T row : insertStatement.getRecords()) {
+                bind(statement, RenderingStrategies.POSITIONAL_PARAMETER
+                        .toPositionalParameters(row, insertStatement.getPropertyAccessorPlan()));
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        } finally {
+            statement.clearBatch();
+            statementCache.checkIn(statement);
+        }
+    }
+
+    public int insertSelect(InsertSelectStatementProvider insertStatement) throws SQLException {
+        return update(insertStatement.getInsertStatement(), insertStatement.getParameters());
+    }
+
+    public int update(UpdateStatementProvider updateStatement) throws SQLException {
+        return update(updateStatement.getUpdateStatement(), updateStatement.getParameters());
+    }
+
+    public <T> List<T> selectList(SelectStatementProvider selectStatement, RowMapper<T> rowMapper)
+            throws SQLException {
+        List<T> rows = new ArrayList<>();
+        selectForEach(selectStatement, rowMapper, rows::add);
+        return rows;
+    }
+
+    /**
+     * Executes a select statement that returns at most one row.
+     *
+     * @param selectStatement the rendered select statement
+     * @param rowMapper the row mapper
+     * @param <T> the type of the result
+     * @return the mapped row, or empty if the statement returned no rows
+     * @throws SQLException if the statement fails or returns more than one row
+     */
+    public <T> Optional<T> selectOne(SelectStatementProvider selectStatement, RowMapper<T> rowMapper)
+            throws SQLException {
+        List<T> rows = selectList(selectStatement, rowMapper);
+        if (rows.size() > 1) {
+            throw new SQLException("Expected one row, but the select statement returned " //$NON-NLS-1$
+                    + rows.size());
+        }
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Executes a select statement and passes each mapped row to a consumer as it is read. Rows are not collected,
+     * so large results can be processed in constant memory. The result set is read forward only, with the fetch
+     * size of this executor, so drivers that support it will stream the rows from the database.
+     *
+     * @param selectStatement the rendered select statement
+     * @param rowMapper the row mapper
+     * @param consumer the consumer of the mapped rows
+     * @param <T> the type of the mapped rows
+     * @return the number of rows read
+     * @throws SQLException if the statement fails
+     */
+    public <T> int selectForEach(SelectStatementProvider selectStatement, RowMapper<T> rowMapper,
+            Consumer<? super T> consumer) throws SQLException {
+        Objects.requireNonNull(rowMapper);
+        Objects.requireNonNull(consumer);
+        PreparedStatement statement = checkOut(selectStatement.getSelectStatement(),
+                PositionalParameters.of(selectStatement.getParameters()));
+        try {
+            statement.setFetchSize(fetchSize);
+            int rowNumber = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    consumer.accept(rowMapper.mapRow(resultSet, rowNumber++));
+                }
+            }
+            return rowNumber;
+        } finally {
+            statementCache.checkIn(statement);
+        }
+    }
+
+    /**
+     * The connection used by this executor. Use it to control transactions.
+     *
+     * @return the connection
+     * @throws SQLException if a connection cannot be obtained from the data source
+     */
+    public Connection connection() throws SQLException {
+        if (connection == null) {
+            connection = dataSource.getConnection();
+        }
+        return connection;
+    }
+
+    int cachedStatementCount() {
+        return statementCache == null ? 0 : statementCache.size();
+    }
+
+    /**
+     * Closes the cached statements. If this executor was built with a data source, the connection is also closed.
+     *
+     * @throws SQLException if a statement or the connection cannot be closed
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (statementCache != null) {
+                statementCache.close();
+                statementCache = null;
+            }
+        } finally {
+            if (dataSource != null && connection != null) {
+                connection.close();
+                connection = null;
+            }
+        }
+    }
+
+    private int update(String sql, Map<String, Object> parameters) throws SQLException {
+        return update(sql, PositionalParameters.of(parameters));
+    }
+
+    private int update(String sql, PositionalParameters parameters) throws SQLException {
+        PreparedStatement statement = checkOut(sql, parameters);
+        try {
+            return statement.executeUpdate();
+        } finally {
+            statementCache.checkIn(statement);
+        }
+    }
+
+    private PreparedStatement checkOut(String sql, PositionalParameters parameters) throws SQLException {
+        PreparedStatement statement = statementCache().checkOut(sql);
+        try {
+            bind(statement, parameters);
+        } catch (SQLException e) {
+            statementCache.checkIn(statement);
+            throw e;
+        }
+        return statement;
+    }
+
+    private PreparedStatementCache statementCache() throws SQLException {
+        if (statementCache == null) {
+            statementCache = new PreparedStatementCache(connection(), statementCacheSize);
+        }
+        return statementCache;
+    }
+
+    private static void bind(PreparedStatement statement, PositionalParameters parameters) throws SQLException {
+        Object[] arguments = parameters.arguments();
+        int[] sqlTypes = parameters.sqlTypes();
+        for (int i = 0; i < arguments.length; i++) {
+            Object argument = toJdbcValue(arguments[i]);
+            if (sqlTypes[i] == PositionalParameters.UNKNOWN_SQL_TYPE) {
+                statement.setObject(i + 1, argument);
+            } else if (argument == null) {
+                statement.setNull(i + 1, sqlTypes[i]);
+            } else {
+                statement.setObject(i + 1, argument, sqlTypes[i]);
+            }
+        }
+    }
+
+    /**
+     * Converts values that JDBC drivers are not required to accept. A {@link java.util.Date} that is not one of the
+     * {@code java.sql} date types is bound as a timestamp.
+     */
+    private static Object toJdbcValue(Object value) {
+        if (value instanceof java.util.Date && !(value instanceof java.sql.Date || value instanceof java.sql.Time
+                || value instanceof Timestamp)) {
+            return new Timestamp(((java.util.Date) value).getTime());
+        }
+        return value;
+    }
+
+    public static Builder withDataSource(DataSource dataSource) {
+        return new Builder().withDataSource(dataSource);
+    }
+
+    public static Builder withConnection(Connection connection) {
+        return new Builder().withConnection(connection);
+    }
+
+    public static class Builder {
+        private DataSource dataSource;
+        private Connection connection;
+        private int statementCacheSize = 50;
+        private int fetchSize;
+
+        public Builder withDataSource(DataSource dataSource) {
+            this.dataSource = Objects.requireNonNull(dataSource);
+            connection = null;
+            return this;
+        }
+
+        public Builder withConnection(Connection connection) {
+            this.connection = Objects.requireNonNull(connection);
+            dataSource = null;
+            return this;
+        }
+
+        /**
+         * The maximum number of prepared statements to keep open. The default is 50. If zero, statements are not
+         * cached and are closed after each execution.
+         *
+         * @param statementCacheSize the maximum number of cached statements
+         * @return this builder
+         */
+        public Builder withStatementCacheSize(int statementCacheSize) {
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
+
+        /**
+         * The number of rows to fetch from the database at a time when reading results. The default is zero, which
+         * leaves the choice to the driver.
+         *
+         * @param fetchSize the fetch size
+         * @return this builder
+         */
+        public Builder withFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        public JdbcExecutor build() {
+            return new JdbcExecutor(this);
+        }
+    }
+}
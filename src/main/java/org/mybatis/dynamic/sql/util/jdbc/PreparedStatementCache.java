@@ -0,0 +1,119 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A least recently used cache of the prepared statements of one connection, keyed by SQL.
+ *
+ * <p>A statement is checked out while it is executing. If the same SQL is executed again before the statement is
+ * returned - for example by a row callback that runs the same query - a new statement is prepared for that execution
+ * and closed when it is returned. Evicted statements are closed when they are returned, or immediately if they are not
+ * checked out. This class is not thread safe.
+ */
+class PreparedStatementCache implements AutoCloseable {
+    private final Connection connection;
+    private final int maximumSize;
+    private final Map<String, PreparedStatement> statements;
+    private final Set<PreparedStatement> checkedOut = new HashSet<>();
+    private final Set<PreparedStatement> evicted = new HashSet<>();
+
+    PreparedStatementCache(Connection connection, int maximumSize) {
+        this.connection = connection;
+        this.maximumSize = maximumSize;
+        statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > PreparedStatementCache.this.maximumSize) {
+                    evict(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    PreparedStatement checkOut(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = connection.prepareStatement(sql);
+            if (maximumSize > 0) {
+                statements.put(sql, statement);
+            } else {
+                evicted.add(statement);
+            }
+        } else if (checkedOut.contains(statement)) {
+            statement = connection.prepareStatement(sql);
+            evicted.add(statement);
+        }
+        checkedOut.add(statement);
+        return statement;
+    }
+
+    void checkIn(PreparedStatement statement) throws SQLException {
+        checkedOut.remove(statement);
+        if (evicted.remove(statement)) {
+            statement.close();
+        } else {
+            statement.clearParameters();
+        }
+    }
+
+    int size() {
+        return statements.size();
+    }
+
+    private void evict(PreparedStatement statement) {
+        if (checkedOut.contains(statement)) {
+            evicted.add(statement);
+        } else {
+            closeQuietly(statement);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        SQLException firstException = null;
+        for (PreparedStatement statement : statements.values()) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                firstException = firstException == null ? e : firstException;
+            }
+        }
+        statements.clear();
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            // the statement is discarded, and the connection reports any real problem on the next call
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.mybatis3;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.PropertyAccessors;
+
+/**
+ * A parsed statement with a binder for each parameter mapping. The binders are built once, when the SQL is parsed,
+ * from the property names of the parameter mappings.
+ */
+class CompiledSqlSource implements SqlSource {
+    private static final Pattern PARAMETERS_PROPERTY = Pattern.compile("parameters\\.(\\w+)"); //$NON-NLS-1$
+    private static final Pattern ROW_PROPERTY = Pattern.compile("(?:record|row)\\.(\\w+)"); //$NON-NLS-1$
+    private static final Pattern RECORDS_PROPERTY = Pattern.compile("records\\[(\\d+)]\\.(\\w+)"); //$NON-NLS-1$
+
+    private final Configuration configuration;
+    private final String sql;
+    private final List<ParameterMapping> parameterMappings;
+    private final List<ParameterBinder> binders;
+
+    CompiledSqlSource(Configuration configuration, String sql, List<ParameterMapping> parameterMappings) {
+        this.configuration = Objects.requireNonNull(configuration);
+        this.sql = Objects.requireNonNull(sql);
+        this.parameterMappings = Collections.unmodifiableList(parameterMappings);
+        binders = parameterMappings.stream()
+                .map(ParameterMapping::getProperty)
+                .map(CompiledSqlSource::binderFor)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public BoundSql getBoundSql(Object parameterObject) {
+        return new CompiledBoundSql(configuration, sql, parameterMappings, parameterObject, binders);
+    }
+
+    private static ParameterBinder binderFor(String property) {
+        if (property == null) {
+            return parameterObject -> ParameterBinder.UNBOUND;
+        }
+
+        Matcher matcher = PARAMETERS_PROPERTY.matcher(property);
+        if (matcher.matches()) {
+            String key = matcher.group(1);
+            return parameterObject -> parameterValue(parameterObject, key);
+        }
+
+        matcher = ROW_PROPERTY.matcher(property);
+        if (matcher.matches()) {
+            String propertyName = matcher.group(1);
+            return parameterObject -> parameterObject instanceof InsertStatementProvider
+                    ? rowValue((InsertStatementProvider<?>) parameterObject, propertyName)
+                    : ParameterBinder.UNBOUND;
+        }
+
+        matcher = RECORDS_PROPERTY.matcher(property);
+        if (matcher.matches()) {
+            int index = Integer.parseInt(matcher.group(1));
+            String propertyName = matcher.group(2);
+            return parameterObject -> parameterObject instanceof MultiRowInsertStatementProvider
+                    ? recordValue((MultiRowInsertStatementProvider<?>) parameterObject, index, propertyName)
+                    : ParameterBinder.UNBOUND;
+        }
+
+        return parameterObject -> ParameterBinder.UNBOUND;
+    }
+
+    private static Object parameterValue(Object parameterObject, String key) {
+        Map<String, Object> parameters = parametersOf(parameterObject);
+        if (parameters == null || !parameters.containsKey(key)) {
+            return ParameterBinder.UNBOUND;
+        }
+        return parameters.get(key);
+    }
+
+    private static Map<String, Object> parametersOf(Object parameterObject) {
+        if (parameterObject instanceof SelectStatementProvider) {
+            return ((SelectStatementProvider) parameterObject).getParameters();
+        } else if (parameterObject instanceof UpdateStatementProvider) {
+            return ((UpdateStatementProvider) parameterObject).getParameters();
+        } else if (parameterObject instanceof DeleteStatementProvider) {
+            return ((DeleteStatementProvider) parameterObject).getParameters();
+        } else if (parameterObject instanceof GeneralInsertStatementProvider) {
+            return ((GeneralInsertStatementProvider) parameterObject).getParameters();
+        } else if (parameterObject instanceof InsertSelectStatementProvider) {
+            return ((InsertSelectStatementProvider) parameterObject).getParameters();
+        } else {
+            return null;
+        }
+    }
+
+    private static Object rowValue(InsertStatementProvider<?> insertStatement, String propertyName) {
+        return propertyValue(insertStatement.getRow(), insertStatement.getPropertyAccessorPlan()
+                .accessorsFor(classOf(insertStatement.getRow())), propertyName);
+    }
+
+    private static Object recordValue(MultiRowInsertStatementProvider<?> insertStatement, int index,
+            String propertyName) {
+        List<?> records = insertStatement.getRecords();
+        if (index >= records.size()) {
+            return ParameterBinder.UNBOUND;
+        }
+        Object row = records.get(index);
+        return propertyValue(row, insertStatement.getPropertyAccessorPlan().accessorsFor(classOf(row)),
+                propertyName);
+    }
+
+    private static Class<?> classOf(Object row) {
+        return row == null ? Object.class : row.getClass();
+    }
+
+    private static Object propertyValue(Object row, PropertyAccessors accessors, String propertyName) {
+        if (row == null || !accessors.hasProperty(propertyName)) {
+            return ParameterBinder.UNBOUND;
+        }
+        return accessors.getValue(row, propertyName);
+    }
+
+    @FunctionalInterface
+    interface ParameterBinder {
+        /**
+         * Returned by a binder when the value cannot be read directly from the parameter object.
+         */
+        Object UNBOUND = new Object();
+
+        Object valueOf(Object parameterObject);
+    }
+
+    static class CompiledBoundSql extends BoundSql {
+        private final List<ParameterBinder> binders;
+
+        private CompiledBoundSql(Configuration configuration, String sql, List<ParameterMapping> parameterMappings,
+                Object parameterObject, List<ParameterBinder> binders) {
+            super(configuration, sql, parameterMappings, parameterObject);
+            this.binders = binders;
+        }
+
+        ParameterBinder binderAt(int index) {
+            return binders.get(index);
+        }
+    }
+}
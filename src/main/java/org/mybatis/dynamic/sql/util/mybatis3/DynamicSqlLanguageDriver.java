@@ -0,0 +1,119 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.mybatis3;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.builder.SqlSourceBuilder;
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * A MyBatis language driver for statements rendered by this library.
+ *
+ * <p>MyBatis asks the language driver to parse the SQL returned by a provider method every time the statement is
+ * executed, and the default parameter handler reads each parameter value from the provider with a
+ * {@link org.apache.ibatis.reflection.MetaObject}. This driver parses each distinct SQL string once and caches the
+ * parsed parameter mappings. When a statement is executed, parameter values are read directly from the statement
+ * provider - from the parameter map of select, update, delete, general insert, and insert select statements, and
+ * with the compiled getters of the {@link org.mybatis.dynamic.sql.util.PropertyAccessorPlan} for single row and
+ * multi-row inserts. Any parameter that cannot be read directly is read the same way MyBatis would read it.
+ *
+ * <p>Scripts (SQL starting with {@code <script>}) and SQL with {@code ${}} substitutions are dynamic, so they are
+ * passed to the standard XML language driver and are not cached.
+ *
+ * <p>The driver is registered as the default scripting language before mappers are added to the configuration:
+ *
+ * <pre>
+ *     Configuration config = new Configuration(environment);
+ *     config.setDefaultScriptingLanguage(DynamicSqlLanguageDriver.class);
+ *     config.addMapper(PersonMapper.class);
+ * </pre>
+ *
+ * <p>Alternatively, it can be specified for individual mapper methods with the
+ * {@link org.apache.ibatis.annotations.Lang} annotation.
+ */
+public class DynamicSqlLanguageDriver extends XMLLanguageDriver {
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private final Map<List<Object>, SqlSource> cache;
+
+    public DynamicSqlLanguageDriver() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    public DynamicSqlLanguageDriver(int maximumCacheSize) {
+        if (maximumCacheSize < 1) {
+            throw new IllegalArgumentException("The maximum cache size must be at least 1"); //$NON-NLS-1$
+        }
+        cache = Collections.synchronizedMap(new LinkedHashMap<List<Object>, SqlSource>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, SqlSource> eldest) {
+                return size() > maximumCacheSize;
+            }
+        });
+    }
+
+    @Override
+    public ParameterHandler createParameterHandler(MappedStatement mappedStatement, Object parameterObject,
+            BoundSql boundSql) {
+        if (boundSql instanceof CompiledSqlSource.CompiledBoundSql) {
+            return new DynamicSqlParameterHandler(mappedStatement, parameterObject,
+                    (CompiledSqlSource.CompiledBoundSql) boundSql);
+        }
+        return super.createParameterHandler(mappedStatement, parameterObject, boundSql);
+    }
+
+    @Override
+    public SqlSource createSqlSource(Configuration configuration, String script, Class<?> parameterType) {
+        if (isDynamic(script)) {
+            return super.createSqlSource(configuration, script, parameterType);
+        }
+
+        List<Object> key = Arrays.asList(parameterType, script);
+        SqlSource sqlSource = cache.get(key);
+        if (sqlSource == null) {
+            sqlSource = compile(configuration, script, parameterType);
+            cache.put(key, sqlSource);
+        }
+        return sqlSource;
+    }
+
+    private boolean isDynamic(String script) {
+        return script.startsWith("<script>") || script.contains("${"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private SqlSource compile(Configuration configuration, String script, Class<?> parameterType) {
+        Class<?> type = parameterType == null ? Object.class : parameterType;
+        BoundSql parsed = new SqlSourceBuilder(configuration).parse(script, type, new HashMap<>()).getBoundSql(null);
+        return new CompiledSqlSource(configuration, parsed.getSql(), parsed.getParameterMappings());
+    }
+
+    int cacheSize() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.mybatis3;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.ibatis.executor.ErrorContext;
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeException;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * Sets the parameters of a statement parsed by the {@link DynamicSqlLanguageDriver}. Values are read with the
+ * binders of the parsed statement. A value that a binder cannot read is read the same way as the MyBatis default
+ * parameter handler reads it.
+ */
+class DynamicSqlParameterHandler implements ParameterHandler {
+    private final MappedStatement mappedStatement;
+    private final Object parameterObject;
+    private final CompiledSqlSource.CompiledBoundSql boundSql;
+    private final Configuration configuration;
+    private MetaObject metaObject;
+
+    DynamicSqlParameterHandler(MappedStatement mappedStatement, Object parameterObject,
+            CompiledSqlSource.CompiledBoundSql boundSql) {
+        this.mappedStatement = Objects.requireNonNull(mappedStatement);
+        this.parameterObject = parameterObject;
+        this.boundSql = Objects.requireNonNull(boundSql);
+        configuration = mappedStatement.getConfiguration();
+    }
+
+    @Override
+    public Object getParameterObject() {
+        return parameterObject;
+    }
+
+    @Override
+    public void setParameters(PreparedStatement ps) {
+        ErrorContext.instance().activity("setting parameters") //$NON-NLS-1$
+                .object(mappedStatement.getParameterMap().getId());
+        List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
+        for (int i = 0; i < parameterMappings.size(); i++) {
+            ParameterMapping parameterMapping = parameterMappings.get(i);
+            if (parameterMapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+
+            Object value = boundSql.binderAt(i).valueOf(parameterObject);
+            if (value == CompiledSqlSource.ParameterBinder.UNBOUND) {
+                value = defaultValue(parameterMapping.getProperty());
+            }
+            setParameter(ps, i + 1, parameterMapping, value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setParameter(PreparedStatement ps, int index, ParameterMapping parameterMapping, Object value) {
+        TypeHandler<Object> typeHandler = (TypeHandler<Object>) parameterMapping.getTypeHandler();
+        JdbcType jdbcType = parameterMapping.getJdbcType();
+        if (value == null && jdbcType == null) {
+            jdbcType = configuration.getJdbcTypeForNull();
+        }
+        try {
+            typeHandler.setParameter(ps, index, value, jdbcType);
+        } catch (TypeException | SQLException e) {
+            throw new TypeException("Could not set parameters for mapping: " + parameterMapping //$NON-NLS-1$
+                    + ". Cause: " + e, e); //$NON-NLS-1$
+        }
+    }
+
+    private Object defaultValue(String property) {
+        if (boundSql.hasAdditionalParameter(property)) {
+            return boundSql.getAdditionalParameter(property);
+        } else if (parameterObject == null) {
+            return null;
+        } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+            return parameterObject;
+        } else {
+            if (metaObject == null) {
+                metaObject = configuration.newMetaObject(parameterObject);
+            }
+            return metaObject.getValue(property);
+        }
+    }
+}
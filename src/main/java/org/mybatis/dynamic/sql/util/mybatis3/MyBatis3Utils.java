@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2021 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,25 +15,40 @@
  */
 package org.mybatis.dynamic.sql.util.mybatis3;
 
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.SqlBuilder;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.delete.DeleteDSLCompleter;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.BatchInsertDSL;
 import org.mybatis.dynamic.sql.insert.GeneralInsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertDSL;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertDSL;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertTemplate;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.CountDSL;
 import org.mybatis.dynamic.sql.select.CountDSLCompleter;
@@ -115,6 +130,20 @@ public class MyBatis3Utils {
         return mapper.applyAsInt(insert(row, table, completer));
     }
 
+    /**
+     * Insert a row with a template that was rendered once - for example with
+     * {@link org.mybatis.dynamic.sql.insert.InsertModel#renderTemplate}.
+     *
+     * @param mapper the mapper method that executes a single row insert statement
+     * @param row the row to insert
+     * @param template the rendered insert statement
+     * @param <R> the type of the row
+     * @return the number of rows inserted
+     */
+    public static <R> int insert(ToIntFunction<InsertStatementProvider<R>> mapper, R row, InsertTemplate<R> template) {
+        return mapper.applyAsInt(template.bind(row));
+    }
+
     public static GeneralInsertStatementProvider generalInsert(SqlTable table,
             UnaryOperator<GeneralInsertDSL> completer) {
         return completer.apply(GeneralInsertDSL.insertInto(table))
@@ -145,6 +174,140 @@ public class MyBatis3Utils {
         return mapper.applyAsInt(provider.getInsertStatement(), provider.getRecords());
     }
 
+    public static <R> List<MultiRowInsertStatementProvider<R>> insertMultiple(Collection<R> records, SqlTable table,
+            int maxRowsPerStatement, UnaryOperator<MultiRowInsertDSL<R>> completer) {
+        return completer.apply(SqlBuilder.insertMultiple(records).into(table))
+                .build()
+                .renderInChunks(RenderingStrategies.MYBATIS3, maxRowsPerStatement);
+    }
+
+    /**
+     * Insert the records with one multi-row insert statement for every maxRowsPerStatement records.
+     *
+     * @param mapper the mapper method that executes a multi-row insert statement
+     * @param records the records to insert
+     * @param table the table to insert into
+     * @param maxRowsPerStatement the maximum number of rows in each statement
+     * @param completer the column mappings of the insert statement
+     * @param <R> the type of the records
+     * @return the total number of rows inserted
+     */
+    public static <R> int insertMultiple(ToIntFunction<MultiRowInsertStatementProvider<R>> mapper,
+            Collection<R> records, SqlTable table, int maxRowsPerStatement,
+            UnaryOperator<MultiRowInsertDSL<R>> completer) {
+        return insertMultiple(mapper, insertMultiple(records, table, maxRowsPerStatement, completer));
+    }
+
+    /**
+     * Execute a sequence of multi-row insert statements - for example from
+     * {@link org.mybatis.dynamic.sql.insert.MultiRowInsertModel#renderInChunks} - in order.
+     *
+     * @param mapper the mapper method that executes a multi-row insert statement
+     * @param insertStatements the statements to execute
+     * @param <R> the type of the records
+     * @return the total number of rows inserted
+     */
+    public static <R> int insertMultiple(ToIntFunction<MultiRowInsertStatementProvider<R>> mapper,
+            List<MultiRowInsertStatementProvider<R>> insertStatements) {
+        return insertStatements.stream()
+                .mapToInt(mapper)
+                .sum();
+    }
+
+    public static <R> BatchInsert<R> insertBatch(Collection<R> records, SqlTable table,
+            UnaryOperator<BatchInsertDSL<R>> completer) {
+        return completer.apply(SqlBuilder.insertBatch(records).into(table))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+    }
+
+    public static <R> int insertBatch(SqlSession sqlSession, ToIntFunction<InsertStatementProvider<R>> mapper,
+            Collection<R> records, SqlTable table, int flushInterval, UnaryOperator<BatchInsertDSL<R>> completer) {
+        return insertBatch(sqlSession, mapper, insertBatch(records, table, completer), flushInterval);
+    }
+
+    public static <R> int insertBatch(SqlSession sqlSession, ToIntFunction<InsertStatementProvider<R>> mapper,
+            BatchInsert<R> batchInsert, int flushInterval) {
+        return insertBatch(sqlSession, mapper, batchInsert.insertStatements().stream(), flushInterval);
+    }
+
+    public static <R> int insertBatch(SqlSession sqlSession, ToIntFunction<InsertStatementProvider<R>> mapper,
+            StreamingBatchInsert<R> batchInsert, int flushInterval) {
+        return insertBatch(sqlSession, mapper, batchInsert.insertStatements(), flushInterval);
+    }
+
+    /**
+     * Execute single row insert statements with a session that uses the batch executor
+     * ({@link ExecutorType#BATCH}). The statements are flushed every flushInterval rows, and again after the last
+     * row, so the driver never holds more than flushInterval rows in a batch. The statements are not committed.
+     *
+     * <p>The return value is the sum of the update counts of all flushed batches. A statement that the driver
+     * reports as {@link Statement#SUCCESS_NO_INFO} is counted as one row. If the session does not use the batch
+     * executor, nothing is batched and the return value is the sum of the mapper return values.
+     *
+     * @param sqlSession a session that uses the batch executor
+     * @param mapper the mapper method that executes a single row insert statement - it must belong to the session
+     * @param insertStatements the statements to execute
+     * @param flushInterval the number of rows to execute before flushing the statements
+     * @param <R> the type of the rows
+     * @return the total number of rows inserted
+     */
+    public static <R> int insertBatch(SqlSession sqlSession, ToIntFunction<InsertStatementProvider<R>> mapper,
+            Stream<InsertStatementProvider<R>> insertStatements, int flushInterval) {
+        Objects.requireNonNull(sqlSession);
+        if (flushInterval < 1) {
+            throw new IllegalArgumentException("The flush interval must be at least 1"); //$NON-NLS-1$
+        }
+
+        int rows = 0;
+        int mapperRows = 0;
+        int pending = 0;
+        Iterator<InsertStatementProvider<R>> iterator = insertStatements.iterator();
+        while (iterator.hasNext()) {
+            int result = mapper.applyAsInt(iterator.next());
+            if (result != BatchExecutor.BATCH_UPDATE_RETURN_VALUE) {
+                mapperRows += result;
+            }
+            if (++pending == flushInterval) {
+                rows += flush(sqlSession);
+                pending = 0;
+            }
+        }
+        return rows + flush(sqlSession) + mapperRows;
+    }
+
+    /**
+     * Open a session that uses the batch executor, execute single row insert statements with periodic flushes
+     * as in {@link #insertBatch(SqlSession, ToIntFunction, Stream, int)}, and commit the session. If a statement
+     * fails, the session is closed without a commit.
+     *
+     * @param sqlSessionFactory the factory to open the session with
+     * @param mapper a function that returns the mapper method that executes a single row insert statement in
+     *     the session. For example, {@code s -> s.getMapper(PersonMapper.class)::insert}
+     * @param insertStatements the statements to execute
+     * @param flushInterval the number of rows to execute before flushing the statements
+     * @param <R> the type of the rows
+     * @return the total number of rows inserted
+     */
+    public static <R> int insertBatch(SqlSessionFactory sqlSessionFactory,
+            Function<SqlSession, ToIntFunction<InsertStatementProvider<R>>> mapper,
+            Stream<InsertStatementProvider<R>> insertStatements, int flushInterval) {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            int rows = insertBatch(sqlSession, mapper.apply(sqlSession), insertStatements, flushInterval);
+            sqlSession.commit();
+            return rows;
+        }
+    }
+
+    private static int flush(SqlSession sqlSession) {
+        return sqlSession.flushStatements().stream()
+                .map(BatchResult::getUpdateCounts)
+                .flatMapToInt(Arrays::stream)
+                .map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : count)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
     public static SelectStatementProvider select(BasicColumn[] selectList, SqlTable table,
             SelectDSLCompleter completer) {
         return select(SqlBuilder.select(selectList).from(table), completer);
@@ -177,6 +340,23 @@ public class MyBatis3Utils {
         return mapper.apply(select(start, completer));
     }
 
+    /**
+     * Runs several select statements and concatenates the results. This is used with statements that were split
+     * by {@link SelectModel#renderWithParameterLimit(org.mybatis.dynamic.sql.render.RenderingStrategy, int)}.
+     *
+     * @param mapper the mapper method that runs a single select statement
+     * @param selectStatements the statements to run
+     * @param <R> the type of the result rows
+     * @return the concatenated results
+     */
+    public static <R> List<R> selectList(Function<SelectStatementProvider, List<R>> mapper,
+            List<SelectStatementProvider> selectStatements) {
+        return selectStatements.stream()
+                .map(mapper)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
     public static <R> R selectOne(Function<SelectStatementProvider, R> mapper,
             BasicColumn[] selectList, SqlTable table, SelectDSLCompleter completer) {
         return mapper.apply(select(selectList, table, completer));
@@ -0,0 +1,67 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Thrown when one JDBC batch of a chunked batch insert fails. The batches before the failed batch were executed,
+ * and their update counts are available from {@link #getUpdateCounts()}. The cause is the exception thrown by
+ * the failed batch.
+ */
+public class BatchChunkFailedException extends DataAccessException {
+    private static final long serialVersionUID = 1L;
+
+    private final int chunkIndex;
+    private final long firstRecordIndex;
+    private final int[] updateCounts;
+
+    public BatchChunkFailedException(int chunkIndex, long firstRecordIndex, int[] updateCounts,
+            DataAccessException cause) {
+        super("Batch " + chunkIndex //$NON-NLS-1$
+                + " failed - starting at record " + firstRecordIndex, cause); //$NON-NLS-1$
+        this.chunkIndex = chunkIndex;
+        this.firstRecordIndex = firstRecordIndex;
+        this.updateCounts = updateCounts.clone();
+    }
+
+    /**
+     * Returns the zero based index of the failed batch.
+     *
+     * @return the index of the failed batch
+     */
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+
+    /**
+     * Returns the zero based index of the first record in the failed batch.
+     *
+     * @return the index of the first record in the failed batch
+     */
+    public long getFirstRecordIndex() {
+        return firstRecordIndex;
+    }
+
+    /**
+     * Returns the update counts of the batches that were executed before the failed batch, in record order.
+     *
+     * @return the update counts of the successful batches
+     */
+    public int[] getUpdateCounts() {
+        return updateCounts.clone();
+    }
+}
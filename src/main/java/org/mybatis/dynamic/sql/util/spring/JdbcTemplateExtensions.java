@@ -0,0 +1,219 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.render.PositionalParameterRenderingStrategy;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.PositionalParameters;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.KeyHolder;
+
+/**
+ * Executes statements with a {@link JdbcTemplate} and positional ("?") parameters. Unlike
+ * {@link NamedParameterJdbcTemplateExtensions}, Spring does not have to parse the SQL for named parameters and
+ * substitute placeholders for every statement.
+ *
+ * <p>Statements built by the methods that accept a {@link Buildable} are rendered with a
+ * {@link PositionalParameterRenderingStrategy} that records the JDBC types of the columns, so parameters are bound
+ * with explicit SQL types. The methods that accept rendered statements expect statements rendered with
+ * {@link RenderingStrategies#POSITIONAL_PARAMETER}, and bind parameters without SQL types.
+ *
+ * <p>Multi-row inserts and insert statements whose properties are mapped to more than one column are not supported.
+ */
+public class JdbcTemplateExtensions {
+    private final JdbcTemplate template;
+
+    public JdbcTemplateExtensions(JdbcTemplate template) {
+        this.template = Objects.requireNonNull(template);
+    }
+
+    public long count(Buildable<SelectModel> countStatement) {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        return count(countStatement.build().render(strategy), strategy);
+    }
+
+    public long count(SelectStatementProvider countStatement) {
+        return count(countStatement, RenderingStrategies.POSITIONAL_PARAMETER);
+    }
+
+    private long count(SelectStatementProvider countStatement, PositionalParameterRenderingStrategy strategy) {
+        PositionalParameters parameters = strategy.toPositionalParameters(countStatement.getParameters());
+        return template.queryForObject(countStatement.getSelectStatement(), parameters.arguments(),
+                parameters.sqlTypes(), Long.class);
+    }
+
+    public int delete(Buildable<DeleteModel> deleteStatement) {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        DeleteStatementProvider provider = deleteStatement.build().render(strategy);
+        return update(provider.getDeleteStatement(), strategy.toPositionalParameters(provider.getParameters()));
+    }
+
+    public int delete(DeleteStatementProvider deleteStatement) {
+        return update(deleteStatement.getDeleteStatement(),
+                PositionalParameters.of(deleteStatement.getParameters()));
+    }
+
+    public int generalInsert(Buildable<GeneralInsertModel> insertStatement) {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        GeneralInsertStatementProvider provider = insertStatement.build().render(strategy);
+        return update(provider.getInsertStatement(), strategy.toPositionalParameters(provider.getParameters()));
+    }
+
+    public int generalInsert(GeneralInsertStatementProvider insertStatement) {
+        return update(insertStatement.getInsertStatement(),
+                PositionalParameters.of(insertStatement.getParameters()));
+    }
+
+    public int generalInsert(Buildable<GeneralInsertModel> insertStatement, KeyHolder keyHolder) {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        GeneralInsertStatementProvider provider = insertStatement.build().render(strategy);
+        return update(provider.getInsertStatement(), strategy.toPositionalParameters(provider.getParameters()),
+                keyHolder);
+    }
+
+    public int generalInsert(GeneralInsertStatementProvider insertStatement, KeyHolder keyHolder) {
+        return update(insertStatement.getInsertStatement(),
+                PositionalParameters.of(insertStatement.getParameters()), keyHolder);
+    }
+
+    public <T> int insert(Buildable<InsertModel<T>> insertStatement) {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        InsertStatementProvider<T> provider = insertStatement.build().render(strategy);
+        return update(provider.getInsertStatement(),
+                strategy.toPositionalParameters(provider.getRow(), provider.getPropertyAccessorPlan()));
+    }
+
+    public <T> int insert(InsertStatementProvider<T> insertStatement) {
+        return update(insertStatement.getInsertStatement(), RenderingStrategies.POSITIONAL_PARAMETER
+                .toPositionalParameters(insertStatement.getRow(), insertStatement.getPropertyAccessorPlan()));
+    }
+
+    public <T> int insert(Buildable<InsertModel<T>> insertStatement, KeyHolder keyHolder) {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        InsertStatementProvider<T> provider = insertStatement.build().render(strategy);
+        return update(provider.getInsertStatement(),
+                strategy.toPositionalParameters(provider.getRow(), provider.getPropertyAccessorPlan()), keyHolder);
+    }
+
+    public <T> int insert(InsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
+        return update(insertStatement.getInsertStatement(), RenderingStrategies.POSITIONAL_PARAMETER
+                .toPositionalParameters(insertStatement.getRow(), insertStatement.getPropertyAccessorPlan()),
+                keyHolder);
+    }
+
+    public <T> int[] insertBatch(Buildable<BatchInsertModel<T>> insertStatement) {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        return insertBatch(insertStatement.build().render(strategy), strategy);
+    }
+
+    public <T> int[] insertBatch(BatchInsert<T> insertStatement) {
+        return insertBatch(insertStatement, RenderingStrategies.POSITIONAL_PARAMETER);
+    }
+
+    private <T> int[] insertBatch(BatchInsert<T> insertStatement, PositionalParameterRenderingStrategy strategy) {
+        List<PositionalParameters> batch = insertStatement.getRecords().stream()
+                .map(r -> strategy.toPositionalParameters(r, insertStatement.getPropertyAccessorPlan()))
+                .collect(Collectors.toList());
+        if (batch.isEmpty()) {
+            return new int[0];
+        }
+
+        return template.batchUpdate(insertStatement.getInsertStatementSQL(),
+                batch.stream().map(PositionalParameters::arguments).collect(Collectors.toList()),
+                batch.get(0).sqlTypes());
+    }
+
+    public <T> List<T> selectList(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        return selectList(selectStatement.build().render(strategy), strategy, rowMapper);
+    }
+
+    public <T> List<T> selectList(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return selectList(selectStatement, RenderingStrategies.POSITIONAL_PARAMETER, rowMapper);
+    }
+
+    private <T> List<T> selectList(SelectStatementProvider selectStatement,
+            PositionalParameterRenderingStrategy strategy, RowMapper<T> rowMapper) {
+        PositionalParameters parameters = strategy.toPositionalParameters(selectStatement.getParameters());
+        return template.query(selectStatement.getSelectStatement(), parameters.arguments(), parameters.sqlTypes(),
+                rowMapper);
+    }
+
+    public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        return selectOne(selectStatement.build().render(strategy), strategy, rowMapper);
+    }
+
+    public <T> Optional<T> selectOne(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return selectOne(selectStatement, RenderingStrategies.POSITIONAL_PARAMETER, rowMapper);
+    }
+
+    private <T> Optional<T> selectOne(SelectStatementProvider selectStatement,
+            PositionalParameterRenderingStrategy strategy, RowMapper<T> rowMapper) {
+        PositionalParameters parameters = strategy.toPositionalParameters(selectStatement.getParameters());
+        T result;
+        try {
+            result = template.queryForObject(selectStatement.getSelectStatement(), parameters.arguments(),
+                    parameters.sqlTypes(), rowMapper);
+        } catch (EmptyResultDataAccessException e) {
+            result = null;
+        }
+
+        return Optional.ofNullable(result);
+    }
+
+    public int update(Buildable<UpdateModel> updateStatement) {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        UpdateStatementProvider provider = updateStatement.build().render(strategy);
+        return update(provider.getUpdateStatement(), strategy.toPositionalParameters(provider.getParameters()));
+    }
+
+    public int update(UpdateStatementProvider updateStatement) {
+        return update(updateStatement.getUpdateStatement(),
+                PositionalParameters.of(updateStatement.getParameters()));
+    }
+
+    private int update(String sql, PositionalParameters parameters) {
+        return template.update(sql, parameters.arguments(), parameters.sqlTypes());
+    }
+
+    private int update(String sql, PositionalParameters parameters, KeyHolder keyHolder) {
+        PreparedStatementCreatorFactory factory = new PreparedStatementCreatorFactory(sql, parameters.sqlTypes());
+        factory.setReturnGeneratedKeys(true);
+        return template.update(factory.newPreparedStatementCreator(parameters.arguments()), keyHolder);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2021 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,9 +15,12 @@
  */
 package org.mybatis.dynamic.sql.util.spring;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
@@ -25,23 +28,26 @@ import org.mybatis.dynamic.sql.insert.BatchInsertModel;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.insert.InsertModel;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertModel;
 import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertTemplate;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
 import org.springframework.jdbc.support.KeyHolder;
 
 public class NamedParameterJdbcTemplateExtensions {
@@ -90,7 +96,7 @@ public class NamedParameterJdbcTemplateExtensions {
 
     public <T> int insert(InsertStatementProvider<T> insertStatement) {
         return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement.getRow()));
+                PropertyAccessorSqlParameterSource.of(insertStatement));
     }
 
     public <T> int insert(Buildable<InsertModel<T>> insertStatement, KeyHolder keyHolder) {
@@ -99,7 +105,15 @@ public class NamedParameterJdbcTemplateExtensions {
 
     public <T> int insert(InsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
         return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement.getRow()), keyHolder);
+                PropertyAccessorSqlParameterSource.of(insertStatement), keyHolder);
+    }
+
+    public <T> int insert(InsertTemplate<T> insertTemplate, T row) {
+        return insert(insertTemplate.bind(row));
+    }
+
+    public <T> int insert(InsertTemplate<T> insertTemplate, T row, KeyHolder keyHolder) {
+        return insert(insertTemplate.bind(row), keyHolder);
     }
 
     public <T> int[] insertBatch(Buildable<BatchInsertModel<T>> insertStatement) {
@@ -107,8 +121,53 @@ public class NamedParameterJdbcTemplateExtensions {
     }
 
     public <T> int[] insertBatch(BatchInsert<T> insertStatement) {
-        SqlParameterSource[] batch = SqlParameterSourceUtils.createBatch(insertStatement.getRecords());
-        return template.batchUpdate(insertStatement.getInsertStatementSQL(), batch);
+        return template.batchUpdate(insertStatement.getInsertStatementSQL(),
+                createBatch(insertStatement.getRecords(), insertStatement.getPropertyAccessorPlan()));
+    }
+
+    /**
+     * Executes a batch insert in JDBC batches of at most the batch size. The insert statement is shared by all
+     * batches, and parameter sources are only created for one batch at a time.
+     *
+     * @param insertStatement the rendered insert statement
+     * @param batchSize the maximum number of records in each JDBC batch
+     * @param <T> the type of record to insert
+     * @return the update counts of all batches, in record order
+     * @throws BatchChunkFailedException if a batch fails - the earlier batches have been executed
+     */
+    public <T> int[] insertBatch(BatchInsert<T> insertStatement, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be at least 1"); //$NON-NLS-1$
+        }
+
+        List<T> records = insertStatement.getRecords();
+        ChunkedBatchUpdate<T> batchUpdate = new ChunkedBatchUpdate<>(insertStatement.getInsertStatementSQL(),
+                insertStatement.getPropertyAccessorPlan());
+        for (int start = 0; start < records.size(); start += batchSize) {
+            batchUpdate.execute(records.subList(start, Math.min(records.size(), start + batchSize)));
+        }
+        return batchUpdate.updateCounts();
+    }
+
+    public <T> int[] insertBatch(Buildable<StreamingBatchInsertModel<T>> insertStatement, int batchSize) {
+        return insertBatch(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), batchSize);
+    }
+
+    /**
+     * Executes a streaming batch insert. The records are read and executed in JDBC batches of at most the batch
+     * size, so only one batch of records is held in memory at a time.
+     *
+     * @param insertStatement the rendered insert statement
+     * @param batchSize the maximum number of records in each JDBC batch
+     * @param <T> the type of record to insert
+     * @return the update counts of all batches, in record order
+     * @throws BatchChunkFailedException if a batch fails - the earlier batches have been executed
+     */
+    public <T> int[] insertBatch(StreamingBatchInsert<T> insertStatement, int batchSize) {
+        ChunkedBatchUpdate<T> batchUpdate = new ChunkedBatchUpdate<>(insertStatement.getInsertStatementSQL(),
+                insertStatement.getPropertyAccessorPlan());
+        insertStatement.forEachChunk(batchSize, batchUpdate::execute);
+        return batchUpdate.updateCounts();
     }
 
     public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement) {
@@ -117,7 +176,27 @@ public class NamedParameterJdbcTemplateExtensions {
 
     public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement) {
         return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement));
+                PropertyAccessorSqlParameterSource.of(insertStatement));
+    }
+
+    /**
+     * Insert the records with one multi-row insert statement for every maxRowsPerStatement records. All full
+     * chunks share the same rendered statement.
+     *
+     * @param insertStatement the insert statement
+     * @param maxRowsPerStatement the maximum number of rows in each statement
+     * @param <T> the type of the records
+     * @return the total number of rows inserted
+     */
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, int maxRowsPerStatement) {
+        return insertMultiple(insertStatement.build()
+                .renderInChunks(RenderingStrategies.SPRING_NAMED_PARAMETER, maxRowsPerStatement));
+    }
+
+    public <T> int insertMultiple(List<MultiRowInsertStatementProvider<T>> insertStatements) {
+        return insertStatements.stream()
+                .mapToInt(this::insertMultiple)
+                .sum();
     }
 
     public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, KeyHolder keyHolder) {
@@ -126,7 +205,7 @@ public class NamedParameterJdbcTemplateExtensions {
 
     public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
         return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement), keyHolder);
+                PropertyAccessorSqlParameterSource.of(insertStatement), keyHolder);
     }
 
     public <T> List<T> selectList(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
@@ -137,6 +216,22 @@ public class NamedParameterJdbcTemplateExtensions {
         return template.query(selectStatement.getSelectStatement(), selectStatement.getParameters(), rowMapper);
     }
 
+    /**
+     * Runs several select statements and concatenates the results. This is used with statements that were split
+     * by {@link SelectModel#renderWithParameterLimit(org.mybatis.dynamic.sql.render.RenderingStrategy, int)}.
+     *
+     * @param selectStatements the statements to run
+     * @param rowMapper the row mapper
+     * @param <T> the type of the result rows
+     * @return the concatenated results
+     */
+    public <T> List<T> selectList(List<SelectStatementProvider> selectStatements, RowMapper<T> rowMapper) {
+        return selectStatements.stream()
+                .map(s -> selectList(s, rowMapper))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
     public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
         return selectOne(selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowMapper);
     }
@@ -160,4 +255,38 @@ public class NamedParameterJdbcTemplateExtensions {
     public int update(UpdateStatementProvider updateStatement) {
         return template.update(updateStatement.getUpdateStatement(), updateStatement.getParameters());
     }
+
+    private static SqlParameterSource[] createBatch(List<?> records, PropertyAccessorPlan plan) {
+        return records.stream()
+                .map(r -> PropertyAccessorSqlParameterSource.of(r, plan))
+                .toArray(SqlParameterSource[]::new);
+    }
+
+    /**
+     * Executes one statement for a sequence of record chunks, and keeps the update counts of the chunks in order.
+     */
+    private class ChunkedBatchUpdate<T> {
+        private final String sql;
+        private final PropertyAccessorPlan plan;
+        private final List<int[]> updateCounts = new ArrayList<>();
+        private long recordCount;
+
+        private ChunkedBatchUpdate(String sql, PropertyAccessorPlan plan) {
+            this.sql = sql;
+            this.plan = plan;
+        }
+
+        private void execute(List<T> chunk) {
+            try {
+                updateCounts.add(template.batchUpdate(sql, createBatch(chunk, plan)));
+            } catch (DataAccessException e) {
+                throw new BatchChunkFailedException(updateCounts.size(), recordCount, updateCounts(), e);
+            }
+            recordCount += chunk.size();
+        }
+
+        private int[] updateCounts() {
+            return updateCounts.stream().flatMapToInt(Arrays::stream).toArray();
+        }
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+import org.mybatis.dynamic.sql.util.PropertyAccessors;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+
+/**
+ * A parameter source for rendered insert statements that reads record properties with the compiled getters of a
+ * {@link PropertyAccessorPlan} rather than with a {@link org.springframework.beans.BeanWrapper}.
+ *
+ * <p>The values and SQL types are the same as those of a {@link BeanPropertySqlParameterSource}. Any parameter
+ * that the plan does not cover - for example a nested property - is resolved by a
+ * {@link BeanPropertySqlParameterSource}, which is only created if it is needed.
+ *
+ * <p>Single row and batch inserts bind parameters by property name - for example {@code :firstName}. Multi-row
+ * inserts bind parameters by record index and property name - for example {@code :records[2].firstName}.
+ */
+public class PropertyAccessorSqlParameterSource extends AbstractSqlParameterSource {
+    private static final String RECORDS_PREFIX = "records["; //$NON-NLS-1$
+    private static final Parameter UNRESOLVED = new Parameter(null, null, null);
+
+    private final Object fallbackRoot;
+    private final List<?> records;
+    private final boolean multiRow;
+    private final PropertyAccessorPlan plan;
+    private final Map<String, Parameter> parameters = new HashMap<>();
+    private Class<?> accessorsClass;
+    private PropertyAccessors accessors;
+    private BeanPropertySqlParameterSource fallback;
+
+    private PropertyAccessorSqlParameterSource(Object fallbackRoot, List<?> records, boolean multiRow,
+            PropertyAccessorPlan plan) {
+        this.fallbackRoot = Objects.requireNonNull(fallbackRoot);
+        this.records = Objects.requireNonNull(records);
+        this.multiRow = multiRow;
+        this.plan = Objects.requireNonNull(plan);
+    }
+
+    @Override
+    public boolean hasValue(String paramName) {
+        return resolve(paramName) != null || fallback().hasValue(paramName);
+    }
+
+    @Override
+    public Object getValue(String paramName) {
+        Parameter parameter = resolve(paramName);
+        return parameter == null ? fallback().getValue(paramName)
+                : parameter.accessors.getValue(parameter.row, parameter.propertyName);
+    }
+
+    @Override
+    public int getSqlType(String paramName) {
+        int sqlType = super.getSqlType(paramName);
+        if (sqlType != TYPE_UNKNOWN) {
+            return sqlType;
+        }
+
+        Parameter parameter = resolve(paramName);
+        return parameter == null ? fallback().getSqlType(paramName)
+                : StatementCreatorUtils.javaTypeToSqlParameterType(
+                        parameter.accessors.getPropertyType(parameter.propertyName));
+    }
+
+    @Override
+    public String[] getParameterNames() {
+        return multiRow ? fallback().getParameterNames() : plan.propertyNames().toArray(new String[0]);
+    }
+
+    /**
+     * Spring asks for the value and the SQL type of every parameter, so each parameter name is parsed only once.
+     */
+    private Parameter resolve(String paramName) {
+        Parameter parameter = parameters.computeIfAbsent(paramName, this::parse);
+        return parameter == UNRESOLVED ? null : parameter;
+    }
+
+    private Parameter parse(String paramName) {
+        int index = 0;
+        String propertyName = paramName;
+        if (multiRow) {
+            int end = paramName.indexOf("].", RECORDS_PREFIX.length()); //$NON-NLS-1$
+            if (!paramName.startsWith(RECORDS_PREFIX) || end < 0) {
+                return UNRESOLVED;
+            }
+            try {
+                index = Integer.parseInt(paramName.substring(RECORDS_PREFIX.length(), end));
+            } catch (NumberFormatException e) {
+                return UNRESOLVED;
+            }
+            propertyName = paramName.substring(end + 2);
+        }
+
+        if (index < 0 || index >= records.size() || records.get(index) == null) {
+            return UNRESOLVED;
+        }
+
+        Object row = records.get(index);
+        PropertyAccessors rowAccessors = accessorsFor(row.getClass());
+        return rowAccessors.hasProperty(propertyName) ? new Parameter(row, rowAccessors, propertyName)
+                : UNRESOLVED;
+    }
+
+    private PropertyAccessors accessorsFor(Class<?> rowClass) {
+        // the records of a statement almost always have the same class, so the last accessors are kept
+        if (rowClass != accessorsClass) {
+            accessors = plan.accessorsFor(rowClass);
+            accessorsClass = rowClass;
+        }
+        return accessors;
+    }
+
+    private BeanPropertySqlParameterSource fallback() {
+        if (fallback == null) {
+            fallback = new BeanPropertySqlParameterSource(fallbackRoot);
+        }
+        return fallback;
+    }
+
+    private static class Parameter {
+        private final Object row;
+        private final PropertyAccessors accessors;
+        private final String propertyName;
+
+        private Parameter(Object row, PropertyAccessors accessors, String propertyName) {
+            this.row = row;
+            this.accessors = accessors;
+            this.propertyName = propertyName;
+        }
+    }
+
+    /**
+     * Creates a parameter source for one row of a single row or batch insert.
+     *
+     * @param row the row to insert
+     * @param plan the properties bound by the insert statement
+     * @return the parameter source
+     */
+    public static PropertyAccessorSqlParameterSource of(Object row, PropertyAccessorPlan plan) {
+        return new PropertyAccessorSqlParameterSource(row, Collections.singletonList(row), false, plan);
+    }
+
+    public static PropertyAccessorSqlParameterSource of(InsertStatementProvider<?> insertStatement) {
+        return of(insertStatement.getRow(), insertStatement.getPropertyAccessorPlan());
+    }
+
+    public static PropertyAccessorSqlParameterSource of(MultiRowInsertStatementProvider<?> insertStatement) {
+        return new PropertyAccessorSqlParameterSource(insertStatement, insertStatement.getRecords(), true,
+                insertStatement.getPropertyAccessorPlan());
+    }
+}
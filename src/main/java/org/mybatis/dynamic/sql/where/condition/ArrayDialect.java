@@ -0,0 +1,51 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
+
+/**
+ * Templates for "in" conditions that bind all values as a single array parameter.
+ */
+public enum ArrayDialect {
+    /**
+     * Renders {@code column = any(?)} and {@code column <> all(?)}. This is the PostgreSQL syntax.
+     */
+    POSTGRESQL("= any(", "<> all(", ")"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+    /**
+     * Renders {@code column in (unnest(?))} and {@code column not in (unnest(?))}. This is the HSQLDB syntax.
+     */
+    HSQLDB("in (unnest(", "not in (unnest(", "))"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+    private final String inPrefix;
+    private final String notInPrefix;
+    private final String suffix;
+
+    ArrayDialect(String inPrefix, String notInPrefix, String suffix) {
+        this.inPrefix = inPrefix;
+        this.notInPrefix = notInPrefix;
+        this.suffix = suffix;
+    }
+
+    public String renderIn(String columnName, String placeholder) {
+        return spaceAfter(columnName) + inPrefix + placeholder + suffix;
+    }
+
+    public String renderNotIn(String columnName, String placeholder) {
+        return spaceAfter(columnName) + notInPrefix + placeholder + suffix;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.Callback;
+
+/**
+ * An "in" condition that binds all values as a single array parameter. The rendered statement is the same for
+ * any number of values.
+ *
+ * @param <T> the Java type of the column
+ */
+public class IsInArray<T> extends AbstractListValueCondition<T> {
+    private static final IsInArray<?> EMPTY = new IsInArray<>(Collections.emptyList());
+
+    private final ArrayDialect dialect;
+
+    public static <T> IsInArray<T> empty() {
+        @SuppressWarnings("unchecked")
+        IsInArray<T> t = (IsInArray<T>) EMPTY;
+        return t;
+    }
+
+    private <S> IsInArray<S> emptyWithCallBack() {
+        return new IsInArray<>(Collections.emptyList(), emptyCallback, dialect);
+    }
+
+    protected IsInArray(Collection<T> values) {
+        this(values, () -> { }, ArrayDialect.POSTGRESQL);
+    }
+
+    protected IsInArray(Collection<T> values, Callback emptyCallback, ArrayDialect dialect) {
+        super(values, emptyCallback);
+        this.dialect = Objects.requireNonNull(dialect);
+    }
+
+    @Override
+    public boolean bindsValuesAsArray() {
+        return true;
+    }
+
+    @Override
+    public String renderCondition(String columnName, Stream<String> placeholders) {
+        return dialect.renderIn(columnName, placeholders.collect(Collectors.joining()));
+    }
+
+    public IsInArray<T> withDialect(ArrayDialect dialect) {
+        return new IsInArray<>(values, emptyCallback, dialect);
+    }
+
+    @Override
+    public IsInArray<T> withListEmptyCallback(Callback callback) {
+        return new IsInArray<>(values, callback, dialect);
+    }
+
+    @Override
+    public IsInArray<T> filter(Predicate<? super T> predicate) {
+        return filterSupport(predicate, this::newCondition, this, this::emptyWithCallBack);
+    }
+
+    /**
+     * If renderable, apply the mapping to each value in the list return a new condition with the mapped values.
+     *     Else return a condition that will not render (this).
+     *
+     * @param mapper a mapping function to apply to the values, if renderable
+     * @param <R> type of the new condition
+     * @return a new condition with mapped values if renderable, otherwise a condition
+     *     that will not render.
+     */
+    public <R> IsInArray<R> map(Function<? super T, ? extends R> mapper) {
+        BiFunction<Collection<R>, Callback, IsInArray<R>> constructor = this::newCondition;
+        return mapSupport(mapper, constructor, this::emptyWithCallBack);
+    }
+
+    private <S> IsInArray<S> newCondition(Collection<S> values, Callback emptyCallback) {
+        return new IsInArray<>(values, emptyCallback, dialect);
+    }
+
+    @SafeVarargs
+    public static <T> IsInArray<T> of(T... values) {
+        return of(Arrays.asList(values));
+    }
+
+    public static <T> IsInArray<T> of(Collection<T> values) {
+        return new IsInArray<>(values);
+    }
+}
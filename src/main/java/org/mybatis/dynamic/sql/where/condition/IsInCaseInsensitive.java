@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.mybatis.dynamic.sql.where.condition;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -58,6 +59,42 @@ public class IsInCaseInsensitive extends AbstractListValueCondition<String> {
         return new IsInCaseInsensitive(values, callback);
     }
 
+    /**
+     * If renderable, remove duplicate values from the list and return a new condition with the distinct values in
+     *     their original order. Else return a condition that will not render (this). Duplicate values do not
+     *     change the result of the condition, but each one adds a parameter to the statement.
+     *
+     * @return a new condition with distinct values if renderable, otherwise a condition that will not render.
+     */
+    public IsInCaseInsensitive distinct() {
+        return distinctSupport(IsInCaseInsensitive::new, this, this::emptyWithCallback);
+    }
+
+    /**
+     * If renderable, remove duplicate values from the list and return a new condition with the distinct values
+     *     sorted by the comparator. Else return a condition that will not render (this). Values the comparator
+     *     considers equal are duplicates. Sorted values produce the same parameters for the same set of values,
+     *     whatever order they were supplied in.
+     *
+     * @param comparator the comparator used to sort the values
+     * @return a new condition with sorted distinct values if renderable, otherwise a condition that will not render.
+     */
+    public IsInCaseInsensitive sortedDistinct(Comparator<? super String> comparator) {
+        return sortedDistinctSupport(comparator, IsInCaseInsensitive::new, this);
+    }
+
+    /**
+     * Pads the value list to one of the sizes calculated by the padding, so that lists of different sizes render the
+     * same statement. The list is padded by repeating the last value. Padding should be applied after any filter or
+     * map operations.
+     *
+     * @param padding the padding to apply
+     * @return a new condition with padded values, or this condition if no padding is needed
+     */
+    public IsInCaseInsensitive withListPadding(ListPadding padding) {
+        return paddingSupport(padding, IsInCaseInsensitive::new, this);
+    }
+
     @Override
     public IsInCaseInsensitive filter(Predicate<? super String> predicate) {
         return filterSupport(predicate, IsInCaseInsensitive::new, this, this::emptyWithCallback);
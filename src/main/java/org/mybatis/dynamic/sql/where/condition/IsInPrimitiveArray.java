@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import java.util.List;
+
+import org.mybatis.dynamic.sql.util.PrimitiveArrayLists;
+
+/**
+ * An "in" condition backed by a primitive long or int array. Filtering or mapping the condition returns a
+ * regular {@link IsIn} condition.
+ *
+ * @param <T> the boxed type of the array elements
+ */
+public class IsInPrimitiveArray<T> extends IsIn<T> implements PrimitiveArrayCondition<T> {
+    private final List<T> arrayValues;
+
+    private IsInPrimitiveArray(List<T> arrayValues) {
+        super(arrayValues);
+        this.arrayValues = arrayValues;
+    }
+
+    @Override
+    public int size() {
+        return arrayValues.size();
+    }
+
+    @Override
+    public T value(int index) {
+        return arrayValues.get(index);
+    }
+
+    @Override
+    public String operator() {
+        return "in"; //$NON-NLS-1$
+    }
+
+    public static IsInPrimitiveArray<Long> of(long[] values) {
+        return new IsInPrimitiveArray<>(PrimitiveArrayLists.of(values));
+    }
+
+    public static IsInPrimitiveArray<Integer> of(int[] values) {
+        return new IsInPrimitiveArray<>(PrimitiveArrayLists.of(values));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.Callback;
+
+/**
+ * A "not in" condition that binds all values as a single array parameter. The rendered statement is the same for
+ * any number of values.
+ *
+ * @param <T> the Java type of the column
+ */
+public class IsNotInArray<T> extends AbstractListValueCondition<T> {
+    private static final IsNotInArray<?> EMPTY = new IsNotInArray<>(Collections.emptyList());
+
+    private final ArrayDialect dialect;
+
+    public static <T> IsNotInArray<T> empty() {
+        @SuppressWarnings("unchecked")
+        IsNotInArray<T> t = (IsNotInArray<T>) EMPTY;
+        return t;
+    }
+
+    private <S> IsNotInArray<S> emptyWithCallBack() {
+        return new IsNotInArray<>(Collections.emptyList(), emptyCallback, dialect);
+    }
+
+    protected IsNotInArray(Collection<T> values) {
+        this(values, () -> { }, ArrayDialect.POSTGRESQL);
+    }
+
+    protected IsNotInArray(Collection<T> values, Callback emptyCallback, ArrayDialect dialect) {
+        super(values, emptyCallback);
+        this.dialect = Objects.requireNonNull(dialect);
+    }
+
+    @Override
+    public boolean bindsValuesAsArray() {
+        return true;
+    }
+
+    @Override
+    public String renderCondition(String columnName, Stream<String> placeholders) {
+        return dialect.renderNotIn(columnName, placeholders.collect(Collectors.joining()));
+    }
+
+    public IsNotInArray<T> withDialect(ArrayDialect dialect) {
+        return new IsNotInArray<>(values, emptyCallback, dialect);
+    }
+
+    @Override
+    public IsNotInArray<T> withListEmptyCallback(Callback callback) {
+        return new IsNotInArray<>(values, callback, dialect);
+    }
+
+    @Override
+    public IsNotInArray<T> filter(Predicate<? super T> predicate) {
+        return filterSupport(predicate, this::newCondition, this, this::emptyWithCallBack);
+    }
+
+    /**
+     * If renderable, apply the mapping to each value in the list return a new condition with the mapped values.
+     *     Else return a condition that will not render (this).
+     *
+     * @param mapper a mapping function to apply to the values, if renderable
+     * @param <R> type of the new condition
+     * @return a new condition with mapped values if renderable, otherwise a condition
+     *     that will not render.
+     */
+    public <R> IsNotInArray<R> map(Function<? super T, ? extends R> mapper) {
+        BiFunction<Collection<R>, Callback, IsNotInArray<R>> constructor = this::newCondition;
+        return mapSupport(mapper, constructor, this::emptyWithCallBack);
+    }
+
+    private <S> IsNotInArray<S> newCondition(Collection<S> values, Callback emptyCallback) {
+        return new IsNotInArray<>(values, emptyCallback, dialect);
+    }
+
+    @SafeVarargs
+    public static <T> IsNotInArray<T> of(T... values) {
+        return of(Arrays.asList(values));
+    }
+
+    public static <T> IsNotInArray<T> of(Collection<T> values) {
+        return new IsNotInArray<>(values);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Calculates padded sizes for the value lists of "in" and "not in" conditions. An "in" condition renders one
+ * placeholder per value, so every list size produces a different statement. Padding the list to one of a small
+ * number of bucket sizes bounds the number of distinct statements, which helps statement and plan caches in the
+ * driver and database.
+ *
+ * <p>Lists are padded by repeating the last value, which does not change the result of an "in" or "not in"
+ * condition. Empty lists are never padded.
+ */
+public class ListPadding {
+    private static final ListPadding POWERS_OF_TWO = new ListPadding(new int[0]);
+
+    private final int[] buckets; // sorted, empty means powers of two
+
+    private ListPadding(int[] buckets) {
+        this.buckets = buckets;
+    }
+
+    /**
+     * Calculates the padded size of a list.
+     *
+     * @param size the size of the list
+     * @return the padded size - never less than the size of the list
+     */
+    public int paddedSize(int size) {
+        if (size <= 1) {
+            return size;
+        }
+
+        if (buckets.length == 0) {
+            int highestOneBit = Integer.highestOneBit(size);
+            return highestOneBit == size || highestOneBit == 1 << 30 ? size : highestOneBit << 1;
+        }
+
+        for (int bucket : buckets) {
+            if (bucket >= size) {
+                return bucket;
+            }
+        }
+
+        // larger than every bucket - pad to a multiple of the largest bucket
+        int largest = buckets[buckets.length - 1];
+        long padded = ((long) size + largest - 1) / largest * largest;
+        return padded > Integer.MAX_VALUE ? size : (int) padded;
+    }
+
+    /**
+     * Pads a list of values by repeating the last value.
+     *
+     * @param values the values to pad
+     * @param <T> the type of the values
+     * @return the original collection if no padding is needed, else a new list with the padded values
+     */
+    public <T> Collection<T> pad(Collection<T> values) {
+        int paddedSize = paddedSize(values.size());
+        if (paddedSize == values.size()) {
+            return values;
+        }
+
+        List<T> paddedValues = new ArrayList<>(paddedSize);
+        paddedValues.addAll(values);
+        T lastValue = paddedValues.get(paddedValues.size() - 1);
+        while (paddedValues.size() < paddedSize) {
+            paddedValues.add(lastValue);
+        }
+        return paddedValues;
+    }
+
+    /**
+     * Pads lists to the next power of two.
+     *
+     * @return the padding
+     */
+    public static ListPadding powersOfTwo() {
+        return POWERS_OF_TWO;
+    }
+
+    /**
+     * Pads lists to the smallest bucket that is at least as large as the list. Lists larger than every bucket are
+     * padded to a multiple of the largest bucket.
+     *
+     * @param buckets the bucket sizes - must be positive
+     * @return the padding
+     */
+    public static ListPadding ofBuckets(int... buckets) {
+        int[] sortedBuckets = Arrays.stream(buckets).sorted().distinct().toArray();
+        if (sortedBuckets.length == 0 || sortedBuckets[0] < 1) {
+            throw new IllegalArgumentException("Bucket sizes must be positive"); //$NON-NLS-1$
+        }
+        return new ListPadding(sortedBuckets);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+/**
+ * An "in" or "not in" condition whose values are held in a primitive array. Renderers that write SQL to a buffer
+ * render these conditions with an indexed loop over the array - each value is boxed once, when it is added to the
+ * parameter map, and no stream or intermediate list of placeholders is created. Other renderers see an ordinary
+ * list condition.
+ *
+ * @param <T> the boxed type of the array elements
+ */
+public interface PrimitiveArrayCondition<T> {
+    int size();
+
+    T value(int index);
+
+    /**
+     * Returns the operator that precedes the list of placeholders.
+     *
+     * @return "in" or "not in"
+     */
+    String operator();
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -20,20 +20,21 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
 import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
 import org.mybatis.dynamic.sql.CriteriaGroup;
 import org.mybatis.dynamic.sql.ExistsCriterion;
-import org.mybatis.dynamic.sql.ExistsPredicate;
 import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.RowValueInCriterion;
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlBuffer;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
-import org.mybatis.dynamic.sql.select.render.SelectRenderer;
-import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.util.FragmentCollector;
 
@@ -42,9 +43,8 @@ import org.mybatis.dynamic.sql.util.FragmentCollector;
  * may or may not be a candidate for rendering. For example, "isEqualWhenPresent" will not render when the value
  * is null. It is also complex because SqlCriterion may or may not include sub-criteria.
  *
- * <p>Rendering is a recursive process. The renderer will recurse into each sub-criteria - which may also
- * contain further sub-criteria - until all possible sub-criteria are rendered into a single fragment. So, for example,
- * the fragment may end up looking like:
+ * <p>The renderer will walk into each sub-criteria - which may also contain further sub-criteria - until all
+ * possible sub-criteria are rendered into a single fragment. So, for example, the fragment may end up looking like:
  *
  * <pre>
  *     col1 = ? and (col2 = ? or (col3 = ? and col4 = ?))
@@ -53,57 +53,54 @@ import org.mybatis.dynamic.sql.util.FragmentCollector;
  * <p>It is also possible that the end result will be empty if all criteria and sub-criteria are not valid for
  * rendering.
  *
+ * <p>The criteria are written by a {@link CriterionWriter}, which walks the criteria without recursion. So
+ * rendering time is linear in the number of criteria, and there is no limit on the depth of nesting.
+ *
  * @author Jeff Butler
  */
 public class CriterionRenderer implements SqlCriterionVisitor<Optional<RenderedCriterion>> {
-    private final AtomicInteger sequence;
-    private final RenderingStrategy renderingStrategy;
-    private final TableAliasCalculator tableAliasCalculator;
-    private final String parameterName;
+    private final RenderingContext renderingContext;
 
     private CriterionRenderer(Builder builder) {
-        sequence = Objects.requireNonNull(builder.sequence);
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
-        parameterName = builder.parameterName;
+        if (builder.renderingContext == null) {
+            renderingContext = RenderingContext.withRenderingStrategy(builder.renderingStrategy)
+                    .withSequence(Objects.requireNonNull(builder.sequence))
+                    .withTableAliasCalculator(Objects.requireNonNull(builder.tableAliasCalculator))
+                    .withParameterName(builder.parameterName)
+                    .build();
+        } else {
+            renderingContext = builder.renderingContext;
+        }
     }
 
     @Override
     public <T> Optional<RenderedCriterion> visit(ColumnAndConditionCriterion<T> criterion) {
-        Optional<FragmentAndParameters> initialCriterion = renderColumnAndCondition(criterion);
-        List<RenderedCriterion> renderedSubCriteria = renderSubCriteria(criterion.subCriteria());
-
-        return initialCriterion.map(fp -> calculateRenderedCriterion(fp, renderedSubCriteria, this::calculateFragment))
-                .orElseGet(() -> calculateRenderedCriterion(renderedSubCriteria, this::calculateFragment));
+        return renderCriterion(criterion);
     }
 
     @Override
     public Optional<RenderedCriterion> visit(ExistsCriterion criterion) {
-        FragmentAndParameters initialCriterion = renderExists(criterion);
-        List<RenderedCriterion> renderedSubCriteria = renderSubCriteria(criterion.subCriteria());
-
-        return calculateRenderedCriterion(initialCriterion, renderedSubCriteria, this::calculateFragment);
+        return renderCriterion(criterion);
     }
 
     @Override
     public Optional<RenderedCriterion> visit(CriteriaGroup criterion) {
-        return renderCriteriaGroup(criterion, this::calculateFragment);
+        return renderCriterion(criterion);
     }
 
     @Override
     public Optional<RenderedCriterion> visit(NotCriterion criterion) {
-        return renderCriteriaGroup(criterion, this::calculateNotFragment);
+        return renderCriterion(criterion);
     }
 
-    private Optional<RenderedCriterion> renderCriteriaGroup(CriteriaGroup criterion,
-                                                            Function<FragmentCollector, String> fragmentCalculator) {
-        return criterion.initialCriterion().map(ic -> render(ic, criterion.subCriteria(), fragmentCalculator))
-                .orElseGet(() -> render(criterion.subCriteria(), fragmentCalculator));
+    @Override
+    public Optional<RenderedCriterion> visit(RowValueInCriterion criterion) {
+        return renderCriterion(criterion);
     }
 
     public Optional<RenderedCriterion> render(SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria,
                                               Function<FragmentCollector, String> fragmentCalculator) {
-        Optional<FragmentAndParameters> fragmentAndParameters = initialCriterion.accept(this)
+        Optional<FragmentAndParameters> fragmentAndParameters = renderCriterion(initialCriterion)
                 .map(RenderedCriterion::fragmentAndParameters);
         List<RenderedCriterion> renderedSubCriteria = renderSubCriteria(subCriteria);
 
@@ -117,37 +114,44 @@ public class CriterionRenderer implements SqlCriterionVisitor<Optional<RenderedC
         return calculateRenderedCriterion(renderedSubCriteria, fragmentCalculator);
     }
 
-    private <T> Optional<FragmentAndParameters> renderColumnAndCondition(ColumnAndConditionCriterion<T> criterion) {
-        if (criterion.condition().shouldRender()) {
-            return Optional.of(renderCondition(criterion));
-        } else {
-            criterion.condition().renderingSkipped();
-            return Optional.empty();
-        }
+    /**
+     * Writes an initial criterion and a list of sub criteria to the buffer. The rendered criteria are separated
+     * by spaces and are not enclosed in parentheses, so this is suitable for rendering a where clause.
+     *
+     * @param initialCriterion the initial criterion
+     * @param subCriteria the sub criteria
+     * @param buffer the buffer to write to
+     * @return true if anything was rendered
+     */
+    public boolean renderTo(SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria, SqlBuffer buffer) {
+        return writerFor(buffer).writeFragments(initialCriterion, subCriteria);
+    }
+
+    public boolean renderTo(List<AndOrCriteriaGroup> subCriteria, SqlBuffer buffer) {
+        return writerFor(buffer).writeFragments(subCriteria);
     }
 
-    private FragmentAndParameters renderExists(ExistsCriterion criterion) {
-        ExistsPredicate existsPredicate = criterion.existsPredicate();
-
-        SelectStatementProvider selectStatement = SelectRenderer
-                .withSelectModel(existsPredicate.selectModelBuilder().build())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .withParentTableAliasCalculator(tableAliasCalculator)
-                .build()
-                .render();
-
-        String fragment = existsPredicate.operator()
-                + " (" //$NON-NLS-1$
-                + selectStatement.getSelectStatement()
-                + ")"; //$NON-NLS-1$
-
-        return FragmentAndParameters
-                .withFragment(fragment)
-                .withParameters(selectStatement.getParameters())
+    private CriterionWriter writerFor(SqlBuffer buffer) {
+        return new CriterionWriter.Builder()
+                .withRenderingContext(renderingContext)
+                .withBuffer(buffer)
                 .build();
     }
 
+    private Optional<RenderedCriterion> renderCriterion(SqlCriterion criterion) {
+        return renderCriterion(writer -> writer.write(criterion));
+    }
+
+    private Optional<RenderedCriterion> renderCriterion(Predicate<CriterionWriter> renderer) {
+        SqlBuffer buffer = new SqlBuffer();
+        if (renderer.test(writerFor(buffer))) {
+            return Optional.of(new RenderedCriterion.Builder()
+                    .withFragmentAndParameters(buffer.toFragmentAndParameters())
+                    .build());
+        }
+        return Optional.empty();
+    }
+
     private List<RenderedCriterion> renderSubCriteria(List<AndOrCriteriaGroup> subCriteria) {
         return subCriteria.stream().map(this::renderAndOrCriteriaGroup)
                 .filter(Optional::isPresent)
@@ -156,8 +160,7 @@ public class CriterionRenderer implements SqlCriterionVisitor<Optional<RenderedC
     }
 
     private Optional<RenderedCriterion> renderAndOrCriteriaGroup(AndOrCriteriaGroup criterion) {
-        return criterion.initialCriterion().map(ic -> render(ic, criterion.subCriteria(), this::calculateFragment))
-                .orElseGet(() -> render(criterion.subCriteria(), this::calculateFragment))
+        return renderCriterion(writer -> writer.write(criterion))
                 .map(rc -> rc.withConnector(criterion.connector()));
     }
 
@@ -184,16 +187,6 @@ public class CriterionRenderer implements SqlCriterionVisitor<Optional<RenderedC
         return collectSqlFragments(renderedSubCriteria).map(fc -> calculateRenderedCriterion(fc, fragmentCalculator));
     }
 
-    private <T> FragmentAndParameters renderCondition(ColumnAndConditionCriterion<T> criterion) {
-        WhereConditionVisitor<T> visitor = WhereConditionVisitor.withColumn(criterion.column())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .withTableAliasCalculator(tableAliasCalculator)
-                .withParameterName(parameterName)
-                .build();
-        return criterion.condition().accept(visitor);
-    }
-
     /**
      * This method encapsulates the logic of building a collection of fragments from an initial condition
      * and a list of rendered sub criteria. In this overload we know there is an initial condition
@@ -241,25 +234,8 @@ public class CriterionRenderer implements SqlCriterionVisitor<Optional<RenderedC
         return Optional.of(fc);
     }
 
-    private String calculateFragment(FragmentCollector collector) {
-        if (collector.hasMultipleFragments()) {
-            return collector.fragments()
-                    .collect(Collectors.joining(" ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-        } else {
-            return collector.fragments().findFirst().orElse(""); //$NON-NLS-1$
-        }
-    }
-
-    private String calculateNotFragment(FragmentCollector collector) {
-        if (collector.hasMultipleFragments()) {
-            return collector.fragments()
-                    .collect(Collectors.joining(" ", "not (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-        } else {
-            return collector.fragments().findFirst().map(s -> "not " + s).orElse(""); //$NON-NLS-1$ //$NON-NLS-2$
-        }
-    }
-
     public static class Builder {
+        private RenderingContext renderingContext;
         private AtomicInteger sequence;
         private RenderingStrategy renderingStrategy;
         private TableAliasCalculator tableAliasCalculator;
@@ -285,6 +261,18 @@ public class CriterionRenderer implements SqlCriterionVisitor<Optional<RenderedC
             return this;
         }
 
+        /**
+         * Sets the rendering context. If set, the sequence, rendering strategy, table alias calculator, and
+         * parameter name are taken from the context and the other builder methods are ignored.
+         *
+         * @param renderingContext the rendering context
+         * @return this builder
+         */
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
         public CriterionRenderer build() {
             return new CriterionRenderer(this);
         }
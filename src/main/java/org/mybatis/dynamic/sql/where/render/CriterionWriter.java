@@ -0,0 +1,480 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.ExistsPredicate;
+import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.RowValueInCriterion;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.SqlBuffer;
+import org.mybatis.dynamic.sql.select.render.SelectRenderer;
+
+/**
+ * Writes criteria into a {@link SqlBuffer} with the same rules as {@link CriterionRenderer}: the connector of the
+ * first rendered sub criterion in a group is dropped, and a group is enclosed in parentheses only if more than one
+ * of its criteria render.
+ *
+ * <p>The criteria tree is walked twice with an explicit stack, so there is no limit on the depth of nesting. The
+ * first walk calculates how many fragments each group will render (conditions are asked if they should render
+ * exactly once). The second walk writes the SQL from left to right. Both walks touch each criterion once, so
+ * the time and memory needed are linear in the number of criteria and parameters.
+ */
+class CriterionWriter {
+    private final RenderingContext renderingContext;
+    private final SqlBuffer buffer;
+    private final Map<Object, CriteriaNode> nodes = new IdentityHashMap<>();
+    private final NodeFactory nodeFactory = new NodeFactory();
+
+    private CriterionWriter(Builder builder) {
+        renderingContext = Objects.requireNonNull(builder.renderingContext);
+        buffer = Objects.requireNonNull(builder.buffer);
+    }
+
+    boolean write(SqlCriterion criterion) {
+        return write(nodeFor(criterion));
+    }
+
+    boolean write(AndOrCriteriaGroup criterion) {
+        return write(nodeFor(criterion));
+    }
+
+    /**
+     * Writes the criteria separated by spaces, without enclosing parentheses - as in a where clause.
+     *
+     * @param initialCriterion the initial criterion
+     * @param subCriteria the sub criteria
+     * @return true if anything was written
+     */
+    boolean writeFragments(SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria) {
+        return write(CriteriaNode.unenclosed(initialCriterion, subCriteria));
+    }
+
+    boolean writeFragments(List<AndOrCriteriaGroup> subCriteria) {
+        return write(CriteriaNode.unenclosed(null, subCriteria));
+    }
+
+    private boolean write(CriteriaNode root) {
+        countFragments(root);
+        writeFragments(root);
+        return root.fragmentCount > 0;
+    }
+
+    private void countFragments(CriteriaNode root) {
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(startCounting(root));
+        while (!stack.isEmpty()) {
+            Frame frame = stack.peek();
+            if (frame.hasNextChild()) {
+                countChild(stack, frame, nextChild(frame));
+            } else {
+                stack.pop();
+                frame.node.counted = true;
+                addToParent(stack, frame.node);
+            }
+        }
+    }
+
+    private void countChild(Deque<Frame> stack, Frame frame, CriteriaNode child) {
+        if (child.counted) {
+            // the same criterion object is used more than once in the tree
+            frame.node.addChild(child);
+        } else {
+            stack.push(startCounting(child));
+        }
+    }
+
+    private Frame startCounting(CriteriaNode node) {
+        node.leafRenders = node.leaf != null && node.leaf.shouldRender();
+        node.fragmentCount = node.leafRenders ? 1 : 0;
+        return new Frame(node);
+    }
+
+    private void addToParent(Deque<Frame> stack, CriteriaNode node) {
+        if (!stack.isEmpty()) {
+            stack.peek().node.addChild(node);
+        }
+    }
+
+    private void writeFragments(CriteriaNode root) {
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(startWriting(root));
+        while (!stack.isEmpty()) {
+            Frame frame = stack.peek();
+            if (frame.hasNextChild()) {
+                CriteriaNode child = nextChild(frame);
+                writeConnector(frame, child);
+                stack.push(startWriting(child));
+            } else {
+                stack.pop();
+                finishWriting(frame.node);
+            }
+        }
+    }
+
+    private Frame startWriting(CriteriaNode node) {
+        if (node.fragmentCount > 1) {
+            buffer.append(node.openingFragment);
+        } else if (node.fragmentCount == 1) {
+            buffer.append(node.singleFragmentPrefix);
+        }
+
+        Frame frame = new Frame(node);
+        if (node.leafRenders) {
+            node.leaf.render();
+            frame.renderedFragments++;
+        } else if (node.leaf != null) {
+            node.leaf.renderingSkipped();
+        }
+        return frame;
+    }
+
+    private void writeConnector(Frame frame, CriteriaNode child) {
+        if (child.fragmentCount > 0) {
+            if (frame.renderedFragments > 0) {
+                buffer.append(spaceBefore(spaceAfter(child.connector)));
+            }
+            frame.renderedFragments++;
+        }
+    }
+
+    private void finishWriting(CriteriaNode node) {
+        if (node.fragmentCount > 1) {
+            buffer.append(node.closingFragment);
+        }
+    }
+
+    private CriteriaNode nextChild(Frame frame) {
+        CriteriaNode node = frame.node;
+        int index = frame.nextChild++;
+        if (node.initialCriterion == null) {
+            return nodeFor(node.subCriteria.get(index));
+        } else if (index == 0) {
+            return nodeFor(node.initialCriterion);
+        } else {
+            return nodeFor(node.subCriteria.get(index - 1));
+        }
+    }
+
+    private CriteriaNode nodeFor(SqlCriterion criterion) {
+        return nodes.computeIfAbsent(criterion, c -> criterion.accept(nodeFactory));
+    }
+
+    private CriteriaNode nodeFor(AndOrCriteriaGroup criterion) {
+        return nodes.computeIfAbsent(criterion, c -> CriteriaNode.enclosed(criterion));
+    }
+
+    private <T> WhereConditionWriter<T> conditionWriter(ColumnAndConditionCriterion<T> criterion) {
+        return WhereConditionWriter.of(criterion.column(), renderingContext, buffer);
+    }
+
+    private void writeExists(ExistsCriterion criterion) {
+        ExistsPredicate existsPredicate = criterion.existsPredicate();
+
+        buffer.append(existsPredicate.operator())
+                .append(" ("); //$NON-NLS-1$
+
+        SelectRenderer.withSelectModel(existsPredicate.selectModelBuilder().build())
+                .withRenderingContext(renderingContext)
+                .withParentTableAliasCalculator(renderingContext.tableAliasCalculator())
+                .build()
+                .renderTo(buffer);
+
+        buffer.append(")"); //$NON-NLS-1$
+    }
+
+    private void writeRowValueIn(RowValueInCriterion criterion) {
+        List<BindableColumn<?>> columns = criterion.rowValue().mapColumns(Function.<BindableColumn<?>>identity())
+                .collect(Collectors.toList());
+        List<List<?>> rows = criterion.mapRows(Function.<List<?>>identity()).collect(Collectors.toList());
+
+        if (criterion.isExpandedToOr()) {
+            writeRowsExpandedToOr(columns, rows);
+        } else {
+            writeRowsWithRowValues(columns, rows);
+        }
+    }
+
+    private void writeRowsWithRowValues(List<BindableColumn<?>> columns, List<List<?>> rows) {
+        buffer.append(columns.stream().map(this::columnName)
+                .collect(Collectors.joining(", ", "(", ") in ("))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        for (int i = 0; i < rows.size(); i++) {
+            buffer.append(i == 0 ? "(" : ",("); //$NON-NLS-1$ //$NON-NLS-2$
+            List<?> row = rows.get(i);
+            for (int j = 0; j < columns.size(); j++) {
+                if (j > 0) {
+                    buffer.append(","); //$NON-NLS-1$
+                }
+                writeParameter(columns.get(j), row.get(j));
+            }
+            buffer.append(")"); //$NON-NLS-1$
+        }
+        buffer.append(")"); //$NON-NLS-1$
+    }
+
+    private void writeRowsExpandedToOr(List<BindableColumn<?>> columns, List<List<?>> rows) {
+        if (rows.size() > 1) {
+            buffer.append("("); //$NON-NLS-1$
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            buffer.append(i == 0 ? "(" : " or ("); //$NON-NLS-1$ //$NON-NLS-2$
+            List<?> row = rows.get(i);
+            for (int j = 0; j < columns.size(); j++) {
+                if (j > 0) {
+                    buffer.append(" and "); //$NON-NLS-1$
+                }
+                buffer.append(columnName(columns.get(j)))
+                        .append(" = "); //$NON-NLS-1$
+                writeParameter(columns.get(j), row.get(j));
+            }
+            buffer.append(")"); //$NON-NLS-1$
+        }
+        if (rows.size() > 1) {
+            buffer.append(")"); //$NON-NLS-1$
+        }
+    }
+
+    private <T> void writeParameter(BindableColumn<T> column, Object value) {
+        // the values of a row are not typed, so each value is assumed to match the type of its column
+        @SuppressWarnings("unchecked")
+        T typedValue = (T) value;
+        String mapKey = renderingContext.nextMapKey();
+        buffer.addParameter(mapKey, column.convertParameterType(typedValue));
+        renderingContext.appendParameterPlaceholder(buffer, column, mapKey);
+    }
+
+    private String columnName(BindableColumn<?> column) {
+        return column.renderWithTableAlias(renderingContext.tableAliasCalculator());
+    }
+
+    /**
+     * A fragment rendered by a criterion itself, rather than by its sub criteria.
+     */
+    private interface Leaf {
+        boolean shouldRender();
+
+        void render();
+
+        void renderingSkipped();
+    }
+
+    private class ConditionLeaf<T> implements Leaf {
+        private final ColumnAndConditionCriterion<T> criterion;
+
+        private ConditionLeaf(ColumnAndConditionCriterion<T> criterion) {
+            this.criterion = criterion;
+        }
+
+        @Override
+        public boolean shouldRender() {
+            return criterion.condition().shouldRender();
+        }
+
+        @Override
+        public void render() {
+            criterion.condition().accept(conditionWriter(criterion));
+        }
+
+        @Override
+        public void renderingSkipped() {
+            criterion.condition().renderingSkipped();
+        }
+    }
+
+    private class ExistsLeaf implements Leaf {
+        private final ExistsCriterion criterion;
+
+        private ExistsLeaf(ExistsCriterion criterion) {
+            this.criterion = criterion;
+        }
+
+        @Override
+        public boolean shouldRender() {
+            return true;
+        }
+
+        @Override
+        public void render() {
+            writeExists(criterion);
+        }
+
+        @Override
+        public void renderingSkipped() {
+            // exists criteria always render
+        }
+    }
+
+    private class RowValueInLeaf implements Leaf {
+        private final RowValueInCriterion criterion;
+
+        private RowValueInLeaf(RowValueInCriterion criterion) {
+            this.criterion = criterion;
+        }
+
+        @Override
+        public boolean shouldRender() {
+            return criterion.shouldRender();
+        }
+
+        @Override
+        public void render() {
+            writeRowValueIn(criterion);
+        }
+
+        @Override
+        public void renderingSkipped() {
+            // there is no callback for an empty list of rows
+        }
+    }
+
+    private class NodeFactory implements SqlCriterionVisitor<CriteriaNode> {
+        @Override
+        public <T> CriteriaNode visit(ColumnAndConditionCriterion<T> criterion) {
+            return CriteriaNode.enclosed(new ConditionLeaf<>(criterion), criterion.subCriteria());
+        }
+
+        @Override
+        public CriteriaNode visit(ExistsCriterion criterion) {
+            return CriteriaNode.enclosed(new ExistsLeaf(criterion), criterion.subCriteria());
+        }
+
+        @Override
+        public CriteriaNode visit(CriteriaGroup criterion) {
+            return CriteriaNode.enclosed(criterion);
+        }
+
+        @Override
+        public CriteriaNode visit(NotCriterion criterion) {
+            return CriteriaNode.negated(criterion);
+        }
+
+        @Override
+        public CriteriaNode visit(RowValueInCriterion criterion) {
+            return CriteriaNode.enclosed(new RowValueInLeaf(criterion), criterion.subCriteria());
+        }
+    }
+
+    private static class CriteriaNode {
+        private final Leaf leaf; // may be null
+        private final SqlCriterion initialCriterion; // may be null
+        private final List<AndOrCriteriaGroup> subCriteria;
+        private final String connector; // may be null
+        private final String openingFragment;
+        private final String closingFragment;
+        private final String singleFragmentPrefix;
+        private boolean leafRenders;
+        private int fragmentCount;
+        private boolean counted;
+
+        private CriteriaNode(Leaf leaf, SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria,
+                             String connector, String openingFragment, String closingFragment,
+                             String singleFragmentPrefix) {
+            this.leaf = leaf;
+            this.initialCriterion = initialCriterion;
+            this.subCriteria = subCriteria;
+            this.connector = connector;
+            this.openingFragment = openingFragment;
+            this.closingFragment = closingFragment;
+            this.singleFragmentPrefix = singleFragmentPrefix;
+        }
+
+        private int childCount() {
+            return subCriteria.size() + (initialCriterion == null ? 0 : 1);
+        }
+
+        private void addChild(CriteriaNode child) {
+            if (child.fragmentCount > 0) {
+                fragmentCount++;
+            }
+        }
+
+        private static CriteriaNode enclosed(Leaf leaf, List<AndOrCriteriaGroup> subCriteria) {
+            return new CriteriaNode(leaf, null, subCriteria, null,
+                    "(", ")", ""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+
+        private static CriteriaNode enclosed(CriteriaGroup criterion) {
+            return new CriteriaNode(null, criterion.initialCriterion().orElse(null), criterion.subCriteria(), null,
+                    "(", ")", ""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+
+        private static CriteriaNode enclosed(AndOrCriteriaGroup criterion) {
+            return new CriteriaNode(null, criterion.initialCriterion().orElse(null), criterion.subCriteria(),
+                    criterion.connector(), "(", ")", ""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+
+        private static CriteriaNode negated(NotCriterion criterion) {
+            return new CriteriaNode(null, criterion.initialCriterion().orElse(null), criterion.subCriteria(), null,
+                    "not (", ")", "not "); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+
+        private static CriteriaNode unenclosed(SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria) {
+            return new CriteriaNode(null, initialCriterion, subCriteria, null,
+                    "", "", ""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+    }
+
+    private static class Frame {
+        private final CriteriaNode node;
+        private int nextChild;
+        private int renderedFragments;
+
+        private Frame(CriteriaNode node) {
+            this.node = node;
+        }
+
+        private boolean hasNextChild() {
+            return nextChild < node.childCount();
+        }
+    }
+
+    static class Builder {
+        private RenderingContext renderingContext;
+        private SqlBuffer buffer;
+
+        Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
+        Builder withBuffer(SqlBuffer buffer) {
+            this.buffer = buffer;
+            return this;
+        }
+
+        CriterionWriter build() {
+            return new CriterionWriter(this);
+        }
+    }
+}
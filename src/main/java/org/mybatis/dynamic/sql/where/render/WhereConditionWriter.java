@@ -0,0 +1,146 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.AbstractSubselectCondition;
+import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.ConditionVisitor;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.SqlBuffer;
+import org.mybatis.dynamic.sql.select.render.SelectRenderer;
+import org.mybatis.dynamic.sql.where.condition.PrimitiveArrayCondition;
+
+/**
+ * Writes a rendered condition, and its parameters, directly into a {@link SqlBuffer}. This produces the same
+ * SQL and parameters as {@link WhereConditionVisitor}.
+ *
+ * @param <T> the Java type of the column
+ */
+public class WhereConditionWriter<T> implements ConditionVisitor<T, SqlBuffer> {
+
+    private final BindableColumn<T> column;
+    private final RenderingContext renderingContext;
+    private final SqlBuffer buffer;
+
+    private WhereConditionWriter(BindableColumn<T> column, RenderingContext renderingContext, SqlBuffer buffer) {
+        this.column = Objects.requireNonNull(column);
+        this.renderingContext = Objects.requireNonNull(renderingContext);
+        this.buffer = Objects.requireNonNull(buffer);
+    }
+
+    @Override
+    public SqlBuffer visit(AbstractListValueCondition<T> condition) {
+        if (condition instanceof PrimitiveArrayCondition) {
+            @SuppressWarnings("unchecked")
+            PrimitiveArrayCondition<T> arrayCondition = (PrimitiveArrayCondition<T>) condition;
+            return writePrimitiveArray(arrayCondition);
+        }
+
+        if (condition.bindsValuesAsArray()) {
+            String mapKey = renderingContext.nextMapKey();
+            buffer.addParameter(mapKey, condition.mapValuesToArray(column::convertParameterType));
+            String placeholder = renderingContext.formatArrayParameterPlaceholder(column, mapKey);
+            return buffer.append(condition.renderCondition(columnName(), Stream.of(placeholder)));
+        }
+
+        // placeholders are collected before rendering so parameter keys are allocated in value order
+        List<String> placeholders = condition.mapValues(this::addParameter)
+                .collect(Collectors.toList());
+
+        return buffer.append(condition.renderCondition(columnName(), placeholders.stream()));
+    }
+
+    @Override
+    public SqlBuffer visit(AbstractNoValueCondition<T> condition) {
+        return buffer.append(condition.renderCondition(columnName()));
+    }
+
+    @Override
+    public SqlBuffer visit(AbstractSingleValueCondition<T> condition) {
+        String placeholder = addParameter(condition.value());
+        return buffer.append(condition.renderCondition(columnName(), placeholder));
+    }
+
+    @Override
+    public SqlBuffer visit(AbstractTwoValueCondition<T> condition) {
+        String placeholder1 = addParameter(condition.value1());
+        String placeholder2 = addParameter(condition.value2());
+        return buffer.append(condition.renderCondition(columnName(), placeholder1, placeholder2));
+    }
+
+    @Override
+    public SqlBuffer visit(AbstractSubselectCondition<T> condition) {
+        SqlBuffer nestedBuffer = buffer.nestedBuffer();
+
+        SelectRenderer.withSelectModel(condition.selectModel())
+                .withRenderingContext(renderingContext)
+                .withParentTableAliasCalculator(renderingContext.tableAliasCalculator())
+                .build()
+                .renderTo(nestedBuffer);
+
+        return buffer.append(condition.renderCondition(columnName(), nestedBuffer.sql()));
+    }
+
+    @Override
+    public SqlBuffer visit(AbstractColumnComparisonCondition<T> condition) {
+        return buffer.append(condition.renderCondition(columnName(), renderingContext.tableAliasCalculator()));
+    }
+
+    /**
+     * Writes the same SQL as {@link org.mybatis.dynamic.sql.where.condition.IsIn} and
+     * {@link org.mybatis.dynamic.sql.where.condition.IsNotIn}, with an indexed loop over the array.
+     */
+    private SqlBuffer writePrimitiveArray(PrimitiveArrayCondition<T> condition) {
+        buffer.append(columnName())
+                .append(" ") //$NON-NLS-1$
+                .append(condition.operator())
+                .append(" ("); //$NON-NLS-1$
+        for (int i = 0; i < condition.size(); i++) {
+            if (i > 0) {
+                buffer.append(","); //$NON-NLS-1$
+            }
+            String mapKey = renderingContext.nextMapKey();
+            buffer.addParameter(mapKey, column.convertParameterType(condition.value(i)));
+            renderingContext.appendParameterPlaceholder(buffer, column, mapKey);
+        }
+        return buffer.append(")"); //$NON-NLS-1$
+    }
+
+    private String addParameter(T value) {
+        String mapKey = renderingContext.nextMapKey();
+        buffer.addParameter(mapKey, column.convertParameterType(value));
+        return renderingContext.formatParameterPlaceholder(column, mapKey);
+    }
+
+    private String columnName() {
+        return column.renderWithTableAlias(renderingContext.tableAliasCalculator());
+    }
+
+    public static <T> WhereConditionWriter<T> of(BindableColumn<T> column, RenderingContext renderingContext,
+            SqlBuffer buffer) {
+        return new WhereConditionWriter<>(column, renderingContext, buffer);
+    }
+}
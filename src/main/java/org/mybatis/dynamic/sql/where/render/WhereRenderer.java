@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -18,12 +18,11 @@ package org.mybatis.dynamic.sql.where.render;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
-import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.SqlBuffer;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class WhereRenderer {
@@ -34,33 +33,45 @@ public class WhereRenderer {
         whereModel = Objects.requireNonNull(builder.whereModel);
 
         criterionRenderer = new CriterionRenderer.Builder()
-                .withSequence(builder.sequence)
-                .withRenderingStrategy(builder.renderingStrategy)
-                .withTableAliasCalculator(builder.tableAliasCalculator)
-                .withParameterName(builder.parameterName)
+                .withRenderingContext(calculateRenderingContext(builder))
                 .build();
     }
 
-    public Optional<WhereClauseProvider> render() {
-        return whereModel.initialCriterion().map(this::renderWithInitialCriterion)
-                .orElseGet(this::renderWithoutInitialCriterion)
-                .map(rc -> WhereClauseProvider.withWhereClause(rc.fragmentAndParameters().fragment())
-                        .withParameters(rc.fragmentAndParameters().parameters())
-                        .build()
-                );
+    private static RenderingContext calculateRenderingContext(Builder builder) {
+        if (builder.renderingContext == null) {
+            return RenderingContext.withRenderingStrategy(builder.renderingStrategy)
+                    .withSequence(builder.sequence)
+                    .withTableAliasCalculator(Objects.requireNonNull(builder.tableAliasCalculator))
+                    .withParameterName(builder.parameterName)
+                    .build();
+        }
+        return builder.renderingContext;
     }
 
-    private Optional<RenderedCriterion> renderWithInitialCriterion(SqlCriterion initialCriterion) {
-        return criterionRenderer.render(initialCriterion, whereModel.subCriteria(), this::calculateWhereClause);
+    public Optional<WhereClauseProvider> render() {
+        SqlBuffer buffer = new SqlBuffer();
+        if (renderTo(buffer)) {
+            return Optional.of(WhereClauseProvider.withWhereClause(buffer.sql())
+                    .withParameters(buffer.parameters())
+                    .build());
+        }
+        return Optional.empty();
     }
 
-    private Optional<RenderedCriterion> renderWithoutInitialCriterion() {
-        return criterionRenderer.render(whereModel.subCriteria(), this::calculateWhereClause);
+    /**
+     * Writes the where clause to the buffer. Nothing is written if none of the criteria render.
+     *
+     * @param buffer the buffer to write to
+     * @return true if the where clause was rendered
+     */
+    public boolean renderTo(SqlBuffer buffer) {
+        return buffer.appendIfRendered("where ", this::renderCriteria); //$NON-NLS-1$
     }
 
-    private String calculateWhereClause(FragmentCollector collector) {
-        return collector.fragments()
-                .collect(Collectors.joining(" ", "where ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    private boolean renderCriteria(SqlBuffer buffer) {
+        return whereModel.initialCriterion()
+                .map(ic -> criterionRenderer.renderTo(ic, whereModel.subCriteria(), buffer))
+                .orElseGet(() -> criterionRenderer.renderTo(whereModel.subCriteria(), buffer));
     }
 
     public static Builder withWhereModel(WhereModel whereModel) {
@@ -69,6 +80,7 @@ public class WhereRenderer {
 
     public static class Builder {
         private WhereModel whereModel;
+        private RenderingContext renderingContext;
         private RenderingStrategy renderingStrategy;
         private TableAliasCalculator tableAliasCalculator;
         private AtomicInteger sequence;
@@ -99,6 +111,18 @@ public class WhereRenderer {
             return this;
         }
 
+        /**
+         * Sets the rendering context. If set, the sequence, rendering strategy, table alias calculator, and
+         * parameter name are taken from the context and the other builder methods are ignored.
+         *
+         * @param renderingContext the rendering context
+         * @return this builder
+         */
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
         public WhereRenderer build() {
             return new WhereRenderer(this);
         }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -22,9 +22,11 @@ import org.mybatis.dynamic.sql.ColumnAndConditionCriterion
 import org.mybatis.dynamic.sql.CriteriaGroup
 import org.mybatis.dynamic.sql.ExistsCriterion
 import org.mybatis.dynamic.sql.NotCriterion
+import org.mybatis.dynamic.sql.RowValue
 import org.mybatis.dynamic.sql.SqlBuilder
 import org.mybatis.dynamic.sql.SqlCriterion
 import org.mybatis.dynamic.sql.VisitableCondition
+import java.util.stream.LongStream
 
 typealias GroupingCriteriaReceiver = GroupingCriteriaCollector.() -> Unit
 
@@ -235,6 +237,19 @@ class GroupingCriteriaCollector {
             .build()
     }
 
+    /**
+     * Add an initial criterion to the current context that matches a row value against lists of values.
+     * You can use it like "tuple(A, B) isIn listOf(listOf(1, "a"), listOf(2, "b"))".
+     *
+     * This should only be specified once per scope, and cannot be combined with "exists", "group",
+     * "not", or any infix function in the same scope.
+     *
+     * @param rows the lists of values, each with one value for every column of the row value
+     */
+    infix fun RowValue.isIn(rows: Collection<List<Any?>>) {
+        initialCriterion = this.isIn(rows)
+    }
+
     // infix functions...we may be able to rewrite these as extension functions once Kotlin solves the multiple
     // receivers problem (https://youtrack.jetbrains.com/issue/KT-42435)
 
@@ -320,6 +335,15 @@ class GroupingCriteriaCollector {
     infix fun <T : Any> BindableColumn<T>.isIn(values: Collection<T>) =
         invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isIn(values))
 
+    infix fun BindableColumn<Long>.isIn(values: LongArray) =
+        invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isIn(values))
+
+    infix fun BindableColumn<Long>.isIn(values: LongStream) =
+        invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isIn(values))
+
+    infix fun BindableColumn<Int>.isIn(values: IntArray) =
+        invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isIn(values))
+
     infix fun BindableColumn<*>.isIn(subQuery: KotlinSubQueryBuilder.() -> Unit) =
         invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isIn(subQuery))
 
@@ -333,6 +357,15 @@ class GroupingCriteriaCollector {
     infix fun <T : Any> BindableColumn<T>.isNotIn(values: Collection<T>) =
         invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isNotIn(values))
 
+    infix fun BindableColumn<Long>.isNotIn(values: LongArray) =
+        invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isNotIn(values))
+
+    infix fun BindableColumn<Long>.isNotIn(values: LongStream) =
+        invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isNotIn(values))
+
+    infix fun BindableColumn<Int>.isNotIn(values: IntArray) =
+        invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isNotIn(values))
+
     infix fun BindableColumn<*>.isNotIn(subQuery: KotlinSubQueryBuilder.() -> Unit) =
         invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isNotIn(subQuery))
 
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import org.mybatis.dynamic.sql.BasicColumn
 import org.mybatis.dynamic.sql.BindableColumn
 import org.mybatis.dynamic.sql.Constant
 import org.mybatis.dynamic.sql.ExistsPredicate
+import org.mybatis.dynamic.sql.RowValue
 import org.mybatis.dynamic.sql.SortSpecification
 import org.mybatis.dynamic.sql.SqlBuilder
 import org.mybatis.dynamic.sql.SqlColumn
@@ -56,7 +57,9 @@ import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToColumn
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsIn
+import org.mybatis.dynamic.sql.where.condition.IsInArray
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive
+import org.mybatis.dynamic.sql.where.condition.IsInPrimitiveArray
 import org.mybatis.dynamic.sql.where.condition.IsInWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsLessThan
 import org.mybatis.dynamic.sql.where.condition.IsLessThanColumn
@@ -71,12 +74,15 @@ import org.mybatis.dynamic.sql.where.condition.IsNotEqualTo
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToColumn
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsNotIn
+import org.mybatis.dynamic.sql.where.condition.IsNotInArray
 import org.mybatis.dynamic.sql.where.condition.IsNotInCaseInsensitive
+import org.mybatis.dynamic.sql.where.condition.IsNotInPrimitiveArray
 import org.mybatis.dynamic.sql.where.condition.IsNotInWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsNotLike
 import org.mybatis.dynamic.sql.where.condition.IsNotLikeCaseInsensitive
 import org.mybatis.dynamic.sql.where.condition.IsNotNull
 import org.mybatis.dynamic.sql.where.condition.IsNull
+import java.util.stream.LongStream
 
 // join support
 @Deprecated("Please use the infix function in the JoinCollector")
@@ -243,6 +249,12 @@ fun <T : Any> isIn(vararg values: T): IsIn<T> = isIn(values.asList())
 
 fun <T : Any> isIn(values: Collection<T>): IsIn<T> = SqlBuilder.isIn(values)
 
+fun isIn(values: LongArray): IsInPrimitiveArray<Long> = SqlBuilder.isIn(values)
+
+fun isIn(values: LongStream): IsInPrimitiveArray<Long> = SqlBuilder.isIn(values)
+
+fun isIn(values: IntArray): IsInPrimitiveArray<Int> = SqlBuilder.isIn(values)
+
 fun <T> isIn(subQuery: KotlinSubQueryBuilder.() -> Unit): IsInWithSubselect<T> =
     SqlBuilder.isIn(KotlinSubQueryBuilder().apply(subQuery))
 
@@ -254,6 +266,12 @@ fun <T : Any> isNotIn(vararg values: T): IsNotIn<T> = isNotIn(values.asList())
 
 fun <T : Any> isNotIn(values: Collection<T>): IsNotIn<T> = SqlBuilder.isNotIn(values)
 
+fun isNotIn(values: LongArray): IsNotInPrimitiveArray<Long> = SqlBuilder.isNotIn(values)
+
+fun isNotIn(values: LongStream): IsNotInPrimitiveArray<Long> = SqlBuilder.isNotIn(values)
+
+fun isNotIn(values: IntArray): IsNotInPrimitiveArray<Int> = SqlBuilder.isNotIn(values)
+
 fun <T> isNotIn(subQuery: KotlinSubQueryBuilder.() -> Unit): IsNotInWithSubselect<T> =
     SqlBuilder.isNotIn(KotlinSubQueryBuilder().apply(subQuery))
 
@@ -261,6 +279,16 @@ fun <T : Any> isNotInWhenPresent(vararg values: T?): IsNotIn<T> = isNotInWhenPre
 
 fun <T : Any> isNotInWhenPresent(values: Collection<T?>?): IsNotIn<T> = SqlBuilder.isNotInWhenPresent(values)
 
+fun <T : Any> isInArray(vararg values: T): IsInArray<T> = isInArray(values.asList())
+
+fun <T : Any> isInArray(values: Collection<T>): IsInArray<T> = SqlBuilder.isInArray(values)
+
+fun <T : Any> isNotInArray(vararg values: T): IsNotInArray<T> = isNotInArray(values.asList())
+
+fun <T : Any> isNotInArray(values: Collection<T>): IsNotInArray<T> = SqlBuilder.isNotInArray(values)
+
+fun tuple(vararg columns: BindableColumn<*>): RowValue = SqlBuilder.tuple(*columns)
+
 fun <T : Any> isBetween(value1: T): BetweenBuilder<T> = BetweenBuilder(value1)
 
 fun <T : Any> isBetweenWhenPresent(value1: T?): BetweenWhenPresentBuilder<T> = BetweenWhenPresentBuilder(value1)
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 @file:Suppress("TooManyFunctions")
 package org.mybatis.dynamic.sql.util.kotlin.mybatis3
 
+import org.apache.ibatis.session.ExecutorType
+import org.apache.ibatis.session.SqlSession
+import org.apache.ibatis.session.SqlSessionFactory
 import org.mybatis.dynamic.sql.BasicColumn
 import org.mybatis.dynamic.sql.SqlTable
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider
@@ -34,6 +37,7 @@ import org.mybatis.dynamic.sql.util.kotlin.KotlinInsertCompleter
 import org.mybatis.dynamic.sql.util.kotlin.KotlinMultiRowInsertCompleter
 import org.mybatis.dynamic.sql.util.kotlin.SelectCompleter
 import org.mybatis.dynamic.sql.util.kotlin.UpdateCompleter
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils
 
 fun count(
     mapper: (SelectStatementProvider) -> Long,
@@ -92,6 +96,45 @@ fun <T> insertBatch(
         run(completer)
     }.insertStatements().map(mapper)
 
+/**
+ * Inserts all rows with a SqlSession in batch mode ([ExecutorType.BATCH]). The statements are flushed
+ * every [flushInterval] rows, and again after the last row, and the update counts of the flushed batches
+ * are added together. The statements are not committed. See [MyBatis3Utils.insertBatch].
+ */
+@Suppress("LongParameterList")
+fun <T> insertBatch(
+    sqlSession: SqlSession,
+    mapper: (InsertStatementProvider<T>) -> Int,
+    records: Collection<T>,
+    table: SqlTable,
+    flushInterval: Int,
+    completer: KotlinBatchInsertCompleter<T>
+): Int =
+    insertBatch(records) {
+        into(table)
+        run(completer)
+    }.run {
+        MyBatis3Utils.insertBatch(sqlSession, { mapper(it) }, this, flushInterval)
+    }
+
+/**
+ * Opens a SqlSession in batch mode ([ExecutorType.BATCH]), inserts all rows with periodic flushes, and commits
+ * the session. The [mapper] function returns the mapper function that inserts a single row in the session.
+ */
+@Suppress("LongParameterList")
+fun <T> insertBatch(
+    sqlSessionFactory: SqlSessionFactory,
+    mapper: (SqlSession) -> (InsertStatementProvider<T>) -> Int,
+    records: Collection<T>,
+    table: SqlTable,
+    flushInterval: Int,
+    completer: KotlinBatchInsertCompleter<T>
+): Int =
+    sqlSessionFactory.openSession(ExecutorType.BATCH).use { sqlSession ->
+        insertBatch(sqlSession, mapper(sqlSession), records, table, flushInterval, completer)
+            .also { sqlSession.commit() }
+    }
+
 fun insertInto(
     mapper: (GeneralInsertStatementProvider) -> Int,
     table: SqlTable,
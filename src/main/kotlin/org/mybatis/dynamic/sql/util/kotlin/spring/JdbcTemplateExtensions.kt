@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+@file:Suppress("TooManyFunctions")
+package org.mybatis.dynamic.sql.util.kotlin.spring
+
+import org.mybatis.dynamic.sql.BasicColumn
+import org.mybatis.dynamic.sql.SqlTable
+import org.mybatis.dynamic.sql.select.SelectModel
+import org.mybatis.dynamic.sql.util.kotlin.CountCompleter
+import org.mybatis.dynamic.sql.util.kotlin.DeleteCompleter
+import org.mybatis.dynamic.sql.util.kotlin.GeneralInsertCompleter
+import org.mybatis.dynamic.sql.util.kotlin.KotlinBatchInsertCompleter
+import org.mybatis.dynamic.sql.util.kotlin.KotlinInsertCompleter
+import org.mybatis.dynamic.sql.util.kotlin.MyBatisDslMarker
+import org.mybatis.dynamic.sql.util.kotlin.SelectCompleter
+import org.mybatis.dynamic.sql.util.kotlin.UpdateCompleter
+import org.mybatis.dynamic.sql.util.spring.JdbcTemplateExtensions
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.core.RowMapper
+import org.springframework.jdbc.support.KeyHolder
+import java.sql.ResultSet
+
+// These functions render statements with positional ("?") parameters and execute them with a JdbcTemplate. See
+// the Java class JdbcTemplateExtensions for details.
+
+fun JdbcTemplate.count(column: BasicColumn, completer: CountCompleter): Long =
+    JdbcTemplateExtensions(this).count { org.mybatis.dynamic.sql.util.kotlin.model.count(column, completer) }
+
+fun JdbcTemplate.countDistinct(column: BasicColumn, completer: CountCompleter): Long =
+    JdbcTemplateExtensions(this).count { org.mybatis.dynamic.sql.util.kotlin.model.countDistinct(column, completer) }
+
+fun JdbcTemplate.countFrom(table: SqlTable, completer: CountCompleter): Long =
+    JdbcTemplateExtensions(this).count { org.mybatis.dynamic.sql.util.kotlin.model.countFrom(table, completer) }
+
+fun JdbcTemplate.deleteFrom(table: SqlTable, completer: DeleteCompleter): Int =
+    JdbcTemplateExtensions(this).delete { org.mybatis.dynamic.sql.util.kotlin.model.deleteFrom(table, completer) }
+
+fun <T : Any> JdbcTemplate.insertBatch(vararg records: T, completer: KotlinBatchInsertCompleter<T>): IntArray =
+    insertBatch(records.asList(), completer)
+
+fun <T : Any> JdbcTemplate.insertBatch(records: List<T>, completer: KotlinBatchInsertCompleter<T>): IntArray =
+    JdbcTemplateExtensions(this).insertBatch {
+        org.mybatis.dynamic.sql.util.kotlin.model.insertBatch(records, completer)
+    }
+
+fun <T : Any> JdbcTemplate.insert(row: T, completer: KotlinInsertCompleter<T>): Int =
+    JdbcTemplateExtensions(this).insert { org.mybatis.dynamic.sql.util.kotlin.model.insert(row, completer) }
+
+fun <T : Any> JdbcTemplate.insert(row: T, keyHolder: KeyHolder, completer: KotlinInsertCompleter<T>): Int =
+    JdbcTemplateExtensions(this).insert({ org.mybatis.dynamic.sql.util.kotlin.model.insert(row, completer) },
+        keyHolder)
+
+fun JdbcTemplate.insertInto(table: SqlTable, completer: GeneralInsertCompleter): Int =
+    JdbcTemplateExtensions(this).generalInsert {
+        org.mybatis.dynamic.sql.util.kotlin.model.insertInto(table, completer)
+    }
+
+fun JdbcTemplate.insertInto(table: SqlTable, keyHolder: KeyHolder, completer: GeneralInsertCompleter): Int =
+    JdbcTemplateExtensions(this).generalInsert(
+        { org.mybatis.dynamic.sql.util.kotlin.model.insertInto(table, completer) },
+        keyHolder
+    )
+
+fun JdbcTemplate.select(vararg selectList: BasicColumn, completer: SelectCompleter): JdbcSelectListMapperGatherer =
+    select(selectList.toList(), completer)
+
+fun JdbcTemplate.select(selectList: List<BasicColumn>, completer: SelectCompleter): JdbcSelectListMapperGatherer =
+    JdbcSelectListMapperGatherer(org.mybatis.dynamic.sql.util.kotlin.model.select(selectList, completer), this)
+
+fun JdbcTemplate.selectDistinct(
+    vararg selectList: BasicColumn,
+    completer: SelectCompleter
+): JdbcSelectListMapperGatherer =
+    selectDistinct(selectList.toList(), completer)
+
+fun JdbcTemplate.selectDistinct(
+    selectList: List<BasicColumn>,
+    completer: SelectCompleter
+): JdbcSelectListMapperGatherer =
+    JdbcSelectListMapperGatherer(
+        org.mybatis.dynamic.sql.util.kotlin.model.selectDistinct(selectList, completer),
+        this
+    )
+
+fun JdbcTemplate.selectOne(vararg selectList: BasicColumn, completer: SelectCompleter): JdbcSelectOneMapperGatherer =
+    selectOne(selectList.toList(), completer)
+
+fun JdbcTemplate.selectOne(selectList: List<BasicColumn>, completer: SelectCompleter): JdbcSelectOneMapperGatherer =
+    JdbcSelectOneMapperGatherer(org.mybatis.dynamic.sql.util.kotlin.model.select(selectList, completer), this)
+
+fun JdbcTemplate.update(table: SqlTable, completer: UpdateCompleter): Int =
+    JdbcTemplateExtensions(this).update { org.mybatis.dynamic.sql.util.kotlin.model.update(table, completer) }
+
+// support classes for select DSL
+@MyBatisDslMarker
+class JdbcSelectListMapperGatherer(
+    private val selectModel: SelectModel,
+    private val template: JdbcTemplate
+) {
+    fun <T> withRowMapper(rowMapper: (rs: ResultSet, rowNum: Int) -> T): List<T> =
+        withRowMapper(RowMapper(rowMapper))
+
+    fun <T> withRowMapper(rowMapper: RowMapper<T>): List<T> =
+        JdbcTemplateExtensions(template).selectList({ selectModel }, rowMapper)
+}
+
+@MyBatisDslMarker
+class JdbcSelectOneMapperGatherer(
+    private val selectModel: SelectModel,
+    private val template: JdbcTemplate
+) {
+    fun <T> withRowMapper(rowMapper: (rs: ResultSet, rowNum: Int) -> T): T? =
+        withRowMapper(RowMapper(rowMapper))
+
+    fun <T> withRowMapper(rowMapper: RowMapper<T>): T? =
+        JdbcTemplateExtensions(template).selectOne({ selectModel }, rowMapper).orElse(null)
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -23,7 +23,9 @@ import org.mybatis.dynamic.sql.insert.render.BatchInsert
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider
 import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider
+import org.mybatis.dynamic.sql.insert.render.InsertTemplate
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider
 import org.mybatis.dynamic.sql.util.kotlin.CountCompleter
@@ -36,12 +38,12 @@ import org.mybatis.dynamic.sql.util.kotlin.KotlinMultiRowInsertCompleter
 import org.mybatis.dynamic.sql.util.kotlin.MyBatisDslMarker
 import org.mybatis.dynamic.sql.util.kotlin.SelectCompleter
 import org.mybatis.dynamic.sql.util.kotlin.UpdateCompleter
+import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions
+import org.mybatis.dynamic.sql.util.spring.PropertyAccessorSqlParameterSource
 import org.springframework.dao.EmptyResultDataAccessException
 import org.springframework.jdbc.core.RowMapper
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
-import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils
 import org.springframework.jdbc.support.KeyHolder
 import java.sql.ResultSet
 import kotlin.reflect.KClass
@@ -66,7 +68,17 @@ fun NamedParameterJdbcTemplate.deleteFrom(table: SqlTable, completer: DeleteComp
 
 // batch insert
 fun <T> NamedParameterJdbcTemplate.insertBatch(insertStatement: BatchInsert<T>): IntArray =
-    batchUpdate(insertStatement.insertStatementSQL, SqlParameterSourceUtils.createBatch(insertStatement.records))
+    batchUpdate(
+        insertStatement.insertStatementSQL,
+        insertStatement.records.map { PropertyAccessorSqlParameterSource.of(it, insertStatement.propertyAccessorPlan) }
+            .toTypedArray()
+    )
+
+fun <T> NamedParameterJdbcTemplate.insertBatch(insertStatement: BatchInsert<T>, batchSize: Int): IntArray =
+    NamedParameterJdbcTemplateExtensions(this).insertBatch(insertStatement, batchSize)
+
+fun <T> NamedParameterJdbcTemplate.insertBatch(insertStatement: StreamingBatchInsert<T>, batchSize: Int): IntArray =
+    NamedParameterJdbcTemplateExtensions(this).insertBatch(insertStatement, batchSize)
 
 fun <T : Any> NamedParameterJdbcTemplate.insertBatch(
     vararg records: T,
@@ -90,13 +102,19 @@ fun <T : Any> NamedParameterJdbcTemplate.insertBatch(records: List<T>): BatchIns
 
 // single row insert
 fun <T : Any> NamedParameterJdbcTemplate.insert(insertStatement: InsertStatementProvider<T>): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement.row))
+    update(insertStatement.insertStatement, PropertyAccessorSqlParameterSource.of(insertStatement))
 
 fun <T : Any> NamedParameterJdbcTemplate.insert(
     insertStatement: InsertStatementProvider<T>,
     keyHolder: KeyHolder
 ): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement.row), keyHolder)
+    update(insertStatement.insertStatement, PropertyAccessorSqlParameterSource.of(insertStatement), keyHolder)
+
+fun <T : Any> NamedParameterJdbcTemplate.insert(insertTemplate: InsertTemplate<T>, row: T): Int =
+    insert(insertTemplate.bind(row))
+
+fun <T : Any> NamedParameterJdbcTemplate.insert(insertTemplate: InsertTemplate<T>, row: T, keyHolder: KeyHolder): Int =
+    insert(insertTemplate.bind(row), keyHolder)
 
 fun <T : Any> NamedParameterJdbcTemplate.insert(row: T, completer: KotlinInsertCompleter<T>): Int =
     insert(org.mybatis.dynamic.sql.util.kotlin.spring.insert(row, completer))
@@ -140,13 +158,16 @@ fun <T : Any> NamedParameterJdbcTemplate.insertMultiple(records: List<T>): Multi
     MultiRowInsertHelper(records, this)
 
 fun <T> NamedParameterJdbcTemplate.insertMultiple(insertStatement: MultiRowInsertStatementProvider<T>): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement))
+    update(insertStatement.insertStatement, PropertyAccessorSqlParameterSource.of(insertStatement))
+
+fun <T> NamedParameterJdbcTemplate.insertMultiple(insertStatements: List<MultiRowInsertStatementProvider<T>>): Int =
+    insertStatements.sumOf { insertMultiple(it) }
 
 fun <T> NamedParameterJdbcTemplate.insertMultiple(
     insertStatement: MultiRowInsertStatementProvider<T>,
     keyHolder: KeyHolder
 ): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement), keyHolder)
+    update(insertStatement.insertStatement, PropertyAccessorSqlParameterSource.of(insertStatement), keyHolder)
 
 fun NamedParameterJdbcTemplate.insertSelect(table: SqlTable, completer: InsertSelectCompleter): Int =
     insertSelect(org.mybatis.dynamic.sql.util.kotlin.spring.insertSelect(table, completer))
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package examples.animal.data;
 import static examples.animal.data.AnimalDataDynamicSqlSupport.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mybatis.dynamic.sql.SqlBuilder.*;
@@ -33,6 +34,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import org.apache.ibatis.jdbc.ScriptRunner;
@@ -50,6 +53,7 @@ import org.mybatis.dynamic.sql.Callback;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
@@ -60,6 +64,7 @@ import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonSelectMapper;
 import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
+import org.mybatis.dynamic.sql.where.condition.ArrayDialect;
 import org.mybatis.dynamic.sql.where.condition.IsIn;
 import org.mybatis.dynamic.sql.where.condition.IsNotIn;
 import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
@@ -643,6 +648,190 @@ class AnimalDataTest {
         }
     }
 
+    @Test
+    void testRowValueInCondition() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(tuple(id, animalName).isIn(Arrays.asList(1, "Lesser short-tailed shrew"),
+                            Arrays.asList(2, "Little brown bat"), Arrays.asList(3, "Not a mouse")))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                    "select id, animal_name, body_weight, brain_weight from AnimalData where (id, animal_name) in "
+                    + "((#{parameters.p1,jdbcType=INTEGER},#{parameters.p2,jdbcType=VARCHAR}),"
+                    + "(#{parameters.p3,jdbcType=INTEGER},#{parameters.p4,jdbcType=VARCHAR}),"
+                    + "(#{parameters.p5,jdbcType=INTEGER},#{parameters.p6,jdbcType=VARCHAR})) order by id");
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).extracting(AnimalData::getId).containsExactly(1, 2);
+        }
+    }
+
+    @Test
+    void testRowValueInConditionExpandedToOr() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(tuple(id, animalName).isIn(Arrays.asList(1, "Lesser short-tailed shrew"),
+                            Arrays.asList(2, "Little brown bat"), Arrays.asList(3, "Not a mouse")).expandedToOr())
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).extracting(AnimalData::getId).containsExactly(1, 2);
+        }
+    }
+
+    @Test
+    void testInConditionWithIntArray() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isIn(new int[] {5, 8, 10}))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                    "select id, animal_name, body_weight, brain_weight from AnimalData where id in "
+                    + "(#{parameters.p1,jdbcType=INTEGER},#{parameters.p2,jdbcType=INTEGER},"
+                    + "#{parameters.p3,jdbcType=INTEGER}) order by id");
+            assertThat(selectStatement.getParameters())
+                    .containsOnly(entry("p1", 5), entry("p2", 8), entry("p3", 10));
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).extracting(AnimalData::getId).containsExactly(5, 8, 10);
+        }
+    }
+
+    @Test
+    void testNotInConditionWithIntArray() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isNotIn(IntStream.rangeClosed(1, 60).toArray()))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getParameters()).hasSize(60);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).hasSize(5);
+        }
+    }
+
+    @Test
+    void testInArrayCondition() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            List<Integer> ids = IntStream.rangeClosed(5, 20000).boxed().collect(Collectors.toList());
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isInArray(ids).withDialect(ArrayDialect.HSQLDB))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                    "select id, animal_name, body_weight, brain_weight from AnimalData where id in (unnest("
+                    + "#{parameters.p1,typeHandler=org.apache.ibatis.type.ArrayTypeHandler}))");
+            assertThat(selectStatement.getParameters()).hasSize(1);
+            assertThat(selectStatement.getParameters().get("p1")).isInstanceOf(Integer[].class);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).hasSize(61);
+        }
+    }
+
+    @Test
+    void testInArrayConditionWithPostgresqlDialect() {
+        SelectStatementProvider selectStatement = select(id, animalName)
+                .from(animalData)
+                .where(id, isInArray(5, 8, 10))
+                .or(id, isNotInArray(1, 2))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                "select id, animal_name from AnimalData where id = any("
+                + "#{parameters.p1,typeHandler=org.apache.ibatis.type.ArrayTypeHandler}) or id <> all("
+                + "#{parameters.p2,typeHandler=org.apache.ibatis.type.ArrayTypeHandler})");
+        assertThat(selectStatement.getParameters().get("p1")).isEqualTo(new Integer[] {5, 8, 10});
+        assertThat(selectStatement.getParameters().get("p2")).isEqualTo(new Integer[] {1, 2});
+    }
+
+    @Test
+    void testNotInArrayCondition() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isNotInArray(5, 8, 10).withDialect(ArrayDialect.HSQLDB))
+                    .and(id, isLessThanOrEqualTo(10))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).hasSize(7);
+        }
+    }
+
+    @Test
+    void testInArrayConditionWithEmptyList() {
+        SelectStatementProvider selectStatement = select(id, animalName)
+                .from(animalData)
+                .where(id, isInArray(Collections.emptyList()))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id, animal_name from AnimalData");
+    }
+
+    @Test
+    void testInConditionSplitByParameterLimit() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            List<Integer> ids = IntStream.rangeClosed(1, 70000).boxed().collect(Collectors.toList());
+            List<SelectStatementProvider> selectStatements = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isIn(ids))
+                    .and(bodyWeight, isGreaterThan(1.0))
+                    .orderBy(id)
+                    .build()
+                    .renderWithParameterLimit(RenderingStrategies.MYBATIS3, 32767);
+
+            assertThat(selectStatements).hasSize(3);
+
+            List<AnimalData> animals = MyBatis3Utils.selectList(mapper::selectMany, selectStatements);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(bodyWeight, isGreaterThan(1.0))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+            assertThat(animals).hasSize(58)
+                    .extracting(AnimalData::getId)
+                    .containsExactlyElementsOf(mapper.selectMany(selectStatement).stream()
+                            .map(AnimalData::getId)
+                            .collect(Collectors.toList()));
+        }
+    }
+
     @Test
     void testInConditionWithEventuallyEmptyList() {
         try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
@@ -1608,6 +1797,43 @@ class AnimalDataTest {
         }
     }
 
+    @Test
+    void testStreamingBatchInsert() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+
+            StreamingBatchInsert<AnimalData> batchInsert = insertBatch(IntStream.rangeClosed(100, 1099)
+                    .mapToObj(i -> {
+                        AnimalData record = new AnimalData();
+                        record.setId(i);
+                        record.setAnimalName("Animal " + i);
+                        record.setBodyWeight(i * 0.5);
+                        return record;
+                    }))
+                    .into(animalData)
+                    .map(id).toProperty("id")
+                    .map(animalName).toProperty("animalName")
+                    .map(bodyWeight).toProperty("bodyWeight")
+                    .map(brainWeight).toConstant("1.2")
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            batchInsert.insertStatements().forEach(mapper::insert);
+            mapper.flush();
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isGreaterThanOrEqualTo(100))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+            assertThat(animals).hasSize(1000);
+            assertThat(animals.get(999).getAnimalName()).isEqualTo("Animal 1099");
+        }
+    }
+
     @Test
     void testBulkInsert2() {
         try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2020 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -29,10 +29,14 @@ import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.ResultMap;
 import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.type.JdbcType;
 import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.SqlBuilder;
 import org.mybatis.dynamic.sql.delete.DeleteDSLCompleter;
 import org.mybatis.dynamic.sql.insert.GeneralInsertDSL;
+import org.mybatis.dynamic.sql.insert.render.InsertTemplate;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.CountDSLCompleter;
 import org.mybatis.dynamic.sql.select.SelectDSLCompleter;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
@@ -112,6 +116,10 @@ public interface PersonMapper extends CommonCountMapper, CommonDeleteMapper, Com
         );
     }
 
+    default int insertWithTemplate(PersonRecord record) {
+        return MyBatis3Utils.insert(this::insert, record, PersonInsertTemplate.INSTANCE);
+    }
+
     default int insertMultiple(PersonRecord...records) {
         return insertMultiple(Arrays.asList(records));
     }
@@ -128,6 +136,30 @@ public interface PersonMapper extends CommonCountMapper, CommonDeleteMapper, Com
         );
     }
 
+    default int insertMultiple(Collection<PersonRecord> records, int maxRowsPerStatement) {
+        return MyBatis3Utils.insertMultiple(this::insertMultiple, records, person, maxRowsPerStatement, c ->
+            c.map(id).toProperty("id")
+            .map(firstName).toProperty("firstName")
+            .map(lastName).toProperty("lastName")
+            .map(birthDate).toProperty("birthDate")
+            .map(employed).toProperty("employed")
+            .map(occupation).toProperty("occupation")
+            .map(addressId).toProperty("addressId")
+        );
+    }
+
+    default int insertBatch(SqlSession sqlSession, Collection<PersonRecord> records, int flushInterval) {
+        return MyBatis3Utils.insertBatch(sqlSession, this::insert, records, person, flushInterval, c ->
+            c.map(id).toProperty("id")
+            .map(firstName).toProperty("firstName")
+            .map(lastName).toProperty("lastName")
+            .map(birthDate).toProperty("birthDate")
+            .map(employed).toProperty("employed")
+            .map(occupation).toProperty("occupation")
+            .map(addressId).toProperty("addressId")
+        );
+    }
+
     default int insertSelective(PersonRecord record) {
         return MyBatis3Utils.insert(this::insert, record, person, c ->
             c.map(id).toPropertyWhenPresent("id", record::getId)
@@ -207,4 +239,21 @@ public interface PersonMapper extends CommonCountMapper, CommonDeleteMapper, Com
             .where(id, isEqualTo(record::getId))
         );
     }
+
+    final class PersonInsertTemplate {
+        private static final InsertTemplate<PersonRecord> INSTANCE = SqlBuilder.insert(new PersonRecord())
+                .into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employed")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId")
+                .build()
+                .renderTemplate(RenderingStrategies.MYBATIS3);
+
+        private PersonInsertTemplate() {
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2021 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import org.apache.ibatis.jdbc.ScriptRunner;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -28,22 +29,28 @@ import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.SortSpecification;
 import org.mybatis.dynamic.sql.delete.DeleteDSLCompleter;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.CountDSLCompleter;
 import org.mybatis.dynamic.sql.select.SelectDSLCompleter;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static examples.simple.AddressDynamicSqlSupport.address;
 import static examples.simple.PersonDynamicSqlSupport.addressId;
@@ -55,6 +62,7 @@ import static examples.simple.PersonDynamicSqlSupport.lastName;
 import static examples.simple.PersonDynamicSqlSupport.occupation;
 import static examples.simple.PersonDynamicSqlSupport.person;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
@@ -336,6 +344,82 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    void testInsertBatchWithFlushInterval() {
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            List<PersonRecord> records = IntStream.range(100, 105)
+                    .mapToObj(i -> newRecord(i, "Joe" + i))
+                    .collect(Collectors.toList());
+
+            int rows = mapper.insertBatch(session, records, 2);
+            assertThat(rows).isEqualTo(5);
+            session.commit();
+        }
+
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            assertThat(mapper.count(c -> c.where(id, isGreaterThanOrEqualTo(100)))).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void testInsertBatchWithoutBatchExecutor() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            List<PersonRecord> records = Arrays.asList(newRecord(100, "Joe"), newRecord(101, "Jim"));
+
+            int rows = mapper.insertBatch(session, records, 1);
+            assertThat(rows).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testInsertBatchWithSessionFactory() {
+        BatchInsert<PersonRecord> batchInsert = MyBatis3Utils.insertBatch(
+                Arrays.asList(newRecord(100, "Joe"), newRecord(101, "Jim"), newRecord(102, "Jane")), person,
+                c -> c.map(id).toProperty("id")
+                        .map(firstName).toProperty("firstName")
+                        .map(lastName).toProperty("lastName")
+                        .map(birthDate).toProperty("birthDate")
+                        .map(employed).toProperty("employed")
+                        .map(occupation).toProperty("occupation")
+                        .map(addressId).toProperty("addressId"));
+
+        int rows = MyBatis3Utils.insertBatch(sqlSessionFactory, s -> s.getMapper(PersonMapper.class)::insert,
+                batchInsert.insertStatements().stream(), 2);
+        assertThat(rows).isEqualTo(3);
+
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            assertThat(mapper.count(c -> c.where(id, isGreaterThanOrEqualTo(100)))).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void testInsertBatchWithInvalidFlushInterval() {
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            List<PersonRecord> records = Collections.singletonList(newRecord(100, "Joe"));
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> mapper.insertBatch(session, records, 0))
+                    .withMessage("The flush interval must be at least 1");
+        }
+    }
+
+    private PersonRecord newRecord(int personId, String name) {
+        PersonRecord record = new PersonRecord();
+        record.setId(personId);
+        record.setFirstName(name);
+        record.setLastName(LastName.of("Jones"));
+        record.setBirthDate(new Date());
+        record.setEmployed(true);
+        record.setOccupation("Developer");
+        record.setAddressId(1);
+        return record;
+    }
+
     @Test
     void testGeneralInsert() {
         try (SqlSession session = sqlSessionFactory.openSession()) {
@@ -386,6 +470,56 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    void testInsertWithTemplate() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            for (int i = 100; i < 103; i++) {
+                PersonRecord record = new PersonRecord();
+                record.setId(i);
+                record.setFirstName("Joe" + i);
+                record.setLastName(LastName.of("Jones"));
+                record.setBirthDate(new Date());
+                record.setEmployed(true);
+                record.setOccupation("Developer");
+                record.setAddressId(1);
+
+                assertThat(mapper.insertWithTemplate(record)).isEqualTo(1);
+            }
+
+            Optional<PersonRecord> newRecord = mapper.selectByPrimaryKey(102);
+            assertThat(newRecord).hasValueSatisfying(r -> assertThat(r.getFirstName()).isEqualTo("Joe102"));
+        }
+    }
+
+    @Test
+    void testInsertMultipleInChunks() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            List<PersonRecord> records = IntStream.rangeClosed(100, 104)
+                    .mapToObj(i -> {
+                        PersonRecord record = new PersonRecord();
+                        record.setId(i);
+                        record.setFirstName("Joe" + i);
+                        record.setLastName(LastName.of("Jones"));
+                        record.setBirthDate(new Date());
+                        record.setEmployed(true);
+                        record.setOccupation("Developer");
+                        record.setAddressId(1);
+                        return record;
+                    })
+                    .collect(Collectors.toList());
+
+            int rows = mapper.insertMultiple(records, 2);
+            assertThat(rows).isEqualTo(5);
+
+            long count = mapper.count(c -> c.where(id, isGreaterThanOrEqualTo(100)));
+            assertThat(count).isEqualTo(5);
+        }
+    }
+
     @Test
     void testInsertSelective() {
         try (SqlSession session = sqlSessionFactory.openSession()) {
@@ -0,0 +1,196 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.spring;
+
+import static examples.spring.PersonDynamicSqlSupport.*;
+import static examples.spring.PersonTemplateTest.personRowMapper;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.spring.JdbcTemplateExtensions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringJUnitConfig(classes = SpringConfiguration.class)
+@Transactional
+class PersonJdbcTemplateTest {
+
+    @Autowired
+    private JdbcTemplateExtensions template;
+
+    @Test
+    void testSelect() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isIn(1, 2, 3, 5))
+                .and(employed, isEqualTo(true))
+                .and(lastName, isEqualTo(LastName.of("Rubble")))
+                .orderBy(id);
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(5);
+    }
+
+    @Test
+    void testSelectRenderedStatement() {
+        SelectStatementProvider selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isGreaterThan(2))
+                .orderBy(id)
+                .limit(2)
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(selectStatement.getSelectStatement()).endsWith("where id > ? order by id limit ?");
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(3, 4);
+    }
+
+    @Test
+    void testSelectOne() {
+        Optional<PersonRecord> row = template.selectOne(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(firstName, isEqualTo("Barney")), personRowMapper);
+
+        assertThat(row).hasValueSatisfying(r -> assertThat(r.getId()).isEqualTo(4));
+    }
+
+    @Test
+    void testSelectOneNoRows() {
+        Optional<PersonRecord> row = template.selectOne(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isEqualTo(100)), personRowMapper);
+
+        assertThat(row).isEmpty();
+    }
+
+    @Test
+    void testCount() {
+        long rows = template.count(countFrom(person).where(occupation, isNull()));
+
+        assertThat(rows).isEqualTo(2);
+    }
+
+    @Test
+    void testInsertAndDelete() {
+        PersonRecord record = new PersonRecord();
+        record.setId(100);
+        record.setFirstName("Joe");
+        record.setLastName(LastName.of("Jones"));
+        record.setBirthDate(new Date());
+        record.setEmployed(true);
+        record.setAddressId(1);
+
+        Buildable<InsertModel<PersonRecord>> insertStatement = insert(record).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toPropertyWhenPresent("occupation", record::getOccupation)
+                .map(addressId).toProperty("addressId");
+
+        int inserted = template.insert(insertStatement);
+        int deleted = template.delete(deleteFrom(person).where(id, isEqualTo(100)));
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(deleted).isEqualTo(1);
+    }
+
+    @Test
+    void testGeneralInsertAndUpdate() {
+        Buildable<GeneralInsertModel> insertStatement = insertInto(person)
+                .set(id).toValue(100)
+                .set(firstName).toValue("Joe")
+                .set(lastName).toValue(LastName.of("Jones"))
+                .set(birthDate).toValue(new Date())
+                .set(employed).toValue(true)
+                .set(occupation).toValueWhenPresent((String) null)
+                .set(addressId).toValue(1);
+
+        UpdateStatementProvider updateStatement = update(person)
+                .set(occupation).equalTo("Programmer")
+                .where(id, isEqualTo(100))
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+
+        int inserted = template.generalInsert(insertStatement);
+        int updated = template.update(updateStatement);
+        Optional<PersonRecord> row = template.selectOne(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isEqualTo(100)), personRowMapper);
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(updated).isEqualTo(1);
+        assertThat(row).hasValueSatisfying(r -> assertThat(r.getOccupation()).isEqualTo("Programmer"));
+    }
+
+    @Test
+    void testInsertBatch() {
+        PersonRecord record1 = new PersonRecord();
+        record1.setId(100);
+        record1.setFirstName("Joe");
+        record1.setLastName(LastName.of("Jones"));
+        record1.setBirthDate(new Date());
+        record1.setEmployed(true);
+        record1.setOccupation("Developer");
+        record1.setAddressId(1);
+
+        PersonRecord record2 = new PersonRecord();
+        record2.setId(101);
+        record2.setFirstName("Sarah");
+        record2.setLastName(LastName.of("Smith"));
+        record2.setBirthDate(new Date());
+        record2.setEmployed(true);
+        record2.setOccupation("Architect");
+        record2.setAddressId(2);
+
+        Buildable<BatchInsertModel<PersonRecord>> insertStatement = insertBatch(Arrays.asList(record1, record2))
+                .into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId");
+
+        int[] rows = template.insertBatch(insertStatement);
+
+        assertThat(rows).containsExactly(1, 1);
+        assertThat(template.count(countFrom(person))).isEqualTo(8);
+    }
+}
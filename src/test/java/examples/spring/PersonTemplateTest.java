@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -18,12 +18,16 @@ package examples.spring;
 import static examples.spring.AddressDynamicSqlSupport.address;
 import static examples.spring.PersonDynamicSqlSupport.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
@@ -31,11 +35,19 @@ import org.mybatis.dynamic.sql.insert.BatchInsertModel;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.insert.InsertModel;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertModel;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.InsertTemplate;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.spring.BatchChunkFailedException;
 import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
+import org.mybatis.dynamic.sql.where.condition.ArrayDialect;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
@@ -205,6 +217,36 @@ class PersonTemplateTest {
         assertThat(rows.get(1).getLastName().getName()).isEqualTo("Rubble");
     }
 
+    @Test
+    void testFirstNameInArray() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(firstName, isInArray("Fred", "Barney").withDialect(ArrayDialect.HSQLDB))
+                .orderBy(id);
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getLastName().getName()).isEqualTo("Flintstone");
+        assertThat(rows.get(1).getLastName().getName()).isEqualTo("Rubble");
+    }
+
+    @Test
+    void testFirstNameInSplitByParameterLimit() {
+        List<SelectStatementProvider> selectStatements =
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(firstName, isIn("Fred", "Wilma", "Pebbles", "Barney"))
+                .orderBy(id)
+                .build()
+                .renderWithParameterLimit(RenderingStrategies.SPRING_NAMED_PARAMETER, 3);
+
+        List<PersonRecord> rows = template.selectList(selectStatements, personRowMapper);
+
+        assertThat(selectStatements).hasSize(2);
+        assertThat(rows).extracting(PersonRecord::getId).containsExactly(1, 2, 3, 4);
+    }
+
     @Test
     void testDelete() {
         Buildable<DeleteModel> deleteStatement = deleteFrom(person)
@@ -314,6 +356,56 @@ class PersonTemplateTest {
         assertThat(rows).isEqualTo(2);
     }
 
+    @Test
+    void testInsertWithTemplate() {
+        InsertTemplate<PersonRecord> insertTemplate = insert(new PersonRecord()).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId")
+                .build()
+                .renderTemplate(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        int rows = template.insert(insertTemplate, newPerson(100)) + template.insert(insertTemplate, newPerson(101));
+        assertThat(rows).isEqualTo(2);
+
+        long count = template.count(countFrom(person).where(id, isGreaterThanOrEqualTo(100)));
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    void testInsertMultipleInChunks() {
+        List<PersonRecord> records = IntStream.rangeClosed(100, 104)
+                .mapToObj(i -> {
+                    PersonRecord record = new PersonRecord();
+                    record.setId(i);
+                    record.setFirstName("Joe" + i);
+                    record.setLastName(LastName.of("Jones"));
+                    record.setBirthDate(new Date());
+                    record.setEmployed(true);
+                    record.setOccupation("Developer");
+                    record.setAddressId(1);
+                    return record;
+                })
+                .collect(Collectors.toList());
+
+        Buildable<MultiRowInsertModel<PersonRecord>> insertStatement = insertMultiple(records).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId");
+
+        int rows = template.insertMultiple(insertStatement, 2);
+
+        assertThat(rows).isEqualTo(5);
+    }
+
     @Test
     void testInsertBatch() {
 
@@ -355,6 +447,96 @@ class PersonTemplateTest {
         assertThat(rows[1]).isEqualTo(1);
     }
 
+    @Test
+    void testInsertBatchFromStream() {
+        Buildable<StreamingBatchInsertModel<PersonRecord>> insertStatement = insertBatch(IntStream.rangeClosed(100, 104)
+                .mapToObj(i -> {
+                    PersonRecord record = new PersonRecord();
+                    record.setId(i);
+                    record.setFirstName("Joe");
+                    record.setLastName(LastName.of("Jones"));
+                    record.setBirthDate(new Date());
+                    record.setEmployed(true);
+                    record.setOccupation("Developer");
+                    record.setAddressId(1);
+                    return record;
+                }))
+                .into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId");
+
+        int[] rows = template.insertBatch(insertStatement, 2);
+
+        assertThat(rows).containsExactly(1, 1, 1, 1, 1);
+
+        long count = template.count(countFrom(person).where(id, isGreaterThanOrEqualTo(100)));
+        assertThat(count).isEqualTo(5);
+    }
+
+    @Test
+    void testInsertBatchInChunks() {
+        BatchInsert<PersonRecord> insertStatement = insertBatch(IntStream.rangeClosed(100, 104)
+                .mapToObj(this::newPerson)
+                .collect(Collectors.toList()))
+                .into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        int[] rows = template.insertBatch(insertStatement, 2);
+
+        assertThat(rows).containsExactly(1, 1, 1, 1, 1);
+    }
+
+    @Test
+    void testInsertBatchInChunksReportsFailedChunk() {
+        // person 1 already exists, so the second batch fails
+        BatchInsert<PersonRecord> insertStatement = insertBatch(Arrays.asList(newPerson(100), newPerson(101),
+                newPerson(102), newPerson(1), newPerson(103)))
+                .into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThatExceptionOfType(BatchChunkFailedException.class)
+                .isThrownBy(() -> template.insertBatch(insertStatement, 2))
+                .satisfies(e -> {
+                    assertThat(e.getChunkIndex()).isEqualTo(1);
+                    assertThat(e.getFirstRecordIndex()).isEqualTo(2);
+                    assertThat(e.getUpdateCounts()).containsExactly(1, 1);
+                    assertThat(e.getCause()).isInstanceOf(DataAccessException.class);
+                });
+    }
+
+    private PersonRecord newPerson(int personId) {
+        PersonRecord record = new PersonRecord();
+        record.setId(personId);
+        record.setFirstName("Joe");
+        record.setLastName(LastName.of("Jones"));
+        record.setBirthDate(new Date());
+        record.setEmployed(true);
+        record.setOccupation("Developer");
+        record.setAddressId(1);
+        return record;
+    }
+
     @Test
     void testInsertSelective() {
         PersonRecord record = new PersonRecord();
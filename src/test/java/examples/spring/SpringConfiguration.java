@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2021 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,9 +17,11 @@ package examples.spring;
 
 import javax.sql.DataSource;
 
+import org.mybatis.dynamic.sql.util.spring.JdbcTemplateExtensions;
 import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
@@ -42,6 +44,11 @@ public class SpringConfiguration {
         return new NamedParameterJdbcTemplate(dataSource);
     }
 
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
     @Bean
     public PlatformTransactionManager transactionManager(DataSource dataSource) {
         return new DataSourceTransactionManager(dataSource);
@@ -51,4 +58,9 @@ public class SpringConfiguration {
     public NamedParameterJdbcTemplateExtensions templateExtensions(NamedParameterJdbcTemplate template) {
         return new NamedParameterJdbcTemplateExtensions(template);
     }
+
+    @Bean
+    public JdbcTemplateExtensions jdbcTemplateExtensions(JdbcTemplate jdbcTemplate) {
+        return new JdbcTemplateExtensions(jdbcTemplate);
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.insert;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertTemplate;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class InsertTemplateTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testTemplateMatchesRenderedStatement() {
+        InsertModel<TestRow> insertModel = insert(new TestRow())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toStringConstant("fred")
+                .build();
+
+        InsertTemplate<TestRow> template = insertModel.renderTemplate(RenderingStrategies.MYBATIS3);
+
+        assertThat(template.getInsertStatement())
+                .isEqualTo(insertModel.render(RenderingStrategies.MYBATIS3).getInsertStatement())
+                .isEqualTo("insert into foo (id, description) values (#{record.id,jdbcType=INTEGER}, 'fred')");
+        assertThat(template.getPropertyAccessorPlan().propertyNames()).containsExactly("id");
+    }
+
+    @Test
+    void testBindRows() {
+        InsertTemplate<TestRow> template = insert(new TestRow())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .build()
+                .renderTemplate(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        TestRow row1 = new TestRow();
+        TestRow row2 = new TestRow();
+        InsertStatementProvider<TestRow> insertStatement1 = template.bind(row1);
+        InsertStatementProvider<TestRow> insertStatement2 = template.bind(row2);
+
+        assertThat(insertStatement1.getRow()).isSameAs(row1);
+        assertThat(insertStatement2.getRow()).isSameAs(row2);
+        assertThat(insertStatement1.getInsertStatement()).isSameAs(insertStatement2.getInsertStatement())
+                .isEqualTo("insert into foo (id, description) values (:id, :description)");
+        assertThat(insertStatement1.getPropertyAccessorPlan()).isSameAs(template.getPropertyAccessorPlan());
+    }
+
+    @Test
+    void testWhenPresentMappingsAreNotSupported() {
+        TestRow row = new TestRow();
+        InsertModel<TestRow> insertModel = insert(row)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toPropertyWhenPresent("description", row::getDescription)
+                .build();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() ->
+                insertModel.renderTemplate(RenderingStrategies.MYBATIS3));
+    }
+
+    static class TestRow {
+        private Integer id;
+        private String description;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
+}
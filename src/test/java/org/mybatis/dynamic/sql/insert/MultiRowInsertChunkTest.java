@@ -0,0 +1,133 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class MultiRowInsertChunkTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testFullChunksShareStatement() {
+        List<MultiRowInsertStatementProvider<Integer>> insertStatements = insertMultiple(1, 2, 3, 4, 5)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toStringConstant("fred")
+                .build()
+                .renderInChunks(RenderingStrategies.MYBATIS3, 2);
+
+        assertThat(insertStatements).hasSize(3);
+        assertThat(insertStatements.get(0).getInsertStatement()).isEqualTo(
+                "insert into foo (id, description) values (#{records[0].id,jdbcType=INTEGER}, 'fred'), "
+                + "(#{records[1].id,jdbcType=INTEGER}, 'fred')");
+        assertThat(insertStatements.get(1).getInsertStatement()).isSameAs(insertStatements.get(0).getInsertStatement());
+        assertThat(insertStatements.get(2).getInsertStatement()).isEqualTo(
+                "insert into foo (id, description) values (#{records[0].id,jdbcType=INTEGER}, 'fred')");
+        assertThat(insertStatements).extracting(MultiRowInsertStatementProvider::getRecords)
+                .containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5));
+    }
+
+    @Test
+    void testSingleChunkMatchesRender() {
+        MultiRowInsertModel<Integer> insertModel = insertMultiple(1, 2, 3)
+                .into(foo)
+                .map(id).toProperty("id")
+                .build();
+
+        List<MultiRowInsertStatementProvider<Integer>> insertStatements =
+                insertModel.renderInChunks(RenderingStrategies.SPRING_NAMED_PARAMETER, 3);
+
+        assertThat(insertStatements).hasSize(1);
+        assertThat(insertStatements.get(0).getInsertStatement())
+                .isEqualTo(insertModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER).getInsertStatement());
+    }
+
+    @Test
+    void testParameterLimit() {
+        List<MultiRowInsertStatementProvider<Integer>> insertStatements = insertMultiple(1, 2, 3, 4, 5)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .build()
+                .renderWithParameterLimit(RenderingStrategies.SPRING_NAMED_PARAMETER, 5);
+
+        // two parameters per row - so two rows per statement
+        assertThat(insertStatements).extracting(p -> p.getRecords().size()).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void testParameterLimitIgnoresConstants() {
+        List<MultiRowInsertStatementProvider<Integer>> insertStatements = insertMultiple(1, 2, 3)
+                .into(foo)
+                .map(id).toConstant("22")
+                .map(description).toNull()
+                .build()
+                .renderWithParameterLimit(RenderingStrategies.SPRING_NAMED_PARAMETER, 1);
+
+        assertThat(insertStatements).hasSize(1);
+        assertThat(insertStatements.get(0).getRecords()).hasSize(3);
+    }
+
+    @Test
+    void testRowExceedsParameterLimit() {
+        MultiRowInsertModel<Integer> insertModel = insertMultiple(1, 2)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .build();
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                insertModel.renderWithParameterLimit(RenderingStrategies.SPRING_NAMED_PARAMETER, 1));
+    }
+
+    @Test
+    void testNoRecords() {
+        List<MultiRowInsertStatementProvider<Integer>> insertStatements =
+                insertMultiple(Collections.<Integer>emptyList())
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .renderInChunks(RenderingStrategies.MYBATIS3, 10);
+
+        assertThat(insertStatements).isEmpty();
+    }
+
+    @Test
+    void testInvalidChunkSize() {
+        MultiRowInsertModel<Integer> insertModel = insertMultiple(1, 2)
+                .into(foo)
+                .map(id).toProperty("id")
+                .build();
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                insertModel.renderInChunks(RenderingStrategies.MYBATIS3, 0));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class StreamingBatchInsertTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testStatementMatchesBatchInsert() {
+        StreamingBatchInsert<Integer> streamingInsert = insertBatch(Stream.of(1, 2))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toStringConstant("fred")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String batchInsertStatement = insertBatch(Arrays.asList(1, 2))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toStringConstant("fred")
+                .build()
+                .render(RenderingStrategies.MYBATIS3)
+                .getInsertStatementSQL();
+
+        assertThat(streamingInsert.getInsertStatementSQL()).isEqualTo(batchInsertStatement)
+                .isEqualTo("insert into foo (id, description) values (#{record.id,jdbcType=INTEGER}, 'fred')");
+    }
+
+    @Test
+    void testRecordsAreReadLazily() {
+        AtomicInteger readCount = new AtomicInteger();
+        StreamingBatchInsert<Integer> insert = insertBatch(IntStream.rangeClosed(1, 5).boxed()
+                .peek(i -> readCount.incrementAndGet()))
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(readCount).hasValue(0);
+
+        List<InsertStatementProvider<Integer>> insertStatements = insert.insertStatements()
+                .collect(Collectors.toList());
+        assertThat(readCount).hasValue(5);
+        assertThat(insertStatements).extracting(InsertStatementProvider::getRow).containsExactly(1, 2, 3, 4, 5);
+        assertThat(insertStatements).extracting(InsertStatementProvider::getInsertStatement)
+                .containsOnly(insert.getInsertStatementSQL());
+    }
+
+    @Test
+    void testForEachChunk() {
+        StreamingBatchInsert<Integer> insert = insertBatch(IntStream.rangeClosed(1, 7).iterator())
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        List<List<Integer>> chunks = new ArrayList<>();
+        insert.forEachChunk(3, chunks::add);
+
+        assertThat(chunks).containsExactly(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6),
+                Arrays.asList(7));
+    }
+
+    @Test
+    void testForEachChunkWithNoRecords() {
+        StreamingBatchInsert<Integer> insert = insertBatch(Stream.<Integer>empty())
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        List<List<Integer>> chunks = new ArrayList<>();
+        insert.forEachChunk(3, chunks::add);
+
+        assertThat(chunks).isEmpty();
+    }
+
+    @Test
+    void testInvalidChunkSize() {
+        StreamingBatchInsert<Integer> insert = insertBatch(Stream.of(1))
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                insert.forEachChunk(0, c -> { }));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UnknownFormatConversionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class MultiRowValuesTemplateTest {
+
+    @Test
+    void testMyBatisPlaceholders() {
+        List<String> phrases = Arrays.asList("#{records[%s].id,jdbcType=INTEGER}", "null", "'fred'",
+                "#{records[%s].description,jdbcType=VARCHAR}");
+
+        assertThat(MultiRowValuesTemplate.of(phrases).render("values ", 2)).isEqualTo("values "
+                + "(#{records[0].id,jdbcType=INTEGER}, null, 'fred', #{records[0].description,jdbcType=VARCHAR}), "
+                + "(#{records[1].id,jdbcType=INTEGER}, null, 'fred', #{records[1].description,jdbcType=VARCHAR})");
+    }
+
+    @Test
+    void testSpringPlaceholders() {
+        List<String> phrases = Arrays.asList(":records[%s].id", ":records[%s].description");
+
+        assertThat(MultiRowValuesTemplate.of(phrases).render("values ", 3)).isEqualTo("values "
+                + "(:records[0].id, :records[0].description), (:records[1].id, :records[1].description), "
+                + "(:records[2].id, :records[2].description)");
+    }
+
+    @Test
+    void testEscapedPercentSign() {
+        List<String> phrases = Arrays.asList(":records[%s].id", "'100%%'");
+
+        assertThat(MultiRowValuesTemplate.of(phrases).render("", 2))
+                .isEqualTo(expected(phrases, 2))
+                .isEqualTo("(:records[0].id, '100%'), (:records[1].id, '100%')");
+    }
+
+    @Test
+    void testOtherFormatSpecifiersAreFormatted() {
+        List<String> phrases = Arrays.asList(":records[%s].id", "%05d");
+
+        assertThat(MultiRowValuesTemplate.of(phrases).render("", 2))
+                .isEqualTo("(:records[0].id, 00000), (:records[1].id, 00001)");
+    }
+
+    @Test
+    void testInvalidFormatFailsAsBefore() {
+        MultiRowValuesTemplate template = MultiRowValuesTemplate.of(Collections.singletonList("'100%'"));
+
+        assertThatExceptionOfType(UnknownFormatConversionException.class).isThrownBy(() ->
+                template.render("", 1));
+    }
+
+    @Test
+    void testNoRows() {
+        List<String> phrases = Collections.singletonList(":records[%s].id");
+
+        assertThat(MultiRowValuesTemplate.of(phrases).render("values ", 0)).isEqualTo("values ");
+    }
+
+    @Test
+    void testManyRowsMatchFormattedRows() {
+        List<String> phrases = IntStream.range(0, 20)
+                .mapToObj(i -> "#{records[%s].p" + i + ",jdbcType=VARCHAR}")
+                .collect(Collectors.toList());
+
+        assertThat(MultiRowValuesTemplate.of(phrases).render("", 5000)).isEqualTo(expected(phrases, 5000));
+    }
+
+    /**
+     * The rendering used before the template was introduced.
+     */
+    private String expected(List<String> phrases, int rowCount) {
+        return IntStream.range(0, rowCount)
+                .mapToObj(row -> phrases.stream()
+                        .map(s -> String.format(s, row))
+                        .collect(Collectors.joining(", ", "(", ")")))
+                .collect(Collectors.joining(", "));
+    }
+}
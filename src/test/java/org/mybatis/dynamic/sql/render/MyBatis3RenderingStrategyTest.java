@@ -0,0 +1,91 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+class MyBatis3RenderingStrategyTest {
+    private static final SqlTable table = SqlTable.of("foo");
+
+    @Test
+    void testColumnPlaceholder() {
+        SqlColumn<String> column = table.column("name", JDBCType.VARCHAR, "foo.Bar")
+                .withJavaType(String.class);
+        MyBatis3RenderingStrategy strategy = new MyBatis3RenderingStrategy();
+
+        String expected = "#{parameters.p1,jdbcType=VARCHAR,javaType=java.lang.String,typeHandler=foo.Bar}";
+        assertThat(strategy.getFormattedJdbcPlaceholder(column, "parameters", "p1")).isEqualTo(expected);
+        assertThat(strategy.getFormattedJdbcPlaceholder(column, "parameters", "p2"))
+                .isEqualTo("#{parameters.p2,jdbcType=VARCHAR,javaType=java.lang.String,typeHandler=foo.Bar}");
+
+        StringBuilder buffer = new StringBuilder("a = ");
+        strategy.appendFormattedJdbcPlaceholder(buffer, column, "parameters", "p1");
+        assertThat(buffer).hasToString("a = " + expected);
+    }
+
+    @Test
+    void testDerivedColumnsAreCachedSeparately() {
+        SqlColumn<Integer> column = table.column("id", JDBCType.INTEGER);
+        SqlColumn<Integer> convertedColumn = column.withTypeHandler("foo.Bar");
+        MyBatis3RenderingStrategy strategy = new MyBatis3RenderingStrategy();
+
+        assertThat(strategy.getFormattedJdbcPlaceholder(column, "parameters", "p1"))
+                .isEqualTo("#{parameters.p1,jdbcType=INTEGER}");
+        assertThat(strategy.getFormattedJdbcPlaceholder(convertedColumn, "parameters", "p2"))
+                .isEqualTo("#{parameters.p2,jdbcType=INTEGER,typeHandler=foo.Bar}");
+    }
+
+    @Test
+    void testColumnsWithTheSameAttributesShareASuffix() {
+        MyBatis3RenderingStrategy strategy = new MyBatis3RenderingStrategy();
+        SqlColumn<Integer> id = table.column("id", JDBCType.INTEGER);
+        SqlColumn<String> name = table.column("name", JDBCType.VARCHAR, "foo.Bar");
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(strategy.getFormattedJdbcPlaceholder(table.column("id", JDBCType.INTEGER), "parameters", "p1"))
+                    .isEqualTo(strategy.getFormattedJdbcPlaceholder(id, "parameters", "p1"))
+                    .isEqualTo("#{parameters.p1,jdbcType=INTEGER}");
+            assertThat(strategy.getFormattedJdbcPlaceholder(table.column("other", JDBCType.VARCHAR, "foo.Bar"),
+                    "parameters", "p2"))
+                    .isEqualTo(strategy.getFormattedJdbcPlaceholder(name, "parameters", "p2"))
+                    .isEqualTo("#{parameters.p2,jdbcType=VARCHAR,typeHandler=foo.Bar}");
+            assertThat(strategy.getFormattedJdbcPlaceholder(table.column("description"), "parameters", "p3"))
+                    .isEqualTo("#{parameters.p3}");
+        }
+    }
+
+    @Test
+    void testAppendUsesOverriddenFormat() {
+        SqlColumn<Integer> column = table.column("id", JDBCType.INTEGER);
+        MyBatis3RenderingStrategy strategy = new MyBatis3RenderingStrategy() {
+            @Override
+            public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+                return super.getFormattedJdbcPlaceholder(column, prefix, parameterName) + "::json";
+            }
+        };
+
+        StringBuilder buffer = new StringBuilder();
+        strategy.appendFormattedJdbcPlaceholder(buffer, column, "parameters", "p1");
+        assertThat(buffer).hasToString("#{parameters.p1,jdbcType=INTEGER}::json");
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.PositionalParameters;
+
+class PositionalParameterRenderingStrategyTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+    private static final SqlColumn<Boolean> active = foo.column("active");
+
+    @Test
+    void testSelectArgumentsAreInPlaceholderOrder() {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        SelectStatementProvider selectStatement = select(id, description)
+                .from(foo)
+                .where(description, isEqualTo("fred"))
+                .and(id, isIn(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11))
+                .and(active, isEqualTo(true))
+                .limit(3)
+                .build()
+                .render(strategy);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id, description from foo "
+                + "where description = ? and id in (?,?,?,?,?,?,?,?,?,?,?) and active = ? limit ?");
+
+        PositionalParameters parameters = strategy.toPositionalParameters(selectStatement.getParameters());
+        assertThat(parameters.arguments()).containsExactly("fred", 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, true, 3L);
+        assertThat(parameters.sqlTypes()).startsWith(Types.VARCHAR, Types.INTEGER)
+                .endsWith(Types.INTEGER, PositionalParameters.UNKNOWN_SQL_TYPE, PositionalParameters.UNKNOWN_SQL_TYPE);
+    }
+
+    @Test
+    void testUpdateWithoutTypes() {
+        UpdateStatementProvider updateStatement = update(foo)
+                .set(description).equalTo("barney")
+                .set(active).equalToWhenPresent((Boolean) null)
+                .where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+
+        assertThat(updateStatement.getUpdateStatement()).isEqualTo("update foo set description = ? where id = ?");
+
+        PositionalParameters parameters = PositionalParameters.of(updateStatement.getParameters());
+        assertThat(parameters.arguments()).containsExactly("barney", 3);
+        assertThat(parameters.sqlTypes())
+                .containsExactly(PositionalParameters.UNKNOWN_SQL_TYPE, PositionalParameters.UNKNOWN_SQL_TYPE);
+    }
+
+    @Test
+    void testInsertBindsRenderedProperties() {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        Row row = new Row(4, null, true);
+        InsertStatementProvider<Row> insertStatement = insert(row)
+                .into(foo)
+                .map(active).toProperty("active")
+                .map(description).toPropertyWhenPresent("description", row::getDescription)
+                .map(id).toProperty("id")
+                .build()
+                .render(strategy);
+
+        assertThat(insertStatement.getInsertStatement()).isEqualTo("insert into foo (active, id) values (?, ?)");
+
+        PositionalParameters parameters =
+                strategy.toPositionalParameters(row, insertStatement.getPropertyAccessorPlan());
+        assertThat(parameters.arguments()).containsExactly(true, 4);
+        assertThat(parameters.sqlTypes()).containsExactly(PositionalParameters.UNKNOWN_SQL_TYPE, Types.INTEGER);
+    }
+
+    @Test
+    void testPropertyMappedToTwoColumnsIsBoundTwice() {
+        SqlColumn<Integer> parentId = foo.column("parent_id", JDBCType.INTEGER);
+        Row row = new Row(5, "n", true);
+        InsertStatementProvider<Row> insertStatement = insert(row)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(parentId).toProperty("id")
+                .map(description).toProperty("description")
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+
+        assertThat(insertStatement.getInsertStatement())
+                .isEqualTo("insert into foo (id, parent_id, description) values (?, ?, ?)");
+
+        PositionalParameters parameters = RenderingStrategies.POSITIONAL_PARAMETER
+                .toPositionalParameters(row, insertStatement.getPropertyAccessorPlan());
+        assertThat(parameters.arguments()).containsExactly(5, 5, "n");
+    }
+
+    @Test
+    void testNestedProperties() {
+        Holder holder = new Holder(new Row(6, "inner", false), "outer");
+        InsertStatementProvider<Holder> insertStatement = insert(holder)
+                .into(foo)
+                .map(id).toProperty("row.id")
+                .map(description).toProperty("name")
+                .map(active).toProperty("row.active")
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+
+        PositionalParameters parameters = RenderingStrategies.POSITIONAL_PARAMETER
+                .toPositionalParameters(holder, insertStatement.getPropertyAccessorPlan());
+        assertThat(parameters.arguments()).containsExactly(6, "outer", false);
+
+        Holder empty = new Holder(null, "outer");
+        parameters = RenderingStrategies.POSITIONAL_PARAMETER
+                .toPositionalParameters(empty, insertStatement.getPropertyAccessorPlan());
+        assertThat(parameters.arguments()).containsExactly(null, "outer", null);
+    }
+
+    @Test
+    void testNestedPropertyWithoutGetter() {
+        Holder holder = new Holder(new Row(6, "inner", false), "outer");
+        InsertStatementProvider<Holder> insertStatement = insert(holder)
+                .into(foo)
+                .map(id).toProperty("row.missing")
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> RenderingStrategies.POSITIONAL_PARAMETER
+                        .toPositionalParameters(holder, insertStatement.getPropertyAccessorPlan()))
+                .withMessage("No getter for property missing of property path row.missing");
+    }
+
+    @Test
+    void testRecordedKeysMustMatchTheParameters() {
+        PositionalParameterRenderingStrategy strategy = PositionalParameterRenderingStrategy.recordingSqlTypes();
+        select(id).from(foo).where(id, isEqualTo(1)).build().render(strategy);
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("p1", 1);
+        parameters.put("p2", 2);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> strategy.toPositionalParameters(parameters))
+                .withMessage("The recorded parameter keys [p1] do not match the parameters of the statement [p1, p2]");
+    }
+
+    @Test
+    void testOtherParametersCannotBeBoundByPosition() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("p1", 1);
+        parameters.put("name", "fred");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> PositionalParameters.of(parameters))
+                .withMessage("Parameter \"name\" is not a generated parameter and cannot be bound by position");
+    }
+
+    public static class Row {
+        private final int id;
+        private final String description;
+        private final boolean active;
+
+        public Row(int id, String description, boolean active) {
+            this.id = id;
+            this.description = description;
+            this.active = active;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    public static class Holder {
+        private final Row row;
+        private final String name;
+
+        public Holder(Row row, String name) {
+            this.row = row;
+            this.name = name;
+        }
+
+        public Row getRow() {
+            return row;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
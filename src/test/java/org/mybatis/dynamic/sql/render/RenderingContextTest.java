@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.JDBCType;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+class RenderingContextTest {
+
+    @Test
+    void testDerivedContextSharesSequence() {
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .build();
+        RenderingContext derivedContext = renderingContext.withTableAliasCalculator(TableAliasCalculator.empty());
+
+        assertThat(renderingContext.nextMapKey()).isEqualTo("p1");
+        assertThat(derivedContext.nextMapKey()).isEqualTo("p2");
+        assertThat(renderingContext.nextMapKey()).isEqualTo("p3");
+    }
+
+    @Test
+    void testParameterKeysAreRecordedInOrder() {
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .build();
+        RenderingContext derivedContext = renderingContext.withTableAliasCalculator(TableAliasCalculator.empty());
+
+        renderingContext.nextMapKey();
+        derivedContext.nextMapKey();
+        renderingContext.nextMapKey();
+
+        assertThat(renderingContext.parameterKeys()).containsExactly("p1", "p2", "p3");
+        assertThat(derivedContext.parameterKeys()).containsExactly("p1", "p2", "p3");
+    }
+
+    @Test
+    void testSharedAtomicSequence() {
+        AtomicInteger sequence = new AtomicInteger(5);
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withSequence(sequence)
+                .build();
+
+        assertThat(renderingContext.nextMapKey()).isEqualTo("p5");
+        assertThat(RenderingStrategy.formatParameterMapKey(sequence)).isEqualTo("p6");
+        assertThat(renderingContext.nextMapKey()).isEqualTo("p7");
+    }
+
+    @Test
+    void testParameterPrefix() {
+        SqlColumn<Integer> id = SqlTable.of("foo").column("id", JDBCType.INTEGER);
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withParameterName("whereClause")
+                .build();
+
+        assertThat(renderingContext.formatParameterPlaceholder(id, "p1"))
+                .isEqualTo("#{whereClause.parameters.p1,jdbcType=INTEGER}");
+        assertThat(renderingContext.formatParameterPlaceholder("p2")).isEqualTo("#{whereClause.parameters.p2}");
+    }
+
+    @Test
+    void testAppendParameterPlaceholder() {
+        SqlColumn<Integer> id = SqlTable.of("foo").column("id", JDBCType.INTEGER);
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .build();
+        SqlBuffer buffer = new SqlBuffer().append("id = ");
+
+        renderingContext.appendParameterPlaceholder(buffer, id, "p1");
+
+        assertThat(buffer.sql()).isEqualTo("id = #{parameters.p1,jdbcType=INTEGER}");
+        assertThat(buffer.sql()).endsWith(renderingContext.formatParameterPlaceholder(id, "p1"));
+    }
+
+    @Test
+    void testParameterMapKeys() {
+        assertThat(RenderingContext.parameterMapKey(1)).isEqualTo("p1").isSameAs(RenderingContext.parameterMapKey(1));
+        assertThat(RenderingContext.parameterMapKey(5000)).isEqualTo("p5000");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+
+class SqlBufferTest {
+
+    @Test
+    void testSeparatorIsKeptWhenRendered() {
+        SqlBuffer buffer = new SqlBuffer().append("select a from b");
+
+        boolean rendered = buffer.appendIfRendered(" ", b -> {
+            b.append("where a = 1");
+            return true;
+        });
+
+        assertThat(rendered).isTrue();
+        assertThat(buffer.sql()).isEqualTo("select a from b where a = 1");
+    }
+
+    @Test
+    void testSeparatorIsRemovedWhenNotRendered() {
+        SqlBuffer buffer = new SqlBuffer().append("select a from b");
+
+        boolean rendered = buffer.appendIfRendered(" ", b -> false);
+
+        assertThat(rendered).isFalse();
+        assertThat(buffer.sql()).isEqualTo("select a from b");
+    }
+
+    @Test
+    void testWrap() {
+        SqlBuffer buffer = new SqlBuffer().append("where ");
+        int mark = buffer.length();
+        buffer.append("a = 1 or b = 2").wrap(mark, "not (", ")");
+
+        assertThat(buffer.sql()).isEqualTo("where not (a = 1 or b = 2)");
+    }
+
+    @Test
+    void testNestedBufferSharesParameters() {
+        SqlBuffer buffer = new SqlBuffer();
+        buffer.append("a = ?").addParameter("p1", 1);
+
+        SqlBuffer nestedBuffer = buffer.nestedBuffer();
+        nestedBuffer.append("select b from c where d = ?").addParameter("p2", 2);
+
+        assertThat(nestedBuffer.sql()).isEqualTo("select b from c where d = ?");
+        assertThat(buffer.sql()).isEqualTo("a = ?");
+        assertThat(buffer.parameters()).containsOnly(entry("p1", 1), entry("p2", 2));
+    }
+
+    @Test
+    void testToFragmentAndParameters() {
+        SqlBuffer buffer = new SqlBuffer();
+        buffer.append("a = ?").addParameter("p3", "fred");
+
+        FragmentAndParameters fragmentAndParameters = buffer.toFragmentAndParameters();
+
+        assertThat(fragmentAndParameters.fragment()).isEqualTo("a = ?");
+        assertThat(fragmentAndParameters.parameters()).containsOnly(entry("p3", "fred"));
+    }
+}
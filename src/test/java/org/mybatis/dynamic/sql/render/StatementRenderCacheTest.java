@@ -0,0 +1,501 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class StatementRenderCacheTest {
+    static final SqlTable foo = SqlTable.of("foo");
+    static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+    static final SqlTable bar = SqlTable.of("bar");
+    static final SqlColumn<Integer> barId = bar.column("id", JDBCType.INTEGER);
+    static final SqlColumn<Integer> fooId = bar.column("foo_id", JDBCType.INTEGER);
+
+    @Test
+    void testCacheHitRebindsParameters() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        SelectStatementProvider first = selectById(3).render(RenderingStrategies.MYBATIS3, cache);
+        selectById(5).render(RenderingStrategies.MYBATIS3, cache); // verifies the first rendering
+        SelectStatementProvider second = selectById(4).render(RenderingStrategies.MYBATIS3, cache);
+
+        assertThat(second.getSelectStatement()).isEqualTo(first.getSelectStatement());
+        assertThat(first.getParameters()).containsOnly(entry("p1", 3), entry("p2", "fred"));
+        assertThat(second.getParameters()).containsOnly(entry("p1", 4), entry("p2", "fred"));
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testArrayConditionsShareAShapeForAnySize() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        SelectStatementProvider first = select(id).from(foo).where(id, isInArray(1, 2, 3)).build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+        select(id).from(foo).where(id, isInArray(6)).build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+        SelectStatementProvider second = select(id).from(foo).where(id, isInArray(4, 5)).build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+
+        assertThat(first.getSelectStatement()).isEqualTo("select id from foo where id = any(:p1)");
+        assertThat(second.getSelectStatement()).isEqualTo(first.getSelectStatement());
+        assertThat(second.getParameters()).containsOnly(entry("p1", new Integer[] {4, 5}));
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testRenderingStrategyIsPartOfTheShape() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        SelectStatementProvider mybatis = selectById(3).render(RenderingStrategies.MYBATIS3, cache);
+        SelectStatementProvider spring = selectById(3).render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+
+        assertThat(spring.getSelectStatement()).isEqualTo("select id, description from foo where id = :p1 "
+                + "and description = :p2");
+        assertThat(mybatis.getSelectStatement()).isNotEqualTo(spring.getSelectStatement());
+        assertThat(cache.hitCount()).isZero();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testWhenPresentConditionsAreDistinctShapes() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        SelectStatementProvider withValue = selectWhenPresent(3).render(RenderingStrategies.MYBATIS3, cache);
+        SelectStatementProvider withoutValue = selectWhenPresent(null).render(RenderingStrategies.MYBATIS3, cache);
+        selectWhenPresent(null).render(RenderingStrategies.MYBATIS3, cache);
+        SelectStatementProvider withoutValueAgain = selectWhenPresent(null)
+                .render(RenderingStrategies.MYBATIS3, cache);
+
+        assertThat(withValue.getSelectStatement())
+                .isEqualTo("select id from foo where id = #{parameters.p1,jdbcType=INTEGER} or id is null");
+        assertThat(withoutValue.getSelectStatement()).isEqualTo("select id from foo where id is null");
+        assertThat(withoutValueAgain.getSelectStatement()).isEqualTo(withoutValue.getSelectStatement());
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testListSizesAreDistinctShapes() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        selectIn(1, 2, 3).render(RenderingStrategies.MYBATIS3, cache);
+        SelectStatementProvider selectStatement = selectIn(4, 5).render(RenderingStrategies.MYBATIS3, cache);
+        selectIn(8, 9).render(RenderingStrategies.MYBATIS3, cache);
+        SelectStatementProvider cached = selectIn(6, 7).render(RenderingStrategies.MYBATIS3, cache);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo where id in "
+                + "(#{parameters.p1,jdbcType=INTEGER},#{parameters.p2,jdbcType=INTEGER})");
+        assertThat(cached.getSelectStatement()).isEqualTo(selectStatement.getSelectStatement());
+        assertThat(cached.getParameters()).containsOnly(entry("p1", 6), entry("p2", 7));
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testRowValueCriteria() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        SelectStatementProvider first = select(id).from(foo)
+                .where(tuple(id, description).isIn(Arrays.asList(1, "a"), Arrays.asList(2, "b")))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+        select(id).from(foo)
+                .where(tuple(id, description).isIn(Arrays.asList(5, "e"), Arrays.asList(6, "f")))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+        SelectStatementProvider second = select(id).from(foo)
+                .where(tuple(id, description).isIn(Arrays.asList(3, "c"), Arrays.asList(4, "d")))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+        SelectStatementProvider expanded = select(id).from(foo)
+                .where(tuple(id, description).isIn(Arrays.asList(3, "c"), Arrays.asList(4, "d")).expandedToOr())
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+
+        assertThat(second.getSelectStatement()).isEqualTo(first.getSelectStatement());
+        assertThat(second.getParameters())
+                .containsOnly(entry("p1", 3), entry("p2", "c"), entry("p3", 4), entry("p4", "d"));
+        assertThat(expanded.getSelectStatement()).isEqualTo("select id from foo "
+                + "where ((id = :p1 and description = :p2) or (id = :p3 and description = :p4))");
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testSkippedConditionCallbacksOnCacheHit() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+        AtomicInteger callbackCount = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            select(id)
+                    .from(foo)
+                    .where(id, isIn(Collections.<Integer>emptyList())
+                            .withListEmptyCallback(callbackCount::incrementAndGet))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3, cache);
+        }
+
+        assertThat(callbackCount.get()).isEqualTo(3);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testComplexSelectMatchesUncachedRendering() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        for (int i = 0; i < 5; i++) {
+            SelectModel selectModel = complexSelect(i);
+            SelectStatementProvider expected = selectModel.render(RenderingStrategies.MYBATIS3);
+            SelectStatementProvider actual = selectModel.render(RenderingStrategies.MYBATIS3, cache);
+
+            assertThat(actual.getSelectStatement()).isEqualTo(expected.getSelectStatement());
+            assertThat(actual.getParameters()).isEqualTo(expected.getParameters());
+        }
+
+        // the second statement has a different shape because the "like" condition is not rendered
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testUpdate() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        UpdateStatementProvider first = updateModel(3, "fred").render(RenderingStrategies.MYBATIS3, cache);
+        updateModel(6, "wilma").render(RenderingStrategies.MYBATIS3, cache);
+        UpdateStatementProvider second = updateModel(4, "barney").render(RenderingStrategies.MYBATIS3, cache);
+        UpdateStatementProvider third = updateModel(5, null).render(RenderingStrategies.MYBATIS3, cache);
+
+        assertThat(second.getUpdateStatement()).isEqualTo(first.getUpdateStatement());
+        assertThat(second.getParameters()).containsOnly(entry("p1", "barney"), entry("p2", 4));
+        assertThat(third.getUpdateStatement())
+                .isEqualTo("update foo set id = id where id = #{parameters.p1,jdbcType=INTEGER}");
+        assertThat(third.getParameters()).containsOnly(entry("p1", 5));
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testGeneralInsert() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        GeneralInsertStatementProvider first = generalInsertModel(3, "fred")
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+        generalInsertModel(6, "betty").render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+        GeneralInsertStatementProvider second = generalInsertModel(4, "barney")
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+        GeneralInsertStatementProvider third = generalInsertModel(5, null)
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+        GeneralInsertStatementProvider fourth = generalInsertModel(null, "wilma")
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+
+        assertThat(first.getInsertStatement()).isEqualTo("insert into foo (id, description) values (:p1, :p2)");
+        assertThat(second.getInsertStatement()).isEqualTo(first.getInsertStatement());
+        assertThat(second.getParameters()).containsOnly(entry("p1", 4), entry("p2", "barney"));
+        assertThat(third.getInsertStatement()).isEqualTo("insert into foo (id) values (:p1)");
+        assertThat(third.getParameters()).containsOnly(entry("p1", 5));
+        assertThat(fourth.getInsertStatement()).isEqualTo("insert into foo (description) values (:p1)");
+        assertThat(fourth.getParameters()).containsOnly(entry("p1", "wilma"));
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(4);
+    }
+
+    @Test
+    void testWhenPresentMappingsMatchUncachedRendering() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+        Integer[] keys = { 1, null, 3, null };
+        String[] values = { "fred", "barney", null, null };
+
+        for (int i = 0; i < 8; i++) {
+            GeneralInsertModel insertModel = generalInsertModel(keys[i % 4], values[i % 4]);
+            UpdateModel updateModel = updateModel(keys[i % 4], values[i % 4]);
+            GeneralInsertStatementProvider cachedInsert = insertModel.render(RenderingStrategies.MYBATIS3, cache);
+            GeneralInsertStatementProvider insert = insertModel.render(RenderingStrategies.MYBATIS3);
+            UpdateStatementProvider cachedUpdate = updateModel.render(RenderingStrategies.MYBATIS3, cache);
+            UpdateStatementProvider update = updateModel.render(RenderingStrategies.MYBATIS3);
+
+            assertThat(cachedInsert.getInsertStatement()).isEqualTo(insert.getInsertStatement());
+            assertThat(cachedInsert.getParameters()).isEqualTo(insert.getParameters());
+            assertThat(cachedUpdate.getUpdateStatement()).isEqualTo(update.getUpdateStatement());
+            assertThat(cachedUpdate.getParameters()).isEqualTo(update.getParameters());
+        }
+        // four insert shapes and two update shapes, each rendered twice before it is served from the cache
+        assertThat(cache.missCount()).isEqualTo(12);
+        assertThat(cache.hitCount()).isEqualTo(4);
+    }
+
+    @Test
+    void testDelete() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        DeleteStatementProvider first = deleteModel(3).render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+        deleteModel(5).render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+        DeleteStatementProvider second = deleteModel(4).render(RenderingStrategies.SPRING_NAMED_PARAMETER, cache);
+
+        assertThat(first.getDeleteStatement()).isEqualTo("delete from foo where id = :p1");
+        assertThat(second.getDeleteStatement()).isEqualTo(first.getDeleteStatement());
+        assertThat(second.getParameters()).containsOnly(entry("p1", 4));
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        StatementRenderCache cache = StatementRenderCache.of(2);
+
+        selectIn(1).render(RenderingStrategies.MYBATIS3, cache);
+        selectIn(1, 2).render(RenderingStrategies.MYBATIS3, cache);
+        selectIn(1).render(RenderingStrategies.MYBATIS3, cache); // verified - makes the first shape most recently used
+        selectIn(1, 2, 3).render(RenderingStrategies.MYBATIS3, cache); // evicts the two value shape
+        selectIn(1).render(RenderingStrategies.MYBATIS3, cache); // hit
+        selectIn(1, 2).render(RenderingStrategies.MYBATIS3, cache); // evicted earlier
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(2);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(5);
+    }
+
+    @Test
+    void testPresenceMasksOfOneShapeAreEvicted() {
+        StatementRenderCache cache = StatementRenderCache.of(2);
+
+        generalInsertModel(1, "fred").render(RenderingStrategies.MYBATIS3, cache);
+        generalInsertModel(2, null).render(RenderingStrategies.MYBATIS3, cache);
+        generalInsertModel(3, "barney").render(RenderingStrategies.MYBATIS3, cache); // verified
+        generalInsertModel(null, "wilma").render(RenderingStrategies.MYBATIS3, cache); // evicts the id only mask
+        generalInsertModel(4, "betty").render(RenderingStrategies.MYBATIS3, cache); // hit
+        generalInsertModel(5, null).render(RenderingStrategies.MYBATIS3, cache); // evicted earlier
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(2);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(5);
+    }
+
+    @Test
+    void testColumnsBuiltPerStatementShareAShape() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        for (int i = 0; i < 3; i++) {
+            SqlColumn<Integer> rebuiltId = foo.column("id", JDBCType.INTEGER);
+            GeneralInsertStatementProvider insertStatement = insertInto(foo)
+                    .set(rebuiltId).toValue(i)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3, cache);
+
+            assertThat(insertStatement.getInsertStatement())
+                    .isEqualTo("insert into foo (id) values (#{parameters.p1,jdbcType=INTEGER})");
+            assertThat(insertStatement.getParameters()).containsOnly(entry("p1", i));
+        }
+
+        GeneralInsertStatementProvider bigintStatement = insertInto(foo)
+                .set(foo.column("id", JDBCType.BIGINT)).toValue(4)
+                .build()
+                .render(RenderingStrategies.MYBATIS3, cache);
+
+        assertThat(bigintStatement.getInsertStatement())
+                .isEqualTo("insert into foo (id) values (#{parameters.p1,jdbcType=BIGINT})");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testPresenceMaskIsNotPartOfTheShape() {
+        StatementFingerprint withValues = StatementFingerprint.of(generalInsertModel(1, "fred"),
+                RenderingStrategies.MYBATIS3);
+        StatementFingerprint withoutValues = StatementFingerprint.of(generalInsertModel(null, null),
+                RenderingStrategies.MYBATIS3);
+
+        assertThat(withValues.shape()).isEqualTo(withoutValues.shape());
+        assertThat(withValues.presence()).isNotEqualTo(withoutValues.presence());
+        assertThat(withValues.values()).containsExactly(1, "fred");
+        assertThat(withoutValues.values()).isEmpty();
+    }
+
+    @Test
+    void testMismatchedConverterIsNotCached() {
+        SqlColumn<String> converted = description.withParameterTypeConverter(s -> new StringBuilder(s));
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        for (int i = 0; i < 2; i++) {
+            SelectStatementProvider selectStatement = select(id)
+                    .from(foo)
+                    .where(converted, isEqualTo("fred"))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3, cache);
+
+            assertThat(selectStatement.getSelectStatement())
+                    .isEqualTo("select id from foo where description = #{parameters.p1,jdbcType=VARCHAR}");
+            assertThat(selectStatement.getParameters().get("p1")).hasToString("fred");
+        }
+
+        assertThat(cache.hitCount()).isZero();
+        assertThat(cache.missCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testStatementWithDifferentSqlIsNotCached() {
+        AtomicInteger renderCount = new AtomicInteger();
+        StatementRenderCache cache = StatementRenderCache.of(10);
+
+        for (int i = 1; i <= 3; i++) {
+            SelectStatementProvider selectStatement = select(id)
+                    .from(foo)
+                    .where(id, new NumberedCondition(i, renderCount))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3, cache);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo where id = "
+                    + "#{parameters.p1,jdbcType=INTEGER} /* " + i + " */");
+            assertThat(selectStatement.getParameters()).containsOnly(entry("p1", i));
+        }
+
+        assertThat(cache.hitCount()).isZero();
+        assertThat(cache.missCount()).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testClear() {
+        StatementRenderCache cache = StatementRenderCache.of(10);
+        selectById(3).render(RenderingStrategies.MYBATIS3, cache);
+
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.maximumSize()).isEqualTo(10);
+    }
+
+    @Test
+    void testInvalidMaximumSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> StatementRenderCache.of(0));
+    }
+
+    /**
+     * A condition that numbers its renderings, but not the probe rendering of the fingerprint. The SQL differs for
+     * every model, even though the shapes are equal.
+     */
+    private static class NumberedCondition extends AbstractSingleValueCondition<Integer> {
+        private final AtomicInteger renderCount;
+
+        NumberedCondition(Integer value, AtomicInteger renderCount) {
+            super(value);
+            this.renderCount = renderCount;
+        }
+
+        @Override
+        public NumberedCondition filter(Predicate<? super Integer> predicate) {
+            return this;
+        }
+
+        @Override
+        public String renderCondition(String columnName, String placeholder) {
+            String sql = columnName + " = " + placeholder;
+            return placeholder.contains("?") ? sql : sql + " /* " + renderCount.incrementAndGet() + " */";
+        }
+    }
+
+    private SelectModel selectById(Integer value) {
+        return select(id, description)
+                .from(foo)
+                .where(id, isEqualTo(value))
+                .and(description, isEqualTo("fred"))
+                .build();
+    }
+
+    private SelectModel selectWhenPresent(Integer value) {
+        return select(id)
+                .from(foo)
+                .where(id, isEqualToWhenPresent(value))
+                .or(id, isNull())
+                .build();
+    }
+
+    private SelectModel selectIn(Integer... values) {
+        return select(id)
+                .from(foo)
+                .where(id, isIn(Arrays.asList(values)))
+                .build();
+    }
+
+    private SelectModel complexSelect(int value) {
+        return select(id, description, count())
+                .from(foo, "f")
+                .join(bar, "b").on(id, equalTo(fooId))
+                .where(id, isBetween(value).and(value + 10))
+                .and(description, isInCaseInsensitive("a", "b"),
+                        or(id, isNotEqualTo(value * 2)),
+                        or(description, isLikeWhenPresent(value == 1 ? null : "%x")))
+                .and(exists(select(barId).from(bar).where(fooId, isEqualTo(value))))
+                .and(not(id, isNull()))
+                .groupBy(id, description)
+                .orderBy(id.descending())
+                .limit(value + 1)
+                .offset(value)
+                .build();
+    }
+
+    private UpdateModel updateModel(Integer key, String value) {
+        return update(foo)
+                .set(description).equalToWhenPresent(value)
+                .set(id).equalTo(id)
+                .where(id, isEqualTo(key))
+                .build();
+    }
+
+    private GeneralInsertModel generalInsertModel(Integer key, String value) {
+        return insertInto(foo)
+                .set(id).toValueWhenPresent(key)
+                .set(description).toValueWhenPresent(value)
+                .build();
+    }
+
+    private DeleteModel deleteModel(Integer key) {
+        return deleteFrom(foo)
+                .where(id, isEqualTo(key))
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.PreparedSelectTemplate;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class PreparedSelectTemplateTest {
+    static final SqlTable table = SqlTable.of("foo");
+    static final SqlColumn<Integer> column1 = table.column("column1", JDBCType.INTEGER);
+    static final SqlColumn<String> column2 = table.column("column2", JDBCType.VARCHAR);
+
+    @Test
+    void testBindReplacesValues() {
+        PreparedSelectTemplate template = select(column1, column2)
+                .from(table)
+                .where(column1, isEqualTo(1))
+                .and(column2, isIn("a", "b"))
+                .build()
+                .renderTemplate(RenderingStrategies.MYBATIS3);
+
+        SelectStatementProvider selectStatement = template.bind(22, "c", "d");
+
+        String expected = "select column1, column2 from foo where column1 = #{parameters.p1,jdbcType=INTEGER} "
+                + "and column2 in (#{parameters.p2,jdbcType=VARCHAR},#{parameters.p3,jdbcType=VARCHAR})";
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(expected);
+        assertThat(selectStatement.getParameters())
+                .containsOnly(entry("p1", 22), entry("p2", "c"), entry("p3", "d"));
+    }
+
+    @Test
+    void testParameterKeysAreInStatementOrder() {
+        PreparedSelectTemplate template = select(column1)
+                .from(table)
+                .where(column1, isIn(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11))
+                .build()
+                .renderTemplate(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(template.parameterCount()).isEqualTo(11);
+        assertThat(template.parameterKeys())
+                .containsExactly("p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8", "p9", "p10", "p11");
+    }
+
+    @Test
+    void testTemplateMatchesRenderedStatement() {
+        SelectModel selectModel = select(column1)
+                .from(table)
+                .where(column1, isBetween(1).and(10))
+                .orderBy(column1)
+                .limit(5)
+                .build();
+        SelectStatementProvider original = selectModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        PreparedSelectTemplate template = selectModel.renderTemplate(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        SelectStatementProvider rebound = template.bind(100, 200, 3L);
+
+        assertThat(rebound.getSelectStatement()).isEqualTo(original.getSelectStatement());
+        assertThat(rebound.getParameters())
+                .containsOnly(entry("p1", 100), entry("p2", 200), entry("p3", 3L));
+    }
+
+    @Test
+    void testTemplateWithoutParameters() {
+        PreparedSelectTemplate template = select(column1)
+                .from(table)
+                .build()
+                .renderTemplate(RenderingStrategies.MYBATIS3);
+
+        SelectStatementProvider selectStatement = template.bind();
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select column1 from foo");
+        assertThat(selectStatement.getParameters()).isEmpty();
+    }
+
+    @Test
+    void testWrongNumberOfValues() {
+        PreparedSelectTemplate template = select(column1)
+                .from(table)
+                .where(column1, isEqualTo(1))
+                .build()
+                .renderTemplate(RenderingStrategies.MYBATIS3);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> template.bind(1, 2))
+                .withMessage("The template requires 1 parameter values, but 2 were supplied");
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.ParameterLimitExceededException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class SelectModelSplitterTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testStatementWithinLimitIsNotSplit() {
+        List<SelectStatementProvider> selectStatements = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3))
+                .build()
+                .renderWithParameterLimit(RenderingStrategies.SPRING_NAMED_PARAMETER, 3);
+
+        assertThat(selectStatements).hasSize(1);
+        assertThat(selectStatements.get(0).getSelectStatement())
+                .isEqualTo("select id from foo where id in (:p1,:p2,:p3)");
+    }
+
+    @Test
+    void testSplitOnLargestInCondition() {
+        List<SelectStatementProvider> selectStatements = select(id)
+                .from(foo)
+                .where(description, isEqualTo("fred"))
+                .and(id, isIn(1, 2, 3, 4, 5))
+                .and(description, isIn("a", "b"))
+                .orderBy(id)
+                .build()
+                .renderWithParameterLimit(RenderingStrategies.SPRING_NAMED_PARAMETER, 5);
+
+        assertThat(selectStatements).hasSize(3);
+        assertThat(selectStatements.get(0).getSelectStatement()).isEqualTo(
+                "select id from foo where description = :p1 and id in (:p2,:p3) and description in (:p4,:p5) "
+                + "order by id");
+        assertThat(selectStatements.get(0).getParameters())
+                .containsOnly(entry("p1", "fred"), entry("p2", 1), entry("p3", 2), entry("p4", "a"), entry("p5", "b"));
+        assertThat(selectStatements.get(2).getSelectStatement()).isEqualTo(
+                "select id from foo where description = :p1 and id in (:p2) and description in (:p3,:p4) "
+                + "order by id");
+        assertThat(selectStatements.get(2).getParameters()).containsEntry("p2", 5);
+    }
+
+    @Test
+    void testDuplicateValuesAreBoundOnce() {
+        List<SelectStatementProvider> selectStatements = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 1, 3, 2, 3, 4))
+                .build()
+                .renderWithParameterLimit(RenderingStrategies.SPRING_NAMED_PARAMETER, 3);
+
+        assertThat(selectStatements).hasSize(2);
+        assertThat(selectStatements.get(0).getParameters())
+                .containsOnly(entry("p1", 1), entry("p2", 2), entry("p3", 3));
+        assertThat(selectStatements.get(1).getParameters()).containsOnly(entry("p1", 4));
+    }
+
+    @Test
+    void testStatementWithOrCannotBeSplit() {
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3, 4))
+                .or(description, isEqualTo("fred"))
+                .build();
+
+        assertThatExceptionOfType(ParameterLimitExceededException.class).isThrownBy(() ->
+                selectModel.renderWithParameterLimit(RenderingStrategies.SPRING_NAMED_PARAMETER, 3))
+                .withMessage("The statement binds 5 parameters, which is more than the limit of 3, "
+                        + "and it cannot be split because its where clause has criteria joined with \"or\"");
+    }
+
+    @Test
+    void testDistinctStatementCannotBeSplit() {
+        SelectModel selectModel = selectDistinct(description)
+                .from(foo)
+                .where(id, isIn(1, 2, 3, 4))
+                .build();
+
+        assertThatExceptionOfType(ParameterLimitExceededException.class).isThrownBy(() ->
+                selectModel.renderWithParameterLimit(RenderingStrategies.SPRING_NAMED_PARAMETER, 3))
+                .withMessage("The statement binds 4 parameters, which is more than the limit of 3, "
+                        + "and it cannot be split because it selects distinct rows");
+    }
+
+    @Test
+    void testPagedStatementCannotBeSplit() {
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3, 4))
+                .limit(2)
+                .build();
+
+        assertThatExceptionOfType(ParameterLimitExceededException.class).isThrownBy(() ->
+                selectModel.renderWithParameterLimit(RenderingStrategies.SPRING_NAMED_PARAMETER, 3))
+                .withMessage("The statement binds 5 parameters, which is more than the limit of 3, "
+                        + "and it cannot be split because it is paged");
+    }
+
+    @Test
+    void testStatementWithTooManyOtherParametersCannotBeSplit() {
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2))
+                .and(description, isIn("a", "b"))
+                .build();
+
+        assertThatExceptionOfType(ParameterLimitExceededException.class).isThrownBy(() ->
+                selectModel.renderWithParameterLimit(RenderingStrategies.SPRING_NAMED_PARAMETER, 2))
+                .withMessage("The statement binds 4 parameters, which is more than the limit of 2, "
+                        + "and it cannot be split because 2 of the parameters are not values of an \"in\" condition");
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ParameterMapTest {
+
+    @Test
+    void testGeneratedKeys() {
+        Map<String, Object> parameters = new ParameterMap();
+        parameters.put("p2", "fred");
+        parameters.put("p1", 1);
+        parameters.put("p3", null);
+
+        assertThat(parameters).hasSize(3);
+        assertThat(parameters.get("p1")).isEqualTo(1);
+        assertThat(parameters.get("p2")).isEqualTo("fred");
+        assertThat(parameters.get("p3")).isNull();
+        assertThat(parameters.containsKey("p3")).isTrue();
+        assertThat(parameters.containsKey("p4")).isFalse();
+        assertThat(parameters).containsExactly(entry("p1", 1), entry("p2", "fred"), entry("p3", null));
+    }
+
+    @Test
+    void testOtherKeys() {
+        Map<String, Object> parameters = new ParameterMap();
+        parameters.put("p1", 1);
+        parameters.put("p01", 2);
+        parameters.put("name", "fred");
+        parameters.put("p", 3);
+        parameters.put("p1000000", 4);
+
+        assertThat(parameters).hasSize(5);
+        assertThat(parameters).containsExactly(entry("p1", 1), entry("p01", 2), entry("name", "fred"),
+                entry("p", 3), entry("p1000000", 4));
+        assertThat(parameters.get("p01")).isEqualTo(2);
+        assertThat(parameters.get("P1")).isNull();
+    }
+
+    @Test
+    void testPutAndRemove() {
+        Map<String, Object> parameters = new ParameterMap();
+        assertThat(parameters.put("p1", 1)).isNull();
+        assertThat(parameters.put("p1", 2)).isEqualTo(1);
+        assertThat(parameters.remove("p1")).isEqualTo(2);
+        assertThat(parameters.remove("p1")).isNull();
+        assertThat(parameters).isEmpty();
+
+        parameters.put("p5", 5);
+        parameters.put("p3", 3);
+        assertThat(parameters).containsExactly(entry("p3", 3), entry("p5", 5));
+
+        parameters.clear();
+        parameters.put("p3", 3);
+        assertThat(parameters).containsExactly(entry("p3", 3));
+    }
+
+    @Test
+    void testIteratorRemoveAndSetValue() {
+        Map<String, Object> parameters = new ParameterMap();
+        parameters.put("p1", 1);
+        parameters.put("p2", 2);
+        parameters.put("name", "fred");
+
+        Iterator<Map.Entry<String, Object>> iterator = parameters.entrySet().iterator();
+        iterator.next().setValue(10);
+        iterator.next();
+        iterator.remove();
+        iterator.next();
+        iterator.remove();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(parameters).containsExactly(entry("p1", 10));
+    }
+
+    @Test
+    void testPutAll() {
+        Map<String, Object> source = new ParameterMap();
+        source.put("p3", 3);
+        source.put("p4", 4);
+        source.put("name", "fred");
+
+        Map<String, Object> parameters = new ParameterMap();
+        parameters.put("p1", 1);
+        parameters.putAll(source);
+        parameters.putAll(Collections.singletonMap("p2", 2));
+
+        assertThat(parameters).containsExactly(entry("p1", 1), entry("p2", 2), entry("p3", 3), entry("p4", 4),
+                entry("name", "fred"));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        Map<String, Object> parameters = new ParameterMap();
+        Map<String, Object> expected = new HashMap<>();
+        for (int i = 1; i <= 100; i++) {
+            parameters.put("p" + i, i);
+            expected.put("p" + i, i);
+        }
+        parameters.put("name", null);
+        expected.put("name", null);
+
+        assertThat(parameters).isEqualTo(expected);
+        assertThat(expected).isEqualTo(parameters);
+        assertThat(parameters).hasSameHashCodeAs(expected);
+    }
+
+    @Test
+    void testSequenceOf() {
+        assertThat(ParameterMap.sequenceOf("p1")).isEqualTo(1);
+        assertThat(ParameterMap.sequenceOf("p123")).isEqualTo(123);
+        assertThat(ParameterMap.sequenceOf("p0")).isEqualTo(-1);
+        assertThat(ParameterMap.sequenceOf("p1a")).isEqualTo(-1);
+        assertThat(ParameterMap.sequenceOf("p12345678901")).isEqualTo(-1);
+        assertThat(ParameterMap.sequenceOf(1)).isEqualTo(-1);
+        assertThat(ParameterMap.sequenceOf(null)).isEqualTo(-1);
+    }
+}
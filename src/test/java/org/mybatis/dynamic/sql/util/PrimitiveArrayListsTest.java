@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveArrayListsTest {
+
+    @Test
+    void testLongArray() {
+        List<Long> values = PrimitiveArrayLists.of(new long[] {3L, 1L, 2L});
+
+        assertThat(values).hasSize(3);
+        assertThat(values.get(1)).isEqualTo(1L);
+        assertThat(values).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    void testIntArray() {
+        List<Integer> values = PrimitiveArrayLists.of(new int[] {3, 1, 2});
+
+        assertThat(values).hasSize(3);
+        assertThat(values.get(2)).isEqualTo(2);
+        assertThat(values).containsExactly(3, 1, 2);
+    }
+
+    @Test
+    void testEmptyArray() {
+        assertThat(PrimitiveArrayLists.of(new long[0])).isEmpty();
+        assertThat(PrimitiveArrayLists.of(new int[0])).isEmpty();
+    }
+
+    @Test
+    void testViewsAreFixedSize() {
+        List<Long> values = PrimitiveArrayLists.of(new long[] {1L});
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> values.add(2L));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> values.set(0, 2L));
+    }
+}
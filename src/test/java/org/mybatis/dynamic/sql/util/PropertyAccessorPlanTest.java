@@ -0,0 +1,173 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.insert;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class PropertyAccessorPlanTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+    private static final SqlColumn<Boolean> active = foo.column("active", JDBCType.BOOLEAN);
+
+    @Test
+    void testPlanFromRenderedInsert() {
+        InsertStatementProvider<Row> insertStatement = insert(new Row(1, "fred", true))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toStringConstant("fred")
+                .map(active).toProperty("active")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(insertStatement.getPropertyAccessorPlan().propertyNames()).containsExactly("id", "active");
+    }
+
+    @Test
+    void testBoundPropertiesKeepDuplicates() {
+        InsertStatementProvider<Row> insertStatement = insert(new Row(1, "fred", true))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("id")
+                .map(active).toProperty("active")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        PropertyAccessorPlan plan = insertStatement.getPropertyAccessorPlan();
+        assertThat(plan.propertyNames()).containsExactly("id", "active");
+        assertThat(plan.boundPropertyNames()).containsExactly("id", "id", "active");
+    }
+
+    @Test
+    void testCompiledGetters() {
+        PropertyAccessors accessors = PropertyAccessorPlan.of(Arrays.asList("id", "description", "active"))
+                .accessorsFor(Row.class);
+
+        Row row = new Row(3, "barney", true);
+        assertThat(accessors.getValue(row, "id")).isEqualTo(3);
+        assertThat(accessors.getValue(row, "description")).isEqualTo("barney");
+        assertThat(accessors.getValue(row, "active")).isEqualTo(true);
+        assertThat(accessors.getPropertyType("id")).isEqualTo(int.class);
+        assertThat(accessors.getPropertyType("active")).isEqualTo(boolean.class);
+    }
+
+    @Test
+    void testNonPublicClass() {
+        PropertyAccessors accessors = PropertyAccessorPlan.of(Arrays.asList("name"))
+                .accessorsFor(HiddenRow.class);
+
+        assertThat(accessors.getValue(new HiddenRow("wilma"), "name")).isEqualTo("wilma");
+    }
+
+    @Test
+    void testAccessorsAreCached() {
+        PropertyAccessors accessors1 = PropertyAccessorPlan.of(Arrays.asList("id", "description"))
+                .accessorsFor(Row.class);
+        PropertyAccessors accessors2 = PropertyAccessorPlan.of(Arrays.asList("id", "description"))
+                .accessorsFor(Row.class);
+        PropertyAccessors accessors3 = PropertyAccessorPlan.of(Arrays.asList("id"))
+                .accessorsFor(Row.class);
+
+        assertThat(accessors1).isSameAs(accessors2).isNotSameAs(accessors3);
+    }
+
+    @Test
+    void testCachedPropertySetsAreBounded() {
+        for (int i = 0; i < PropertyAccessorPlan.MAX_CACHED_PROPERTY_SETS; i++) {
+            PropertyAccessorPlan plan = PropertyAccessorPlan.of(Arrays.asList("name", "extra" + i));
+            assertThat(plan.accessorsFor(CappedRow.class)).isSameAs(plan.accessorsFor(CappedRow.class));
+        }
+
+        PropertyAccessorPlan plan = PropertyAccessorPlan.of(Arrays.asList("name", "overflow"));
+        PropertyAccessors accessors = plan.accessorsFor(CappedRow.class);
+        assertThat(accessors).isNotSameAs(plan.accessorsFor(CappedRow.class));
+        assertThat(accessors.getValue(new CappedRow("betty"), "name")).isEqualTo("betty");
+
+        PropertyAccessorPlan cachedPlan = PropertyAccessorPlan.of(Arrays.asList("name", "extra0"));
+        assertThat(cachedPlan.accessorsFor(CappedRow.class)).isSameAs(cachedPlan.accessorsFor(CappedRow.class));
+    }
+
+    @Test
+    void testUnknownAndNestedPropertiesAreNotCompiled() {
+        PropertyAccessors accessors = PropertyAccessorPlan.of(Arrays.asList("id", "missing", "description.length"))
+                .accessorsFor(Row.class);
+
+        assertThat(accessors.hasProperty("id")).isTrue();
+        assertThat(accessors.hasProperty("missing")).isFalse();
+        assertThat(accessors.hasProperty("description.length")).isFalse();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> accessors.getValue(new Row(1, "fred", false), "missing"));
+    }
+
+    public static class Row {
+        private final int id;
+        private final String description;
+        private final boolean active;
+
+        public Row(int id, String description, boolean active) {
+            this.id = id;
+            this.description = description;
+            this.active = active;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    private static class HiddenRow {
+        private final String name;
+
+        private HiddenRow(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class CappedRow {
+        private final String name;
+
+        public CappedRow(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
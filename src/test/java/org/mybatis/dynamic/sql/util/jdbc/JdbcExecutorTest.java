@@ -0,0 +1,310 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class JdbcExecutorTest {
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:jdbcexecutor";
+
+    private static final SqlTable item = SqlTable.of("item");
+    private static final SqlColumn<Integer> id = item.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> name = item.column("name", JDBCType.VARCHAR);
+    private static final SqlColumn<Date> created = item.column("created");
+    private static final SqlColumn<Integer> code = item.column("code", JDBCType.INTEGER);
+
+    private static final RowMapper<Item> itemMapper = (rs, i) -> new Item(rs.getInt(1), rs.getString(2));
+
+    private Connection connection;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table item if exists");
+            statement.execute("create table item (id int not null primary key, name varchar(30), created timestamp, "
+                    + "code int)");
+        }
+    }
+
+    @AfterEach
+    void teardown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void testInsertAndSelect() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.withConnection(connection).build()) {
+            int inserted = executor.generalInsert(insertInto(item)
+                    .set(id).toValue(1)
+                    .set(name).toValue("fred")
+                    .set(created).toValue(new Date())
+                    .build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER));
+            executor.insert(insert(new Item(2, "barney")).into(item)
+                    .map(id).toProperty("id")
+                    .map(name).toProperty("name")
+                    .build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER));
+
+            List<Item> rows = executor.selectList(select(id, name)
+                    .from(item)
+                    .where(id, isIn(1, 2, 3))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER), itemMapper);
+
+            assertThat(inserted).isEqualTo(1);
+            assertThat(rows).extracting(Item::getName).containsExactly("fred", "barney");
+        }
+    }
+
+    @Test
+    void testUpdateDeleteAndCount() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.withConnection(connection).build()) {
+            executor.insertBatch(batchInsert(10));
+
+            int updated = executor.update(update(item)
+                    .set(name).equalTo("renamed")
+                    .where(id, isLessThan(4))
+                    .build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER));
+            int deleted = executor.delete(deleteFrom(item)
+                    .where(id, isGreaterThan(7))
+                    .build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER));
+            long count = executor.count(countFrom(item)
+                    .where(name, isEqualTo("renamed"))
+                    .build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER));
+
+            assertThat(updated).isEqualTo(3);
+            assertThat(deleted).isEqualTo(3);
+            assertThat(count).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void testStatementsAreReused() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.withConnection(connection).withStatementCacheSize(2).build()) {
+            executor.insertBatch(batchInsert(5));
+
+            for (int i = 1; i <= 5; i++) {
+                Optional<Item> row = executor.selectOne(selectById(i), itemMapper);
+                assertThat(row).hasValueSatisfying(r -> assertThat(r.getName()).isEqualTo("name" + r.getId()));
+            }
+            assertThat(executor.cachedStatementCount()).isEqualTo(2);
+
+            executor.count(countFrom(item).build().render(RenderingStrategies.POSITIONAL_PARAMETER));
+            executor.count(countFrom(item).where(id, isEqualTo(1)).build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER));
+            assertThat(executor.cachedStatementCount()).isEqualTo(2);
+            assertThat(executor.selectOne(selectById(3), itemMapper)).isPresent();
+        }
+    }
+
+    @Test
+    void testStreamingWithNestedStatement() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.withConnection(connection).withFetchSize(2).build()) {
+            executor.insertBatch(batchInsert(6));
+
+            List<String> names = new ArrayList<>();
+            int rowCount = executor.selectForEach(select(id, name).from(item).where(id, isGreaterThan(0))
+                    .orderBy(id).build().render(RenderingStrategies.POSITIONAL_PARAMETER), itemMapper,
+                    r -> {
+                        try {
+                            // the same statement shape is executed while the outer result set is open
+                            names.add(executor.selectOne(selectById(r.getId()), itemMapper).get().getName());
+                        } catch (SQLException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    });
+
+            assertThat(rowCount).isEqualTo(6);
+            assertThat(names).containsExactly("name1", "name2", "name3", "name4", "name5", "name6");
+        }
+    }
+
+    @Test
+    void testDataSourceConnectionIsClosed() throws SQLException {
+        org.hsqldb.jdbc.JDBCDataSource dataSource = new org.hsqldb.jdbc.JDBCDataSource();
+        dataSource.setUrl(JDBC_URL);
+        dataSource.setUser("sa");
+
+        Connection executorConnection;
+        try (JdbcExecutor executor = JdbcExecutor.withDataSource(dataSource).build()) {
+            executor.insertBatch(batchInsert(3));
+            executorConnection = executor.connection();
+            assertThat(executor.selectList(selectById(2), itemMapper)).hasSize(1);
+        }
+
+        assertThat(executorConnection.isClosed()).isTrue();
+    }
+
+    @Test
+    void testSelectOneWithTooManyRows() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.withConnection(connection).build()) {
+            executor.insertBatch(batchInsert(3));
+            SelectStatementProvider selectStatement = select(id, name).from(item).build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER);
+
+            assertThatExceptionOfType(SQLException.class)
+                    .isThrownBy(() -> executor.selectOne(selectStatement, itemMapper))
+                    .withMessage("Expected one row, but the select statement returned 3");
+        }
+    }
+
+    @Test
+    void testPropertyMappedToTwoColumns() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.withConnection(connection).build()) {
+            executor.insert(insert(new Item(1, "fred")).into(item)
+                    .map(id).toProperty("id")
+                    .map(code).toProperty("id")
+                    .map(name).toProperty("name")
+                    .build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER));
+            executor.insertBatch(insertBatch(new Item(2, "wilma"), new Item(3, "barney")).into(item)
+                    .map(id).toProperty("id")
+                    .map(code).toProperty("id")
+                    .map(name).toProperty("name")
+                    .build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER));
+
+            List<String> rows = executor.selectList(select(id, name, code)
+                    .from(item)
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER),
+                    (rs, i) -> rs.getInt(1) + ":" + rs.getString(2) + ":" + rs.getInt(3));
+
+            assertThat(rows).containsExactly("1:fred:1", "2:wilma:2", "3:barney:3");
+        }
+    }
+
+    @Test
+    void testNestedProperties() throws SQLException {
+        try (JdbcExecutor executor = JdbcExecutor.withConnection(connection).build()) {
+            executor.insert(insert(new Holder(new Item(1, "fred"), 10)).into(item)
+                    .map(id).toProperty("item.id")
+                    .map(name).toProperty("item.name")
+                    .map(code).toProperty("code")
+                    .build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER));
+            executor.insertBatch(insertBatch(new Holder(new Item(2, "wilma"), 20), new Holder(new Item(3, null), 30))
+                    .into(item)
+                    .map(id).toProperty("item.id")
+                    .map(name).toProperty("item.name")
+                    .map(code).toProperty("code")
+                    .build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER));
+
+            List<String> rows = executor.selectList(select(id, name, code)
+                    .from(item)
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.POSITIONAL_PARAMETER),
+                    (rs, i) -> rs.getInt(1) + ":" + rs.getString(2) + ":" + rs.getInt(3));
+
+            assertThat(rows).containsExactly("1:fred:10", "2:wilma:20", "3:null:30");
+        }
+    }
+
+    @Test
+    void testInvalidBuilder() {
+        JdbcExecutor.Builder builder = new JdbcExecutor.Builder();
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(builder::build);
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                JdbcExecutor.withConnection(connection).withStatementCacheSize(-1).build());
+    }
+
+    private SelectStatementProvider selectById(int key) {
+        return select(id, name)
+                .from(item)
+                .where(id, isEqualTo(key))
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+    }
+
+    private BatchInsert<Item> batchInsert(int count) {
+        List<Item> records = IntStream.rangeClosed(1, count)
+                .mapToObj(i -> new Item(i, "name" + i))
+                .collect(Collectors.toList());
+        return insertBatch(records).into(item)
+                .map(id).toProperty("id")
+                .map(name).toProperty("name")
+                .build()
+                .render(RenderingStrategies.POSITIONAL_PARAMETER);
+    }
+
+    public static class Item {
+        private final int id;
+        private final String name;
+
+        public Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class Holder {
+        private final Item item;
+        private final int code;
+
+        public Holder(Item item, int code) {
+            this.item = item;
+            this.code = code;
+        }
+
+        public Item getItem() {
+            return item;
+        }
+
+        public int getCode() {
+            return code;
+        }
+    }
+}
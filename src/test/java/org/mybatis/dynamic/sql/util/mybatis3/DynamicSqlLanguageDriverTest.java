@@ -0,0 +1,216 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.mybatis3;
+
+import static examples.simple.PersonDynamicSqlSupport.employed;
+import static examples.simple.PersonDynamicSqlSupport.firstName;
+import static examples.simple.PersonDynamicSqlSupport.id;
+import static examples.simple.PersonDynamicSqlSupport.lastName;
+import static examples.simple.PersonDynamicSqlSupport.occupation;
+import static examples.simple.PersonDynamicSqlSupport.person;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import examples.simple.LastName;
+import examples.simple.PersonMapper;
+import examples.simple.PersonRecord;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class DynamicSqlLanguageDriverTest {
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:languagedriver";
+    private static final String JDBC_DRIVER = "org.hsqldb.jdbcDriver";
+
+    private Configuration config;
+    private SqlSessionFactory sqlSessionFactory;
+
+    @BeforeEach
+    void setup() throws Exception {
+        Class.forName(JDBC_DRIVER);
+        InputStream is = getClass().getResourceAsStream("/examples/simple/CreateSimpleDB.sql");
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "")) {
+            ScriptRunner sr = new ScriptRunner(connection);
+            sr.setLogWriter(null);
+            sr.runScript(new InputStreamReader(is));
+        }
+
+        UnpooledDataSource ds = new UnpooledDataSource(JDBC_DRIVER, JDBC_URL, "sa", "");
+        Environment environment = new Environment("test", new JdbcTransactionFactory(), ds);
+        config = new Configuration(environment);
+        config.setDefaultScriptingLanguage(DynamicSqlLanguageDriver.class);
+        config.addMapper(PersonMapper.class);
+        config.addMapper(CommonSelectMapper.class);
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(config);
+    }
+
+    @Test
+    void testSelectReusesParsedStatement() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            List<PersonRecord> rows = mapper.select(c -> c.where(id, isEqualTo(1)).or(occupation, isNull()).orderBy(id));
+            assertThat(rows).hasSize(3);
+            int cacheSize = driver().cacheSize();
+
+            rows = mapper.select(c -> c.where(id, isEqualTo(4)).or(occupation, isNull()).orderBy(id));
+            assertThat(rows).extracting(PersonRecord::getFirstName).containsExactly("Pebbles", "Barney", "Bamm Bamm");
+            assertThat(driver().cacheSize()).isEqualTo(cacheSize);
+        }
+    }
+
+    @Test
+    void testSelectWithTypeHandler() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            long rows = mapper.count(c -> c.where(lastName, isEqualTo(LastName.of("Rubble")))
+                    .and(employed, isTrue()));
+            assertThat(rows).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testCommonSelectMapper() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = session.getMapper(CommonSelectMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, firstName)
+                    .from(person)
+                    .where(id, isIn(2, 5))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<Map<String, Object>> rows = mapper.selectManyMappedRows(selectStatement);
+            assertThat(rows).extracting(r -> r.get("FIRST_NAME")).containsExactly("Wilma", "Betty");
+        }
+    }
+
+    @Test
+    void testInserts() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            assertThat(mapper.insert(newPerson(100, "Joe"))).isEqualTo(1);
+            assertThat(mapper.insertMultiple(Arrays.asList(newPerson(101, "Jim"), newPerson(102, "Jane"))))
+                    .isEqualTo(2);
+            PersonRecord selective = newPerson(103, "Jill");
+            selective.setOccupation(null);
+            assertThat(mapper.insertSelective(selective)).isEqualTo(1);
+            assertThat(mapper.generalInsert(c -> c.set(id).toValue(104)
+                    .set(firstName).toValue("Jack")
+                    .set(lastName).toValue(LastName.of("Jones"))
+                    .set(employed).toValue(false)
+                    .set(examples.simple.PersonDynamicSqlSupport.birthDate).toValue(new Date())
+                    .set(examples.simple.PersonDynamicSqlSupport.addressId).toValue(1))).isEqualTo(1);
+
+            List<PersonRecord> rows = mapper.select(c -> c.where(id, isGreaterThanOrEqualTo(100)).orderBy(id));
+            assertThat(rows).extracting(PersonRecord::getFirstName)
+                    .containsExactly("Joe", "Jim", "Jane", "Jill", "Jack");
+            assertThat(rows).extracting(r -> r.getLastName().getName()).containsOnly("Jones");
+            assertThat(rows).extracting(PersonRecord::getOccupation)
+                    .containsExactly("Developer", "Developer", "Developer", null, null);
+            assertThat(rows).extracting(PersonRecord::getEmployed).containsExactly(true, true, true, true, false);
+        }
+    }
+
+    @Test
+    void testUpdateAndDelete() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            int rows = mapper.update(c -> c.set(occupation).equalTo("Programmer").where(id, isEqualTo(3)));
+            assertThat(rows).isEqualTo(1);
+            Optional<PersonRecord> record = mapper.selectByPrimaryKey(3);
+            assertThat(record).hasValueSatisfying(r -> assertThat(r.getOccupation()).isEqualTo("Programmer"));
+
+            rows = mapper.delete(c -> c.where(occupation, isNull()));
+            assertThat(rows).isEqualTo(1);
+            assertThat(mapper.count(c -> c)).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void testDynamicSqlIsNotCached() {
+        DynamicSqlLanguageDriver driver = new DynamicSqlLanguageDriver();
+
+        SqlSource script = driver.createSqlSource(config, "<script>select * from Person</script>", Object.class);
+        SqlSource substitution = driver.createSqlSource(config, "select * from ${table}", Object.class);
+        assertThat(script).isNotInstanceOf(CompiledSqlSource.class);
+        assertThat(substitution).isNotInstanceOf(CompiledSqlSource.class);
+        assertThat(driver.cacheSize()).isZero();
+
+        SqlSource sqlSource = driver.createSqlSource(config, "select * from Person where id = #{id}", Integer.class);
+        assertThat(sqlSource).isInstanceOf(CompiledSqlSource.class);
+        assertThat(driver.createSqlSource(config, "select * from Person where id = #{id}", Integer.class))
+                .isSameAs(sqlSource);
+        assertThat(driver.cacheSize()).isEqualTo(1);
+
+        MappedStatement mappedStatement = config.getMappedStatement("examples.simple.PersonMapper.count");
+        assertThat(driver.createParameterHandler(mappedStatement, 3, sqlSource.getBoundSql(3)))
+                .isInstanceOf(DynamicSqlParameterHandler.class);
+        assertThat(driver.createParameterHandler(mappedStatement, null, script.getBoundSql(null)))
+                .isNotInstanceOf(DynamicSqlParameterHandler.class);
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        DynamicSqlLanguageDriver driver = new DynamicSqlLanguageDriver(2);
+
+        driver.createSqlSource(config, "select 1 from Person", Object.class);
+        driver.createSqlSource(config, "select 2 from Person", Object.class);
+        driver.createSqlSource(config, "select 3 from Person", Object.class);
+        assertThat(driver.cacheSize()).isEqualTo(2);
+    }
+
+    private DynamicSqlLanguageDriver driver() {
+        return (DynamicSqlLanguageDriver) config.getDefaultScriptingLanguageInstance();
+    }
+
+    private PersonRecord newPerson(int personId, String name) {
+        PersonRecord record = new PersonRecord();
+        record.setId(personId);
+        record.setFirstName(name);
+        record.setLastName(LastName.of("Jones"));
+        record.setBirthDate(new Date());
+        record.setEmployed(true);
+        record.setOccupation("Developer");
+        record.setAddressId(1);
+        return record;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.insert;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+
+import java.sql.JDBCType;
+import java.sql.Types;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.util.PropertyAccessorPlan;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+
+class PropertyAccessorSqlParameterSourceTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+    private static final SqlColumn<Date> created = foo.column("created", JDBCType.TIMESTAMP);
+
+    @Test
+    void testSingleRowMatchesBeanPropertySource() {
+        Row row = new Row(1, "fred", new Date());
+        InsertStatementProvider<Row> insertStatement = insert(row)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .map(created).toProperty("created")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(insertStatement.getInsertStatement())
+                .isEqualTo("insert into foo (id, description, created) values (:id, :description, :created)");
+
+        PropertyAccessorSqlParameterSource parameterSource = PropertyAccessorSqlParameterSource.of(insertStatement);
+        BeanPropertySqlParameterSource beanSource = new BeanPropertySqlParameterSource(row);
+        for (String name : new String[] {"id", "description", "created"}) {
+            assertThat(parameterSource.hasValue(name)).isTrue();
+            assertThat(parameterSource.getValue(name)).isEqualTo(beanSource.getValue(name));
+            assertThat(parameterSource.getSqlType(name)).isEqualTo(beanSource.getSqlType(name));
+        }
+        assertThat(parameterSource.getSqlType("created")).isEqualTo(Types.TIMESTAMP);
+        assertThat(parameterSource.getParameterNames()).containsExactly("id", "description", "created");
+    }
+
+    @Test
+    void testMultiRow() {
+        MultiRowInsertStatementProvider<Row> insertStatement = insertMultiple(new Row(1, "fred", null),
+                new Row(2, "wilma", null))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(
+                "insert into foo (id, description) values (:records[0].id, :records[0].description), "
+                + "(:records[1].id, :records[1].description)");
+
+        PropertyAccessorSqlParameterSource parameterSource = PropertyAccessorSqlParameterSource.of(insertStatement);
+        assertThat(parameterSource.getValue("records[0].id")).isEqualTo(1);
+        assertThat(parameterSource.getValue("records[1].description")).isEqualTo("wilma");
+        assertThat(parameterSource.getSqlType("records[1].description")).isEqualTo(Types.VARCHAR);
+    }
+
+    @Test
+    void testUncompiledPropertiesFallBack() {
+        Row row = new Row(1, "fred", null);
+        PropertyAccessorSqlParameterSource parameterSource =
+                PropertyAccessorSqlParameterSource.of(row, PropertyAccessorPlan.empty());
+
+        assertThat(parameterSource.getValue("id")).isEqualTo(1);
+        assertThat(parameterSource.hasValue("missing")).isFalse();
+    }
+
+    @Test
+    void testRegisteredSqlTypeWins() {
+        Row row = new Row(1, "fred", null);
+        PropertyAccessorSqlParameterSource parameterSource =
+                PropertyAccessorSqlParameterSource.of(row, PropertyAccessorPlan.empty());
+        parameterSource.registerSqlType("description", Types.NVARCHAR);
+
+        assertThat(parameterSource.getSqlType("description")).isEqualTo(Types.NVARCHAR);
+    }
+
+    public static class Row {
+        private final Integer id;
+        private final String description;
+        private final Date created;
+
+        public Row(Integer id, String description, Date created) {
+            this.id = id;
+            this.description = description;
+            this.created = created;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public Date getCreated() {
+            return created;
+        }
+    }
+}
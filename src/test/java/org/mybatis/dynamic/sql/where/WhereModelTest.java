@@ -39,4 +39,20 @@ class WhereModelTest {
 
         assertThat(wc.getWhereClause()).isEqualTo("where (id = #{myName.parameters.p1,jdbcType=INTEGER} or id = #{myName.parameters.p2,jdbcType=INTEGER})");
     }
+
+    @Test
+    void testParameterNameCarriesToSubQueries() {
+        SqlTable table = SqlTable.of("foo");
+        SqlColumn<Integer> id = table.column("id", JDBCType.INTEGER);
+
+        WhereClauseProvider wc = where(id, isEqualTo(3))
+                .and(id, isIn(select(id).from(table).where(id, isGreaterThan(4))))
+                .and(exists(select(id).from(table).where(id, isLessThan(5))))
+                .build()
+                .render(RenderingStrategies.MYBATIS3, "myName");
+
+        assertThat(wc.getWhereClause()).isEqualTo("where id = #{myName.parameters.p1,jdbcType=INTEGER} "
+                + "and id in (select id from foo where id > #{myName.parameters.p2,jdbcType=INTEGER}) "
+                + "and exists (select id from foo where id < #{myName.parameters.p3,jdbcType=INTEGER})");
+    }
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -21,10 +21,12 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.SqlBuilder;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 class FilterAndMapTest {
     @Test
@@ -470,6 +472,70 @@ class FilterAndMapTest {
         assertThat(mappedValues).containsExactly("FRED", "WILMA");
     }
 
+    @Test
+    void testIsInLongStreamFilter() {
+        IsIn<Long> cond = SqlBuilder.isIn(LongStream.rangeClosed(1, 6)).filter(v -> v % 2 == 0);
+        List<Long> values = cond.mapValues(Function.identity()).collect(Collectors.toList());
+        assertThat(values).containsExactly(2L, 4L, 6L);
+    }
+
+    @Test
+    void testIsNotInLongArrayMap() {
+        IsNotIn<String> cond = SqlBuilder.isNotIn(new long[] {1L, 2L}).map(String::valueOf);
+        List<String> values = cond.mapValues(Function.identity()).collect(Collectors.toList());
+        assertThat(values).containsExactly("1", "2");
+    }
+
+    @Test
+    void testIsInEmptyIntArrayShouldNotRender() {
+        IsIn<Integer> cond = SqlBuilder.isIn(new int[0]);
+        assertThat(cond.shouldRender()).isFalse();
+    }
+
+    @Test
+    void testIsInDistinctKeepsFirstOccurrenceOrder() {
+        IsIn<Integer> cond = SqlBuilder.isIn(3, 1, 3, 2, 1).distinct();
+        List<Integer> values = cond.mapValues(Function.identity()).collect(Collectors.toList());
+        assertThat(values).containsExactly(3, 1, 2);
+    }
+
+    @Test
+    void testIsNotInSortedDistinct() {
+        IsNotIn<Integer> cond = SqlBuilder.isNotIn(3, 1, 3, 2, 1).sortedDistinct(Comparator.naturalOrder());
+        List<Integer> values = cond.mapValues(Function.identity()).collect(Collectors.toList());
+        assertThat(values).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void testIsInWhenPresentSortedDistinct() {
+        IsIn<Integer> cond = SqlBuilder.isInWhenPresent(3, null, 1, 3).sortedDistinct(Comparator.reverseOrder());
+        List<Integer> values = cond.mapValues(Function.identity()).collect(Collectors.toList());
+        assertThat(values).containsExactly(3, 1);
+    }
+
+    @Test
+    void testIsInCaseInsensitiveDistinct() {
+        IsInCaseInsensitive cond = SqlBuilder.isInCaseInsensitive("fred", "Fred", "wilma").distinct();
+        List<String> values = cond.mapValues(Function.identity()).collect(Collectors.toList());
+        assertThat(values).containsExactly("FRED", "WILMA");
+    }
+
+    @Test
+    void testIsNotInCaseInsensitiveSortedDistinct() {
+        IsNotInCaseInsensitive cond = SqlBuilder.isNotInCaseInsensitive("wilma", "Fred", "fred")
+                .sortedDistinct(Comparator.naturalOrder());
+        List<String> values = cond.mapValues(Function.identity()).collect(Collectors.toList());
+        assertThat(values).containsExactly("FRED", "WILMA");
+    }
+
+    @Test
+    void testDistinctUnRenderableShouldReturnSameObject() {
+        IsIn<Integer> cond = SqlBuilder.isInWhenPresent((Integer) null);
+        assertThat(cond.shouldRender()).isFalse();
+        assertThat(cond.distinct().shouldRender()).isFalse();
+        assertThat(cond.sortedDistinct(Comparator.naturalOrder())).isSameAs(cond);
+    }
+
     @Test
     void testBetweenUnRenderableFilterShouldReturnSameObject() {
         IsBetween<Integer> cond = SqlBuilder.isBetween(3).and(4).filter((i1, i2) -> false);
@@ -0,0 +1,113 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.dynamic.sql.SqlBuilder.isIn;
+import static org.mybatis.dynamic.sql.SqlBuilder.isNotInCaseInsensitive;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+
+import java.sql.JDBCType;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class ListPaddingTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+
+    @Test
+    void testPowersOfTwo() {
+        ListPadding padding = ListPadding.powersOfTwo();
+        assertThat(padding.paddedSize(0)).isZero();
+        assertThat(padding.paddedSize(1)).isEqualTo(1);
+        assertThat(padding.paddedSize(3)).isEqualTo(4);
+        assertThat(padding.paddedSize(8)).isEqualTo(8);
+        assertThat(padding.paddedSize(1000)).isEqualTo(1024);
+    }
+
+    @Test
+    void testBuckets() {
+        ListPadding padding = ListPadding.ofBuckets(100, 10, 50);
+        assertThat(padding.paddedSize(1)).isEqualTo(1);
+        assertThat(padding.paddedSize(2)).isEqualTo(10);
+        assertThat(padding.paddedSize(10)).isEqualTo(10);
+        assertThat(padding.paddedSize(11)).isEqualTo(50);
+        assertThat(padding.paddedSize(100)).isEqualTo(100);
+        assertThat(padding.paddedSize(101)).isEqualTo(200);
+    }
+
+    @Test
+    void testInvalidBuckets() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(ListPadding::ofBuckets);
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> ListPadding.ofBuckets(0, 10));
+    }
+
+    @Test
+    void testPaddedValues() {
+        IsIn<Integer> cond = isIn(1, 2, 3, 4, 5).withListPadding(ListPadding.powersOfTwo());
+        assertThat(cond.mapValues(Function.identity()).collect(Collectors.toList()))
+                .containsExactly(1, 2, 3, 4, 5, 5, 5, 5);
+    }
+
+    @Test
+    void testNoPaddingReturnsSameCondition() {
+        IsIn<Integer> cond = isIn(1, 2, 3, 4);
+        assertThat(cond.withListPadding(ListPadding.powersOfTwo())).isSameAs(cond);
+
+        IsIn<Integer> empty = IsIn.empty();
+        assertThat(empty.withListPadding(ListPadding.ofBuckets(10))).isSameAs(empty);
+    }
+
+    @Test
+    void testListsOfDifferentSizesRenderTheSameStatement() {
+        SelectStatementProvider selectStatement1 = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3).withListPadding(ListPadding.ofBuckets(5)))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        SelectStatementProvider selectStatement2 = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3, 4).withListPadding(ListPadding.ofBuckets(5)))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement1.getSelectStatement()).isEqualTo(selectStatement2.getSelectStatement());
+        assertThat(selectStatement1.getParameters()).hasSize(5).containsEntry("p5", 3);
+        assertThat(selectStatement2.getParameters()).hasSize(5).containsEntry("p5", 4);
+    }
+
+    @Test
+    void testCaseInsensitivePadding() {
+        SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(description, isNotInCaseInsensitive("a", "b", "c").withListPadding(ListPadding.powersOfTwo()))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select id from foo where upper(description) not in (:p1,:p2,:p3,:p4)");
+        assertThat(selectStatement.getParameters()).containsEntry("p4", "C");
+    }
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,11 +17,13 @@ package org.mybatis.dynamic.sql.where.render;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
 import java.sql.JDBCType;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
@@ -31,6 +33,7 @@ import org.mybatis.dynamic.sql.render.ExplicitTableAliasCalculator;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.where.WhereModel;
 import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
 
 class CriterionRendererTest {
@@ -84,4 +87,44 @@ class CriterionRendererTest {
             assertThat(fp.parameters()).containsExactly(entry("p1", 3));
         });
     }
+
+    @Test
+    void testBufferRenderingMatchesFragmentRendering() {
+        SqlTable table = SqlTable.of("foo");
+        SqlColumn<Integer> id = table.column("id", JDBCType.INTEGER);
+        SqlColumn<String> name = table.column("name", JDBCType.VARCHAR);
+
+        WhereModel whereModel = where(id, isEqualToWhenPresent((Integer) null),
+                    or(name, isLike("f%"), and(id, isIn(1, 2, 3))))
+                .and(not(id, isBetween(4).and(5), or(name, isEqualToWhenPresent((String) null))))
+                .or(group(name, isInWhenPresent((String) null)), and(id, isGreaterThan(6)))
+                .and(exists(select(id).from(table).where(id, isEqualTo(7))))
+                .and(not(group(name, isEqualToWhenPresent((String) null))))
+                .build();
+
+        FragmentAndParameters fragmentRendering = new CriterionRenderer.Builder()
+                .withSequence(new AtomicInteger(1))
+                .withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withTableAliasCalculator(TableAliasCalculator.empty())
+                .build()
+                .render(whereModel.initialCriterion().orElseThrow(IllegalStateException::new),
+                        whereModel.subCriteria(),
+                        fc -> fc.fragments().collect(Collectors.joining(" ", "where ", "")))
+                .map(RenderedCriterion::fragmentAndParameters)
+                .orElseThrow(IllegalStateException::new);
+
+        WhereClauseProvider bufferRendering = whereModel.render(RenderingStrategies.MYBATIS3);
+
+        String expected = "where (name like #{parameters.p1,jdbcType=VARCHAR} "
+                + "and id in (#{parameters.p2,jdbcType=INTEGER},#{parameters.p3,jdbcType=INTEGER},"
+                + "#{parameters.p4,jdbcType=INTEGER})) "
+                + "and not id between #{parameters.p5,jdbcType=INTEGER} and #{parameters.p6,jdbcType=INTEGER} "
+                + "or id > #{parameters.p7,jdbcType=INTEGER} "
+                + "and exists (select id from foo where id = #{parameters.p8,jdbcType=INTEGER})";
+        assertThat(bufferRendering.getWhereClause()).isEqualTo(expected);
+        assertThat(fragmentRendering.fragment()).isEqualTo(expected);
+        assertThat(bufferRendering.getParameters()).isEqualTo(fragmentRendering.parameters());
+        assertThat(bufferRendering.getParameters()).containsOnly(entry("p1", "f%"), entry("p2", 1), entry("p3", 2),
+                entry("p4", 3), entry("p5", 4), entry("p6", 5), entry("p7", 6), entry("p8", 7));
+    }
 }
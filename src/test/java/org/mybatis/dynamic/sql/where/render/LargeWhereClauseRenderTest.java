@@ -0,0 +1,88 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class LargeWhereClauseRenderTest {
+    static final SqlTable table = SqlTable.of("foo");
+    static final SqlColumn<Integer> id = table.column("id", JDBCType.INTEGER);
+
+    @Test
+    void testWideAndDeepWhereClause() {
+        int levels = 50;
+        int criteriaPerLevel = 200;
+
+        SqlCriterion criterion = group(id, isEqualTo(0), orCriteria(1, criteriaPerLevel));
+        for (int level = 1; level < levels; level++) {
+            int first = level * criteriaPerLevel;
+            List<AndOrCriteriaGroup> subCriteria = orCriteria(first + 1, first + criteriaPerLevel);
+            subCriteria.add(and(criterion));
+            criterion = group(id, isEqualTo(first), subCriteria);
+        }
+
+        WhereClauseProvider whereClause = where(criterion).build().render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(whereClause.getParameters()).hasSize(levels * criteriaPerLevel);
+        assertThat(whereClause.getParameters().values())
+                .containsExactlyInAnyOrderElementsOf(
+                        IntStream.range(0, levels * criteriaPerLevel).boxed().collect(Collectors.toList()));
+        assertThat(whereClause.getWhereClause())
+                .startsWith("where (id = :p1 or id = :p2 or ")
+                .endsWith("or id = :p10000" + repeat(')', levels));
+        assertThat(whereClause.getWhereClause().chars().filter(c -> c == '(').count()).isEqualTo(levels);
+    }
+
+    @Test
+    void testVeryDeepNesting() {
+        int levels = 10_000;
+
+        SqlCriterion criterion = group(id, isEqualTo(0), or(id, isEqualToWhenPresent((Integer) null)));
+        for (int level = 1; level < levels; level++) {
+            criterion = not(id, isEqualTo(level), or(criterion));
+        }
+
+        WhereClauseProvider whereClause = where(criterion).build().render(RenderingStrategies.MYBATIS3);
+
+        assertThat(whereClause.getParameters()).hasSize(levels);
+        assertThat(whereClause.getWhereClause())
+                .startsWith("where not (id = #{parameters.p1,jdbcType=INTEGER} or not (id = ")
+                .endsWith(" or id = #{parameters.p10000,jdbcType=INTEGER}" + repeat(')', levels - 1));
+    }
+
+    private static List<AndOrCriteriaGroup> orCriteria(int first, int last) {
+        return IntStream.range(first, last)
+                .mapToObj(i -> or(id, isEqualTo(i)))
+                .collect(Collectors.toList());
+    }
+
+    private static String repeat(char c, int count) {
+        return IntStream.range(0, count).mapToObj(i -> String.valueOf(c)).collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+
+class PrimitiveArrayInRenderTest {
+    private static final SqlTable orders = SqlTable.of("orders");
+    private static final SqlColumn<Long> id = orders.column("id", JDBCType.BIGINT);
+    private static final SqlColumn<Integer> code = orders.column("code", JDBCType.INTEGER);
+    private static final SqlColumn<String> status = orders.column("status", JDBCType.VARCHAR);
+
+    @Test
+    void testLongArray() {
+        SelectStatementProvider selectStatement = select(status)
+                .from(orders)
+                .where(id, isIn(new long[] {3L, 5L, 8L}))
+                .and(code, isNotIn(new int[] {1, 2}))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select status from orders "
+                + "where id in (#{parameters.p1,jdbcType=BIGINT},#{parameters.p2,jdbcType=BIGINT},"
+                + "#{parameters.p3,jdbcType=BIGINT}) "
+                + "and code not in (#{parameters.p4,jdbcType=INTEGER},#{parameters.p5,jdbcType=INTEGER})");
+        assertThat(selectStatement.getParameters()).containsOnly(entry("p1", 3L), entry("p2", 5L), entry("p3", 8L),
+                entry("p4", 1), entry("p5", 2));
+    }
+
+    @Test
+    void testSameStatementAsBoxedValues() {
+        SelectStatementProvider primitive = select(status)
+                .from(orders)
+                .where(id, isIn(LongStream.rangeClosed(1, 20)))
+                .and(status, isEqualTo("open"))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        SelectStatementProvider boxed = select(status)
+                .from(orders)
+                .where(id, IsIn.of(LongStream.rangeClosed(1, 20).boxed().toArray(Long[]::new)))
+                .and(status, isEqualTo("open"))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(primitive.getSelectStatement()).isEqualTo(boxed.getSelectStatement());
+        assertThat(primitive.getParameters()).isEqualTo(boxed.getParameters());
+    }
+
+    @Test
+    void testFilteredArrayRendersAsList() {
+        SelectStatementProvider selectStatement = select(status)
+                .from(orders)
+                .where(id, isIn(new long[] {1L, 2L, 3L, 4L}).filter(v -> v % 2 == 0))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select status from orders where id in (:p1,:p2)");
+        assertThat(selectStatement.getParameters()).containsOnly(entry("p1", 2L), entry("p2", 4L));
+    }
+
+    @Test
+    void testEmptyArrayDoesNotRender() {
+        SelectStatementProvider selectStatement = select(status)
+                .from(orders)
+                .where(id, isIn(new long[0]))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select status from orders");
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.RowValueInCriterion;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class RowValueInRenderTest {
+    private static final SqlTable orders = SqlTable.of("orders");
+    private static final SqlColumn<Integer> tenantId = orders.column("tenant_id", JDBCType.INTEGER);
+    private static final SqlColumn<String> orderNo = orders.column("order_no", JDBCType.VARCHAR);
+    private static final SqlColumn<String> status = orders.column("status", JDBCType.VARCHAR);
+
+    @Test
+    void testRowValueSyntax() {
+        SelectStatementProvider selectStatement = select(status)
+                .from(orders)
+                .where(tuple(tenantId, orderNo).isIn(Arrays.asList(1, "A1"), Arrays.asList(2, "B7")))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select status from orders where (tenant_id, order_no) in ((:p1,:p2),(:p3,:p4))");
+        assertThat(selectStatement.getParameters())
+                .containsOnly(entry("p1", 1), entry("p2", "A1"), entry("p3", 2), entry("p4", "B7"));
+    }
+
+    @Test
+    void testExpandedToOr() {
+        SelectStatementProvider selectStatement = select(status)
+                .from(orders)
+                .where(status, isEqualTo("open"))
+                .and(tuple(tenantId, orderNo).isIn(Arrays.asList(1, "A1"), Arrays.asList(2, "B7")).expandedToOr())
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select status from orders "
+                + "where status = #{parameters.p1,jdbcType=VARCHAR} "
+                + "and ((tenant_id = #{parameters.p2,jdbcType=INTEGER} "
+                + "and order_no = #{parameters.p3,jdbcType=VARCHAR}) "
+                + "or (tenant_id = #{parameters.p4,jdbcType=INTEGER} "
+                + "and order_no = #{parameters.p5,jdbcType=VARCHAR}))");
+        assertThat(selectStatement.getParameters()).containsOnly(entry("p1", "open"), entry("p2", 1),
+                entry("p3", "A1"), entry("p4", 2), entry("p5", "B7"));
+    }
+
+    @Test
+    void testExpandedToOrWithOneRow() {
+        SelectStatementProvider selectStatement = select(status)
+                .from(orders, "o")
+                .where(tuple(tenantId, orderNo).isIn(Collections.singletonList(Arrays.asList(1, "A1")))
+                        .expandedToOr())
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select o.status from orders o where (o.tenant_id = :p1 and o.order_no = :p2)");
+    }
+
+    @Test
+    void testEmptyRowsDoNotRender() {
+        SelectStatementProvider selectStatement = select(status)
+                .from(orders)
+                .where(tuple(tenantId, orderNo).isIn(Collections.emptyList()))
+                .and(status, isEqualTo("open"))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select status from orders where status = :p1");
+    }
+
+    @Test
+    void testRowWithWrongNumberOfValues() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                tuple(tenantId, orderNo).isIn(Arrays.asList(1, "A1"), Collections.singletonList(2)));
+    }
+
+    @Test
+    void testRowValueWithoutColumns() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> tuple());
+    }
+
+    @Test
+    void testExpandedToOrKeepsSubCriteria() {
+        RowValueInCriterion criterion = tuple(tenantId, orderNo).isIn(Arrays.asList(1, "A1"));
+
+        SelectStatementProvider selectStatement = select(status)
+                .from(orders)
+                .where(group(criterion.expandedToOr(), or(status, isEqualTo("open"))))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                "select status from orders where ((tenant_id = :p1 and order_no = :p2) or status = :p3)");
+    }
+
+    @Test
+    void testCriteriaGroupMatchesExpandedToOr() {
+        RowValueInCriterion criterion = tuple(tenantId, orderNo).isIn(Arrays.asList(1, "A1"), Arrays.asList(2, "B7"));
+
+        SelectStatementProvider expanded = select(status)
+                .from(orders)
+                .where(status, isEqualTo("open"))
+                .and(criterion.expandedToOr())
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        SelectStatementProvider grouped = select(status)
+                .from(orders)
+                .where(status, isEqualTo("open"))
+                .and(criterion.toCriteriaGroup())
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(grouped.getSelectStatement()).isEqualTo(expanded.getSelectStatement());
+        assertThat(grouped.getParameters()).isEqualTo(expanded.getParameters());
+    }
+
+    @Test
+    void testVisitorWithoutRowValueMethodVisitsCriteriaGroup() {
+        RowValueInCriterion criterion = tuple(tenantId, orderNo).isIn(Arrays.asList(1, "A1"), Arrays.asList(2, "B7"));
+
+        assertThat(criterion.accept(new CountingVisitor())).isEqualTo(4);
+    }
+
+    /**
+     * Counts the column conditions of a criterion. It does not override the row value method.
+     */
+    private static class CountingVisitor implements SqlCriterionVisitor<Integer> {
+        @Override
+        public <T> Integer visit(ColumnAndConditionCriterion<T> criterion) {
+            return 1 + countSubCriteria(criterion);
+        }
+
+        @Override
+        public Integer visit(ExistsCriterion criterion) {
+            return countSubCriteria(criterion);
+        }
+
+        @Override
+        public Integer visit(CriteriaGroup criterion) {
+            return criterion.initialCriterion().map(c -> c.accept(this)).orElse(0) + countSubCriteria(criterion);
+        }
+
+        @Override
+        public Integer visit(NotCriterion criterion) {
+            return criterion.initialCriterion().map(c -> c.accept(this)).orElse(0) + countSubCriteria(criterion);
+        }
+
+        private int countSubCriteria(SqlCriterion criterion) {
+            return criterion.subCriteria().stream()
+                    .mapToInt(g -> g.initialCriterion().map(c -> c.accept(this)).orElse(0))
+                    .sum();
+        }
+    }
+}
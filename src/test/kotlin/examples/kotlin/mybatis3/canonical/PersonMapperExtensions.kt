@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import examples.kotlin.mybatis3.canonical.PersonDynamicSqlSupport.id
 import examples.kotlin.mybatis3.canonical.PersonDynamicSqlSupport.lastName
 import examples.kotlin.mybatis3.canonical.PersonDynamicSqlSupport.occupation
 import examples.kotlin.mybatis3.canonical.PersonDynamicSqlSupport.person
+import org.apache.ibatis.session.SqlSession
 import org.mybatis.dynamic.sql.BasicColumn
 import org.mybatis.dynamic.sql.util.kotlin.CountCompleter
 import org.mybatis.dynamic.sql.util.kotlin.DeleteCompleter
@@ -94,6 +95,17 @@ fun PersonMapper.insertBatch(records: Collection<PersonRecord>): List<Int> =
         map(addressId) toProperty "addressId"
     }
 
+fun PersonMapper.insertBatch(sqlSession: SqlSession, records: Collection<PersonRecord>, flushInterval: Int): Int =
+    insertBatch(sqlSession, this::insert, records, person, flushInterval) {
+        map(id) toProperty "id"
+        map(firstName) toProperty "firstName"
+        map(lastName) toProperty "lastName"
+        map(birthDate) toProperty "birthDate"
+        map(employed) toProperty "employed"
+        map(occupation) toProperty "occupation"
+        map(addressId) toProperty "addressId"
+    }
+
 fun PersonMapper.insertMultiple(vararg records: PersonRecord) =
     insertMultiple(records.toList())
 
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import org.apache.ibatis.mapping.Environment
 import org.apache.ibatis.session.Configuration
 import org.apache.ibatis.session.ExecutorType
 import org.apache.ibatis.session.SqlSession
+import org.apache.ibatis.session.SqlSessionFactory
 import org.apache.ibatis.session.SqlSessionFactoryBuilder
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory
 import org.assertj.core.api.Assertions.assertThat
@@ -37,6 +38,7 @@ import org.junit.jupiter.api.Test
 import org.mybatis.dynamic.sql.util.kotlin.elements.add
 import org.mybatis.dynamic.sql.util.kotlin.elements.constant
 import org.mybatis.dynamic.sql.util.kotlin.elements.isIn
+import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertBatch
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertInto
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.select
 import java.io.InputStreamReader
@@ -44,7 +46,10 @@ import java.sql.DriverManager
 import java.util.*
 
 class PersonMapperTest {
-    private fun newSession(executorType: ExecutorType = ExecutorType.REUSE): SqlSession {
+    private fun newSession(executorType: ExecutorType = ExecutorType.REUSE): SqlSession =
+        newSessionFactory().openSession(executorType)
+
+    private fun newSessionFactory(): SqlSessionFactory {
         Class.forName(JDBC_DRIVER)
         val script = javaClass.getResourceAsStream("/examples/kotlin/mybatis3/CreateSimpleDB.sql")
         DriverManager.getConnection(JDBC_URL, "sa", "").use { connection ->
@@ -60,7 +65,7 @@ class PersonMapperTest {
         config.addMapper(PersonMapper::class.java)
         config.addMapper(PersonWithAddressMapper::class.java)
         config.addMapper(AddressMapper::class.java)
-        return SqlSessionFactoryBuilder().build(config).openSession(executorType)
+        return SqlSessionFactoryBuilder().build(config)
     }
 
     @Test
@@ -274,6 +279,52 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    fun testInsertBatchWithFlushInterval() {
+        val sqlSessionFactory = newSessionFactory()
+        sqlSessionFactory.openSession(ExecutorType.BATCH).use { session ->
+            val mapper = session.getMapper(PersonMapper::class.java)
+
+            val records = (100..104).map { PersonRecord(it, "Joe$it", LastName("Jones"), Date(), true, "Developer", 1) }
+
+            val rows = mapper.insertBatch(session, records, 2)
+            assertThat(rows).isEqualTo(5)
+            session.commit()
+        }
+
+        sqlSessionFactory.openSession().use { session ->
+            val mapper = session.getMapper(PersonMapper::class.java)
+            assertThat(mapper.count { where { id isGreaterThanOrEqualTo 100 } }).isEqualTo(5)
+        }
+    }
+
+    @Test
+    fun testInsertBatchWithSessionFactory() {
+        val records = listOf(
+            PersonRecord(100, "Joe", LastName("Jones"), Date(), true, "Developer", 1),
+            PersonRecord(101, "Sarah", LastName("Smith"), Date(), true, "Architect", 2),
+            PersonRecord(102, "Jane", LastName("Jones"), Date(), false, null, 1)
+        )
+
+        val sqlSessionFactory = newSessionFactory()
+        val rows = insertBatch(sqlSessionFactory, { it.getMapper(PersonMapper::class.java)::insert }, records,
+            person, 2) {
+            map(id) toProperty "id"
+            map(firstName) toProperty "firstName"
+            map(lastName) toProperty "lastName"
+            map(birthDate) toProperty "birthDate"
+            map(employed) toProperty "employed"
+            map(occupation) toProperty "occupation"
+            map(addressId) toProperty "addressId"
+        }
+        assertThat(rows).isEqualTo(3)
+
+        sqlSessionFactory.openSession().use { session ->
+            val mapper = session.getMapper(PersonMapper::class.java)
+            assertThat(mapper.count { where { id isGreaterThanOrEqualTo 100 } }).isEqualTo(3)
+        }
+    }
+
     @Test
     fun testInsertMultiple() {
         newSession().use { session ->
@@ -0,0 +1,144 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.kotlin.spring.canonical
+
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.addressId
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.birthDate
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.employed
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.firstName
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.id
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.lastName
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.occupation
+import examples.kotlin.spring.canonical.PersonDynamicSqlSupport.person
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.mybatis.dynamic.sql.util.kotlin.spring.countFrom
+import org.mybatis.dynamic.sql.util.kotlin.spring.deleteFrom
+import org.mybatis.dynamic.sql.util.kotlin.spring.insert
+import org.mybatis.dynamic.sql.util.kotlin.spring.insertBatch
+import org.mybatis.dynamic.sql.util.kotlin.spring.insertInto
+import org.mybatis.dynamic.sql.util.kotlin.spring.select
+import org.mybatis.dynamic.sql.util.kotlin.spring.selectOne
+import org.mybatis.dynamic.sql.util.kotlin.spring.update
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig
+import org.springframework.transaction.annotation.Transactional
+import java.util.Date
+
+@SpringJUnitConfig(classes = [SpringConfiguration::class])
+@Transactional
+open class CanonicalSpringKotlinJdbcTemplateTest {
+    @Autowired
+    private lateinit var template: JdbcTemplate
+
+    @Test
+    fun testCount() {
+        val rows = template.countFrom(person) {
+            where { id isLessThan 4 }
+        }
+
+        assertThat(rows).isEqualTo(3)
+    }
+
+    @Test
+    fun testSelect() {
+        val rows = template.select(id, firstName, lastName, birthDate, employed, occupation, addressId) {
+            from(person)
+            where {
+                id isIn listOf(1, 2, 3, 5)
+                and { employed isEqualTo true }
+            }
+            orderBy(id)
+            limit(2)
+        }.withRowMapper(personRowMapper)
+
+        assertThat(rows).hasSize(2)
+        assertThat(rows.map { it.id }).containsExactly(1, 2)
+        assertThat(rows[0].lastName!!.name).isEqualTo("Flintstone")
+    }
+
+    @Test
+    fun testSelectOne() {
+        val record = template.selectOne(id, firstName, lastName, birthDate, employed, occupation, addressId) {
+            from(person)
+            where { firstName isEqualTo "Barney" }
+        }.withRowMapper(personRowMapper)
+
+        assertThat(record?.id).isEqualTo(4)
+    }
+
+    @Test
+    fun testInsertAndDelete() {
+        val record = PersonRecord(100, "Joe", LastName("Jones"), Date(), true, null, 1)
+
+        val inserted = template.insert(record) {
+            into(person)
+            map(id) toProperty "id"
+            map(firstName) toProperty "firstName"
+            map(lastName) toProperty "lastNameAsString"
+            map(birthDate) toProperty "birthDate"
+            map(employed) toProperty "employedAsString"
+            map(occupation).toPropertyWhenPresent("occupation", record::occupation)
+            map(addressId) toProperty "addressId"
+        }
+        val deleted = template.deleteFrom(person) {
+            where { id isEqualTo 100 }
+        }
+
+        assertThat(inserted).isEqualTo(1)
+        assertThat(deleted).isEqualTo(1)
+    }
+
+    @Test
+    fun testGeneralInsertAndUpdate() {
+        val inserted = template.insertInto(person) {
+            set(id) toValue 100
+            set(firstName) toValue "Joe"
+            set(lastName) toValue LastName("Jones")
+            set(birthDate) toValue Date()
+            set(employed) toValue true
+            set(occupation) toValueWhenPresent null
+            set(addressId) toValue 1
+        }
+        val updated = template.update(person) {
+            set(occupation) equalTo "Programmer"
+            where { id isEqualTo 100 }
+        }
+
+        assertThat(inserted).isEqualTo(1)
+        assertThat(updated).isEqualTo(1)
+    }
+
+    @Test
+    fun testInsertBatch() {
+        val record1 = PersonRecord(100, "Joe", LastName("Jones"), Date(), true, "Developer", 1)
+        val record2 = PersonRecord(101, "Sarah", LastName("Smith"), Date(), true, "Architect", 2)
+
+        val rows = template.insertBatch(record1, record2) {
+            into(person)
+            map(id) toProperty "id"
+            map(firstName) toProperty "firstName"
+            map(lastName) toProperty "lastNameAsString"
+            map(birthDate) toProperty "birthDate"
+            map(employed) toProperty "employedAsString"
+            map(occupation) toProperty "occupation"
+            map(addressId) toProperty "addressId"
+        }
+
+        assertThat(rows).containsExactly(1, 1)
+    }
+}
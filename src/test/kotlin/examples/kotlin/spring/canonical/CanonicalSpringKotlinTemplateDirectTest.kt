@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -281,6 +281,30 @@ open class CanonicalSpringKotlinTemplateDirectTest {
         assertThat(rows[1]).isEqualTo(1)
     }
 
+    @Test
+    fun testBatchInsertInChunks() {
+        val records = listOf(
+            PersonRecord(100, "Joe", LastName("Jones"), Date(), true, "Developer", 1),
+            PersonRecord(101, "Sarah", LastName("Smith"), Date(), true, "Architect", 2),
+            PersonRecord(102, "Fred", LastName("Jones"), Date(), true, "Tester", 1)
+        )
+
+        val insertStatement = insertBatch(records) {
+            into(person)
+            map(id) toProperty "id"
+            map(firstName) toProperty "firstName"
+            map(lastName) toProperty "lastNameAsString"
+            map(birthDate) toProperty "birthDate"
+            map(employed) toProperty "employedAsString"
+            map(occupation) toProperty "occupation"
+            map(addressId) toProperty "addressId"
+        }
+
+        val rows = template.insertBatch(insertStatement, 2)
+
+        assertThat(rows).containsExactly(1, 1, 1)
+    }
+
     @Test
     fun testDeprecatedBatchInsert() {
         val record1 = PersonRecord(100, "Joe", LastName("Jones"), Date(), true, "Developer", 1)
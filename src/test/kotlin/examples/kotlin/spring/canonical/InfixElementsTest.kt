@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2022 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test
 import org.mybatis.dynamic.sql.util.kotlin.KInvalidSQLException
 import org.mybatis.dynamic.sql.util.kotlin.elements.isLike
 import org.mybatis.dynamic.sql.util.kotlin.elements.stringConstant
+import org.mybatis.dynamic.sql.util.kotlin.elements.tuple
 import org.mybatis.dynamic.sql.util.kotlin.elements.upper
 import org.mybatis.dynamic.sql.util.kotlin.spring.select
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectList
@@ -1159,6 +1160,59 @@ open class InfixElementsTest {
         assertThat(rows[0]).isEqualTo("Fred")
     }
 
+    @Test
+    fun testIsInIntArray() {
+        val ids = intArrayOf(1, 2)
+
+        val selectStatement = select(firstName) {
+            from(person)
+            where { id isIn ids }
+            orderBy(id)
+        }
+
+        assertThat(selectStatement.selectStatement)
+            .isEqualTo("select first_name from Person where id in (:p1,:p2) order by id")
+
+        val rows = template.selectList(selectStatement, String::class)
+
+        assertThat(rows).hasSize(2)
+        assertThat(rows[0]).isEqualTo("Fred")
+    }
+
+    @Test
+    fun testIsNotInIntArray() {
+        val selectStatement = select(firstName) {
+            from(person)
+            where { id isNotIn intArrayOf(1, 2) }
+            orderBy(id)
+        }
+
+        assertThat(selectStatement.selectStatement)
+            .isEqualTo("select first_name from Person where id not in (:p1,:p2) order by id")
+
+        val rows = template.selectList(selectStatement, String::class)
+
+        assertThat(rows).hasSize(4)
+        assertThat(rows[0]).isEqualTo("Pebbles")
+    }
+
+    @Test
+    fun testRowValueIsIn() {
+        val selectStatement = select(firstName) {
+            from(person)
+            where { tuple(id, firstName) isIn listOf(listOf(1, "Fred"), listOf(2, "Barney"), listOf(3, "Fred")) }
+            orderBy(id)
+        }
+
+        assertThat(selectStatement.selectStatement)
+            .isEqualTo("select first_name from Person where (id, first_name) in ((:p1,:p2),(:p3,:p4),(:p5,:p6)) " +
+                    "order by id")
+
+        val rows = template.selectList(selectStatement, String::class)
+
+        assertThat(rows).containsExactly("Fred")
+    }
+
     @Test
     fun testIsTrue() {
         val selectStatement = select(firstName) {
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2016-2021 the original author or authors.
+ *    Copyright 2016-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
+import org.springframework.jdbc.core.JdbcTemplate
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
 import org.springframework.jdbc.datasource.DataSourceTransactionManager
 
@@ -39,6 +40,9 @@ open class SpringConfiguration {
     @Bean
     open fun template(dataSource: DataSource) = NamedParameterJdbcTemplate(dataSource)
 
+    @Bean
+    open fun jdbcTemplate(dataSource: DataSource) = JdbcTemplate(dataSource)
+
     @Bean
     open fun transactionManager(dataSource: DataSource) = DataSourceTransactionManager(dataSource)
 }